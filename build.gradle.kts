@@ -13,6 +13,11 @@ plugins {
      */
     id("com.gradleup.shadow") version "9.3.1"
     id("org.danilopianini.gradle-java-qa") version "1.165.0"
+    /*
+     * Adds the "jmh" source set (src/jmh/java) with the micro-benchmarks of the game hot paths.
+     * Run them with the "jmh" task; -PjmhInclude=<regex> restricts the run to some benchmarks.
+     */
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 javafx {
@@ -70,3 +75,29 @@ tasks.withType<Test> {
 application {
     mainClass.set("it.unibo.javapoly.JavaPolyApp")
 }
+
+tasks.register<JavaExec>("simulate") {
+    group = "application"
+    description = "Runs a batch of headless matches: -Pgames=N -Pplayers=N -PmaxTurns=N -Pseed=N"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("it.unibo.javapoly.SimulationApp")
+    args = listOf("games", "players", "maxTurns", "seed").mapNotNull { name ->
+        project.findProperty(name)?.let { "--$name=$it" }
+    }
+}
+
+tasks.register<JavaExec>("serve") {
+    group = "application"
+    description = "Hosts headless tables behind a loopback TCP endpoint: -Pport=N"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("it.unibo.javapoly.ServerApp")
+    args = listOfNotNull(project.findProperty("port")?.toString())
+}
+
+jmh {
+    jmhVersion = "1.37"
+    // Allocation profiling is always on: every result also reports gc.alloc.rate.norm (bytes/op)
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    project.findProperty("jmhInclude")?.let { includes = listOf(it.toString()) }
+}
@@ -0,0 +1,75 @@
+package it.unibo.javapoly.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.utils.BoardLoader;
+import it.unibo.javapoly.utils.CardLoader;
+
+/**
+ * Fixtures shared by the benchmarks: every benchmark starts from the board and
+ * the cards shipped with the game and from the same seed, so runs are comparable.
+ */
+final class BenchmarkSupport {
+
+    /**
+     * Seed of every random generator used by the benchmarks.
+     */
+    static final long SEED = 42L;
+
+    private static final String PATH_BOARD_JSON = "/Card/BoardTiles.json";
+    private static final String PATH_CARD_JSON = "/Card/UnexpectedCards.json";
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Loads a fresh copy of the game board.
+     *
+     * @return the board.
+     */
+    static Board loadBoard() {
+        try (InputStream is = BenchmarkSupport.class.getResourceAsStream(PATH_BOARD_JSON)) {
+            return BoardLoader.loadBoardFromJson(is);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot load the board", e);
+        }
+    }
+
+    /**
+     * Loads a fresh copy of the unexpected cards.
+     *
+     * @return the cards.
+     */
+    static List<GameCard> loadCards() {
+        try (InputStream is = BenchmarkSupport.class.getResourceAsStream(PATH_CARD_JSON)) {
+            return CardLoader.loadCardsFromFile(is);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot load the cards", e);
+        }
+    }
+
+    /**
+     * Collects the properties of the property tiles of a board, in board order.
+     *
+     * @param board the board.
+     * @return the properties, keyed by id.
+     */
+    static Map<String, Property> collectProperties(final Board board) {
+        final Map<String, Property> properties = new LinkedHashMap<>();
+        for (int i = 0; i < board.size(); i++) {
+            if (board.getTileAt(i) instanceof PropertyTile pt) {
+                properties.put(pt.getProperty().getId(), pt.getProperty());
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,64 @@
+package it.unibo.javapoly.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.board.TileType;
+
+/**
+ * Benchmark of {@link Board#getTileAt(int)} and {@link Board#nextPositionOfType(int, TileType)},
+ * walking the whole board one tile at a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    private Board board;
+    private int position;
+
+    /**
+     * Loads the board.
+     */
+    @Setup
+    public void setUp() {
+        this.board = BenchmarkSupport.loadBoard();
+    }
+
+    /**
+     * Reads the next tile of the board.
+     *
+     * @return the tile, consumed by JMH.
+     */
+    @Benchmark
+    public Tile getTileAt() {
+        this.position = this.position + 1 == this.board.size() ? 0 : this.position + 1;
+        return this.board.getTileAt(this.position);
+    }
+
+    /**
+     * Looks up the nearest station after the next tile of the board.
+     *
+     * @return the position of the station, consumed by JMH.
+     */
+    @Benchmark
+    public int nextPositionOfType() {
+        this.position = this.position + 1 == this.board.size() ? 0 : this.position + 1;
+        return this.board.nextPositionOfType(this.position, TileType.RAILROAD);
+    }
+}
@@ -0,0 +1,89 @@
+package it.unibo.javapoly.benchmark;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.javapoly.controller.api.BoardController;
+import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.controller.impl.BoardControllerImpl;
+import it.unibo.javapoly.controller.impl.PropertyControllerImpl;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.FreeState;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+
+/**
+ * Benchmark of {@link BoardControllerImpl#executeTileLogic(Player, int, int)}.
+ * One player owns every property and the visitor keeps landing on the tiles of the
+ * board, paying rents and taxes and drawing cards; both balances are topped up or
+ * trimmed so the benchmark never ends in a bankruptcy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardControllerBenchmark {
+
+    private static final int STEP = 7;
+    private static final int DICE_ROLL = 7;
+    private static final int MIN_BALANCE = 5_000;
+    private static final int MAX_BALANCE = 1_000_000;
+
+    private Board board;
+    private BoardController boardController;
+    private Player owner;
+    private Player visitor;
+    private int position;
+
+    /**
+     * Creates the controllers and assigns every property to the owner.
+     */
+    @Setup
+    public void setUp() {
+        this.board = BenchmarkSupport.loadBoard();
+        final Map<String, Property> properties = BenchmarkSupport.collectProperties(this.board);
+        final PropertyController propertyController = new PropertyControllerImpl(properties);
+        this.boardController = new BoardControllerImpl(this.board, propertyController,
+                new SplittableRandom(BenchmarkSupport.SEED));
+        this.owner = new PlayerImpl("Owner", TokenType.CAR);
+        this.visitor = new PlayerImpl("Visitor", TokenType.DOG);
+        for (final String id : properties.keySet()) {
+            propertyController.purchaseProperty(this.owner, id);
+        }
+    }
+
+    /**
+     * Lands the visitor on the next tile and applies its logic.
+     *
+     * @return the tile the visitor ended on, consumed by JMH.
+     */
+    @Benchmark
+    public Tile executeTileLogic() {
+        if (this.visitor.getBalance() < MIN_BALANCE) {
+            this.visitor.receiveMoney(MAX_BALANCE);
+        }
+        if (this.owner.getBalance() > MAX_BALANCE) {
+            this.owner.tryToPay(MAX_BALANCE);
+        }
+        this.visitor.setState(FreeState.getInstance());
+        this.position = (this.position + STEP) % this.board.size();
+        return this.boardController.executeTileLogic(this.visitor, this.position, DICE_ROLL);
+    }
+}
@@ -0,0 +1,67 @@
+package it.unibo.javapoly.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.javapoly.model.api.card.CardDeck;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.impl.card.CardDeckImpl;
+
+/**
+ * Benchmark of {@link CardDeckImpl#draw(String)} and {@link CardDeckImpl#shuffle()}.
+ * Cards kept by the player are discarded right away, so the deck keeps cycling
+ * through the draw and discard piles like in a long match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardDeckBenchmark {
+
+    private static final String PLAYER = "Player 1";
+
+    private CardDeck deck;
+
+    /**
+     * Creates a seeded deck with the cards of the game.
+     */
+    @Setup
+    public void setUp() {
+        this.deck = new CardDeckImpl(BenchmarkSupport.loadCards(), new SplittableRandom(BenchmarkSupport.SEED));
+    }
+
+    /**
+     * Draws a card, recycling the discard pile when the draw pile is empty.
+     *
+     * @return the card, consumed by JMH.
+     */
+    @Benchmark
+    public GameCard draw() {
+        final GameCard card = this.deck.draw(PLAYER);
+        if (card.isKeepUntilUsed()) {
+            this.deck.discard(card);
+        }
+        return card;
+    }
+
+    /**
+     * Shuffles the draw pile.
+     */
+    @Benchmark
+    public void shuffle() {
+        this.deck.shuffle();
+    }
+}
@@ -0,0 +1,71 @@
+package it.unibo.javapoly.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.utils.Catalog;
+
+/**
+ * Benchmark of the set up of a new match: the board and the cards parsed from the resources,
+ * as every match used to do, against the ones taken from the {@link Catalog}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogBenchmark {
+
+    /**
+     * Parses the board from its resource.
+     *
+     * @return the board, consumed by JMH.
+     */
+    @Benchmark
+    public Board parseBoard() {
+        return BenchmarkSupport.loadBoard();
+    }
+
+    /**
+     * Creates a board from the catalog.
+     *
+     * @return the board, consumed by JMH.
+     */
+    @Benchmark
+    public Board newBoard() {
+        return Catalog.getInstance().newBoard();
+    }
+
+    /**
+     * Parses the cards from their resource.
+     *
+     * @return the cards, consumed by JMH.
+     */
+    @Benchmark
+    public List<GameCard> parseCards() {
+        return BenchmarkSupport.loadCards();
+    }
+
+    /**
+     * Takes the cards from the catalog.
+     *
+     * @return the cards, consumed by JMH.
+     */
+    @Benchmark
+    public List<GameCard> catalogCards() {
+        return Catalog.getInstance().getCards();
+    }
+}
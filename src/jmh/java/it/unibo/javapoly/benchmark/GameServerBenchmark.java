@@ -0,0 +1,122 @@
+package it.unibo.javapoly.benchmark;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.javapoly.controller.api.GameServer;
+import it.unibo.javapoly.controller.api.TableAction;
+import it.unibo.javapoly.controller.api.TableStatus;
+import it.unibo.javapoly.controller.impl.GameServerImpl;
+
+/**
+ * Load benchmark of a {@link GameServerImpl} hosting {@code 8 * tablesPerClient} tables.
+ * Every benchmark thread is a client owning its own tables: each operation plays a turn on
+ * all of them at once and waits for every answer, so the server always has a full round of
+ * actions queued. A finished match is replaced by a new one, so the number of hosted tables
+ * stays constant. JMH samples the time of a round; the report of the server, printed when
+ * the trial ends, gives the number of hosted tables and the p99 latency of a single action.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class GameServerBenchmark {
+
+    private static final List<String> PLAYERS = List.of("P1", "P2", "P3", "P4");
+
+    /**
+     * Number of tables played by every benchmark thread.
+     */
+    @Param({ "16", "64" })
+    private int tablesPerClient;
+
+    private GameServer server;
+    private int[] tables;
+    private String[] currentPlayers;
+
+    /**
+     * Opens the tables of this client.
+     *
+     * @param host the server shared by every client.
+     */
+    @Setup
+    public void setUp(final Host host) {
+        this.server = host.server;
+        this.tables = new int[this.tablesPerClient];
+        this.currentPlayers = new String[this.tablesPerClient];
+        for (int i = 0; i < this.tablesPerClient; i++) {
+            this.tables[i] = this.server.openTable(PLAYERS);
+            this.currentPlayers[i] = PLAYERS.get(0);
+        }
+    }
+
+    /**
+     * Plays a turn on every table of this client.
+     *
+     * @return the number of actions served in the round, consumed by JMH.
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public int playRound() {
+        final CompletableFuture<TableStatus>[] round = new CompletableFuture[this.tables.length];
+        for (int i = 0; i < this.tables.length; i++) {
+            round[i] = this.server.submit(this.tables[i], this.currentPlayers[i], TableAction.PLAY_TURN);
+        }
+        for (int i = 0; i < this.tables.length; i++) {
+            final TableStatus status = round[i].join();
+            if (status.getWinner().isPresent()) {
+                this.server.closeTable(this.tables[i]);
+                this.tables[i] = this.server.openTable(PLAYERS);
+                this.currentPlayers[i] = PLAYERS.get(0);
+            } else {
+                this.currentPlayers[i] = status.getCurrentPlayer();
+            }
+        }
+        return round.length;
+    }
+
+    /**
+     * The server shared by every benchmark thread.
+     */
+    @State(Scope.Benchmark)
+    public static class Host {
+
+        private GameServer server;
+
+        /**
+         * Starts the server.
+         */
+        @Setup
+        public void setUp() {
+            this.server = new GameServerImpl(BenchmarkSupport.SEED);
+        }
+
+        /**
+         * Prints the report of the server and stops it.
+         */
+        @TearDown
+        @SuppressWarnings("PMD.SystemPrintln")
+        public void tearDown() {
+            System.out.println(this.server.getReport());
+            this.server.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package it.unibo.javapoly.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.javapoly.controller.api.LandingAnalysis;
+import it.unibo.javapoly.controller.impl.sim.LandingChain;
+import it.unibo.javapoly.controller.impl.sim.SimBoard;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+
+/**
+ * Benchmark of the exact landing frequencies of the board: building the Markov chain with the
+ * cards of the game, solving it with a growing number of threads, and querying the expected
+ * rent of every group once it is solved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LandingChainBenchmark {
+
+    private static final int HOUSES = 3;
+
+    /**
+     * Number of threads of the solver.
+     */
+    @Param({ "1", "4" })
+    private int threads;
+
+    private SimBoard board;
+    private LandingChain chain;
+    private LandingAnalysis analysis;
+
+    /**
+     * Describes the board and solves its chain once.
+     */
+    @Setup
+    public void setUp() {
+        this.board = new SimBoard(BenchmarkSupport.loadBoard(), BenchmarkSupport.loadCards());
+        this.chain = new LandingChain(this.board);
+        this.analysis = this.chain.solve(Math.max(1, this.threads));
+    }
+
+    /**
+     * Builds the transition matrix of the board.
+     *
+     * @return the chain, consumed by JMH.
+     */
+    @Benchmark
+    public LandingChain build() {
+        return new LandingChain(this.board);
+    }
+
+    /**
+     * Solves the chain for the stationary distribution.
+     *
+     * @return the solution, consumed by JMH.
+     */
+    @Benchmark
+    public LandingAnalysis solve() {
+        return this.chain.solve(this.threads);
+    }
+
+    /**
+     * Computes the expected rent of every group with three houses.
+     *
+     * @return the sum of the rents, consumed by JMH.
+     */
+    @Benchmark
+    public double expectedGroupRents() {
+        double rent = 0;
+        for (final PropertyGroup group : PropertyGroup.values()) {
+            rent += this.analysis.getExpectedGroupRent(group, HOUSES);
+        }
+        return rent;
+    }
+}
@@ -0,0 +1,77 @@
+package it.unibo.javapoly.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.impl.board.BoardImpl;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.utils.Catalog;
+
+/**
+ * Benchmark of the memory taken by the board of a match, to be run with the GC profiler
+ * ({@code -prof gc}): the {@code gc.alloc.rate.norm} metric gives the bytes allocated by each
+ * board, which are almost all retained by the match.
+ * {@link #standaloneBoard()} copies every property tile on its own, each property with its own
+ * state, and computes the lookup tables of the board again; {@link #sharedBoard()} takes the
+ * board from the {@link Catalog}, where the properties of a board share one compact state table
+ * and the lookup tables are shared by every board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchFootprintBenchmark {
+
+    private Board layout;
+
+    /**
+     * Loads the board copied by {@link #standaloneBoard()}.
+     */
+    @Setup
+    public void setUp() {
+        this.layout = BenchmarkSupport.loadBoard();
+    }
+
+    /**
+     * Copies the board, with a separate state for each property.
+     *
+     * @return the board, consumed by JMH.
+     */
+    @Benchmark
+    public Board standaloneBoard() {
+        final List<Tile> tiles = new ArrayList<>(this.layout.size());
+        for (int i = 0; i < this.layout.size(); i++) {
+            final Tile tile = this.layout.getTileAt(i);
+            tiles.add(tile instanceof PropertyTile pt
+                    ? new PropertyTile(pt.getPosition(), pt.getName(), pt.getProperty(), pt.getDescription())
+                    : tile);
+        }
+        return new BoardImpl(tiles);
+    }
+
+    /**
+     * Creates a board from the catalog.
+     *
+     * @return the board, consumed by JMH.
+     */
+    @Benchmark
+    public Board sharedBoard() {
+        return Catalog.getInstance().newBoard();
+    }
+}
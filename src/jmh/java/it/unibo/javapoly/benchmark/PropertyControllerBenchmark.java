@@ -0,0 +1,91 @@
+package it.unibo.javapoly.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.controller.impl.PropertyControllerImpl;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+
+/**
+ * Benchmark of {@link PropertyControllerImpl#getRent(Player, String, int)} and
+ * {@link PropertyControllerImpl#buildHouse(Player, String)}.
+ * One player owns every property of the board and the other one pays the rents.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyControllerBenchmark {
+
+    private static final int DICE_ROLL = 7;
+    private static final PropertyGroup BUILD_GROUP = PropertyGroup.DARKBLUE;
+
+    private PropertyController propertyController;
+    private Player owner;
+    private Player payer;
+    private String[] propertyIds;
+    private String buildId;
+    private int next;
+
+    /**
+     * Assigns every property of the board to the owner.
+     */
+    @Setup
+    public void setUp() {
+        final Map<String, Property> properties = BenchmarkSupport.collectProperties(BenchmarkSupport.loadBoard());
+        this.propertyController = new PropertyControllerImpl(properties);
+        this.owner = new PlayerImpl("Owner", TokenType.CAR);
+        this.payer = new PlayerImpl("Payer", TokenType.DOG);
+        for (final String id : properties.keySet()) {
+            this.propertyController.purchaseProperty(this.owner, id);
+        }
+        this.propertyIds = properties.keySet().toArray(new String[0]);
+        this.buildId = properties.values().stream()
+                .filter(p -> p.getPropertyGroup() == BUILD_GROUP)
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    /**
+     * Computes the rent of the next property of the board.
+     *
+     * @return the rent, consumed by JMH.
+     */
+    @Benchmark
+    public int getRent() {
+        this.next = this.next + 1 == this.propertyIds.length ? 0 : this.next + 1;
+        return this.propertyController.getRent(this.payer, this.propertyIds[this.next], DICE_ROLL);
+    }
+
+    /**
+     * Builds a house on a property of a complete group, then sells it back
+     * so that every invocation starts from the same state.
+     *
+     * @return whether the house was built, consumed by JMH.
+     */
+    @Benchmark
+    public boolean buildHouse() {
+        final boolean built = this.propertyController.buildHouse(this.owner, this.buildId);
+        this.propertyController.destroyHouse(this.owner, this.buildId);
+        return built;
+    }
+}
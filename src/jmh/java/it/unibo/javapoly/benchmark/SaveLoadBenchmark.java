@@ -0,0 +1,157 @@
+package it.unibo.javapoly.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.impl.BinarySaveFormat;
+import it.unibo.javapoly.controller.impl.GameEngineImpl;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.utils.MatchControllerDeserializer;
+import it.unibo.javapoly.utils.MatchControllerSerializer;
+
+/**
+ * Benchmark of the save and load of a match through {@link MatchControllerSerializer} and
+ * {@link MatchControllerDeserializer}, in the JSON format and in the {@link BinarySaveFormat}.
+ * The match is a headless {@link GameEngineImpl} played for a few turns, so that
+ * properties are owned and cards are held; no view is created while loading.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveLoadBenchmark {
+
+    private static final int PLAYERS = 4;
+
+    /**
+     * Number of turns played before the match is saved.
+     */
+    @Param({ "0", "50" })
+    private int turns;
+
+    private GameEngine engine;
+    private File saveFile;
+    private File binaryFile;
+
+    /**
+     * Plays the match and writes a first save in both formats, read back by {@link #load()}
+     * and {@link #loadBinary()}.
+     *
+     * @throws IOException if the save file cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        final List<Player> players = new ArrayList<>(PLAYERS);
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(new PlayerImpl("Player " + (i + 1), TokenType.values()[i]));
+        }
+        this.engine = new GameEngineImpl(players, BenchmarkSupport.loadBoard(), BenchmarkSupport.SEED);
+        for (int i = 0; i < this.turns && !this.engine.isGameOver(); i++) {
+            this.engine.playTurn();
+        }
+        this.saveFile = Files.createTempFile("javapoly-bench", ".json").toFile();
+        this.binaryFile = Files.createTempFile("javapoly-bench", BinarySaveFormat.EXTENSION).toFile();
+        save();
+        saveBinary();
+    }
+
+    /**
+     * Deletes the save files.
+     *
+     * @throws IOException if the files cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.saveFile.toPath());
+        Files.deleteIfExists(this.binaryFile.toPath());
+    }
+
+    /**
+     * Saves the match the same way the game does.
+     *
+     * @throws IOException if the save file cannot be written.
+     */
+    @Benchmark
+    public void save() throws IOException {
+        MatchControllerSerializer.saveAsync(this.engine, this.saveFile.toPath()).join();
+    }
+
+    /**
+     * Takes the snapshot of the match, the only part of a save run on the game thread.
+     *
+     * @return the snapshot, consumed by JMH.
+     * @throws IOException if the match cannot be serialized.
+     */
+    @Benchmark
+    public TokenBuffer snapshot() throws IOException {
+        return MatchControllerSerializer.snapshot(this.engine);
+    }
+
+    /**
+     * Loads the saved match.
+     *
+     * @return the loaded match, consumed by JMH.
+     * @throws IOException if the save file cannot be read.
+     */
+    @Benchmark
+    public GameEngine load() throws IOException {
+        return MatchControllerDeserializer.deserializeEngine(this.saveFile);
+    }
+
+    /**
+     * Saves the match in the binary format.
+     *
+     * @throws IOException if the save file cannot be written.
+     */
+    @Benchmark
+    public void saveBinary() throws IOException {
+        MatchControllerSerializer.saveAsync(this.engine, this.binaryFile.toPath()).join();
+    }
+
+    /**
+     * Loads the match saved in the binary format.
+     *
+     * @return the loaded match, consumed by JMH.
+     * @throws IOException if the save file cannot be read.
+     */
+    @Benchmark
+    public GameEngine loadBinary() throws IOException {
+        return MatchControllerDeserializer.deserializeEngine(this.binaryFile);
+    }
+
+    /**
+     * Saves the match and loads it back.
+     *
+     * @return the loaded match, consumed by JMH.
+     * @throws IOException if the save file cannot be written or read.
+     */
+    @Benchmark
+    public GameEngine roundTrip() throws IOException {
+        save();
+        return load();
+    }
+}
@@ -0,0 +1,83 @@
+package it.unibo.javapoly.benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.impl.GameEngineImpl;
+import it.unibo.javapoly.controller.impl.sim.SimBoard;
+import it.unibo.javapoly.controller.impl.sim.SimState;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+
+/**
+ * Benchmark of the search state of the tree search bot: forking a state captured in the
+ * middle of a four players match, and playing a fork on for the horizon of a rollout.
+ * The rollouts per second of the bot are bounded by the sum of the two.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimStateBenchmark {
+
+    private static final int OPENING_TURNS = 40;
+    private static final int HORIZON = 150;
+
+    private SimState state;
+    private SplittableRandom random;
+
+    /**
+     * Plays the opening of a match and captures it.
+     */
+    @Setup
+    public void setUp() {
+        final Board board = BenchmarkSupport.loadBoard();
+        final List<Player> players = List.of(new PlayerImpl("P1", TokenType.CAR), new PlayerImpl("P2", TokenType.DOG),
+                new PlayerImpl("P3", TokenType.HAT), new PlayerImpl("P4", TokenType.BOAT));
+        final GameEngine engine = new GameEngineImpl(players, board, BenchmarkSupport.SEED);
+        for (int turn = 0; turn < OPENING_TURNS && !engine.isGameOver(); turn++) {
+            engine.playTurn();
+        }
+        this.state = SimState.capture(new SimBoard(board), engine);
+        this.random = new SplittableRandom(BenchmarkSupport.SEED);
+    }
+
+    /**
+     * Forks the captured state.
+     *
+     * @return the fork, consumed by JMH.
+     */
+    @Benchmark
+    public SimState fork() {
+        return this.state.copy();
+    }
+
+    /**
+     * Forks the captured state and plays it on.
+     *
+     * @return the score of the first player, consumed by JMH.
+     */
+    @Benchmark
+    public double rollout() {
+        final SimState fork = this.state.copy();
+        fork.playOut(this.random, HORIZON);
+        return fork.value(0);
+    }
+}
@@ -0,0 +1,105 @@
+package it.unibo.javapoly.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.JournalCommand;
+import it.unibo.javapoly.controller.impl.FileTurnJournal;
+import it.unibo.javapoly.controller.impl.GameEngineImpl;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+
+/**
+ * Benchmark of the {@link FileTurnJournal}: appending a command, to be compared with
+ * {@link SaveLoadBenchmark#save()}, and replaying the journal of a whole match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnJournalBenchmark {
+
+    private static final int PLAYERS = 4;
+    private static final int TURNS = 200;
+
+    private Path appendFile;
+    private Path matchFile;
+    private FileTurnJournal journal;
+
+    /**
+     * Records a whole match and opens the journal used by {@link #append()}.
+     *
+     * @throws IOException if a journal cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.matchFile = Files.createTempFile("javapoly-bench", ".journal");
+        final GameEngine engine = newEngine();
+        try (FileTurnJournal match = FileTurnJournal.create(this.matchFile, engine)) {
+            for (int i = 0; i < TURNS && !engine.isGameOver(); i++) {
+                engine.playTurn();
+            }
+        }
+        this.appendFile = Files.createTempFile("javapoly-bench", ".journal");
+        this.journal = FileTurnJournal.create(this.appendFile, newEngine());
+    }
+
+    /**
+     * Closes and deletes the journals.
+     *
+     * @throws IOException if a file cannot be closed or deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        this.journal.close();
+        Files.deleteIfExists(this.appendFile);
+        Files.deleteIfExists(this.matchFile);
+    }
+
+    /**
+     * Appends the record of a turn.
+     */
+    @Benchmark
+    public void append() {
+        this.journal.append(JournalCommand.PLAY_TURN, false, 0, 0, 3, 4);
+    }
+
+    /**
+     * Rebuilds the recorded match.
+     *
+     * @return the rebuilt match, consumed by JMH.
+     * @throws IOException if the journal cannot be read.
+     */
+    @Benchmark
+    public GameEngine replay() throws IOException {
+        return FileTurnJournal.replay(this.matchFile, BenchmarkSupport.loadBoard());
+    }
+
+    private static GameEngine newEngine() {
+        final List<Player> players = new ArrayList<>(PLAYERS);
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(new PlayerImpl("Player " + (i + 1), TokenType.values()[i]));
+        }
+        return new GameEngineImpl(players, BenchmarkSupport.loadBoard(), BenchmarkSupport.SEED);
+    }
+}
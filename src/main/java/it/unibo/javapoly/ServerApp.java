@@ -0,0 +1,51 @@
+package it.unibo.javapoly;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import it.unibo.javapoly.controller.impl.GameServerEndpoint;
+import it.unibo.javapoly.controller.impl.GameServerImpl;
+
+/**
+ * Command line entry point hosting headless tables behind a loopback TCP endpoint.
+ * Usage: {@code ServerApp [port [journalDirectory]]}; the load report of the server is printed every few seconds.
+ * If a directory is given, the match of every table is recorded in a turn journal there.
+ */
+public final class ServerApp {
+
+    private static final int DEFAULT_PORT = 7070;
+    private static final long REPORT_PERIOD_SECONDS = 5;
+
+    /**
+     * Private constructor.
+     */
+    private ServerApp() {
+
+    }
+
+    /**
+     * Starts the server and prints its report until the process is stopped.
+     *
+     * @param args the port and the directory of the journals, both optional.
+     * @throws IOException if the port cannot be bound.
+     * @throws InterruptedException if the main thread is interrupted.
+     */
+    @SuppressWarnings("PMD.SystemPrintln")
+    public static void main(final String... args) throws IOException, InterruptedException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        final Path journals = args.length > 1 ? Files.createDirectories(Paths.get(args[1])) : null;
+        try (GameServerImpl server = new GameServerImpl(ThreadLocalRandom.current().nextLong(), journals);
+             GameServerEndpoint endpoint = new GameServerEndpoint(server, port)) {
+            endpoint.start();
+            System.out.println("Listening on port " + endpoint.getPort());
+            while (!Thread.currentThread().isInterrupted()) {
+                TimeUnit.SECONDS.sleep(REPORT_PERIOD_SECONDS);
+                System.out.println(server.getReport());
+            }
+        }
+    }
+}
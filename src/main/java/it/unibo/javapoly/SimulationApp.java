@@ -0,0 +1,68 @@
+package it.unibo.javapoly;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import it.unibo.javapoly.controller.api.SimulationReport;
+import it.unibo.javapoly.controller.impl.BatchSimulatorImpl;
+
+/**
+ * Command line entry point running a batch of headless matches on every core.
+ * Usage: {@code SimulationApp [--games=N] [--players=N] [--maxTurns=N] [--seed=N]};
+ * every argument is optional and the missing ones take their default value.
+ */
+public final class SimulationApp {
+
+    private static final int DEFAULT_GAMES = 10_000;
+    private static final int DEFAULT_PLAYERS = 4;
+    private static final int DEFAULT_MAX_TURNS = 1_000;
+    private static final String PREFIX = "--";
+    private static final String GAMES = "games";
+    private static final String PLAYERS = "players";
+    private static final String MAX_TURNS = "maxTurns";
+    private static final String SEED = "seed";
+
+    /**
+     * Private constructor.
+     */
+    private SimulationApp() {
+
+    }
+
+    /**
+     * Runs the simulation and prints the report.
+     *
+     * @param args the named arguments, such as {@code --games=100}; the seed is random if not given.
+     * @throws IllegalArgumentException if an argument is unknown, repeated or not a number.
+     */
+    @SuppressWarnings("PMD.SystemPrintln")
+    public static void main(final String... args) {
+        final Map<String, String> options = parse(args);
+        final int games = Integer.parseInt(options.getOrDefault(GAMES, String.valueOf(DEFAULT_GAMES)));
+        final int players = Integer.parseInt(options.getOrDefault(PLAYERS, String.valueOf(DEFAULT_PLAYERS)));
+        final int maxTurns = Integer.parseInt(options.getOrDefault(MAX_TURNS, String.valueOf(DEFAULT_MAX_TURNS)));
+        final long seed = options.containsKey(SEED)
+                ? Long.parseLong(options.get(SEED))
+                : ThreadLocalRandom.current().nextLong();
+        final SimulationReport report = new BatchSimulatorImpl(players, maxTurns,
+                Runtime.getRuntime().availableProcessors(), seed).simulate(games);
+        System.out.println("seed=" + seed + " " + report);
+    }
+
+    private static Map<String, String> parse(final String... args) {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final int equals = arg.indexOf('=');
+            final String name = arg.startsWith(PREFIX) && equals > 0 ? arg.substring(PREFIX.length(), equals) : "";
+            if (!GAMES.equals(name) && !PLAYERS.equals(name) && !MAX_TURNS.equals(name) && !SEED.equals(name)) {
+                throw new IllegalArgumentException("Unknown argument " + arg
+                        + ", expected --games=N, --players=N, --maxTurns=N or --seed=N");
+            }
+            if (options.put(name, arg.substring(equals + 1)) != null) {
+                throw new IllegalArgumentException("Repeated argument " + arg);
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,16 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Runs many independent headless matches and aggregates their results.
+ */
+@FunctionalInterface
+public interface BatchSimulator {
+
+    /**
+     * Simulates the given number of complete matches.
+     *
+     * @param games the number of matches to play.
+     * @return the aggregated results.
+     */
+    SimulationReport simulate(int games);
+}
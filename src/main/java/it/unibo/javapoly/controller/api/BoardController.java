@@ -73,9 +73,25 @@ public interface BoardController {
     boolean passedThroughGo(int fromPosition, int toPosition);
 
     /**
-     * This method return a message that need to print on the view.
+     * Sets the receiver of the events produced while the players move and the logic of the tiles
+     * is executed. By default they are discarded.
+     *
+     * @param sink the receiver of the events, or null to discard them again.
+     */
+    void setEventSink(GameEventSink sink);
+
+    /**
+     * Sets the observer notified when a player cannot afford rent, taxes or card payments.
      * 
-     * @return the meessage
+     * @param observer the liquidation observer
+     */
+    void setLiquidationObserver(LiquidationObserver observer);
+
+    /**
+     * Sets the economy controller of the match, through which every payment on the board
+     * and on the cards is made.
+     *
+     * @param economy the economy controller shared by the match
      */
-    String getMessagePrint();
+    void setEconomyController(EconomyController economy);
 }
@@ -39,4 +39,18 @@ public interface CardController {
      */
     boolean useGetOutOfJailFreeCard(String playerId);
 
+    /**
+     * Sets the observer notified when a card payment cannot be afforded.
+     * 
+     * @param observer the liquidation observer
+     */
+    void setLiquidationObserver(LiquidationObserver observer);
+
+    /**
+     * Sets the economy controller of the match, through which every card payment is made.
+     *
+     * @param economy the economy controller shared by the match
+     */
+    void setEconomyController(EconomyController economy);
+
 }
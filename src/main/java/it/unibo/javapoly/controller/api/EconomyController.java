@@ -1,10 +1,15 @@
 package it.unibo.javapoly.controller.api;
 
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.api.economy.TransactionType;
 import it.unibo.javapoly.model.api.property.Property;
 
 /**
  * Main controller interface for managing the economy of the game.
+ * A match has a single economy controller, shared by every other controller, which records
+ * every money movement in its {@link Ledger}. The operations without a {@link TransactionType}
+ * are recorded as {@link TransactionType#PAYMENT}.
  */
 public interface EconomyController {
 
@@ -18,6 +23,17 @@ public interface EconomyController {
      */
     void depositToPlayer(Player player, int amount);
 
+    /**
+     * Deposits money to a player from bank, recording it with the given reason.
+     *
+     * @param player the player receiving money.
+     * @param amount the amount to deposit.
+     * @param type the reason of the deposit.
+     * @throws NullPointerException if {@code player} is {@code null}.
+     * @throws IllegalArgumentException if {@code amount} <= 0.
+     */
+    void depositToPlayer(Player player, int amount, TransactionType type);
+
     /**
      * Withdraws money from a player to the bank.
      *
@@ -26,6 +42,16 @@ public interface EconomyController {
      */
     void withdrawFromPlayer(Player player, int amount);
 
+    /**
+     * Withdraws money from a player to the bank, recording it with the given reason.
+     * If the player cannot afford it, the liquidation observer is notified.
+     *
+     * @param player the player from whom to withdraw.
+     * @param amount the amount to withdraw.
+     * @param type the reason of the withdrawal.
+     */
+    void withdrawFromPlayer(Player player, int amount, TransactionType type);
+
     /**
      * Check if a player can afford to spend the specified amount. (Call before withdraw).
      *
@@ -78,8 +104,9 @@ public interface EconomyController {
      * @param payeeId the player id who collect payment.
      * @param property property where is the payer (owned by payee).
      * @param diceRoll the dice roll used to calculate rent (especially for utilities).
+     * @return the rent charged, computed once; 0 if the property has no owner.
      */
-    void payRent(Player payer, Player payeeId, Property property, int diceRoll);
+    int payRent(Player payer, Player payeeId, Property property, int diceRoll);
 
     /**
      * Method to pay payee of amount.
@@ -90,6 +117,23 @@ public interface EconomyController {
      */
     void payPlayer(Player payer, Player payee, int amount);
 
+    /**
+     * Method to pay payee of amount, recording it with the given reason.
+     *
+     * @param payer the player making the payment.
+     * @param payee the player receiving the payment.
+     * @param amount to pay.
+     * @param type the reason of the payment.
+     */
+    void payPlayer(Player payer, Player payee, int amount, TransactionType type);
+
+    /**
+     * Returns the ledger recording every money movement of the match.
+     *
+     * @return the ledger.
+     */
+    Ledger getLedger();
+
     /**
      * Set LiquidationObserver for manager before bankruptcy.
      *
@@ -0,0 +1,333 @@
+package it.unibo.javapoly.controller.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.PlayerObserver;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.economy.TransactionType;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.DiceThrow;
+
+/**
+ * Pure model engine of a Monopoly match.
+ * It owns the turn loop, dice, movement, rent, cards, jail and bankruptcy rules
+ * and has no dependency on any UI toolkit: everything that happens is published
+ * to the registered {@link GameListener}s, so a match can run headless at full speed
+ * or be wrapped by a graphical controller.
+ */
+public interface GameEngine extends PlayerObserver {
+
+    /**
+     * Registers a listener for the match events.
+     *
+     * @param listener the listener to add.
+     */
+    void addListener(GameListener listener);
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove.
+     */
+    void removeListener(GameListener listener);
+
+    /**
+     * Sets the observer invoked when a player cannot afford a payment.
+     * The observer is shared by every economy component of the match.
+     *
+     * @param observer the liquidation observer.
+     */
+    void setLiquidationObserver(LiquidationObserver observer);
+
+    /**
+     * Sets the strategy taking the decisions of a player in {@link #playTurn()}.
+     * Strategies are not saved with the match.
+     *
+     * @param player the player of the match.
+     * @param strategy the strategy of the player.
+     * @throws IllegalArgumentException if the player is not in the match.
+     */
+    void setStrategy(Player player, PlayerStrategy strategy);
+
+    /**
+     * Returns the strategy taking the decisions of a player in {@link #playTurn()}.
+     *
+     * @param player the player of the match.
+     * @return the strategy of the player.
+     * @throws IllegalArgumentException if the player is not in the match.
+     */
+    PlayerStrategy getStrategy(Player player);
+
+    /**
+     * Sets the journal recording every command given to the engine from now on.
+     * To be replayable, a journal must be set before the first command of the match.
+     *
+     * @param journal the journal, or null to stop recording.
+     */
+    void setJournal(TurnJournal journal);
+
+    /**
+     * Returns the journal recording the commands given to the engine.
+     *
+     * @return the journal, or null if the match is not recorded.
+     */
+    TurnJournal getJournal();
+
+    /**
+     * Starts the game and announces the first player.
+     */
+    void startGame();
+
+    /**
+     * Switches the turn to the next player still in the game.
+     */
+    void nextTurn();
+
+    /**
+     * Handles the dice throw of the current player, including jail and doubles rules.
+     */
+    void handleDiceThrow();
+
+    /**
+     * Moves the current player by the given number of steps and applies the tile logic.
+     *
+     * @param steps number of steps.
+     */
+    void handleMove(int steps);
+
+    /**
+     * Sends the current player to prison.
+     */
+    void handlePrison();
+
+    /**
+     * Allows the current player to pay the fee to exit jail.
+     */
+    void payToExitJail();
+
+    /**
+     * Removes the current player from the game if bankrupt and passes the turn.
+     */
+    void updatePlayerBankrupt();
+
+    /**
+     * Buys the property the current player is standing on.
+     */
+    void buyCurrentProperty();
+
+    /**
+     * Builds a house on the given property for the current player.
+     *
+     * @param property the property to build on.
+     */
+    void buildHouseOnProperty(Property property);
+
+    /**
+     * Leaves a payment a player cannot afford pending, so that the player can choose the assets
+     * to sell before {@link #finalizeLiquidation(Player)} settles it.
+     * Called by a {@link LiquidationObserver} instead of settling the payment itself.
+     *
+     * @param debtor the player who cannot pay.
+     * @param creditor the player owed the payment, or null if it is owed to the bank.
+     * @param amount the amount to pay.
+     * @param type the type of the payment, to record the settlement with.
+     */
+    void deferLiquidation(Player debtor, Player creditor, int amount, TransactionType type);
+
+    /**
+     * Returns the player whose payment has been left pending by {@link #deferLiquidation}.
+     *
+     * @return the debtor, or null if no payment is pending.
+     */
+    Player getPendingDebtor();
+
+    /**
+     * Returns the payment left pending by {@link #deferLiquidation}.
+     *
+     * @return the amount to pay, or 0 if no payment is pending.
+     */
+    int getPendingDebt();
+
+    /**
+     * Sells a house of a player to the bank, to raise money for a pending payment.
+     *
+     * @param owner the owner of the property.
+     * @param property the property with the house.
+     * @return true if the house was sold.
+     */
+    boolean sellHouse(Player owner, Property property);
+
+    /**
+     * Sells a property of a player to the bank, to raise money for a pending payment.
+     *
+     * @param owner the owner of the property.
+     * @param property the property.
+     * @return true if the property was sold.
+     */
+    boolean sellProperty(Player owner, Property property);
+
+    /**
+     * Settles the payment left pending by {@link #deferLiquidation} for a player: the player pays
+     * if the assets sold meanwhile are enough, otherwise goes bankrupt.
+     *
+     * @param p the player being liquidated.
+     */
+    void finalizeLiquidation(Player p);
+
+    /**
+     * Plays a whole turn of the current player without any user interaction, asking
+     * its {@link PlayerStrategy} at every decision: pays the bail if the player is in jail,
+     * throws the dice as long as the rules allow it, buys the unowned properties the player
+     * lands on, builds houses and then passes the turn. With the default
+     * {@link it.unibo.javapoly.controller.impl.AlwaysBuyStrategy} the player buys every
+     * property it can afford, never builds and never pays the bail.
+     */
+    void playTurn();
+
+    /**
+     * Checks whether the match is over.
+     *
+     * @return true if at most one player is still in the game.
+     */
+    boolean isGameOver();
+
+    /**
+     * Returns the winner of the match, if the match is over.
+     *
+     * @return the winner, or an empty optional while the match is running.
+     */
+    Optional<Player> getWinner();
+
+    /**
+     * Checks that no money was created or lost outside the economy controller: the money
+     * of the players must equal the money they had when the match was created, minus the
+     * net money collected by the bank as recorded in the ledger.
+     *
+     * @return true if the money of the match is conserved.
+     */
+    boolean isMoneyConserved();
+
+    /**
+     * Returns the seed the random generators of the match were created from.
+     * Dice restored from a save keep their own generators and are not covered by it.
+     *
+     * @return the seed of the match.
+     */
+    long getSeed();
+
+    /**
+     * Returns the list of players.
+     *
+     * @return list of all players.
+     */
+    List<Player> getPlayers();
+
+    /**
+     * Returns the list of players that went bankrupt.
+     *
+     * @return the bankrupt players, in order of elimination.
+     */
+    List<Player> getPlayersBankrupt();
+
+    /**
+     * Returns the player who is currently taking their turn.
+     *
+     * @return the current player.
+     */
+    Player getCurrentPlayer();
+
+    /**
+     * Returns the game board.
+     *
+     * @return the game board.
+     */
+    Board getBoard();
+
+    /**
+     * Returns the dice of the match.
+     *
+     * @return the dice throw.
+     */
+    DiceThrow getDiceThrow();
+
+    /**
+     * Checks if the current player can roll the dice.
+     *
+     * @return true if the current player can roll the dice.
+     */
+    boolean canCurrentPlayerRoll();
+
+    /**
+     * Returns the current player index.
+     *
+     * @return the index of the current player.
+     */
+    int getCurrentPlayerIndex();
+
+    /**
+     * Sets the current player index.
+     *
+     * @param index the player index.
+     */
+    void setCurrentPlayerIndex(int index);
+
+    /**
+     * Returns the number of doubles.
+     *
+     * @return the number of consecutive doubles rolled.
+     */
+    int getConsecutiveDoubles();
+
+    /**
+     * Sets the consecutive doubles count.
+     *
+     * @param doubles the number of doubles.
+     */
+    void setConsecutiveDoubles(int doubles);
+
+    /**
+     * Sets whether the current player has rolled.
+     *
+     * @param rolled true if rolled.
+     */
+    void setHasRolled(boolean rolled);
+
+    /**
+     * Returns the jail turn counter.
+     *
+     * @return the number of failed attempts of every jailed player.
+     */
+    Map<Player, Integer> getJailTurnCounter();
+
+    /**
+     * Restores the jail turn counter from saved data.
+     *
+     * @param map the jail data map, keyed by player name.
+     * @param players the list of players.
+     */
+    void restoreJailTurnCounter(Map<String, Integer> map, List<Player> players);
+
+    /**
+     * Returns the economy controller.
+     *
+     * @return the economy controller.
+     */
+    EconomyController getEconomyController();
+
+    /**
+     * Returns the property controller.
+     *
+     * @return the property controller.
+     */
+    PropertyController getPropertyController();
+
+    /**
+     * Returns the board controller.
+     *
+     * @return the board controller.
+     */
+    BoardController getBoardController();
+}
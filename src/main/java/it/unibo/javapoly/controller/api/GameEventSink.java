@@ -0,0 +1,25 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Receiver of the events produced while the logic of a tile is executed.
+ * Events are passed as plain values, so producing them allocates nothing and a
+ * sink that ignores them, such as {@link #DISCARD}, costs a single call.
+ */
+@FunctionalInterface
+public interface GameEventSink {
+
+    /**
+     * Sink ignoring every event, used when nobody reads them.
+     */
+    GameEventSink DISCARD = (type, subject, detail, amount) -> { };
+
+    /**
+     * Receives an event; the meaning of the values depends on the type.
+     *
+     * @param type the type of the event.
+     * @param subject the tile, card or property the event is about, or null.
+     * @param detail additional text of the event, or null.
+     * @param amount the amount of money involved, or 0.
+     */
+    void onEvent(GameEventType type, String subject, String detail, int amount);
+}
@@ -0,0 +1,66 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Types of the events produced while a player moves and the logic of a tile is executed.
+ * Each type documents the meaning of the values passed to {@link GameEventSink#onEvent}
+ * and {@link GameListener#onEvent}.
+ */
+public enum GameEventType {
+
+    /**
+     * A player passed over a tile without stopping on it: the subject is the name of the tile.
+     */
+    TILE_PASSED(LogCategory.NEUTRAL),
+
+    /**
+     * A player landed on a tile: the subject is the name of the tile, the detail its description
+     * and the amount the purchase price of its property, or 0 if it has none.
+     */
+    TILE_LANDED(LogCategory.NEUTRAL),
+
+    /**
+     * A player passed or reached "Go": the amount is the bonus collected.
+     */
+    GO_BONUS(LogCategory.POSITIVE),
+
+    /**
+     * A player paid the rent of a property: the subject is the property, the detail its owner
+     * and the amount the rent due.
+     */
+    RENT_PAID(LogCategory.NEGATIVE),
+
+    /**
+     * A player drew a card: the subject is the name of the card, the detail its description.
+     */
+    CARD_DRAWN(LogCategory.NEUTRAL),
+
+    /**
+     * A player was sent to jail.
+     */
+    SENT_TO_JAIL(LogCategory.NEGATIVE),
+
+    /**
+     * A player paid a tax: the subject is the name of the tax tile and the amount the tax.
+     */
+    TAX_PAID(LogCategory.NEGATIVE),
+
+    /**
+     * A player avoided jail with a "get out of jail free" card.
+     */
+    JAIL_FREE_CARD_USED(LogCategory.POSITIVE);
+
+    private final LogCategory category;
+
+    GameEventType(final LogCategory category) {
+        this.category = category;
+    }
+
+    /**
+     * Returns the category used when the event is shown in a log.
+     *
+     * @return the log category of the event.
+     */
+    public LogCategory getCategory() {
+        return this.category;
+    }
+}
@@ -0,0 +1,74 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Listener notified by a {@link GameEngine} whenever something happens in the match.
+ * All methods have an empty default implementation, so a listener only overrides
+ * the events it is interested in. The engine invokes listeners synchronously on the
+ * thread driving the match: implementations that touch a UI toolkit are responsible
+ * for handing the work over to the toolkit thread.
+ */
+public interface GameListener {
+
+    /**
+     * Invoked when the engine produces a human readable log line.
+     *
+     * @param message the log message.
+     */
+    default void onLog(final String message) {
+    }
+
+    /**
+     * Invoked when the engine produces a human readable log line of a known category.
+     * By default the category is ignored and the line is passed to {@link #onLog(String)}.
+     *
+     * @param message the log message.
+     * @param category the category of the message.
+     */
+    default void onLog(final String message, final LogCategory category) {
+        onLog(message);
+    }
+
+    /**
+     * Invoked for every event produced while a player moves and the logic of the tiles is executed,
+     * in the order they happened and before the following {@link #onRefresh()}.
+     * The meaning of the values depends on the type, as documented by {@link GameEventType}.
+     *
+     * @param type the type of the event.
+     * @param subject the tile, card or property the event is about, or null.
+     * @param detail additional text of the event, or null.
+     * @param amount the amount of money involved, or 0.
+     */
+    default void onEvent(final GameEventType type, final String subject, final String detail, final int amount) {
+    }
+
+    /**
+     * Invoked when the visible state of the match (balances, positions, owners) has changed.
+     */
+    default void onRefresh() {
+    }
+
+    /**
+     * Invoked when a player lands on an unexpected tile and a card is drawn.
+     *
+     * @param title the title of the card.
+     * @param description the description of the card effect.
+     */
+    default void onCardDrawn(final String title, final String description) {
+    }
+
+    /**
+     * Invoked when a player is removed from the match because of bankruptcy.
+     *
+     * @param playerName the name of the bankrupt player.
+     */
+    default void onPlayerBankrupt(final String playerName) {
+    }
+
+    /**
+     * Invoked when only one player is left and the match is over.
+     *
+     * @param winnerName the name of the winner.
+     */
+    default void onGameOver(final String winnerName) {
+    }
+}
@@ -0,0 +1,55 @@
+package it.unibo.javapoly.controller.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Hosts many independent headless matches, called tables, in the same JVM.
+ * Every table has its own {@link GameEngine}; the actions of a table are executed one at a time,
+ * in the order they were submitted, while different tables run concurrently.
+ */
+public interface GameServer extends AutoCloseable {
+
+    /**
+     * Opens a new table with a new match.
+     *
+     * @param playerNames the names of the players, in turn order, all different.
+     * @return the id of the table.
+     * @throws IllegalArgumentException if the number of players is not supported or two names are equal.
+     * @throws IllegalStateException if the server is closed.
+     */
+    int openTable(List<String> playerNames);
+
+    /**
+     * Submits an action to a table.
+     *
+     * @param table the id of the table.
+     * @param player the name of the player asking for the action.
+     * @param action the action.
+     * @return a future completed with the status of the table after the action, or exceptionally
+     *         with an {@link IllegalStateException} if the action was rejected.
+     * @throws IllegalArgumentException if there is no table with the given id.
+     */
+    CompletableFuture<TableStatus> submit(int table, String player, TableAction action);
+
+    /**
+     * Closes a table; the actions already submitted are still executed.
+     *
+     * @param table the id of the table.
+     * @return true if the table was open.
+     */
+    boolean closeTable(int table);
+
+    /**
+     * Returns the load statistics of the server.
+     *
+     * @return the current report.
+     */
+    ServerReport getReport();
+
+    /**
+     * Stops accepting tables and actions.
+     */
+    @Override
+    void close();
+}
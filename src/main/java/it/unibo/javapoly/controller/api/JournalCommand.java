@@ -0,0 +1,130 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Commands of a {@link GameEngine} recorded in a {@link TurnJournal}.
+ * Each command has a stable code written in the journal, so new commands can be
+ * added without breaking the journals already written.
+ */
+public enum JournalCommand {
+
+    /**
+     * {@link GameEngine#startGame()}.
+     */
+    START_GAME(1),
+
+    /**
+     * {@link GameEngine#handleDiceThrow()}.
+     */
+    ROLL(2),
+
+    /**
+     * {@link GameEngine#handleMove(int)}; the argument is the number of steps.
+     */
+    MOVE(3),
+
+    /**
+     * {@link GameEngine#handlePrison()}.
+     */
+    GO_TO_JAIL(4),
+
+    /**
+     * {@link GameEngine#payToExitJail()}.
+     */
+    PAY_JAIL_FEE(5),
+
+    /**
+     * {@link GameEngine#updatePlayerBankrupt()}.
+     */
+    DECLARE_BANKRUPTCY(6),
+
+    /**
+     * {@link GameEngine#buyCurrentProperty()}; the argument is the position of the current player.
+     */
+    BUY(7),
+
+    /**
+     * {@link GameEngine#buildHouseOnProperty(it.unibo.javapoly.model.api.property.Property)};
+     * the argument is the position of the property on the board.
+     */
+    BUILD(8),
+
+    /**
+     * {@link GameEngine#finalizeLiquidation(it.unibo.javapoly.model.api.Player)};
+     * the argument is the index of the player.
+     */
+    FINALIZE_LIQUIDATION(9),
+
+    /**
+     * {@link GameEngine#nextTurn()}.
+     */
+    NEXT_TURN(10),
+
+    /**
+     * {@link GameEngine#playTurn()}.
+     */
+    PLAY_TURN(11),
+
+    /**
+     * Answer of the {@link PlayerStrategy} of the current player to a question of
+     * {@link GameEngine#playTurn()}, always nested; the argument is 1 for yes and 0 for no.
+     */
+    ANSWER(12),
+
+    /**
+     * {@link GameEngine#deferLiquidation}, nested in the command asking for the payment;
+     * the argument is the index of the debtor.
+     */
+    DEFER_LIQUIDATION(13),
+
+    /**
+     * {@link GameEngine#sellHouse}; the argument holds the index of the owner
+     * in the high 16 bits and the position of the property on the board in the low 16 bits.
+     */
+    SELL_HOUSE(14),
+
+    /**
+     * {@link GameEngine#sellProperty}; the argument is laid out as the one of {@link #SELL_HOUSE}.
+     */
+    SELL_PROPERTY(15);
+
+    private final int code;
+
+    JournalCommand(final int code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the code written in the journal for this command.
+     *
+     * @return the code of the command.
+     */
+    public int getCode() {
+        return this.code;
+    }
+
+    /**
+     * Tells whether the command is a decision of the current player, recorded even when
+     * it is executed by another command.
+     *
+     * @return true for {@link #PAY_JAIL_FEE}, {@link #BUY}, {@link #BUILD} and {@link #DEFER_LIQUIDATION}.
+     */
+    public boolean isDecision() {
+        return this == PAY_JAIL_FEE || this == BUY || this == BUILD || this == DEFER_LIQUIDATION;
+    }
+
+    /**
+     * Returns the command written with the given code.
+     *
+     * @param code the code read from a journal.
+     * @return the command.
+     * @throws IllegalArgumentException if no command has that code.
+     */
+    public static JournalCommand fromCode(final int code) {
+        for (final JournalCommand command : values()) {
+            if (command.code == code) {
+                return command;
+            }
+        }
+        throw new IllegalArgumentException("Unknown journal command: " + code);
+    }
+}
@@ -0,0 +1,72 @@
+package it.unibo.javapoly.controller.api;
+
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+
+/**
+ * Long run landing frequencies of a board, computed exactly from the rules of the game
+ * instead of being estimated from simulated matches, and the expected rents derived from them.
+ * Every query is answered from precomputed tables.
+ */
+public interface LandingAnalysis {
+
+    /**
+     * Returns the number of tiles of the analysed board.
+     *
+     * @return the size of the board.
+     */
+    int size();
+
+    /**
+     * Returns the probability of finding a token on a tile after a throw of the dice,
+     * in the long run. Tokens waiting in jail count as being on the jail tile.
+     *
+     * @param tile the position of the tile.
+     * @return the probability; the probabilities of all the tiles sum to 1.
+     */
+    double getLandingProbability(int tile);
+
+    /**
+     * Returns the number of times a token ends a throw of the dice on a tile in a turn, on average.
+     *
+     * @param tile the position of the tile.
+     * @return the expected number of landings per turn.
+     */
+    double getLandingsPerTurn(int tile);
+
+    /**
+     * Returns the rent a property yields per turn of one opponent, on average, when its owner
+     * owns the whole group. Stations and utilities ignore the houses.
+     *
+     * @param tile the position of the property.
+     * @param houses the houses built on it, 5 for a hotel.
+     * @return the expected rent, or 0 if the tile is not a property.
+     * @throws IllegalArgumentException if the number of houses is not valid.
+     */
+    double getExpectedRent(int tile, int houses);
+
+    /**
+     * Returns the rent the properties of a group yield per turn of one opponent, on average,
+     * when the whole group is owned and has the same number of houses on every property.
+     *
+     * @param group the group.
+     * @param houses the houses built on every property of the group, 5 for hotels.
+     * @return the expected rent of the group.
+     * @throws IllegalArgumentException if the number of houses is not valid.
+     */
+    double getExpectedGroupRent(PropertyGroup group, int houses);
+
+    /**
+     * Returns the number of iterations the solver needed.
+     *
+     * @return the number of iterations.
+     */
+    int getIterations();
+
+    /**
+     * Returns the change of the distribution in the last iteration of the solver,
+     * an estimate of its error.
+     *
+     * @return the sum of the absolute changes of the probabilities.
+     */
+    double getResidual();
+}
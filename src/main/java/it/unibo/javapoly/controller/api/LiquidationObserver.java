@@ -1,6 +1,7 @@
 package it.unibo.javapoly.controller.api;
 
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.TransactionType;
 
 /**
  * Observer liquidation-related events.
@@ -15,8 +16,9 @@ public interface LiquidationObserver {
      * @param player the player who cannot fulfill the payment due to insufficient balance.
      * @param creditor the player owed the unpaid debt.
      * @param requiredAmount the amount needed now.
+     * @param type the type of the payment, to record the settlement with.
      */
-    void onInsufficientFunds(Player player, Player creditor, int requiredAmount);
+    void onInsufficientFunds(Player player, Player creditor, int requiredAmount, TransactionType type);
 
     /**
      * Notifies that a player has entered formal bankruptcy state.
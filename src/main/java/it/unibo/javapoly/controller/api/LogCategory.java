@@ -0,0 +1,28 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Category of a log line produced during a match, chosen by the code that produces
+ * the line so that the views do not have to guess it from the text.
+ */
+public enum LogCategory {
+
+    /**
+     * Something good for a player: money earned or collected, a property purchased.
+     */
+    POSITIVE,
+
+    /**
+     * Something bad for a player: a payment, a tax, a debt, a trip to jail.
+     */
+    NEGATIVE,
+
+    /**
+     * The start of a turn.
+     */
+    TURN,
+
+    /**
+     * Any other information.
+     */
+    NEUTRAL
+}
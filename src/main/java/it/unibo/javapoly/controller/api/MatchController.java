@@ -50,6 +50,13 @@ public interface MatchController extends PlayerObserver {
      */
     boolean canCurrentPlayerRoll();
 
+    /**
+     * Returns the engine holding the state and the rules of the match.
+     * 
+     * @return the game engine.
+     */
+    GameEngine getEngine();
+
     /**
      * Returns the main view.
      * 
@@ -143,10 +150,34 @@ public interface MatchController extends PlayerObserver {
      */
     void buildHouseOnProperty(Property property);
 
+    /**
+     * Sells a house of a player who is raising money for a pending payment.
+     *
+     * @param owner the owner of the property.
+     * @param property the property with the house.
+     * @return true if the house was sold.
+     */
+    boolean sellHouse(Player owner, Property property);
+
+    /**
+     * Sells a property of a player who is raising money for a pending payment.
+     *
+     * @param owner the owner of the property.
+     * @param property the property.
+     * @return true if the property was sold.
+     */
+    boolean sellProperty(Player owner, Property property);
+
     /**
      * Finalizes the liquidation process for a player.
      * 
      * @param p the player being liquidated.
      */
     void finalizeLiquidation(Player p);
+
+    /**
+     * Stops recording the match and closes its turn journal, if any, so that every command
+     * given so far can be replayed. Called when the view of the match is closed.
+     */
+    void closeJournal();
 }
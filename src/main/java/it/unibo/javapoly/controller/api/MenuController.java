@@ -26,6 +26,19 @@ public interface MenuController {
      */
     void loadGame(File filePath);
 
+    /**
+     * Tells whether the last match started from the menu has been recorded and can be resumed.
+     *
+     * @return true if the journal of the last match exists.
+     */
+    boolean canResumeMatch();
+
+    /**
+     * Resumes the last match started from the menu by replaying its turn journal,
+     * for instance after the application was closed or crashed in the middle of the match.
+     */
+    void resumeMatch();
+
     /**
      * Exits the application.
      */
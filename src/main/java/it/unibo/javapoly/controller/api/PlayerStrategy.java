@@ -0,0 +1,48 @@
+package it.unibo.javapoly.controller.api;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.property.Property;
+
+/**
+ * Decision maker of an automated player.
+ * The engine asks the strategy of the current player at every decision point of
+ * {@link GameEngine#playTurn()}; the strategy only answers and never changes the match.
+ * The answers are asked many times per turn during simulations, so implementations
+ * should decide from the state they receive without allocating.
+ */
+public interface PlayerStrategy {
+
+    /**
+     * Decides whether to buy the unowned property the player has landed on.
+     * It is asked only if the player can afford the property.
+     *
+     * @param engine the match.
+     * @param player the player deciding.
+     * @param property the property for sale.
+     * @return true to buy the property.
+     */
+    boolean shouldBuy(GameEngine engine, Player player, Property property);
+
+    /**
+     * Decides whether to build a house on a property at the end of the turn.
+     * It is asked only if the house can be built and afforded.
+     *
+     * @param engine the match.
+     * @param player the player deciding.
+     * @param property the property to build on.
+     * @param houseCost the cost of the house.
+     * @return true to build the house.
+     */
+    boolean shouldBuildHouse(GameEngine engine, Player player, Property property, int houseCost);
+
+    /**
+     * Decides whether to pay the bail at the start of the turn instead of trying to roll a double.
+     * It is asked only if the player is in jail and can afford the bail.
+     *
+     * @param engine the match.
+     * @param player the jailed player.
+     * @param bail the fee to leave the jail.
+     * @return true to pay the bail.
+     */
+    boolean shouldPayBail(GameEngine engine, Player player, int bail);
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import it.unibo.javapoly.controller.impl.PropertyControllerImpl;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
 
 import java.util.List;
 
@@ -102,4 +103,40 @@ public interface PropertyController {
      */
     Player getOwnerByProperty(Property property);
 
+    /**
+     * Returns the number of properties of a group.
+     *
+     * @param group the property group
+     * @return the size of the group
+     */
+    int getGroupSize(PropertyGroup group);
+
+    /**
+     * Returns the number of properties of a group owned by a player.
+     *
+     * @param playerId the name of the player
+     * @param group the property group
+     * @return the number of properties of the group owned by the player
+     */
+    int getOwnedInGroup(String playerId, PropertyGroup group);
+
+    /**
+     * Returns the number of properties of a group still owned by the bank.
+     *
+     * @param group the property group
+     * @return the number of unowned properties of the group
+     */
+    int getUnownedInGroup(PropertyGroup group);
+
+    /**
+     * Checks if a house can be built on a property: the property must be a land
+     * without a hotel, the player must own its whole group and the houses of the group
+     * must stay evenly built. The money of the player is not checked.
+     *
+     * @param player the player who wants to build
+     * @param property the property to build on
+     * @return true if the house can be built
+     */
+    boolean canBuildHouse(Player player, Property property);
+
 }
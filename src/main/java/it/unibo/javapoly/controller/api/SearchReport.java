@@ -0,0 +1,35 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Statistics of the searches run by a search based {@link PlayerStrategy}.
+ */
+public interface SearchReport {
+
+    /**
+     * Returns the number of decisions taken.
+     *
+     * @return the number of searches.
+     */
+    long getDecisions();
+
+    /**
+     * Returns the number of rollouts played, over all threads and decisions.
+     *
+     * @return the number of rollouts.
+     */
+    long getRollouts();
+
+    /**
+     * Returns the wall-clock time spent searching.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    long getElapsedNanos();
+
+    /**
+     * Returns the throughput of the search.
+     *
+     * @return the rollouts played per second of wall-clock time.
+     */
+    double getRolloutsPerSecond();
+}
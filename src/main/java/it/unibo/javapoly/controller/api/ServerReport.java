@@ -0,0 +1,42 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Load statistics of a {@link GameServer}.
+ */
+public interface ServerReport {
+
+    /**
+     * Returns the number of tables open when the report was taken.
+     *
+     * @return the number of hosted tables.
+     */
+    int getTablesHosted();
+
+    /**
+     * Returns the number of tables opened since the server started.
+     *
+     * @return the number of opened tables.
+     */
+    long getTablesOpened();
+
+    /**
+     * Returns the number of actions served since the server started, rejected ones included.
+     *
+     * @return the number of actions.
+     */
+    long getActions();
+
+    /**
+     * Returns the median time between the submission of an action and its completion.
+     *
+     * @return the median latency in nanoseconds, 0 if no action was served.
+     */
+    long getMedianLatencyNanos();
+
+    /**
+     * Returns the 99th percentile of the time between the submission of an action and its completion.
+     *
+     * @return the 99th percentile of the latency in nanoseconds, 0 if no action was served.
+     */
+    long getP99LatencyNanos();
+}
@@ -0,0 +1,65 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Aggregated results of a batch of simulated matches.
+ */
+public interface SimulationReport {
+
+    /**
+     * Returns the number of simulated matches.
+     *
+     * @return the number of matches.
+     */
+    int getGames();
+
+    /**
+     * Returns the number of matches that ended with a winner
+     * before reaching the turn limit.
+     *
+     * @return the number of finished matches.
+     */
+    int getFinishedGames();
+
+    /**
+     * Returns the number of turns played in all the matches.
+     *
+     * @return the total number of turns.
+     */
+    long getTotalTurns();
+
+    /**
+     * Returns the average number of turns of a match.
+     *
+     * @return the average number of turns, 0 if no match was played.
+     */
+    double getAverageTurns();
+
+    /**
+     * Returns how many matches were won by the player in the given seat.
+     *
+     * @param seat the index of the player in the turn order.
+     * @return the number of wins of that seat.
+     */
+    int getWins(int seat);
+
+    /**
+     * Returns the number of seats of every match.
+     *
+     * @return the number of players per match.
+     */
+    int getSeats();
+
+    /**
+     * Returns the wall-clock time spent running the batch.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    long getElapsedNanos();
+
+    /**
+     * Returns the throughput of the batch.
+     *
+     * @return the number of matches simulated per second.
+     */
+    double getGamesPerSecond();
+}
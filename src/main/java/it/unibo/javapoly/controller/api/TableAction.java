@@ -0,0 +1,46 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Actions a player can ask to a table of a {@link GameServer}.
+ */
+public enum TableAction {
+
+    /**
+     * Throws the dice for the current player.
+     */
+    ROLL,
+
+    /**
+     * Buys the property the current player stands on.
+     */
+    BUY,
+
+    /**
+     * Pays the fee to leave jail.
+     */
+    PAY_JAIL,
+
+    /**
+     * Ends the turn of the current player.
+     */
+    END_TURN,
+
+    /**
+     * Plays the whole turn of the current player automatically, buying every affordable property.
+     */
+    PLAY_TURN,
+
+    /**
+     * Changes nothing and only returns the status of the table.
+     */
+    STATUS;
+
+    /**
+     * Checks if the action can only be asked by the player whose turn it is.
+     *
+     * @return true if the action changes the match.
+     */
+    public boolean requiresTurn() {
+        return this != STATUS;
+    }
+}
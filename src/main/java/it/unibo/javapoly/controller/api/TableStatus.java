@@ -0,0 +1,51 @@
+package it.unibo.javapoly.controller.api;
+
+import java.util.Optional;
+
+/**
+ * Snapshot of a table of a {@link GameServer}, taken right after an action.
+ */
+public interface TableStatus {
+
+    /**
+     * Returns the id of the table.
+     *
+     * @return the id of the table.
+     */
+    int getTable();
+
+    /**
+     * Returns the name of the player whose turn it is.
+     *
+     * @return the name of the current player.
+     */
+    String getCurrentPlayer();
+
+    /**
+     * Returns the position of the current player.
+     *
+     * @return the position on the board.
+     */
+    int getPosition();
+
+    /**
+     * Returns the balance of the current player.
+     *
+     * @return the balance.
+     */
+    int getBalance();
+
+    /**
+     * Checks if the current player can still throw the dice in this turn.
+     *
+     * @return true if the current player can roll.
+     */
+    boolean canRoll();
+
+    /**
+     * Returns the winner of the match, if it is over.
+     *
+     * @return the name of the winner, empty while the match goes on.
+     */
+    Optional<String> getWinner();
+}
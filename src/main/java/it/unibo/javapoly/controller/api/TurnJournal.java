@@ -0,0 +1,31 @@
+package it.unibo.javapoly.controller.api;
+
+import java.io.Closeable;
+
+/**
+ * Append-only record of the commands given to a {@link GameEngine}.
+ * A match is reproducible from its seed, so its players and the sequence of
+ * commands are enough to rebuild it; the dice of every command are recorded as
+ * well, to detect a replay that diverges from the original match.
+ * The decisions taken inside another command are recorded too, marked as nested:
+ * they are replayed by replaying the outer command, and only checked against the journal.
+ */
+public interface TurnJournal extends Closeable {
+
+    /**
+     * Appends a command that has just been executed.
+     *
+     * @param command the command.
+     * @param nested true if the command was executed by another command, which is appended after it.
+     * @param playerIndex the index of the current player when the command was given.
+     * @param argument the argument of the command, or 0 if it has none.
+     * @param dice1 the value of the first die after the command.
+     * @param dice2 the value of the second die after the command.
+     */
+    void append(JournalCommand command, boolean nested, int playerIndex, int argument, int dice1, int dice2);
+
+    /**
+     * Writes the buffered commands and forces them to the storage device.
+     */
+    void flush();
+}
@@ -0,0 +1,53 @@
+package it.unibo.javapoly.controller.impl;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.PlayerStrategy;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.property.Property;
+
+/**
+ * Strategy buying every property it can afford, and never building nor paying the bail.
+ * It is the default strategy of every player of a {@link GameEngineImpl}.
+ * This class follows the Singleton pattern, as it has no state.
+ */
+public final class AlwaysBuyStrategy implements PlayerStrategy {
+
+    private static final AlwaysBuyStrategy INSTANCE = new AlwaysBuyStrategy();
+
+    private AlwaysBuyStrategy() {
+    }
+
+    /**
+     * Returns the singleton instance of the strategy.
+     *
+     * @return the single instance of {@link AlwaysBuyStrategy}.
+     */
+    public static AlwaysBuyStrategy getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuy(final GameEngine engine, final Player player, final Property property) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuildHouse(final GameEngine engine, final Player player, final Property property,
+            final int houseCost) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldPayBail(final GameEngine engine, final Player player, final int bail) {
+        return false;
+    }
+}
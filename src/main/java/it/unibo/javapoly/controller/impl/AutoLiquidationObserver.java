@@ -0,0 +1,90 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.List;
+
+import it.unibo.javapoly.controller.api.EconomyController;
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.LiquidationObserver;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.TransactionType;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.BankruptState;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Liquidation observer used when a match runs without a user interface.
+ * A player who cannot afford a payment sells houses first and then properties,
+ * until the debt can be paid; if nothing is left to sell the player goes bankrupt.
+ */
+public class AutoLiquidationObserver implements LiquidationObserver {
+
+    private final GameEngine engine;
+
+    /**
+     * Creates the observer for the given match.
+     *
+     * @param engine the engine of the match.
+     */
+    public AutoLiquidationObserver(final GameEngine engine) {
+        this.engine = ValidationUtils.requireNonNull(engine, "engine is null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onInsufficientFunds(final Player playerNoFunds, final Player payee, final int requiredAmount,
+            final TransactionType type) {
+        ValidationUtils.requireNonNull(playerNoFunds, "player cannot be null");
+        ValidationUtils.requirePositive(requiredAmount, "requiredAmount must be positive");
+        final EconomyController economy = this.engine.getEconomyController();
+        boolean canPay = economy.afford(playerNoFunds, requiredAmount);
+        while (!canPay && sellNextAsset(playerNoFunds)) {
+            canPay = economy.afford(playerNoFunds, requiredAmount);
+        }
+        if (!canPay) {
+            onBankruptcyDeclared(playerNoFunds, payee, requiredAmount - playerNoFunds.getBalance());
+        } else if (payee != null) {
+            economy.payPlayer(playerNoFunds, payee, requiredAmount, type);
+        } else {
+            economy.withdrawFromPlayer(playerNoFunds, requiredAmount, type);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onBankruptcyDeclared(final Player payer, final Player payee, final int requiredAmount) {
+        ValidationUtils.requireNonNull(payer, "payer cannot be null");
+        final EconomyController economy = this.engine.getEconomyController();
+        if (payee != null && payer.getBalance() > 0) {
+            economy.payPlayer(payer, payee, payer.getBalance(), TransactionType.BANKRUPTCY);
+        } else if (payer.getBalance() > 0) {
+            economy.withdrawFromPlayer(payer, payer.getBalance(), TransactionType.BANKRUPTCY);
+        }
+        payer.setState(BankruptState.getInstance());
+    }
+
+    /**
+     * Sells one house or, when no house is left, one property of the player.
+     *
+     * @param player the player who needs money.
+     * @return true if an asset was sold.
+     */
+    private boolean sellNextAsset(final Player player) {
+        final EconomyController economy = this.engine.getEconomyController();
+        for (final Property property : this.engine.getPropertyController().getPropertiesWithHouseByOwner(player)) {
+            if (economy.sellHouse(player, property)) {
+                return true;
+            }
+        }
+        final List<Property> owned = this.engine.getPropertyController().getOwnedProperties(player.getName());
+        for (final Property property : owned) {
+            if (economy.sellProperty(player, property)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
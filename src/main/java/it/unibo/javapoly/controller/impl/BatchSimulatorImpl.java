@@ -0,0 +1,155 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+import it.unibo.javapoly.controller.api.BatchSimulator;
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.SimulationReport;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.utils.Catalog;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Monte Carlo batch simulator spreading independent headless matches over a {@link ForkJoinPool}.
+ * Every match gets its own board from the {@link Catalog}, {@link PropertyControllerImpl}, card deck
+ * and dice, so the workers only share the immutable tiles and cards; each worker returns a partial
+ * {@link SimulationReportImpl} and the partial reports are merged while the fork/join tree is joined,
+ * without any lock.
+ * The seed of every match is drawn from a {@link SplittableRandom} that is split along the
+ * fork/join tree: the tree only depends on the number of games, so a batch started with the
+ * same seed plays exactly the same matches, whatever the number of threads.
+ */
+public final class BatchSimulatorImpl implements BatchSimulator {
+
+    private static final int MIN_PLAYERS = 2;
+    private static final int GAMES_PER_TASK = 8;
+
+    private final int playersPerGame;
+    private final int maxTurns;
+    private final int parallelism;
+    private final long seed;
+
+    /**
+     * Creates a simulator using every available core.
+     *
+     * @param playersPerGame the number of players of every match.
+     * @param maxTurns the number of turns after which a match is stopped without a winner.
+     */
+    public BatchSimulatorImpl(final int playersPerGame, final int maxTurns) {
+        this(playersPerGame, maxTurns, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a simulator with a random seed.
+     *
+     * @param playersPerGame the number of players of every match.
+     * @param maxTurns the number of turns after which a match is stopped without a winner.
+     * @param parallelism the number of worker threads.
+     */
+    public BatchSimulatorImpl(final int playersPerGame, final int maxTurns, final int parallelism) {
+        this(playersPerGame, maxTurns, parallelism, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param playersPerGame the number of players of every match.
+     * @param maxTurns the number of turns after which a match is stopped without a winner.
+     * @param parallelism the number of worker threads.
+     * @param seed the seed of the whole batch.
+     */
+    public BatchSimulatorImpl(final int playersPerGame, final int maxTurns, final int parallelism,
+            final long seed) {
+        this.seed = seed;
+        this.playersPerGame = ValidationUtils.requireRange(playersPerGame, MIN_PLAYERS,
+                TokenType.predefined().size(), "invalid number of players");
+        this.maxTurns = ValidationUtils.requirePositive(maxTurns, "maxTurns must be positive");
+        this.parallelism = ValidationUtils.requirePositive(parallelism, "parallelism must be positive");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationReport simulate(final int games) {
+        ValidationUtils.requireNonNegative(games, "games cannot be negative");
+        final long start = System.nanoTime();
+        final SimulationReportImpl report;
+        try (ForkJoinPool pool = new ForkJoinPool(this.parallelism)) {
+            report = pool.invoke(new MatchesTask(this, 0, games, new SplittableRandom(this.seed)));
+        }
+        return report.withElapsedNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Plays a single match until there is a winner or the turn limit is reached,
+     * then checks that the ledger of the match accounts for all its money.
+     *
+     * @param matchSeed the seed of the match.
+     * @return the report of the match.
+     * @throws IllegalStateException if money was created or lost outside the economy controller.
+     */
+    private SimulationReportImpl playMatch(final long matchSeed) {
+        final List<Player> players = new ArrayList<>(this.playersPerGame);
+        for (int i = 0; i < this.playersPerGame; i++) {
+            players.add(new PlayerImpl("Player " + (i + 1), TokenType.predefined().get(i)));
+        }
+        final GameEngine engine = new GameEngineImpl(players, Catalog.getInstance().newBoard(), matchSeed);
+        int turns = 0;
+        while (!engine.isGameOver() && turns < this.maxTurns) {
+            engine.playTurn();
+            turns++;
+        }
+        if (!engine.isMoneyConserved()) {
+            throw new IllegalStateException("Money is not conserved in the match with seed " + matchSeed);
+        }
+        final int[] wins = new int[this.playersPerGame];
+        engine.getWinner().ifPresent(w -> wins[players.indexOf(w)]++);
+        return new SimulationReportImpl(1, engine.isGameOver() ? 1 : 0, turns, wins, 0);
+    }
+
+    /**
+     * Fork/join task simulating the matches in the range [from, to).
+     */
+    private static final class MatchesTask extends RecursiveTask<SimulationReportImpl> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient BatchSimulatorImpl simulator;
+        private final int from;
+        private final int to;
+        private final transient SplittableRandom random;
+
+        MatchesTask(final BatchSimulatorImpl simulator, final int from, final int to,
+                final SplittableRandom random) {
+            this.simulator = simulator;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationReportImpl compute() {
+            if (this.to - this.from <= GAMES_PER_TASK) {
+                SimulationReportImpl partial = SimulationReportImpl.empty(this.simulator.playersPerGame);
+                for (int i = this.from; i < this.to; i++) {
+                    partial = partial.merge(this.simulator.playMatch(this.random.nextLong()));
+                }
+                return partial;
+            }
+            final int middle = (this.from + this.to) >>> 1;
+            final MatchesTask left = new MatchesTask(this.simulator, this.from, middle, this.random.split());
+            left.fork();
+            final SimulationReportImpl right = new MatchesTask(this.simulator, middle, this.to, this.random)
+                    .compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.PlayerState;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.card.CardDeck;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.BankruptState;
+import it.unibo.javapoly.model.impl.FreeState;
+import it.unibo.javapoly.model.impl.JailedState;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.model.impl.card.CardDeckImpl;
+import it.unibo.javapoly.utils.Catalog;
+
+/**
+ * Compact binary save format of a match, alternative to the JSON one.
+ *
+ * <p>
+ * Only what changes during a match is written: the board and the cards are not, since
+ * they are read from the resources of the game, and properties and cards are referred to
+ * by their position on the board and their id. After a header with a magic number and the
+ * version of the format, the file holds the players, the turn, the owned properties with
+ * their houses and the piles of the card deck. The reader builds the players, the property
+ * states and the deck directly from the stream, without any intermediate tree.
+ * Like the JSON format, the generators of the dice and of the deck are not saved, so a
+ * loaded match goes on with new random throws.
+ */
+public final class BinarySaveFormat {
+
+    /**
+     * Extension of the binary save files.
+     */
+    public static final String EXTENSION = ".jpsave";
+
+    private static final int MAGIC = 0x4A505356;
+    private static final short VERSION = 1;
+    private static final int FREE = 0;
+    private static final int JAILED = 1;
+    private static final int BANKRUPT = 2;
+    private static final int INITIAL_SIZE = 512;
+
+    private BinarySaveFormat() {
+    }
+
+    /**
+     * Checks if a file name has the extension of the binary saves.
+     *
+     * @param fileName the name of the file.
+     * @return true if the file is a binary save.
+     */
+    public static boolean isBinarySave(final String fileName) {
+        return fileName.toLowerCase(Locale.ROOT).endsWith(EXTENSION);
+    }
+
+    /**
+     * Encodes the current state of a match.
+     *
+     * @param engine the match.
+     * @return the encoded match.
+     */
+    public static byte[] toBytes(final GameEngine engine) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_SIZE);
+        try {
+            write(engine, new DataOutputStream(bytes));
+        } catch (final IOException e) {
+            throw new IllegalStateException("A byte array cannot fail to be written", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes the current state of a match.
+     *
+     * @param engine the match.
+     * @param out the destination.
+     * @throws IOException if the destination cannot be written.
+     */
+    public static void write(final GameEngine engine, final DataOutput out) throws IOException {
+        final List<Player> players = engine.getPlayers();
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(engine.getBoard().size());
+        out.writeByte(players.size());
+        for (final Player player : players) {
+            out.writeUTF(player.getName());
+            out.writeInt(player.getBalance());
+            out.writeUTF(player.getTokenType().name());
+            out.writeBoolean(player.getCustomTokenPath() != null);
+            if (player.getCustomTokenPath() != null) {
+                out.writeUTF(player.getCustomTokenPath());
+            }
+            out.writeByte(player.getCurrentPosition());
+            writeState(player.getState(), out);
+        }
+        out.writeByte(engine.getCurrentPlayerIndex());
+        out.writeByte(engine.getConsecutiveDoubles());
+        out.writeBoolean(!engine.canCurrentPlayerRoll());
+        final Map<Player, Integer> jail = engine.getJailTurnCounter();
+        out.writeByte(jail.size());
+        for (final Map.Entry<Player, Integer> entry : jail.entrySet()) {
+            out.writeByte(indexOf(players, entry.getKey().getName()));
+            out.writeByte(entry.getValue());
+        }
+        out.writeByte(engine.getPlayersBankrupt().size());
+        for (final Player player : engine.getPlayersBankrupt()) {
+            out.writeByte(indexOf(players, player.getName()));
+        }
+        for (final Player player : players) {
+            final List<Property> owned = engine.getPropertyController().getOwnedProperties(player.getName());
+            out.writeByte(owned.size());
+            for (final Property property : owned) {
+                out.writeByte(property.getPosition());
+                out.writeByte(property.getBuiltHouses());
+            }
+        }
+        writeDeck(engine, out);
+    }
+
+    /**
+     * Reads a match saved on the standard board of the game.
+     *
+     * @param in the source, read up to the end of the match.
+     * @return the match.
+     * @throws IOException if the source cannot be read or is not a binary save.
+     */
+    public static GameEngineImpl read(final InputStream in) throws IOException {
+        return read(new DataInputStream(new BufferedInputStream(in)), Catalog.getInstance().newBoard());
+    }
+
+    /**
+     * Reads a match.
+     *
+     * @param in the source, read up to the end of the match.
+     * @param board a board in its initial state, equal to the one of the saved match.
+     * @return the match.
+     * @throws IOException if the source cannot be read or is not a binary save.
+     */
+    public static GameEngineImpl read(final DataInput in, final Board board) throws IOException {
+        Objects.requireNonNull(board);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary save");
+        }
+        final short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version: " + version);
+        }
+        if (in.readShort() != board.size()) {
+            throw new IOException("The save was written for another board");
+        }
+        final int count = in.readByte();
+        final List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String name = in.readUTF();
+            final int balance = in.readInt();
+            final TokenType token = TokenType.valueOf(in.readUTF());
+            final String customPath = in.readBoolean() ? in.readUTF() : null;
+            final Player player = new PlayerImpl(name, balance, token, customPath);
+            player.setPosition(in.readUnsignedByte());
+            player.setState(readState(in));
+            players.add(player);
+        }
+        final MatchRestorer match = new MatchRestorer(players, board);
+        final int currentPlayerIndex = in.readByte();
+        final int consecutiveDoubles = in.readByte();
+        final boolean hasRolled = in.readBoolean();
+        final int jailed = in.readByte();
+        for (int i = 0; i < jailed; i++) {
+            match.setJailAttempts(in.readByte(), in.readByte());
+        }
+        final int bankruptCount = in.readByte();
+        for (int i = 0; i < bankruptCount; i++) {
+            match.addBankrupt(in.readByte());
+        }
+        try {
+            for (int p = 0; p < count; p++) {
+                final int owned = in.readByte();
+                for (int i = 0; i < owned; i++) {
+                    match.setOwner(in.readUnsignedByte(), p, in.readByte());
+                }
+            }
+            readDeck(in, match);
+            return match.restore(currentPlayerIndex, consecutiveDoubles, hasRolled);
+        } catch (final IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static void writeState(final PlayerState state, final DataOutput out) throws IOException {
+        if (state instanceof JailedState jailed) {
+            out.writeByte(JAILED);
+            out.writeByte(jailed.getTurnsInJail());
+        } else {
+            out.writeByte(state instanceof BankruptState ? BANKRUPT : FREE);
+            out.writeByte(0);
+        }
+    }
+
+    private static PlayerState readState(final DataInput in) throws IOException {
+        final int state = in.readByte();
+        final int turnsInJail = in.readByte();
+        return switch (state) {
+            case FREE -> FreeState.getInstance();
+            case JAILED -> new JailedState(turnsInJail);
+            case BANKRUPT -> BankruptState.getInstance();
+            default -> throw new IOException("Unknown player state: " + state);
+        };
+    }
+
+    private static void writeDeck(final GameEngine engine, final DataOutput out) throws IOException {
+        final CardDeck deck = engine.getBoardController() instanceof BoardControllerImpl board
+                ? board.getCardDeck()
+                : null;
+        if (!(deck instanceof CardDeckImpl cards)) {
+            out.writeBoolean(false);
+            return;
+        }
+        out.writeBoolean(true);
+        writeCards(cards.getDrawPile(), out);
+        writeCards(cards.getDiscardPile(), out);
+        final Map<GameCard, String> held = cards.getHeldCardOwners();
+        out.writeByte(held.size());
+        for (final Map.Entry<GameCard, String> entry : held.entrySet()) {
+            out.writeUTF(entry.getKey().getId());
+            out.writeByte(indexOf(engine.getPlayers(), entry.getValue()));
+        }
+    }
+
+    private static void readDeck(final DataInput in, final MatchRestorer match) throws IOException {
+        if (!in.readBoolean()) {
+            return;
+        }
+        final List<String> drawPile = readCards(in);
+        final List<String> discardPile = readCards(in);
+        final int heldCount = in.readByte();
+        final Map<String, Integer> held = new LinkedHashMap<>();
+        for (int i = 0; i < heldCount; i++) {
+            held.put(in.readUTF(), (int) in.readByte());
+        }
+        match.setDeck(drawPile, discardPile, held);
+    }
+
+    private static void writeCards(final List<GameCard> cards, final DataOutput out) throws IOException {
+        out.writeShort(cards.size());
+        for (final GameCard card : cards) {
+            out.writeUTF(card.getId());
+        }
+    }
+
+    private static List<String> readCards(final DataInput in) throws IOException {
+        final int count = in.readShort();
+        final List<String> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(in.readUTF());
+        }
+        return cards;
+    }
+
+    private static int indexOf(final List<Player> players, final String name) {
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getName().equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unknown player: " + name);
+    }
+}
@@ -1,25 +1,34 @@
 package it.unibo.javapoly.controller.impl;
 
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.javapoly.controller.api.BoardController;
 import it.unibo.javapoly.controller.api.CardController;
 import it.unibo.javapoly.controller.api.EconomyController;
+import it.unibo.javapoly.controller.api.GameEventSink;
+import it.unibo.javapoly.controller.api.GameEventType;
+import it.unibo.javapoly.controller.api.LiquidationObserver;
 import it.unibo.javapoly.controller.api.PropertyController;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.board.Board;
 import it.unibo.javapoly.model.api.board.Tile;
 import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.card.CardDeck;
 import it.unibo.javapoly.model.api.card.CardType;
 import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.economy.TransactionType;
 import it.unibo.javapoly.model.impl.JailedState;
 import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
 import it.unibo.javapoly.model.impl.board.tile.TaxTile;
-import it.unibo.javapoly.model.impl.card.StationPropertyCard;
-import it.unibo.javapoly.model.impl.card.UtilityPropertyCard;
 
 /**
  * Implementation of the BoardController interface.
@@ -31,20 +40,16 @@ public class BoardControllerImpl implements BoardController {
 
     private static final int MAX_DICE = 12;
     private static final int GO_BONUS = 200;
-    private static final int BOARD_SIZE = 40;
     private static final int JAIL_POSITION = 10;
 
-    private static final String JAIL_FREE =
-        "Hai usato una carta esci di prigione gratis.";
-
     private final Board board;
     private final PropertyController propertyController;
     @JsonIgnore
-    private final EconomyController bank;
+    private EconomyController bank;
     private final CardController cardController;
 
     @JsonIgnore
-    private String message;
+    private GameEventSink events = GameEventSink.DISCARD;
 
     /**
      * Constructs a new BoardControllerImpl.
@@ -56,11 +61,47 @@ public class BoardControllerImpl implements BoardController {
             final Board board,
             final PropertyController propertyController) {
 
+        this(board, propertyController, new SplittableRandom(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * Constructs a new BoardControllerImpl whose card deck is shuffled by the given generator.
+     *
+     * @param board the game board
+     * @param propertyController the property controller for handling tile properties
+     * @param random the random generator used to shuffle the card deck
+     */
+    public BoardControllerImpl(
+            final Board board,
+            final PropertyController propertyController,
+            final RandomGenerator random) {
+
+        this(board, propertyController, new EconomyControllerImpl(propertyController), random);
+    }
+
+    /**
+     * Constructs a new BoardControllerImpl making its payments, and the ones of its cards,
+     * through the given economy controller.
+     *
+     * @param board the game board
+     * @param propertyController the property controller for handling tile properties
+     * @param economy the economy controller shared by the match
+     * @param random the random generator used to shuffle the card deck
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The economy controller is shared by every controller of the match"
+    )
+    public BoardControllerImpl(
+            final Board board,
+            final PropertyController propertyController,
+            final EconomyController economy,
+            final RandomGenerator random) {
+
         this.board = board;
-        this.bank = new EconomyControllerImpl(propertyController);
+        this.bank = Objects.requireNonNull(economy);
         this.propertyController = propertyController;
-        this.cardController = new CardControllerImpl(this, this.propertyController);
-        this.message = "";
+        this.cardController = new CardControllerImpl(this, this.propertyController, economy, random);
     }
 
     /**
@@ -80,7 +121,9 @@ public class BoardControllerImpl implements BoardController {
         this.bank = new EconomyControllerImpl(propertyController);
         this.propertyController = propertyController;
         this.cardController = cardController;
-        this.message = "";
+        if (this.cardController != null) {
+            this.cardController.setEconomyController(this.bank);
+        }
     }
 
     /**
@@ -97,6 +140,7 @@ public class BoardControllerImpl implements BoardController {
         final int newPos =
             this.board.normalizePosition(currentPos + steps);
 
+        passTiles(currentPos, steps);
         if (passedThroughGo(currentPos, newPos)) {
             awardGoBonus(player);
         }
@@ -125,8 +169,12 @@ public class BoardControllerImpl implements BoardController {
 
         final int currentPos = player.getCurrentPosition();
 
+        // The player goes straight to jail, without passing over the tiles in between.
+        if (targetPos != JAIL_POSITION) {
+            passTiles(currentPos, this.board.normalizePosition(targetPos - currentPos));
+        }
         if (passedThroughGo(currentPos, targetPos)
-                && targetPos + BOARD_SIZE - currentPos < MAX_DICE
+                && targetPos + this.board.size() - currentPos < MAX_DICE
                 && targetPos != JAIL_POSITION) {
 
             awardGoBonus(player);
@@ -158,6 +206,7 @@ public class BoardControllerImpl implements BoardController {
             );
         }
 
+        passTiles(currentPos, this.board.normalizePosition(nearestPos - currentPos));
         if (passedThroughGo(currentPos, nearestPos)) {
             awardGoBonus(player);
         }
@@ -182,10 +231,8 @@ public class BoardControllerImpl implements BoardController {
 
         final Tile tile = this.board.getTileAt(pos);
 
-        this.message += tile.getName()
-            + System.lineSeparator()
-            + tile.getDescription()
-            + System.lineSeparator();
+        this.events.onEvent(GameEventType.TILE_LANDED, tile.getName(), tile.getDescription(),
+                tile instanceof PropertyTile property ? property.getProperty().getPurchasePrice() : 0);
 
         switch (tile.getType()) {
             case START:
@@ -194,9 +241,11 @@ public class BoardControllerImpl implements BoardController {
             case TAX:
                 if (tile instanceof TaxTile) {
                     final TaxTile tax = (TaxTile) tile;
+                    this.events.onEvent(GameEventType.TAX_PAID, tile.getName(), null, tax.getAmountTax());
                     this.bank.withdrawFromPlayer(
                         player,
-                        tax.getAmountTax()
+                        tax.getAmountTax(),
+                        TransactionType.TAX
                     );
                 }
                 break;
@@ -206,16 +255,14 @@ public class BoardControllerImpl implements BoardController {
                         .useGetOutOfJailFreeCard(player.getName())) {
                     return sendPlayerToJail(player);
                 }
-                this.message += JAIL_FREE
-                    + System.lineSeparator();
+                this.events.onEvent(GameEventType.JAIL_FREE_CARD_USED, null, null, 0);
                 break;
 
             case UNEXPECTED:
                 final GameCard cardDrawn =
                     this.cardController.drawCard(player.getName());
 
-                this.message += cardDrawn.getName()
-                    + System.lineSeparator();
+                this.events.onEvent(GameEventType.CARD_DRAWN, cardDrawn.getName(), cardDrawn.getDescription(), 0);
 
                 if (CardType.GO_TO_JAIL == cardDrawn.getType()) {
                     if (!this.cardController
@@ -227,8 +274,7 @@ public class BoardControllerImpl implements BoardController {
                         awardGoBonus(player);
                     }
 
-                    this.message += JAIL_FREE
-                        + System.lineSeparator();
+                    this.events.onEvent(GameEventType.JAIL_FREE_CARD_USED, null, null, 0);
                     return tile;
                 }
 
@@ -236,7 +282,7 @@ public class BoardControllerImpl implements BoardController {
                     this.cardController.executeCardEffect(
                         player,
                         cardDrawn,
-                        BOARD_SIZE
+                        this.board.size()
                     );
 
                 return destPos != -1
@@ -255,19 +301,22 @@ public class BoardControllerImpl implements BoardController {
                                 player,
                                 prop.getPropertyID())) {
 
-                        this.bank.payRent(
+                        final Player owner = this.propertyController
+                            .getOwnerByProperty(prop.getProperty());
+
+                        final int rent = this.bank.payRent(
                             player,
-                            this.propertyController
-                                .getOwnerByProperty(
-                                    prop.getProperty()
-                                ),
+                            owner,
                             prop.getProperty(),
                             diceRoll
                         );
 
-                        this.message +=
-                            "Questa non è la tua Proprietà, paga l'affitto"
-                            + System.lineSeparator();
+                        this.events.onEvent(
+                            GameEventType.RENT_PAID,
+                            prop.getPropertyID(),
+                            owner == null ? null : owner.getName(),
+                            rent
+                        );
                     }
                 }
                 break;
@@ -287,22 +336,61 @@ public class BoardControllerImpl implements BoardController {
      */
     @Override
     public Tile sendPlayerToJail(final Player player) {
+        this.events.onEvent(GameEventType.SENT_TO_JAIL, null, null, 0);
         player.setState(new JailedState());
         return movePlayerToTile(player, JAIL_POSITION);
     }
 
     /**
-     * Gets the printed message generated from player actions.
-     * Clears the internal message buffer after retrieval.
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public void setEventSink(final GameEventSink sink) {
+        this.events = sink != null ? sink : GameEventSink.DISCARD;
+    }
+
+    /**
+     * Returns the deck of the unexpected cards, used to save and restore its piles
+     * and to copy them into the compact state of the simulations.
      *
-     * @return the current message
+     * @return the card deck, or null if the cards are not handled by a {@link CardControllerImpl}
+     */
+    @JsonIgnore
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The deck is exposed on purpose, so that its piles can be restored"
+    )
+    public CardDeck getCardDeck() {
+        return this.cardController instanceof CardControllerImpl cards ? cards.getCardDeck() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public void setLiquidationObserver(final LiquidationObserver observer) {
+        this.bank.setLiquidationObserver(observer);
+        if (this.cardController != null) {
+            this.cardController.setLiquidationObserver(observer);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
      */
     @JsonIgnore
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The economy controller is shared by every controller of the match"
+    )
     @Override
-    public String getMessagePrint() {
-        final String tmp = this.message;
-        this.message = "";
-        return tmp;
+    public void setEconomyController(final EconomyController economy) {
+        this.bank = Objects.requireNonNull(economy);
+        if (this.cardController != null) {
+            this.cardController.setEconomyController(economy);
+        }
     }
 
     /**
@@ -320,19 +408,32 @@ public class BoardControllerImpl implements BoardController {
         return toPosition < fromPosition;
     }
 
+    /**
+     * Reports the tiles a player passes over while moving, excluding the starting and the
+     * landing tile.
+     *
+     * @param fromPosition the starting position.
+     * @param steps the steps of the move, negative to move backwards.
+     */
+    private void passTiles(final int fromPosition, final int steps) {
+        final int direction = Integer.signum(steps);
+        for (int i = 1; i < Math.abs(steps); i++) {
+            final Tile passed = this.board.getTileAt(this.board.normalizePosition(fromPosition + i * direction));
+            this.events.onEvent(GameEventType.TILE_PASSED, passed.getName(), null, 0);
+        }
+    }
+
     /**
      * Awards the "Go" bonus to the specified player.
      * Deposits the bonus amount into the player's balance
-     * and updates the internal message.
+     * and reports it to the event sink.
      *
      * @param player the player receiving the bonus
      */
     private void awardGoBonus(final Player player) {
-        this.message +=
-            "Siete passati dal via, ritirate 200"
-            + System.lineSeparator();
+        this.events.onEvent(GameEventType.GO_BONUS, null, null, GO_BONUS);
 
-        this.bank.depositToPlayer(player, GO_BONUS);
+        this.bank.depositToPlayer(player, GO_BONUS, TransactionType.GO_BONUS);
     }
 
     /**
@@ -348,30 +449,6 @@ public class BoardControllerImpl implements BoardController {
             final int startPos,
             final TileType tileType) {
 
-        for (int offset = 1; offset < BOARD_SIZE; offset++) {
-
-            final int pos =
-                this.board.normalizePosition(startPos + offset);
-
-            final Tile tile = this.board.getTileAt(pos);
-
-            if (tile instanceof PropertyTile pt) {
-
-                final var card =
-                    pt.getProperty().getCard();
-
-                if (tileType == TileType.RAILROAD
-                        && card instanceof StationPropertyCard) {
-                    return pos;
-                }
-
-                if (tileType == TileType.UTILITY
-                        && card instanceof UtilityPropertyCard) {
-                    return pos;
-                }
-            }
-        }
-
-        return -1;
+        return this.board.nextPositionOfType(startPos, tileType);
     }
 }
@@ -1,20 +1,21 @@
 package it.unibo.javapoly.controller.impl;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.logging.Logger;
-
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.javapoly.controller.api.BoardController;
 import it.unibo.javapoly.controller.api.CardController;
 import it.unibo.javapoly.controller.api.EconomyController;
+import it.unibo.javapoly.controller.api.LiquidationObserver;
 import it.unibo.javapoly.controller.api.PropertyController;
 import it.unibo.javapoly.model.api.board.Tile;
 import it.unibo.javapoly.model.api.board.TileType;
@@ -27,10 +28,11 @@ import it.unibo.javapoly.model.api.card.payload.MoneyPayload;
 import it.unibo.javapoly.model.api.card.payload.MoveRelativePayload;
 import it.unibo.javapoly.model.api.card.payload.MoveToNearestPayload;
 import it.unibo.javapoly.model.api.card.payload.MoveToPayload;
+import it.unibo.javapoly.model.api.economy.TransactionType;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.property.Property;
 import it.unibo.javapoly.model.impl.card.CardDeckImpl;
-import it.unibo.javapoly.utils.CardLoader;
+import it.unibo.javapoly.utils.Catalog;
 
 /**
  * Implementation of the CardController interface.
@@ -41,10 +43,6 @@ public class CardControllerImpl implements CardController {
 
     private static final String BANK_REC = "BANK";
     private static final int VALUE_DEF = -1;
-    private static final String PATH_CARD = "/Card/UnexpectedCards.json";
-
-    @JsonIgnore
-    private static final Logger LOGGER = Logger.getLogger(CardController.class.getName());
 
     private final CardDeck cardDeck;
 
@@ -55,7 +53,7 @@ public class CardControllerImpl implements CardController {
     private final PropertyController propertyController;
 
     @JsonIgnore
-    private final EconomyController bank;
+    private EconomyController bank;
 
     /**
      * Constructs a new CardControllerImpl.
@@ -65,18 +63,39 @@ public class CardControllerImpl implements CardController {
      */
     public CardControllerImpl(final BoardController boardController, 
                               final PropertyController propertyController) {
+        this(boardController, propertyController, new SplittableRandom(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * Constructs a new CardControllerImpl whose deck is shuffled by the given generator.
+     *
+     * @param boardController the board controller for movement operations
+     * @param propertyController the property controller for property-related actions
+     * @param random the random generator used to shuffle the deck
+     */
+    public CardControllerImpl(final BoardController boardController, 
+                              final PropertyController propertyController,
+                              final RandomGenerator random) {
+        this(boardController, propertyController, new EconomyControllerImpl(propertyController), random);
+    }
+
+    /**
+     * Constructs a new CardControllerImpl making its payments through the given economy controller.
+     *
+     * @param boardController the board controller for movement operations
+     * @param propertyController the property controller for property-related actions
+     * @param economy the economy controller shared by the match
+     * @param random the random generator used to shuffle the deck
+     */
+    public CardControllerImpl(final BoardController boardController, 
+                              final PropertyController propertyController,
+                              final EconomyController economy,
+                              final RandomGenerator random) {
         this.boardController = boardController;
-        this.bank = new EconomyControllerImpl(propertyController);
+        this.bank = Objects.requireNonNull(economy);
         this.propertyController = propertyController;
 
-        List<GameCard> cardsList = new ArrayList<>();
-        try {
-            cardsList = loadCardDeck();
-        } catch (final IOException exc) {
-            LOGGER.severe("Error loading Cards: " + exc.getMessage());
-        }
-
-        this.cardDeck = new CardDeckImpl(cardsList);
+        this.cardDeck = new CardDeckImpl(Catalog.getInstance().getCards(), random);
     }
 
     /**
@@ -151,6 +170,37 @@ public class CardControllerImpl implements CardController {
         return this.cardDeck.discardByType(CardType.GET_OUT_OF_JAIL_FREE, playerId);
     }
 
+    /**
+     * Returns the deck of the cards, used to save and restore its piles.
+     *
+     * @return the card deck
+     */
+    CardDeck getCardDeck() {
+        return this.cardDeck;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public void setLiquidationObserver(final LiquidationObserver observer) {
+        this.bank.setLiquidationObserver(observer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The economy controller is shared by every controller of the match"
+    )
+    @Override
+    public void setEconomyController(final EconomyController economy) {
+        this.bank = Objects.requireNonNull(economy);
+    }
+
     /**
      * Handles money-related card effects (pay or receive).
      *
@@ -160,11 +210,11 @@ public class CardControllerImpl implements CardController {
      */
     private int handleMoneyPayload(final Player player, final MoneyPayload payload) {
         if (this.BANK_REC.equals(payload.getReceiverMoney())) {
-            this.bank.withdrawFromPlayer(player, payload.getAmount());
+            this.bank.withdrawFromPlayer(player, payload.getAmount(), TransactionType.CARD);
             return this.VALUE_DEF;
         }
 
-        this.bank.depositToPlayer(player, payload.getAmount());
+        this.bank.depositToPlayer(player, payload.getAmount(), TransactionType.CARD);
         return this.VALUE_DEF;
     }
 
@@ -233,21 +283,4 @@ public class CardControllerImpl implements CardController {
 
         return handleMoneyPayload(player, new MoneyPayload(amount, BANK_REC));
     }
-
-    /**
-     * Loads the card deck from a file.
-     *
-     * @return the list of game cards loaded from the file
-     * @throws IOException if there is an error reading the file
-     */
-    private List<GameCard> loadCardDeck() throws IOException {
-        try {
-            final InputStream is = CardControllerImpl.class.getResourceAsStream(this.PATH_CARD);
-
-            return CardLoader.loadCardsFromFile(is);
-        } catch (final IOException e) {
-            LOGGER.severe("Error loading Cards: " + e.getMessage());
-            throw new IOException(e);
-        }
-    }
 }
@@ -0,0 +1,67 @@
+package it.unibo.javapoly.controller.impl;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.PlayerStrategy;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Strategy spending money, on properties, houses and bail, only as long as
+ * a cash reserve is left to pay rents and taxes.
+ */
+public final class CashReserveStrategy implements PlayerStrategy {
+
+    /**
+     * Reserve kept by the strategy created with {@link #CashReserveStrategy()}.
+     */
+    public static final int DEFAULT_RESERVE = 300;
+
+    private final int reserve;
+
+    /**
+     * Creates the strategy with the {@link #DEFAULT_RESERVE default reserve}.
+     */
+    public CashReserveStrategy() {
+        this(DEFAULT_RESERVE);
+    }
+
+    /**
+     * Creates the strategy.
+     *
+     * @param reserve the money the player never spends.
+     * @throws IllegalArgumentException if {@code reserve} is negative.
+     */
+    public CashReserveStrategy(final int reserve) {
+        this.reserve = ValidationUtils.requireNonNegative(reserve, "reserve cannot be negative");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuy(final GameEngine engine, final Player player, final Property property) {
+        return keepsReserve(player, property.getPurchasePrice());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuildHouse(final GameEngine engine, final Player player, final Property property,
+            final int houseCost) {
+        return keepsReserve(player, houseCost);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldPayBail(final GameEngine engine, final Player player, final int bail) {
+        return keepsReserve(player, bail);
+    }
+
+    private boolean keepsReserve(final Player player, final int cost) {
+        return player.getBalance() - cost >= this.reserve;
+    }
+}
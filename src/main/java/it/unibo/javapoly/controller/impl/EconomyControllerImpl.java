@@ -1,22 +1,30 @@
 package it.unibo.javapoly.controller.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.javapoly.controller.api.EconomyController;
 import it.unibo.javapoly.controller.api.LiquidationObserver;
 import it.unibo.javapoly.controller.api.PropertyController;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.economy.Bank;
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.api.economy.Transaction;
+import it.unibo.javapoly.model.api.economy.TransactionType;
 import it.unibo.javapoly.model.api.property.Property;
 import it.unibo.javapoly.model.impl.economy.BankImpl;
+import it.unibo.javapoly.model.impl.economy.LedgerImpl;
 import it.unibo.javapoly.utils.ValidationUtils;
 
 import java.util.Objects;
 
 /**
  * Implementation of the EconomyController interface.
+ * Every successful money movement is appended to the pending batch of its {@link Ledger};
+ * the engine of the match commits the batch when the turn passes.
  */
 public final class EconomyControllerImpl implements EconomyController {
 
     private final Bank bank;
+    private final Ledger ledger = new LedgerImpl();
     private final PropertyController propertyController;
     private LiquidationObserver liquidationObserver;
 
@@ -35,7 +43,16 @@ public final class EconomyControllerImpl implements EconomyController {
      */
     @Override
     public void depositToPlayer(final Player player, final int amount) {
+        depositToPlayer(player, amount, TransactionType.PAYMENT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void depositToPlayer(final Player player, final int amount, final TransactionType type) {
         this.bank.deposit(player, amount);
+        record(type, Transaction.BANK, player.getName(), amount);
     }
 
     /**
@@ -51,8 +68,18 @@ public final class EconomyControllerImpl implements EconomyController {
      */
     @Override
     public void withdrawFromPlayer(final Player player, final int amount) {
-        if (!this.bank.withdraw(player, amount) && this.liquidationObserver != null) {
-            this.liquidationObserver.onInsufficientFunds(player, null, amount);
+        withdrawFromPlayer(player, amount, TransactionType.PAYMENT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void withdrawFromPlayer(final Player player, final int amount, final TransactionType type) {
+        if (this.bank.withdraw(player, amount)) {
+            record(type, player.getName(), Transaction.BANK, amount);
+        } else if (this.liquidationObserver != null) {
+            this.liquidationObserver.onInsufficientFunds(player, null, amount, type);
         }
     }
 
@@ -60,18 +87,20 @@ public final class EconomyControllerImpl implements EconomyController {
      * {@inheritDoc}
      */
     @Override
-    public void payRent(final Player payer, final Player payee, final Property property, final int diceRoll) {
+    public int payRent(final Player payer, final Player payee, final Property property, final int diceRoll) {
         if (payee == null) {
-            return;
+            return 0;
         }
         final int currentBalance = payer.getBalance();
         final int rent = this.propertyController.getRent(payer, property.getId(), diceRoll);
         if (currentBalance >= rent && this.bank.transferFunds(payer, payee, rent)) {
-            return;
+            record(TransactionType.RENT, payer.getName(), payee.getName(), rent);
+            return rent;
         }
         if (this.liquidationObserver != null) {
-            this.liquidationObserver.onInsufficientFunds(payer, payee, rent);
+            this.liquidationObserver.onInsufficientFunds(payer, payee, rent, TransactionType.RENT);
         }
+        return rent;
     }
 
     /**
@@ -82,6 +111,7 @@ public final class EconomyControllerImpl implements EconomyController {
         final int price = property.getPurchasePrice();
         if (bank.canAfford(buyer, price) && this.propertyController.purchaseProperty(buyer, property.getId())) {
             this.bank.withdraw(buyer, price);
+            record(TransactionType.PROPERTY_PURCHASE, buyer.getName(), Transaction.BANK, price);
             return true;
         }
         return false;
@@ -97,6 +127,7 @@ public final class EconomyControllerImpl implements EconomyController {
         if (this.bank.canAfford(owner, houseCost)) {
             if (this.propertyController.buildHouse(owner, property.getId())) {
                 this.bank.withdraw(owner, houseCost);
+                record(TransactionType.HOUSE_PURCHASE, owner.getName(), Transaction.BANK, houseCost);
                 return true;
             }
             throw new IllegalStateException("You don't own all the properties of the same color/house are not homogeneous");
@@ -112,6 +143,7 @@ public final class EconomyControllerImpl implements EconomyController {
         final int price = this.propertyController.getHouseCost(property) / 2;
         if (this.propertyController.destroyHouse(owner, property.getId())) {
             this.bank.deposit(owner, price);
+            record(TransactionType.HOUSE_SALE, Transaction.BANK, owner.getName(), price);
             return true;
         }
         return false;
@@ -131,6 +163,7 @@ public final class EconomyControllerImpl implements EconomyController {
         final int price = property.getPurchasePrice() / 2;
         this.propertyController.returnPropertyToBank(property);
         this.bank.deposit(owner, price);
+        record(TransactionType.PROPERTY_SALE, Transaction.BANK, owner.getName(), price);
         return true;
     }
 
@@ -147,10 +180,45 @@ public final class EconomyControllerImpl implements EconomyController {
      */
     @Override
     public void payPlayer(final Player payer, final Player payee, final int amount) {
+        payPlayer(payer, payee, amount, TransactionType.PAYMENT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void payPlayer(final Player payer, final Player payee, final int amount, final TransactionType type) {
         if (payer.getBalance() < amount) {
             return;
         }
         this.bank.withdraw(payer, amount);
         this.bank.deposit(payee, amount);
+        record(type, payer.getName(), payee.getName(), amount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The ledger is the journal of the match, shared with the engine that commits it"
+    )
+    @Override
+    public Ledger getLedger() {
+        return this.ledger;
+    }
+
+    /**
+     * Records a money movement, skipping the empty ones.
+     *
+     * @param type the reason of the movement.
+     * @param payer who paid.
+     * @param payee who was paid.
+     * @param amount the amount moved.
+     */
+    private void record(final TransactionType type, final String payer, final String payee, final int amount) {
+        if (amount > 0) {
+            this.ledger.record(type, payer, payee, amount);
+        }
     }
 }
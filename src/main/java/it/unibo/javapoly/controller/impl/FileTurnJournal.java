@@ -0,0 +1,453 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.JournalCommand;
+import it.unibo.javapoly.controller.api.LiquidationObserver;
+import it.unibo.javapoly.controller.api.PlayerStrategy;
+import it.unibo.javapoly.controller.api.TurnJournal;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.economy.TransactionType;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+
+/**
+ * {@link TurnJournal} written to a binary file through a buffered {@link FileChannel}.
+ *
+ * <p>
+ * The file starts with a header holding the seed of the match and its players, followed
+ * by one fixed-size record per command: the code of the command, the current player, the
+ * two dice and the argument. The code of a nested decision has its highest bit set; nested
+ * records precede the command that executed them, and {@link #replay(Path, Board)} checks that
+ * replaying that command takes the same decisions. The answers of the strategies are recorded
+ * the same way and given back to the engine by the replay, so a match replays whatever the
+ * strategies of its players; so are the payments left pending while a player chooses the
+ * assets to sell, which are followed by the sales and the settlement of the payment.
+ * Records are collected in a direct buffer and written when it is full; at the end of a turn
+ * the file is forced to the device if the last force is older than
+ * {@value #FORCE_INTERVAL_MILLIS} ms, so a crash loses at most the last second of play.
+ * A record cut by a crash is ignored by {@link #replay(Path, Board)}, and dropped by
+ * {@link #resume(Path, Board)} before the match goes on recording in the same file.
+ */
+public final class FileTurnJournal implements TurnJournal {
+
+    private static final int MAGIC = 0x4A504A4C;
+    private static final short VERSION = 2;
+    private static final int RECORD_SIZE = 8;
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final long FORCE_INTERVAL_MILLIS = 1000;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final int NESTED = 0x80;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int CODE_SHIFT = 56;
+    private static final int PLAYER_SHIFT = 48;
+    private static final int DICE1_SHIFT = 40;
+    private static final int DICE2_SHIFT = 32;
+    private static final long ARGUMENT_MASK = 0xFFFF_FFFFL;
+    private static final int NESTED_ANSWER = JournalCommand.ANSWER.getCode() | NESTED;
+    private static final int NESTED_DEFER = JournalCommand.DEFER_LIQUIDATION.getCode() | NESTED;
+    private static final int OWNER_SHIFT = 16;
+    private static final int POSITION_MASK = 0xFFFF;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long lastForce;
+
+    private FileTurnJournal(final FileChannel channel) {
+        this.channel = channel;
+        this.lastForce = System.nanoTime();
+    }
+
+    /**
+     * Creates a journal for a match that has not been played yet, and attaches it to the engine.
+     * The file is overwritten if it already exists.
+     *
+     * @param file the file of the journal.
+     * @param engine the engine of the match, just created.
+     * @return the journal.
+     * @throws IOException if the file cannot be created.
+     */
+    public static FileTurnJournal create(final Path file, final GameEngine engine) throws IOException {
+        Objects.requireNonNull(engine);
+        final FileChannel channel = FileChannel.open(Objects.requireNonNull(file), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        final FileTurnJournal journal = new FileTurnJournal(channel);
+        journal.writeHeader(engine);
+        engine.setJournal(journal);
+        return journal;
+    }
+
+    /**
+     * Rebuilds a match by replaying its journal on a fresh engine.
+     * The engine has no listeners; its players answer with the recorded answers and leave
+     * pending the payments that were left pending while the journal is replayed, then get back
+     * the default strategy and the default liquidation observer.
+     *
+     * @param file the file of the journal.
+     * @param board a board in its initial state, equal to the one of the recorded match.
+     * @return the engine, in the state reached by the last complete command.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalStateException if the file is not a journal or the replay diverges from it.
+     */
+    public static GameEngine replay(final Path file, final Board board) throws IOException {
+        return replay(file, ByteBuffer.wrap(Files.readAllBytes(file)), board);
+    }
+
+    /**
+     * Rebuilds a match by replaying its journal, as {@link #replay(Path, Board)}, and attaches
+     * the journal to the engine so that the match goes on recording in the same file.
+     * The records following the last complete command, if a crash cut them, are dropped.
+     *
+     * @param file the file of the journal.
+     * @param board a board in its initial state, equal to the one of the recorded match.
+     * @return the engine, in the state reached by the last complete command, recording in the journal.
+     * @throws IOException if the file cannot be read or written.
+     * @throws IllegalStateException if the file is not a journal or the replay diverges from it.
+     */
+    public static GameEngine resume(final Path file, final Board board) throws IOException {
+        final ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+        final GameEngine engine = replay(file, data, board);
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        try {
+            channel.truncate(data.position());
+            channel.position(data.position());
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+        engine.setJournal(new FileTurnJournal(channel));
+        return engine;
+    }
+
+    /**
+     * Replays a journal read in memory.
+     *
+     * @param file the file of the journal, to report errors.
+     * @param data the content of the file; its position is left after the last complete command.
+     * @param board a board in its initial state, equal to the one of the recorded match.
+     * @return the engine, in the state reached by the last complete command.
+     */
+    private static GameEngine replay(final Path file, final ByteBuffer data, final Board board) {
+        final GameEngine engine;
+        try {
+            if (data.getInt() != MAGIC || data.getShort() != VERSION) {
+                throw new IllegalStateException(file + " is not a turn journal");
+            }
+            final long seed = data.getLong();
+            final int count = data.get();
+            final List<Player> players = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final String name = readString(data);
+                final int balance = data.getInt();
+                final TokenType token = TokenType.valueOf(readString(data));
+                final String customPath = readString(data);
+                players.add(new PlayerImpl(name, balance, token, customPath.isEmpty() ? null : customPath));
+            }
+            engine = new GameEngineImpl(players, board, seed);
+        } catch (final BufferUnderflowException e) {
+            throw new IllegalStateException("The header of " + file + " is truncated", e);
+        }
+        final NestedCheck check = new NestedCheck(engine);
+        final List<PlayerStrategy> strategies = new ArrayList<>(engine.getPlayers().size());
+        for (final Player player : engine.getPlayers()) {
+            strategies.add(engine.getStrategy(player));
+            engine.setStrategy(player, check);
+        }
+        engine.setJournal(check);
+        engine.setLiquidationObserver(check);
+        int end = data.position();
+        while (data.remaining() >= RECORD_SIZE) {
+            final long record = data.getLong();
+            final int code = (int) (record >>> CODE_SHIFT);
+            if ((code & NESTED) != 0) {
+                check.expect(record);
+                continue;
+            }
+            final JournalCommand command = JournalCommand.fromCode(code);
+            final int playerIndex = (int) (record >>> PLAYER_SHIFT) & BYTE_MASK;
+            final int dice1 = (int) (record >>> DICE1_SHIFT) & BYTE_MASK;
+            final int dice2 = (int) (record >>> DICE2_SHIFT) & BYTE_MASK;
+            if (playerIndex != engine.getCurrentPlayerIndex()) {
+                throw check.diverges("wrong player");
+            }
+            execute(engine, command, (int) record);
+            if (engine.getDiceThrow().getDice1().getDicesResult() != dice1
+                    || engine.getDiceThrow().getDice2().getDicesResult() != dice2) {
+                throw check.diverges("wrong dice");
+            }
+            check.endCommand();
+            end = data.position();
+        }
+        data.position(end);
+        engine.setJournal(null);
+        engine.setLiquidationObserver(new AutoLiquidationObserver(engine));
+        for (int i = 0; i < strategies.size(); i++) {
+            engine.setStrategy(engine.getPlayers().get(i), strategies.get(i));
+        }
+        return engine;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void append(final JournalCommand command, final boolean nested, final int playerIndex,
+            final int argument, final int dice1, final int dice2) {
+        if (this.buffer.remaining() < RECORD_SIZE) {
+            drain();
+        }
+        this.buffer.putLong(pack(command, nested, playerIndex, argument, dice1, dice2));
+        if (!nested && endsTurn(command)
+                && System.nanoTime() - this.lastForce >= FORCE_INTERVAL_MILLIS * NANOS_PER_MILLI) {
+            flush();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        drain();
+        try {
+            this.channel.force(false);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot force the turn journal", e);
+        }
+        this.lastForce = System.nanoTime();
+    }
+
+    /**
+     * Flushes the journal and closes the file.
+     *
+     * @throws IOException if the file cannot be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.channel.isOpen()) {
+            return;
+        }
+        try {
+            flush();
+        } catch (final UncheckedIOException e) {
+            this.channel.close();
+            throw e.getCause();
+        }
+        this.channel.close();
+    }
+
+    private void writeHeader(final GameEngine engine) {
+        final List<Player> players = engine.getPlayers();
+        this.buffer.putInt(MAGIC).putShort(VERSION).putLong(engine.getSeed()).put((byte) players.size());
+        for (final Player player : players) {
+            writeString(player.getName());
+            this.buffer.putInt(player.getBalance());
+            writeString(player.getTokenType().name());
+            writeString(player.getCustomTokenPath() == null ? "" : player.getCustomTokenPath());
+        }
+        flush();
+    }
+
+    private void writeString(final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (this.buffer.remaining() < Short.BYTES + bytes.length) {
+            drain();
+        }
+        this.buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String readString(final ByteBuffer data) {
+        final byte[] bytes = new byte[data.getShort()];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void drain() {
+        this.buffer.flip();
+        try {
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot write the turn journal", e);
+        } finally {
+            this.buffer.clear();
+        }
+    }
+
+    /**
+     * Packs a record in the layout it has in the file.
+     *
+     * @param command the command.
+     * @param nested true if the command was executed by another command.
+     * @param playerIndex the index of the current player.
+     * @param argument the argument of the command.
+     * @param dice1 the value of the first die.
+     * @param dice2 the value of the second die.
+     * @return the record.
+     */
+    private static long pack(final JournalCommand command, final boolean nested, final int playerIndex,
+            final int argument, final int dice1, final int dice2) {
+        final long code = command.getCode() | (nested ? NESTED : 0);
+        return code << CODE_SHIFT
+                | (long) (playerIndex & BYTE_MASK) << PLAYER_SHIFT
+                | (long) (dice1 & BYTE_MASK) << DICE1_SHIFT
+                | (long) (dice2 & BYTE_MASK) << DICE2_SHIFT
+                | argument & ARGUMENT_MASK;
+    }
+
+    private static boolean endsTurn(final JournalCommand command) {
+        return command == JournalCommand.NEXT_TURN
+                || command == JournalCommand.PLAY_TURN
+                || command == JournalCommand.DECLARE_BANKRUPTCY;
+    }
+
+    private static void execute(final GameEngine engine, final JournalCommand command, final int argument) {
+        switch (command) {
+            case START_GAME -> engine.startGame();
+            case ROLL -> engine.handleDiceThrow();
+            case MOVE -> engine.handleMove(argument);
+            case GO_TO_JAIL -> engine.handlePrison();
+            case PAY_JAIL_FEE -> engine.payToExitJail();
+            case DECLARE_BANKRUPTCY -> engine.updatePlayerBankrupt();
+            case BUY -> engine.buyCurrentProperty();
+            case BUILD -> engine.buildHouseOnProperty(propertyAt(engine, argument));
+            case FINALIZE_LIQUIDATION -> engine.finalizeLiquidation(engine.getPlayers().get(argument));
+            case NEXT_TURN -> engine.nextTurn();
+            case PLAY_TURN -> engine.playTurn();
+            case SELL_HOUSE -> engine.sellHouse(engine.getPlayers().get(argument >>> OWNER_SHIFT),
+                    propertyAt(engine, argument & POSITION_MASK));
+            case SELL_PROPERTY -> engine.sellProperty(engine.getPlayers().get(argument >>> OWNER_SHIFT),
+                    propertyAt(engine, argument & POSITION_MASK));
+            default -> throw new IllegalStateException("Unsupported journal command: " + command);
+        }
+    }
+
+    private static Property propertyAt(final GameEngine engine, final int position) {
+        if (!(engine.getBoard().getTileAt(position) instanceof PropertyTile tile)) {
+            throw new IllegalStateException("No property at position " + position);
+        }
+        return tile.getProperty();
+    }
+
+    /**
+     * Journal, strategy and liquidation observer of the replaying engine: answers with the
+     * recorded answers, leaves pending the payments that were left pending, and checks the
+     * nested decisions it takes against the ones recorded before the command being replayed.
+     */
+    private static final class NestedCheck implements TurnJournal, PlayerStrategy, LiquidationObserver {
+
+        private final GameEngine engine;
+        private final LiquidationObserver settler;
+        private long[] expected = new long[Byte.SIZE];
+        private int size;
+        private int checked;
+        private int index;
+
+        NestedCheck(final GameEngine engine) {
+            this.engine = engine;
+            this.settler = new AutoLiquidationObserver(engine);
+        }
+
+        void expect(final long record) {
+            if (this.size == this.expected.length) {
+                this.expected = Arrays.copyOf(this.expected, this.size * 2);
+            }
+            this.expected[this.size++] = record;
+        }
+
+        void endCommand() {
+            if (this.checked != this.size) {
+                throw diverges("missing decision");
+            }
+            this.size = 0;
+            this.checked = 0;
+            this.index++;
+        }
+
+        IllegalStateException diverges(final String reason) {
+            return new IllegalStateException("The replay diverges at command " + this.index + ": " + reason);
+        }
+
+        @Override
+        public void append(final JournalCommand command, final boolean nested, final int playerIndex,
+                final int argument, final int dice1, final int dice2) {
+            if (!nested) {
+                return;
+            }
+            if (this.checked == this.size
+                    || this.expected[this.checked] != pack(command, true, playerIndex, argument, dice1, dice2)) {
+                throw diverges("unexpected " + command);
+            }
+            this.checked++;
+        }
+
+        @Override
+        public boolean shouldBuy(final GameEngine engine, final Player player, final Property property) {
+            return nextAnswer();
+        }
+
+        @Override
+        public boolean shouldBuildHouse(final GameEngine engine, final Player player, final Property property,
+                final int houseCost) {
+            return nextAnswer();
+        }
+
+        @Override
+        public boolean shouldPayBail(final GameEngine engine, final Player player, final int bail) {
+            return nextAnswer();
+        }
+
+        private boolean nextAnswer() {
+            if (nextCode() != NESTED_ANSWER) {
+                throw diverges("unexpected question");
+            }
+            return (int) this.expected[this.checked] != 0;
+        }
+
+        @Override
+        public void onInsufficientFunds(final Player player, final Player creditor, final int requiredAmount,
+                final TransactionType type) {
+            if (nextCode() == NESTED_DEFER) {
+                this.engine.deferLiquidation(player, creditor, requiredAmount, type);
+            } else {
+                this.settler.onInsufficientFunds(player, creditor, requiredAmount, type);
+            }
+        }
+
+        @Override
+        public void onBankruptcyDeclared(final Player bankruptPlayer, final Player creditor, final int totalDebt) {
+            this.settler.onBankruptcyDeclared(bankruptPlayer, creditor, totalDebt);
+        }
+
+        private int nextCode() {
+            return this.checked == this.size ? 0 : (int) (this.expected[this.checked] >>> CODE_SHIFT);
+        }
+
+        @Override
+        public void flush() {
+            // Nothing is written.
+        }
+
+        @Override
+        public void close() {
+            // Nothing is open.
+        }
+    }
+}
@@ -0,0 +1,1212 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.controller.api.BoardController;
+import it.unibo.javapoly.controller.api.EconomyController;
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.GameEventSink;
+import it.unibo.javapoly.controller.api.GameEventType;
+import it.unibo.javapoly.controller.api.GameListener;
+import it.unibo.javapoly.controller.api.JournalCommand;
+import it.unibo.javapoly.controller.api.LiquidationObserver;
+import it.unibo.javapoly.controller.api.LogCategory;
+import it.unibo.javapoly.controller.api.PlayerStrategy;
+import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.controller.api.TurnJournal;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.PlayerState;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.economy.TransactionType;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.BankruptState;
+import it.unibo.javapoly.model.impl.DiceThrow;
+import it.unibo.javapoly.model.impl.FreeState;
+import it.unibo.javapoly.model.impl.JailedState;
+import it.unibo.javapoly.model.impl.board.BoardImpl;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+
+/**
+ * Headless implementation of {@link GameEngine}.
+ * It holds the whole state of a match and publishes every event to its
+ * {@link GameListener}s; it never touches a UI toolkit, so it can be driven
+ * by the graphical controller or by a plain loop calling {@link #playTurn()}.
+ * By default shortfalls are settled by an {@link AutoLiquidationObserver}.
+ * This class is not thread-safe: a match must be driven by one thread at a time.
+ * The engine is saved under the same root name and properties as {@link MatchControllerImpl},
+ * so a headless save can be loaded by the graphical controller and vice versa.
+ */
+@JsonRootName("MatchControllerImpl")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GameEngineImpl implements GameEngine {
+    private static final int MAX_DOUBLES = 3;
+    private static final int JAIL_EXIT_FEE = 50;
+    private static final int OWNER_SHIFT = 16;
+
+    private final List<Player> players;
+    private final List<Player> playersBankrupt;
+    private final DiceThrow diceThrow;
+    private final Board gameBoard;
+    private final Map<Player, Integer> jailTurnCounter = new HashMap<>();
+    private final EconomyController economyController;
+    private final PropertyController propertyController;
+    private final BoardController boardController;
+    private final List<GameListener> listeners = new ArrayList<>();
+    private final PlayerStrategy[] strategies;
+    private final GameEventBuffer moveEvents = new GameEventBuffer();
+    private final long seed;
+    private final long openingMoney;
+
+    private int currentPlayerIndex;
+    private int consecutiveDoubles;
+    private boolean hasRolled;
+    private Player pendingDebtor;
+    private Player pendingCreditor;
+    private int pendingDebt;
+    private TransactionType pendingType;
+    private LiquidationObserver liquidationObserver;
+    private TurnJournal journal;
+    private int commandDepth;
+
+    /**
+     * Creates a new match on the given board, collecting the properties from its property tiles.
+     *
+     * @param allPlayers list of players (already created).
+     * @param gameBoard the game board.
+     */
+    public GameEngineImpl(final List<Player> allPlayers, final Board gameBoard) {
+        this(allPlayers, gameBoard, collectProperties(gameBoard));
+    }
+
+    /**
+     * Creates a new reproducible match on the given board: two matches created
+     * with the same seed and driven by the same calls evolve in the same way.
+     *
+     * @param allPlayers list of players (already created).
+     * @param gameBoard the game board.
+     * @param seed the seed of every random choice of the match.
+     */
+    public GameEngineImpl(final List<Player> allPlayers, final Board gameBoard, final long seed) {
+        this(allPlayers, gameBoard, collectProperties(gameBoard), seed);
+    }
+
+    /**
+     * Creates a new match.
+     *
+     * @param allPlayers list of players (already created).
+     * @param gameBoard the game board.
+     * @param properties the map of properties in the game.
+     */
+    public GameEngineImpl(final List<Player> allPlayers, final Board gameBoard,
+            final Map<String, Property> properties) {
+        this(allPlayers, gameBoard, properties, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a new reproducible match.
+     *
+     * @param allPlayers list of players (already created).
+     * @param gameBoard the game board.
+     * @param properties the map of properties in the game.
+     * @param seed the seed of every random choice of the match.
+     */
+    public GameEngineImpl(final List<Player> allPlayers, final Board gameBoard,
+            final Map<String, Property> properties, final long seed) {
+        this(allPlayers, gameBoard, new PropertyControllerImpl(properties), null, null, null, seed);
+    }
+
+    /**
+     * JSON Creator for loading a saved match state.
+     * Missing components are replaced with fresh ones.
+     *
+     * @param players             the list of players.
+     * @param gameBoard           the game board.
+     * @param propertyController  the property controller.
+     * @param boardController     the board controller.
+     * @param currentPlayerIndex  index of the current player.
+     * @param consecutiveDoubles  number of consecutive doubles.
+     * @param hasRolled           whether the current player has already rolled.
+     * @param jailTurnCounterJson the jail attempts, keyed by player name.
+     * @param diceThrow           the dice state.
+     * @param playersBankrupt     the list of bankrupt players.
+     */
+    @JsonCreator
+    public GameEngineImpl(
+            @JsonProperty("players") final List<Player> players,
+            @JsonProperty("gameBoard") final Board gameBoard,
+            @JsonProperty("propertyController") final PropertyController propertyController,
+            @JsonProperty("boardController") final BoardController boardController,
+            @JsonProperty("currentPlayerIndex") final int currentPlayerIndex,
+            @JsonProperty("consecutiveDoubles") final int consecutiveDoubles,
+            @JsonProperty("hasRolled") final boolean hasRolled,
+            @JsonProperty("jailTurnCounter") final Map<String, Integer> jailTurnCounterJson,
+            @JsonProperty("diceThrow") final DiceThrow diceThrow,
+            @JsonProperty("playersBankrupt") final List<Player> playersBankrupt) {
+        this(players != null ? players : List.of(),
+                gameBoard != null ? gameBoard : new BoardImpl(new ArrayList<>()),
+                propertyController != null ? propertyController : new PropertyControllerImpl(new HashMap<>()),
+                boardController, diceThrow, playersBankrupt, ThreadLocalRandom.current().nextLong());
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.consecutiveDoubles = consecutiveDoubles;
+        this.hasRolled = hasRolled;
+        if (jailTurnCounterJson != null) {
+            fillJailTurnCounter(jailTurnCounterJson, this.players);
+        }
+    }
+
+    /**
+     * Builds the engine; the missing components are created with generators
+     * split from a single {@link SplittableRandom} seeded with {@code seed}.
+     *
+     * @param players the list of players.
+     * @param gameBoard the game board.
+     * @param propertyController the property controller.
+     * @param boardController the board controller, or null for a new one.
+     * @param diceThrow the dice state, or null for new dice.
+     * @param playersBankrupt the list of bankrupt players, or null.
+     * @param seed the seed of the match.
+     */
+    private GameEngineImpl(final List<Player> players, final Board gameBoard,
+            final PropertyController propertyController, final BoardController boardController,
+            final DiceThrow diceThrow, final List<Player> playersBankrupt, final long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        this.seed = seed;
+        this.players = List.copyOf(Objects.requireNonNull(players));
+        this.gameBoard = Objects.requireNonNull(gameBoard);
+        this.propertyController = Objects.requireNonNull(propertyController);
+        this.economyController = new EconomyControllerImpl(this.propertyController);
+        if (boardController != null) {
+            this.boardController = boardController;
+            this.boardController.setEconomyController(this.economyController);
+        } else {
+            this.boardController = new BoardControllerImpl(this.gameBoard, this.propertyController,
+                    this.economyController, random.split());
+        }
+        this.openingMoney = this.players.stream().mapToLong(Player::getBalance).sum();
+        this.strategies = new PlayerStrategy[this.players.size()];
+        Arrays.fill(this.strategies, AlwaysBuyStrategy.getInstance());
+        this.diceThrow = diceThrow != null
+                ? new DiceThrow(diceThrow.getDice1(), diceThrow.getDice2())
+                : new DiceThrow(random);
+        this.playersBankrupt = playersBankrupt != null ? new ArrayList<>(playersBankrupt) : new ArrayList<>();
+        this.setLiquidationObserver(new AutoLiquidationObserver(this));
+        this.boardController.setEventSink(GameEventSink.DISCARD);
+
+        for (final Player p : this.players) {
+            p.addObserver(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addListener(final GameListener listener) {
+        this.listeners.add(Objects.requireNonNull(listener));
+        this.boardController.setEventSink(this.moveEvents);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeListener(final GameListener listener) {
+        this.listeners.remove(listener);
+        if (this.listeners.isEmpty()) {
+            this.boardController.setEventSink(GameEventSink.DISCARD);
+            this.moveEvents.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public final void setLiquidationObserver(final LiquidationObserver observer) {
+        this.liquidationObserver = Objects.requireNonNull(observer);
+        this.economyController.setLiquidationObserver(observer);
+        this.boardController.setLiquidationObserver(observer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public void setStrategy(final Player player, final PlayerStrategy strategy) {
+        this.strategies[indexOf(player)] = Objects.requireNonNull(strategy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlayerStrategy getStrategy(final Player player) {
+        return this.strategies[indexOf(player)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public void setJournal(final TurnJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public TurnJournal getJournal() {
+        return this.journal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startGame() {
+        command(JournalCommand.START_GAME, 0, this::doStartGame);
+    }
+
+    /**
+     * Starts the match and announces the first player.
+     */
+    private void doStartGame() {
+        notifyListeners(l -> {
+            l.onLog("Game started", LogCategory.NEUTRAL);
+            l.onRefresh();
+            l.onLog("It's " + getCurrentPlayer().getName() + "'s turn", LogCategory.TURN);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nextTurn() {
+        command(JournalCommand.NEXT_TURN, 0, this::doNextTurn);
+    }
+
+    /**
+     * Commits the money movements of the ending turn
+     * and passes the turn to the next player that is not bankrupt.
+     */
+    private void doNextTurn() {
+        this.economyController.getLedger().commit();
+        int checked = 0;
+        do {
+            this.currentPlayerIndex = (this.currentPlayerIndex + 1) % this.players.size();
+            checked++;
+        } while (getCurrentPlayer().getState() instanceof BankruptState && checked < this.players.size());
+
+        this.hasRolled = false;
+        this.consecutiveDoubles = 0;
+
+        final Player current = getCurrentPlayer();
+
+        notifyListeners(l -> {
+            l.onLog("Now it's " + current.getName() + "'s turn", LogCategory.TURN);
+            l.onRefresh();
+        });
+
+        checkWinCondition();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleDiceThrow() {
+        command(JournalCommand.ROLL, 0, this::doHandleDiceThrow);
+    }
+
+    /**
+     * Throws the dice for the current player and moves or keeps them in jail.
+     */
+    private void doHandleDiceThrow() {
+        if (this.hasRolled) {
+            return;
+        }
+
+        final Player currentPlayer = getCurrentPlayer();
+
+        if (currentPlayer.getState() instanceof BankruptState) {
+            this.updatePlayerBankrupt();
+            return;
+        }
+
+        diceThrow.throwAll();
+        final boolean isDouble = diceThrow.isDouble();
+
+        if (currentPlayer.getState() instanceof JailedState) {
+            final int turns = jailTurnCounter.getOrDefault(currentPlayer, 0);
+            if (isDouble) {
+                notifyListeners(l -> l.onLog(currentPlayer.getName() + " leaves jail with a DOUBLE ("
+                        + this.diceThrow.getLastThrow() + ")!", LogCategory.POSITIVE));
+                currentPlayer.setState(FreeState.getInstance());
+                jailTurnCounter.remove(currentPlayer);
+            } else if (turns >= 2) {
+                notifyListeners(l -> l.onLog(currentPlayer.getName()
+                        + " fails the 3rd attempt. Pays €50 and leaves jail!", LogCategory.NEGATIVE));
+                economyController.withdrawFromPlayer(currentPlayer, JAIL_EXIT_FEE, TransactionType.JAIL_FEE);
+                jailTurnCounter.remove(currentPlayer);
+                if (currentPlayer.getState() instanceof BankruptState) {
+                    this.hasRolled = true;
+                    return;
+                }
+                currentPlayer.setState(FreeState.getInstance());
+            } else {
+                jailTurnCounter.put(currentPlayer, turns + 1);
+                notifyListeners(l -> l.onLog(currentPlayer.getName() + " remains in jail (Attempt "
+                        + (turns + 1) + "/3)", LogCategory.NEGATIVE));
+                this.hasRolled = true;
+                return;
+            }
+        }
+
+        notifyListeners(l -> l.onLog(currentPlayer.getName() + " throws: " + this.diceThrow.getLastThrow()
+                + (isDouble ? " (DOUBLE!)" : ""), LogCategory.NEUTRAL));
+        this.hasRolled = true;
+        if (isDouble && !(currentPlayer.getState() instanceof JailedState)) {
+            this.consecutiveDoubles++;
+            if (this.consecutiveDoubles == MAX_DOUBLES) {
+                notifyListeners(l -> l.onLog("3 doubles in a row! Go to jail.", LogCategory.NEGATIVE));
+                handlePrison();
+                return;
+            }
+        } else {
+            this.consecutiveDoubles = 0;
+        }
+
+        this.handleMove(this.diceThrow.getLastThrow());
+        if (isDouble && this.consecutiveDoubles < MAX_DOUBLES) {
+            this.hasRolled = false;
+        }
+        notifyListeners(GameListener::onRefresh);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleMove(final int steps) {
+        command(JournalCommand.MOVE, steps, () -> doHandleMove(steps));
+    }
+
+    /**
+     * Moves the current player and executes the logic of the tile reached.
+     *
+     * @param steps the number of steps.
+     */
+    private void doHandleMove(final int steps) {
+        final Player currentPlayer = getCurrentPlayer();
+        final int oldPos = currentPlayer.getCurrentPosition();
+
+        final int newPos = this.boardController.movePlayer(currentPlayer, steps).getPosition();
+        currentPlayer.setPosition(newPos);
+
+        this.onPlayerMoved(currentPlayer, oldPos, newPos);
+
+        notifyListeners(GameListener::onRefresh);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handlePrison() {
+        command(JournalCommand.GO_TO_JAIL, 0, this::doHandlePrison);
+    }
+
+    /**
+     * Sends the current player to jail.
+     */
+    private void doHandlePrison() {
+        final Player currentPlayer = getCurrentPlayer();
+
+        currentPlayer.setPosition(this.boardController.sendPlayerToJail(currentPlayer).getPosition());
+
+        publishMoveEvents();
+    }
+
+    /**
+     * Handles the logic after a player has moved to a new position.
+     *
+     * @param player      the player who moved.
+     * @param oldPosition the previous position of the player.
+     * @param newPosition the current position of the player.
+     */
+    @Override
+    public void onPlayerMoved(final Player player, final int oldPosition, final int newPosition) {
+        final Tile currentTile = this.boardController.executeTileLogic(player, newPosition,
+                this.diceThrow.getLastThrow());
+
+        if (newPosition != currentTile.getPosition()) {
+            player.setPosition(currentTile.getPosition());
+        }
+
+        handlePropertyLanding();
+
+        publishMoveEvents();
+    }
+
+    /**
+     * Hands the events buffered while the board was updated to the listeners, in the order they
+     * happened, then asks them to refresh. A drawn card is also shown through
+     * {@link GameListener#onCardDrawn(String, String)}.
+     */
+    private void publishMoveEvents() {
+        notifyListeners(l -> {
+            this.moveEvents.forEach((type, subject, detail, amount) -> {
+                l.onEvent(type, subject, detail, amount);
+                if (type == GameEventType.CARD_DRAWN) {
+                    l.onCardDrawn(subject, detail);
+                }
+            });
+            l.onRefresh();
+        });
+        this.moveEvents.clear();
+    }
+
+    /**
+     * Notifies the listeners that a player's balance has changed.
+     *
+     * @param player     the player whose balance changed.
+     * @param newBalance the new balance value.
+     */
+    @Override
+    public void onBalanceChanged(final Player player, final int newBalance) {
+        notifyListeners(GameListener::onRefresh);
+    }
+
+    /**
+     * Notifies the listeners that a player's state has changed.
+     *
+     * @param player   the player whose state changed.
+     * @param oldState the previous state.
+     * @param newState the new state.
+     */
+    @Override
+    public void onStateChanged(final Player player, final PlayerState oldState, final PlayerState newState) {
+        notifyListeners(l -> {
+            l.onLog(player.getName() + " is now in state: " + newState.getClass().getSimpleName(),
+                    LogCategory.NEUTRAL);
+            l.onRefresh();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void payToExitJail() {
+        command(JournalCommand.PAY_JAIL_FEE, 0, this::doPayToExitJail);
+    }
+
+    /**
+     * Lets the current player pay the fee to leave jail.
+     */
+    private void doPayToExitJail() {
+        final Player p = getCurrentPlayer();
+        if (!(p.getState() instanceof JailedState)) {
+            return;
+        }
+        if (economyController.afford(p, JAIL_EXIT_FEE)) {
+            this.economyController.withdrawFromPlayer(p, JAIL_EXIT_FEE, TransactionType.JAIL_FEE);
+            p.setState(FreeState.getInstance());
+            jailTurnCounter.remove(p);
+            notifyListeners(l -> {
+                l.onLog(p.getName() + " pays 50€ and is now free!", LogCategory.NEGATIVE);
+                l.onRefresh();
+            });
+        } else {
+            this.economyController.withdrawFromPlayer(p, JAIL_EXIT_FEE, TransactionType.JAIL_FEE);
+            if (!p.getState().equals(BankruptState.getInstance())) {
+                p.setState(FreeState.getInstance());
+                jailTurnCounter.remove(p);
+                notifyListeners(l -> {
+                    l.onLog(p.getName() + " pays 50€ and is now free!", LogCategory.NEGATIVE);
+                    l.onRefresh();
+                });
+                return;
+            }
+            notifyListeners(l -> {
+                l.onLog(p.getName() + " has insufficient funds to pay the 50€ exit fee.", LogCategory.NEGATIVE);
+                l.onRefresh();
+            });
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updatePlayerBankrupt() {
+        command(JournalCommand.DECLARE_BANKRUPTCY, 0, this::doUpdatePlayerBankrupt);
+    }
+
+    /**
+     * Removes the current player from the match if bankrupt.
+     */
+    private void doUpdatePlayerBankrupt() {
+        final Player currentPlayer = this.getCurrentPlayer();
+        if (currentPlayer.getState() instanceof BankruptState) {
+            if (!this.playersBankrupt.contains(currentPlayer)) {
+                this.playersBankrupt.add(currentPlayer);
+            }
+            final List<Property> ownedProperties = this.propertyController.getOwnedProperties(currentPlayer.getName());
+            for (final Property property : ownedProperties) {
+                this.propertyController.returnPropertyToBank(property);
+            }
+            notifyListeners(l -> {
+                l.onLog("BANKRUPTCY: " + currentPlayer.getName() + " is out of the game!", LogCategory.NEGATIVE);
+                l.onPlayerBankrupt(currentPlayer.getName());
+                l.onRefresh();
+            });
+            this.nextTurn();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void buyCurrentProperty() {
+        command(JournalCommand.BUY, this.journal == null ? 0 : getCurrentPlayer().getCurrentPosition(),
+                this::doBuyCurrentProperty);
+    }
+
+    /**
+     * Buys the property the current player stands on.
+     */
+    private void doBuyCurrentProperty() {
+        final Player currentPlayer = getCurrentPlayer();
+        final Tile currentTile = gameBoard.getTileAt(currentPlayer.getCurrentPosition());
+
+        if (currentTile instanceof PropertyTile pt) {
+            final Property prop = pt.getProperty();
+
+            if (prop.getIdOwner() != null && !prop.getIdOwner().isEmpty() && !"BANK".equals(prop.getIdOwner())) {
+                notifyListeners(l -> l.onLog("You cannot buy a property that already has an owner!",
+                        LogCategory.NEUTRAL));
+                return;
+            }
+
+            if (this.economyController.purchaseProperty(currentPlayer, prop)) {
+                notifyListeners(l -> {
+                    l.onLog(currentPlayer.getName() + " purchased " + prop.getCard().getName() + " for € "
+                            + prop.getPurchasePrice(), LogCategory.POSITIVE);
+                    l.onRefresh();
+                });
+            } else {
+                notifyListeners(l -> l.onLog("You don't have enough money to buy " + prop.getId(),
+                        LogCategory.NEUTRAL));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void buildHouseOnProperty(final Property property) {
+        command(JournalCommand.BUILD, this.journal == null ? 0 : positionOf(property),
+                () -> doBuildHouseOnProperty(property));
+    }
+
+    /**
+     * Builds a house on a property of the current player.
+     *
+     * @param property the property.
+     */
+    private void doBuildHouseOnProperty(final Property property) {
+        try {
+            if (this.economyController.purchaseHouse(getCurrentPlayer(), property)) {
+                notifyListeners(l -> {
+                    l.onLog("Built a house on " + property.getId(), LogCategory.POSITIVE);
+                    l.onRefresh();
+                });
+            } else {
+                notifyListeners(l -> l.onLog("Cannot build on " + property.getId(), LogCategory.NEUTRAL));
+            }
+        } catch (final IllegalStateException e) {
+            notifyListeners(l -> l.onLog("Error: " + e.getMessage(), LogCategory.NEUTRAL));
+        } catch (final IllegalArgumentException e) {
+            notifyListeners(l -> l.onLog("You cannot build on this type of tile.", LogCategory.NEUTRAL));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deferLiquidation(final Player debtor, final Player creditor, final int amount,
+            final TransactionType type) {
+        command(JournalCommand.DEFER_LIQUIDATION, this.journal == null ? 0 : indexOf(debtor), () -> {
+            this.pendingDebtor = debtor;
+            this.pendingCreditor = creditor;
+            this.pendingDebt = amount;
+            this.pendingType = type;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public Player getPendingDebtor() {
+        return this.pendingDebtor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public int getPendingDebt() {
+        return this.pendingDebt;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean sellHouse(final Player owner, final Property property) {
+        final boolean[] sold = new boolean[1];
+        command(JournalCommand.SELL_HOUSE, this.journal == null ? 0 : assetArgument(owner, property),
+                () -> sold[0] = this.economyController.sellHouse(owner, property));
+        return sold[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean sellProperty(final Player owner, final Property property) {
+        final boolean[] sold = new boolean[1];
+        command(JournalCommand.SELL_PROPERTY, this.journal == null ? 0 : assetArgument(owner, property),
+                () -> sold[0] = this.economyController.sellProperty(owner, property));
+        return sold[0];
+    }
+
+    /**
+     * Returns the argument recorded in the journal for the sale of an asset.
+     *
+     * @param owner the owner of the property.
+     * @param property the property.
+     * @return the index of the owner in the high 16 bits and the position of the property in the low ones.
+     */
+    private int assetArgument(final Player owner, final Property property) {
+        return indexOf(owner) << OWNER_SHIFT | positionOf(property);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void finalizeLiquidation(final Player p) {
+        command(JournalCommand.FINALIZE_LIQUIDATION, this.journal == null ? 0 : this.players.indexOf(p),
+                () -> doFinalizeLiquidation(p));
+    }
+
+    /**
+     * Settles the payment left pending for a player, once the player has sold what it could.
+     *
+     * @param p the player.
+     */
+    private void doFinalizeLiquidation(final Player p) {
+        final boolean pending = p.equals(this.pendingDebtor);
+        final Player creditor = pending ? this.pendingCreditor : null;
+        final int debt = pending ? this.pendingDebt : 0;
+        final TransactionType type = this.pendingType;
+        if (pending) {
+            this.pendingDebtor = null;
+            this.pendingCreditor = null;
+            this.pendingDebt = 0;
+            this.pendingType = null;
+        }
+        if (p.getBalance() >= debt) {
+            if (debt > 0 && creditor != null) {
+                this.economyController.payPlayer(p, creditor, debt, type);
+            } else if (debt > 0) {
+                this.economyController.withdrawFromPlayer(p, debt, type);
+            }
+            notifyListeners(l -> {
+                l.onLog("✅ Debt settled! " + p.getName() + " can continue.", LogCategory.POSITIVE);
+                l.onRefresh();
+            });
+        } else {
+            final int unpaid = debt - p.getBalance();
+            this.liquidationObserver.onBankruptcyDeclared(p, creditor, unpaid);
+            notifyListeners(l -> {
+                l.onLog(p.getName() + " is bankrupt with " + unpaid + "€ unpaid", LogCategory.NEGATIVE);
+                l.onRefresh();
+            });
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playTurn() {
+        command(JournalCommand.PLAY_TURN, 0, this::doPlayTurn);
+    }
+
+    /**
+     * Plays a whole turn of the current player.
+     */
+    private void doPlayTurn() {
+        final Player player = getCurrentPlayer();
+        final PlayerStrategy strategy = this.strategies[this.currentPlayerIndex];
+        if (player.getState() instanceof JailedState
+                && this.economyController.afford(player, JAIL_EXIT_FEE)
+                && answer(strategy.shouldPayBail(this, player, JAIL_EXIT_FEE))) {
+            payToExitJail();
+        }
+        while (canCurrentPlayerRoll() && !(player.getState() instanceof BankruptState)) {
+            handleDiceThrow();
+            final Tile tile = this.gameBoard.getTileAt(player.getCurrentPosition());
+            if (!(player.getState() instanceof BankruptState)
+                    && tile instanceof PropertyTile pt
+                    && !pt.getProperty().isOwnedByPlayer()
+                    && this.economyController.afford(player, pt.getProperty().getPurchasePrice())
+                    && answer(strategy.shouldBuy(this, player, pt.getProperty()))) {
+                buyCurrentProperty();
+            }
+        }
+        if (player.getState() instanceof BankruptState) {
+            updatePlayerBankrupt();
+        } else {
+            buildHouses(player, strategy);
+            nextTurn();
+        }
+    }
+
+    /**
+     * Builds the houses the strategy of the player asks for, one per property and pass
+     * over the board so that groups grow evenly, until a pass builds nothing.
+     *
+     * @param player the current player.
+     * @param strategy the strategy of the player.
+     */
+    private void buildHouses(final Player player, final PlayerStrategy strategy) {
+        boolean built = true;
+        while (built) {
+            built = false;
+            for (int i = 0; i < this.gameBoard.size(); i++) {
+                if (this.gameBoard.getTileAt(i) instanceof PropertyTile pt
+                        && pt.getProperty().playerIsTheOwner(player.getName())
+                        && this.propertyController.canBuildHouse(player, pt.getProperty())) {
+                    final int cost = this.propertyController.getHouseCost(pt.getProperty());
+                    if (this.economyController.afford(player, cost)
+                            && answer(strategy.shouldBuildHouse(this, player, pt.getProperty(), cost))) {
+                        buildHouseOnProperty(pt.getProperty());
+                        built = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Records an answer of the strategy of the current player in the journal, if any,
+     * so that the turn can be replayed whatever the strategy.
+     *
+     * @param answer the answer.
+     * @return the answer.
+     */
+    private boolean answer(final boolean answer) {
+        if (this.journal != null) {
+            this.journal.append(JournalCommand.ANSWER, true, this.currentPlayerIndex, answer ? 1 : 0,
+                    this.diceThrow.getDice1().getDicesResult(), this.diceThrow.getDice2().getDicesResult());
+        }
+        return answer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public boolean isGameOver() {
+        return activePlayers().size() <= 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public Optional<Player> getWinner() {
+        final List<Player> active = activePlayers();
+        return active.size() == 1 ? Optional.of(active.get(0)) : Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public boolean isMoneyConserved() {
+        final long moneyInPlay = this.players.stream().mapToLong(Player::getBalance).sum();
+        return moneyInPlay + this.economyController.getLedger().getBankBalance() == this.openingMoney;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Player> getPlayers() {
+        return List.copyOf(this.players);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Player> getPlayersBankrupt() {
+        return Collections.unmodifiableList(this.playersBankrupt);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Player getCurrentPlayer() {
+        return this.players.get(this.currentPlayerIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The board is shared by every component of the match"
+    )
+    @JsonGetter("gameBoard")
+    @Override
+    public Board getBoard() {
+        return this.gameBoard;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The dice are part of the match state and must be saved as they are"
+    )
+    @Override
+    public DiceThrow getDiceThrow() {
+        return this.diceThrow;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canCurrentPlayerRoll() {
+        return !this.hasRolled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCurrentPlayerIndex() {
+        return this.currentPlayerIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCurrentPlayerIndex(final int index) {
+        this.currentPlayerIndex = index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getConsecutiveDoubles() {
+        return this.consecutiveDoubles;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setConsecutiveDoubles(final int doubles) {
+        this.consecutiveDoubles = doubles;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHasRolled(final boolean rolled) {
+        this.hasRolled = rolled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @JsonIgnore
+    @Override
+    public Map<Player, Integer> getJailTurnCounter() {
+        return Collections.unmodifiableMap(this.jailTurnCounter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restoreJailTurnCounter(final Map<String, Integer> map, final List<Player> playersList) {
+        fillJailTurnCounter(map, playersList);
+    }
+
+    /**
+     * Returns the jail turn counter keyed by player name, as stored in the save files.
+     *
+     * @return the number of failed attempts of every jailed player, by name.
+     */
+    @JsonGetter("jailTurnCounter")
+    public Map<String, Integer> getJailTurnCounterJson() {
+        final Map<String, Integer> result = new HashMap<>();
+        for (final Map.Entry<Player, Integer> entry : this.jailTurnCounter.entrySet()) {
+            result.put(entry.getKey().getName(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the current player has already rolled the dice this turn.
+     *
+     * @return true if the current player has rolled.
+     */
+    @JsonGetter("hasRolled")
+    public boolean hasCurrentPlayerRolled() {
+        return this.hasRolled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "Internal controllers must be accessible by other components"
+    )
+    @JsonIgnore
+    @Override
+    public EconomyController getEconomyController() {
+        return this.economyController;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "Internal controllers must be accessible by other components"
+    )
+    @Override
+    public PropertyController getPropertyController() {
+        return this.propertyController;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "Internal controllers must be accessible by other components"
+    )
+    @Override
+    public BoardController getBoardController() {
+        return this.boardController;
+    }
+
+    /**
+     * Replaces the jail turn counter with the saved data.
+     *
+     * @param map the jail data map, keyed by player name.
+     * @param playersList the list of players.
+     */
+    private void fillJailTurnCounter(final Map<String, Integer> map, final List<Player> playersList) {
+        this.jailTurnCounter.clear();
+        for (final Map.Entry<String, Integer> entry : map.entrySet()) {
+            final String ownerId = entry.getKey();
+            final Player owner = playersList.stream()
+                    .filter(p -> p.getName().equals(ownerId))
+                    .findFirst()
+                    .orElse(null);
+            if (owner != null) {
+                this.jailTurnCounter.put(owner, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Checks if only one player remains active and declares the winner.
+     */
+    private void checkWinCondition() {
+        final List<Player> activePlayers = activePlayers();
+        if (activePlayers.size() == 1) {
+            final Player winner = activePlayers.get(0);
+            notifyListeners(l -> {
+                l.onLog("🏆 GAME OVER! The winner is " + winner.getName(), LogCategory.TURN);
+                l.onGameOver(winner.getName());
+            });
+        }
+    }
+
+    /**
+     * Returns the players that are not bankrupt.
+     *
+     * @return the active players.
+     */
+    private List<Player> activePlayers() {
+        return this.players.stream()
+                .filter(p -> !(p.getState() instanceof BankruptState))
+                .toList();
+    }
+
+    /**
+     * Handles actions when a player lands on a property.
+     */
+    private void handlePropertyLanding() {
+        final Player currentPlayer = getCurrentPlayer();
+        final Tile currentTile = gameBoard.getTileAt(currentPlayer.getCurrentPosition());
+
+        if (currentTile instanceof PropertyTile) {
+            final Property prop = ((PropertyTile) currentTile).getProperty();
+            if (prop.getIdOwner() == null) {
+                notifyListeners(l -> l.onLog("You can buy " + prop.getId() + " for €" + prop.getPurchasePrice(),
+                        LogCategory.NEUTRAL));
+            } else if (currentPlayer.getName().equals(prop.getIdOwner())) {
+                notifyListeners(l -> l.onLog("You are at home (" + prop.getId() + ").", LogCategory.NEUTRAL));
+            }
+            notifyListeners(GameListener::onRefresh);
+        }
+    }
+
+    /**
+     * Runs a command of the match and records it in the journal, if any.
+     * The outermost command is recorded to be replayed; of the commands it runs in turn
+     * only the decisions are recorded, as nested records the replay checks.
+     *
+     * @param command the command.
+     * @param argument the argument of the command.
+     * @param action the action executing the command.
+     */
+    private void command(final JournalCommand command, final int argument, final Runnable action) {
+        if (this.journal == null) {
+            action.run();
+            return;
+        }
+        final int playerIndex = this.currentPlayerIndex;
+        this.commandDepth++;
+        try {
+            action.run();
+        } finally {
+            this.commandDepth--;
+        }
+        if (this.commandDepth == 0 || command.isDecision()) {
+            this.journal.append(command, this.commandDepth > 0, playerIndex, argument,
+                    this.diceThrow.getDice1().getDicesResult(), this.diceThrow.getDice2().getDicesResult());
+        }
+    }
+
+    /**
+     * Returns the index of a player of the match.
+     *
+     * @param player the player.
+     * @return the index of the player.
+     * @throws IllegalArgumentException if the player is not in the match.
+     */
+    private int indexOf(final Player player) {
+        final int index = this.players.indexOf(player);
+        if (index < 0) {
+            throw new IllegalArgumentException("The player is not in the match");
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position of a property on the board.
+     *
+     * @param property the property.
+     * @return the position of its tile, or -1 if it is not on the board.
+     */
+    private int positionOf(final Property property) {
+        for (int i = 0; i < this.gameBoard.size(); i++) {
+            if (this.gameBoard.getTileAt(i) instanceof PropertyTile pt && pt.getProperty().equals(property)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Delivers an event to every registered listener.
+     * Nothing is evaluated when the match runs without listeners.
+     *
+     * @param event the event to deliver.
+     */
+    private void notifyListeners(final Consumer<GameListener> event) {
+        for (final GameListener listener : this.listeners) {
+            event.accept(listener);
+        }
+    }
+
+    /**
+     * Collects the properties of every property tile of the board.
+     *
+     * @param board the game board.
+     * @return the properties indexed by id.
+     */
+    static Map<String, Property> collectProperties(final Board board) {
+        final Map<String, Property> properties = new HashMap<>();
+        for (int i = 0; i < board.size(); i++) {
+            if (board.getTileAt(i) instanceof PropertyTile propertyTile) {
+                properties.put(propertyTile.getProperty().getId(), propertyTile.getProperty());
+            }
+        }
+        return properties;
+    }
+}
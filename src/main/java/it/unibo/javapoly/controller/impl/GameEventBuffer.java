@@ -0,0 +1,83 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.Arrays;
+
+import it.unibo.javapoly.controller.api.GameEventSink;
+import it.unibo.javapoly.controller.api.GameEventType;
+
+/**
+ * {@link GameEventSink} keeping the events until they are read.
+ * The events are stored in arrays reused across moves, and they are handed over as plain values
+ * by {@link #forEach(GameEventSink)}: turning them into text is left to whoever shows them.
+ */
+final class GameEventBuffer implements GameEventSink {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private GameEventType[] types = new GameEventType[INITIAL_CAPACITY];
+    private String[] subjects = new String[INITIAL_CAPACITY];
+    private String[] details = new String[INITIAL_CAPACITY];
+    private int[] amounts = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(final GameEventType type, final String subject, final String detail, final int amount) {
+        if (this.size == this.types.length) {
+            final int capacity = this.size * 2;
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.subjects = Arrays.copyOf(this.subjects, capacity);
+            this.details = Arrays.copyOf(this.details, capacity);
+            this.amounts = Arrays.copyOf(this.amounts, capacity);
+        }
+        this.types[this.size] = type;
+        this.subjects[this.size] = subject;
+        this.details[this.size] = detail;
+        this.amounts[this.size] = amount;
+        this.size++;
+    }
+
+    /**
+     * Returns the number of events waiting to be read.
+     *
+     * @return the number of buffered events.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the type of a buffered event.
+     *
+     * @param index the index of the event, in the order they were produced.
+     * @return the type of the event.
+     */
+    GameEventType getType(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.types[index];
+    }
+
+    /**
+     * Passes the buffered events to a sink, in the order they were produced; the buffer is not emptied.
+     *
+     * @param sink the receiver of the events.
+     */
+    void forEach(final GameEventSink sink) {
+        for (int i = 0; i < this.size; i++) {
+            sink.onEvent(this.types[i], this.subjects[i], this.details[i], this.amounts[i]);
+        }
+    }
+
+    /**
+     * Empties the buffer.
+     */
+    void clear() {
+        Arrays.fill(this.subjects, 0, this.size, null);
+        Arrays.fill(this.details, 0, this.size, null);
+        this.size = 0;
+    }
+}
@@ -0,0 +1,168 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.controller.api.GameServer;
+import it.unibo.javapoly.controller.api.TableAction;
+
+/**
+ * Text endpoint of a {@link GameServer}, listening for TCP connections on the loopback interface.
+ * Every connection is served by its own virtual thread and sends one command per line:
+ * <ul>
+ * <li>{@code OPEN <name>,<name>,...} opens a table and answers {@code TABLE <id>};</li>
+ * <li>{@code ACT <table> <player> <action>} submits a {@link TableAction} and answers
+ * {@code OK <status>} once it has been executed;</li>
+ * <li>{@code CLOSE <table>} closes a table;</li>
+ * <li>{@code REPORT} answers {@code OK <report>} with the load statistics of the server;</li>
+ * <li>{@code QUIT} closes the connection.</li>
+ * </ul>
+ * Invalid or rejected commands are answered with {@code ERR <reason>}.
+ */
+public final class GameServerEndpoint implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(GameServerEndpoint.class.getName());
+    private static final String OK = "OK";
+    private static final String ERR = "ERR ";
+    private static final int ACT_ARGS = 4;
+
+    private final GameServer server;
+    private final ServerSocket socket;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Binds the endpoint to a port of the loopback interface; connections are accepted after {@link #start()}.
+     *
+     * @param server the server executing the commands.
+     * @param port the port, 0 to pick a free one.
+     * @throws IOException if the port cannot be bound.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The endpoint is a front end of the server, which is shared by design"
+    )
+    public GameServerEndpoint(final GameServer server, final int port) throws IOException {
+        this.server = server;
+        this.socket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Returns the port the endpoint is listening on.
+     *
+     * @return the local port.
+     */
+    public int getPort() {
+        return this.socket.getLocalPort();
+    }
+
+    /**
+     * Starts accepting connections on a virtual thread.
+     */
+    public void start() {
+        Thread.ofVirtual().name("javapoly-accept").start(this::accept);
+    }
+
+    /**
+     * Stops accepting connections and closes the open ones once their current command is answered.
+     *
+     * @throws IOException if the socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.socket.close();
+        this.connections.shutdownNow();
+    }
+
+    private void accept() {
+        while (!this.socket.isClosed()) {
+            try {
+                final Socket client = this.socket.accept();
+                this.connections.execute(() -> serve(client));
+            } catch (final IOException e) {
+                if (!this.socket.isClosed()) {
+                    LOGGER.log(Level.WARNING, "Cannot accept a connection", e);
+                }
+            }
+        }
+    }
+
+    private void serve(final Socket client) {
+        try (client;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(
+                     new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line = in.readLine();
+            while (line != null && !"QUIT".equalsIgnoreCase(line.trim())) {
+                out.write(answer(line.trim()));
+                out.newLine();
+                out.flush();
+                line = in.readLine();
+            }
+        } catch (final IOException | UncheckedIOException e) {
+            LOGGER.log(Level.FINE, "Connection closed", e);
+        }
+    }
+
+    /**
+     * Executes a command and builds its answer.
+     *
+     * @param line the command.
+     * @return the answer, without line terminator.
+     */
+    private String answer(final String line) {
+        final String[] args = line.split("\\s+");
+        try {
+            return switch (args[0].toUpperCase(Locale.ROOT)) {
+                case "OPEN" -> "TABLE " + this.server.openTable(names(args));
+                case "ACT" -> OK + " " + act(args);
+                case "CLOSE" -> this.server.closeTable(table(args)) ? OK : ERR + "No table " + args[1];
+                case "REPORT" -> OK + " " + this.server.getReport();
+                default -> ERR + "Unknown command";
+            };
+        } catch (final CompletionException e) {
+            return ERR + e.getCause().getMessage();
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            return ERR + e.getMessage();
+        }
+    }
+
+    private String act(final String... args) {
+        if (args.length != ACT_ARGS) {
+            throw new IllegalArgumentException("Usage: ACT <table> <player> <action>");
+        }
+        final TableAction action = TableAction.valueOf(args[ACT_ARGS - 1].toUpperCase(Locale.ROOT));
+        return this.server.submit(table(args), args[2], action).join().toString();
+    }
+
+    private static List<String> names(final String... args) {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: OPEN <name>,<name>,...");
+        }
+        return Arrays.asList(args[1].split(","));
+    }
+
+    private static int table(final String... args) {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Missing table id");
+        }
+        return Integer.parseInt(args[1]);
+    }
+}
@@ -0,0 +1,337 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.GameServer;
+import it.unibo.javapoly.controller.api.ServerReport;
+import it.unibo.javapoly.controller.api.TableAction;
+import it.unibo.javapoly.controller.api.TableStatus;
+import it.unibo.javapoly.controller.api.TurnJournal;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.impl.BankruptState;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.utils.Catalog;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * {@link GameServer} running every table on virtual threads.
+ *
+ * <p>
+ * Each table owns a headless {@link GameEngine} built on a board of the {@link Catalog}, and a
+ * mailbox of pending actions. When a mailbox receives an action and is idle, a virtual thread is
+ * started to drain it; the thread executes at most {@value #ACTIONS_PER_SLICE} actions and then,
+ * if more are pending, hands the table over to a new virtual thread queued behind the other
+ * tables, so a busy table cannot starve the quiet ones. Only one thread at a time drains a
+ * mailbox, so the engine of a table is never touched concurrently and needs no lock, and no
+ * state is shared between tables apart from the immutable catalog.
+ * Once the server is closing, the thread holding a table drains its whole mailbox instead of
+ * handing it over, so no action is left behind when the scheduler stops accepting threads.
+ * The latency of every action, from its submission to its completion, is recorded in a
+ * lock-free histogram.
+ * If the server is given a directory, every table records its match in a {@link FileTurnJournal}
+ * named after the id of the table, written by the thread holding the table and closed after the
+ * last action of the table, so a table lost by a crash can be rebuilt with
+ * {@link FileTurnJournal#replay(Path, it.unibo.javapoly.model.api.board.Board)}.
+ */
+public final class GameServerImpl implements GameServer {
+
+    private static final int MIN_PLAYERS = 2;
+    private static final int ACTIONS_PER_SLICE = 16;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double MEDIAN = 50;
+    private static final double P99 = 99;
+    private static final String JOURNAL_PREFIX = "table-";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final Logger LOGGER = Logger.getLogger(GameServerImpl.class.getName());
+
+    private final Map<Integer, Table> tables = new ConcurrentHashMap<>();
+    private final AtomicInteger nextTable = new AtomicInteger();
+    private final LongAdder actions = new LongAdder();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final ExecutorService scheduler = Executors.newVirtualThreadPerTaskExecutor();
+    private final long seed;
+    private final Path journals;
+    private volatile boolean closed;
+
+    /**
+     * Creates a server with a random seed.
+     */
+    public GameServerImpl() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a server whose tables are seeded from the given seed:
+     * the n-th table opened plays the same match whenever the same actions are submitted.
+     *
+     * @param seed the seed of the server.
+     */
+    public GameServerImpl(final long seed) {
+        this(seed, null);
+    }
+
+    /**
+     * Creates a server recording the matches of its tables in the given directory.
+     *
+     * @param seed the seed of the server.
+     * @param journals the directory of the journals, {@value #JOURNAL_PREFIX}id{@value #JOURNAL_SUFFIX}
+     *     for each table, or null to record nothing.
+     */
+    public GameServerImpl(final long seed, final Path journals) {
+        this.seed = seed;
+        this.journals = journals;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the journal of the table cannot be created.
+     */
+    @Override
+    public int openTable(final List<String> playerNames) {
+        ValidationUtils.requireNonNull(playerNames, "playerNames cannot be null");
+        ValidationUtils.requireRange(playerNames.size(), MIN_PLAYERS, TokenType.predefined().size(),
+                "invalid number of players");
+        if (new HashSet<>(playerNames).size() != playerNames.size()) {
+            throw new IllegalArgumentException("The names of the players must be different");
+        }
+        checkOpen();
+        final List<Player> players = new ArrayList<>(playerNames.size());
+        for (int i = 0; i < playerNames.size(); i++) {
+            players.add(new PlayerImpl(playerNames.get(i), TokenType.predefined().get(i)));
+        }
+        final int id = this.nextTable.getAndIncrement();
+        final GameEngine engine = new GameEngineImpl(players, Catalog.getInstance().newBoard(),
+                this.seed + id * GOLDEN_GAMMA);
+        if (this.journals != null) {
+            try {
+                FileTurnJournal.create(this.journals.resolve(JOURNAL_PREFIX + id + JOURNAL_SUFFIX), engine);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Cannot create the journal of table " + id, e);
+            }
+        }
+        this.tables.put(id, new Table(id, engine));
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<TableStatus> submit(final int table, final String player, final TableAction action) {
+        Objects.requireNonNull(action);
+        checkOpen();
+        final Table target = this.tables.get(table);
+        if (target == null) {
+            throw new IllegalArgumentException("No table with id " + table);
+        }
+        final long start = System.nanoTime();
+        final CompletableFuture<TableStatus> result = new CompletableFuture<>();
+        target.execute(() -> {
+            TableStatus status = null;
+            RuntimeException failure = null;
+            try {
+                status = target.apply(player, action);
+            } catch (final RuntimeException e) {
+                failure = e;
+            }
+            this.latencies.record(System.nanoTime() - start);
+            this.actions.increment();
+            if (failure == null) {
+                result.complete(status);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean closeTable(final int table) {
+        final Table target = this.tables.remove(table);
+        if (target == null) {
+            return false;
+        }
+        target.execute(target::closeJournal);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ServerReport getReport() {
+        return new ServerReportImpl(this.tables.size(), this.nextTable.get(), this.actions.sum(),
+                this.latencies.percentile(MEDIAN), this.latencies.percentile(P99));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The actions already submitted are executed before this method returns; the ones submitted
+     * while it runs are executed by the submitting thread if no table thread can take them.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        for (final Table table : this.tables.values()) {
+            table.execute(table::closeJournal);
+        }
+        this.tables.clear();
+        this.scheduler.close();
+    }
+
+    private void checkOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("The server is closed");
+        }
+    }
+
+    /**
+     * A match and the mailbox of its pending actions.
+     */
+    private final class Table implements Runnable {
+
+        private final int id;
+        private final GameEngine engine;
+        private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Table(final int id, final GameEngine engine) {
+            this.id = id;
+            this.engine = engine;
+        }
+
+        /**
+         * Queues an action, starting a thread to drain the mailbox if none is running.
+         *
+         * @param task the action.
+         */
+        void execute(final Runnable task) {
+            this.mailbox.add(task);
+            if (this.scheduled.compareAndSet(false, true)) {
+                handOver();
+            }
+        }
+
+        /**
+         * Executes a slice of the pending actions.
+         */
+        @Override
+        public void run() {
+            drain(ACTIONS_PER_SLICE);
+        }
+
+        /**
+         * Starts a thread draining the mailbox or, if the server is closing, drains it on the
+         * calling thread. Only called by the thread that set the mailbox as scheduled.
+         */
+        private void handOver() {
+            if (!GameServerImpl.this.closed) {
+                try {
+                    GameServerImpl.this.scheduler.execute(this);
+                    return;
+                } catch (final RejectedExecutionException e) {
+                    // The scheduler has been shut down by close(): the pending actions are drained below.
+                }
+            }
+            drain(Integer.MAX_VALUE);
+        }
+
+        private void drain(final int slice) {
+            for (int i = 0; i < slice; i++) {
+                final Runnable task = this.mailbox.poll();
+                if (task == null) {
+                    break;
+                }
+                task.run();
+            }
+            this.scheduled.set(false);
+            // An action queued after the last poll may have found the mailbox still scheduled.
+            if (!this.mailbox.isEmpty() && this.scheduled.compareAndSet(false, true)) {
+                handOver();
+            }
+        }
+
+        /**
+         * Executes an action on the match. Only called by the thread draining the mailbox.
+         *
+         * @param player the player asking for the action.
+         * @param action the action.
+         * @return the status of the table after the action.
+         * @throws IllegalStateException if the action cannot be executed.
+         */
+        TableStatus apply(final String player, final TableAction action) {
+            if (action.requiresTurn()) {
+                if (this.engine.isGameOver()) {
+                    throw new IllegalStateException("The match is over");
+                }
+                if (!this.engine.getCurrentPlayer().getName().equals(player)) {
+                    throw new IllegalStateException("It is not the turn of " + player);
+                }
+            }
+            switch (action) {
+                case ROLL -> this.engine.handleDiceThrow();
+                case BUY -> this.engine.buyCurrentProperty();
+                case PAY_JAIL -> this.engine.payToExitJail();
+                case END_TURN -> endTurn();
+                case PLAY_TURN -> this.engine.playTurn();
+                case STATUS -> { }
+                default -> throw new IllegalStateException("Unknown action: " + action);
+            }
+            return new TableStatusImpl(this.id, this.engine);
+        }
+
+        /**
+         * Stops recording the match and closes its journal, if any. Queued after the last
+         * action of the table; the actions submitted later, while the table is being closed,
+         * are executed without being recorded.
+         */
+        void closeJournal() {
+            final TurnJournal journal = this.engine.getJournal();
+            if (journal == null) {
+                return;
+            }
+            this.engine.setJournal(null);
+            try {
+                journal.close();
+            } catch (final IOException e) {
+                LOGGER.log(Level.WARNING, "Cannot close the journal of table " + this.id, e);
+            }
+        }
+
+        private void endTurn() {
+            if (this.engine.getCurrentPlayer().getState() instanceof BankruptState) {
+                this.engine.updatePlayerBankrupt();
+            } else if (this.engine.canCurrentPlayerRoll()) {
+                throw new IllegalStateException("The dice must be thrown before ending the turn");
+            } else {
+                this.engine.nextTurn();
+            }
+        }
+    }
+}
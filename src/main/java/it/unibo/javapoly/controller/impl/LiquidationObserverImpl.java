@@ -1,8 +1,10 @@
 package it.unibo.javapoly.controller.impl;
 
 import it.unibo.javapoly.controller.api.LiquidationObserver;
+import it.unibo.javapoly.controller.api.LogCategory;
 import it.unibo.javapoly.controller.api.MatchController;
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.TransactionType;
 import it.unibo.javapoly.model.impl.BankruptState;
 import it.unibo.javapoly.utils.ValidationUtils;
 
@@ -10,12 +12,13 @@ import static it.unibo.javapoly.view.impl.SellAssetViewImpl.CURRENCY;
 
 /**
  * Implementation of LiquidationObserver.
+ * A payment the player cannot afford is left pending in the engine while the player chooses
+ * the assets to sell; the sales and the settlement go through the engine too, so the whole
+ * liquidation is recorded in the turn journal of the match.
  */
 public class LiquidationObserverImpl implements LiquidationObserver {
     private final MatchController matchController;
-    private String playerName;
-    private int currentDebt;
-    private String currentCreditorName;
+    private Player debtor;
 
     /**
      * Creates a new liquidation observer.
@@ -30,55 +33,41 @@ public class LiquidationObserverImpl implements LiquidationObserver {
      * {@inheritDoc}
      */
     @Override
-    public void onInsufficientFunds(final Player playerNoFunds, final Player payee, final int requiredAmount) {
+    public void onInsufficientFunds(final Player playerNoFunds, final Player payee, final int requiredAmount,
+            final TransactionType type) {
         ValidationUtils.requireNonNull(playerNoFunds, "player cannot be null");
         ValidationUtils.requirePositive(requiredAmount, "requiredAmount must be positive");
-        this.playerName = playerNoFunds.getName();
-        this.currentDebt = requiredAmount;
-        this.currentCreditorName = (payee != null) ? payee.getName() : null;
-        matchController.getMainViewImpl().addLog(
-                playerNoFunds.getName() + " owes " + requiredAmount + CURRENCY + ". Sell your asset!!!");
-        matchController.getMainViewImpl().showLiquidation();
-        matchController.getMainViewImpl().getInfoPanel().showLiquidation(playerNoFunds, this.currentDebt);
-        matchController.getMainViewImpl().getInfoPanel().setLiquidationCallback(this::onLiquidationCompleted);
+        matchController.getEngine().deferLiquidation(playerNoFunds, payee, requiredAmount, type);
+        showLiquidation(playerNoFunds, requiredAmount);
     }
 
-    private void onLiquidationCompleted(final boolean success, final int remainingDebt) {
-        matchController.getMainViewImpl().hideLiquidation();
-                if (success && remainingDebt == 0) {
-                    handleSuccessfulLiquidation();
-                } else {
-                    handleBankruptcy(remainingDebt);
-                }
-                this.playerName = null;
-                this.currentDebt = 0;
-                this.currentCreditorName = null;
-                matchController.getMainViewImpl().refreshAll();
+    /**
+     * Shows the sale of the assets for the payment the engine has left pending, if any.
+     */
+    void showPending() {
+        final Player pending = matchController.getEngine().getPendingDebtor();
+        if (pending != null) {
+            showLiquidation(pending, matchController.getEngine().getPendingDebt());
+        }
     }
 
-    private void handleSuccessfulLiquidation() {
-        final Player player = getPlayerByName(this.playerName);
-        final Player creditor = getPlayerByName(this.currentCreditorName);
-        if (player != null && player.getBalance() >= this.currentDebt) {
-            if (creditor != null) {
-                matchController.getEconomyController()
-                        .payPlayer(player, creditor, this.currentDebt);
-                matchController.getMainViewImpl().addLog(
-                        this.playerName + " pay debt to " + currentCreditorName + " of " + this.currentDebt + CURRENCY);
-            } else {
-                matchController.getEconomyController().withdrawFromPlayer(player, this.currentDebt);
-                matchController.getMainViewImpl().addLog(this.playerName + " pay debt of " + this.currentDebt + CURRENCY);
-            }
-        }
+    private void showLiquidation(final Player player, final int debt) {
+        this.debtor = player;
+        matchController.getMainViewImpl().addLog(
+                player.getName() + " owes " + debt + CURRENCY + ". Sell your asset!!!",
+                LogCategory.NEGATIVE);
+        matchController.getMainViewImpl().showLiquidation();
+        matchController.getMainViewImpl().getInfoPanel().showLiquidation(player, debt);
+        matchController.getMainViewImpl().getInfoPanel().setLiquidationCallback(
+                (success, remainingDebt) -> onLiquidationCompleted());
     }
 
-    private void handleBankruptcy(final int remainingDebt) {
-        final Player player = getPlayerByName(this.playerName);
-        final Player creditor = getPlayerByName(this.currentCreditorName);
-        if (player != null) {
-            onBankruptcyDeclared(player, creditor, remainingDebt);
-            matchController.getMainViewImpl().addLog(this.playerName + " is in bankrupt of " + remainingDebt + CURRENCY);
-        }
+    private void onLiquidationCompleted() {
+        matchController.getMainViewImpl().hideLiquidation();
+        final Player player = this.debtor;
+        this.debtor = null;
+        matchController.finalizeLiquidation(player);
+        matchController.getMainViewImpl().requestRefresh();
     }
 
     /**
@@ -88,30 +77,16 @@ public class LiquidationObserverImpl implements LiquidationObserver {
     public void onBankruptcyDeclared(final Player payer, final Player payee, final int requiredAmount) {
         ValidationUtils.requireNonNull(payer, "payer cannot be null");
         if (payee != null && payer.getBalance() > 0) {
-            matchController.getEconomyController().payPlayer(payer, payee, payer.getBalance());
+            matchController.getEconomyController()
+                    .payPlayer(payer, payee, payer.getBalance(), TransactionType.BANKRUPTCY);
             matchController.getMainViewImpl().addLog(
-                    payer.getName() + " gives remaining " + payer.getBalance() + CURRENCY + " to " + payee.getName());
+                    payer.getName() + " gives remaining " + payer.getBalance() + CURRENCY + " to " + payee.getName(),
+                    LogCategory.NEGATIVE);
         } else if (payer.getBalance() > 0) {
-            matchController.getEconomyController().withdrawFromPlayer(payer, payer.getBalance());
+            matchController.getEconomyController()
+                    .withdrawFromPlayer(payer, payer.getBalance(), TransactionType.BANKRUPTCY);
         }
         payer.setState(BankruptState.getInstance());
-        matchController.getMainViewImpl().refreshAll();
-    }
-
-    /**
-     * Helper method to retrieve a player by name.
-     *
-     * @param name the player's name.
-     *
-     * @return the Player object, or null if not found.
-     */
-    private Player getPlayerByName(final String name) {
-        if (name == null) {
-            return null;
-        }
-        return matchController.getPlayers().stream()
-                .filter(p -> p.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        matchController.getMainViewImpl().requestRefresh();
     }
 }
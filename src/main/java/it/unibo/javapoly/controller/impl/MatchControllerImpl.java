@@ -1,14 +1,12 @@
 package it.unibo.javapoly.controller.impl;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -18,58 +16,37 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.javapoly.controller.api.BoardController;
 import it.unibo.javapoly.controller.api.EconomyController;
-import it.unibo.javapoly.controller.api.LiquidationObserver;
+import it.unibo.javapoly.controller.api.GameEngine;
 import it.unibo.javapoly.controller.api.MatchController;
 import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.controller.api.TurnJournal;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.PlayerState;
 import it.unibo.javapoly.model.api.board.Board;
-import it.unibo.javapoly.model.api.board.Tile;
 import it.unibo.javapoly.model.api.property.Property;
-import it.unibo.javapoly.model.impl.BankruptState;
-import it.unibo.javapoly.model.impl.DiceImpl;
 import it.unibo.javapoly.model.impl.DiceThrow;
-import it.unibo.javapoly.model.impl.FreeState;
-import it.unibo.javapoly.model.impl.JailedState;
-import it.unibo.javapoly.model.impl.board.BoardImpl;
-import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
-import it.unibo.javapoly.model.impl.board.tile.UnexpectedTile;
+import it.unibo.javapoly.view.impl.GuiGameListener;
 import it.unibo.javapoly.view.impl.MainViewImpl;
-import javafx.application.Platform;
 
 /**
- * MatchControllerImpl manages the flow of the game, including turns,
- * movement, and GUI updates.
+ * MatchControllerImpl connects the {@link GameEngine} of a match with the GUI.
+ * The game rules live in the engine; this controller owns the main view,
+ * registers it as a listener of the engine and installs the interactive
+ * liquidation flow.
  */
 @JsonIgnoreProperties(value = { "gui", "economyController", "mainView", "" }, ignoreUnknown = true)
-@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public class MatchControllerImpl implements MatchController {
-    private static final int MAX_DOUBLES = 3;
-    private static final int JAIL_EXIT_FEE = 50;
 
-    private final List<Player> players;
-    private final List<Player> playersBankrupt;
-    private final DiceThrow diceThrow;
-    private final Board gameBoard;
+    private static final Logger LOGGER = Logger.getLogger(MatchControllerImpl.class.getName());
 
     @JsonIgnore
-    private final MainViewImpl gui;
-
-    private final Map<Player, Integer> jailTurnCounter = new HashMap<>();
+    private final GameEngine engine;
 
     @JsonIgnore
-    private final EconomyController economyController;
-
-    private final PropertyController propertyController;
-
-    private final BoardController boardController;
+    private final MainViewImpl gui;
 
-    private int currentPlayerIndex;
-    private int consecutiveDoubles;
-    private boolean hasRolled;
-    private Player currentCreditor;
     @JsonIgnore
-    private final LiquidationObserver liquidationObserver;
+    private final LiquidationObserverImpl liquidationObserver;
 
     /**
      * Constructor for MatchControllerImpl.
@@ -78,26 +55,9 @@ public class MatchControllerImpl implements MatchController {
      * @param gameBoard  the game board implementation.
      * @param properties the map of properties in the game.
      */
-    @JsonIgnoreProperties({ "gui", "economyController" })
     public MatchControllerImpl(final List<Player> allPlayers, final Board gameBoard,
             final Map<String, Property> properties) {
-        this.players = List.copyOf(allPlayers);
-        this.gameBoard = Objects.requireNonNull(gameBoard);
-        this.liquidationObserver = new LiquidationObserverImpl(this);
-        this.propertyController = new PropertyControllerImpl(properties);
-        this.economyController = new EconomyControllerImpl(propertyController);
-        this.economyController.setLiquidationObserver(this.liquidationObserver);
-        this.playersBankrupt = new ArrayList<>();
-
-        this.boardController = new BoardControllerImpl(gameBoard, propertyController);
-        this.diceThrow = new DiceThrow(new DiceImpl(), new DiceImpl());
-        this.gui = new MainViewImpl(this);
-        this.currentPlayerIndex = 0;
-        this.consecutiveDoubles = 0;
-
-        for (final Player p : this.players) {
-            p.addObserver(this);
-        }
+        this(new GameEngineImpl(allPlayers, gameBoard, properties));
     }
 
     /**
@@ -126,43 +86,26 @@ public class MatchControllerImpl implements MatchController {
             @JsonProperty("jailTurnCounter") final Map<String, Integer> jailTurnCounterJson,
             @JsonProperty("diceThrow") final DiceThrow diceThrow,
             @JsonProperty("playersBankrupt") final List<Player> playersBankrupt) {
-        this.players = players != null 
-                ? List.copyOf(players) 
-                : List.of();
-        this.gameBoard = gameBoard != null 
-                ? gameBoard 
-                : new BoardImpl(new ArrayList<>());
-        this.propertyController = propertyController != null 
-                ? propertyController
-                : new PropertyControllerImpl(new HashMap<>());
-        this.liquidationObserver = new LiquidationObserverImpl(this);
-        this.economyController = new EconomyControllerImpl(this.propertyController);
-        this.economyController.setLiquidationObserver(this.liquidationObserver);
-        this.boardController = boardController;
-        this.diceThrow = diceThrow != null
-                ? new DiceThrow(diceThrow.getDice1(), diceThrow.getDice2()) 
-                : new DiceThrow(new DiceImpl(), new DiceImpl());
-        this.playersBankrupt = playersBankrupt != null ? new ArrayList<>(playersBankrupt) : new ArrayList<>();
+        this(new GameEngineImpl(players, gameBoard, propertyController, boardController, currentPlayerIndex,
+                consecutiveDoubles, hasRolled, jailTurnCounterJson, diceThrow, playersBankrupt));
+    }
 
+    /**
+     * Wraps the given engine and attaches the GUI to it.
+     * Used for new matches and for matches loaded from a binary save.
+     *
+     * @param engine the engine of the match.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The controller drives the engine it wraps"
+    )
+    public MatchControllerImpl(final GameEngine engine) {
+        this.engine = engine;
+        this.liquidationObserver = new LiquidationObserverImpl(this);
+        this.engine.setLiquidationObserver(this.liquidationObserver);
         this.gui = new MainViewImpl(this);
-        this.currentPlayerIndex = currentPlayerIndex;
-        this.consecutiveDoubles = consecutiveDoubles;
-        this.hasRolled = hasRolled;
-        if (jailTurnCounterJson != null) {
-            for (final Map.Entry<String, Integer> entry : jailTurnCounterJson.entrySet()) {
-                final String playerName = entry.getKey();
-                final Player player = this.players.stream()
-                        .filter(p -> p.getName().equals(playerName))
-                        .findFirst()
-                        .orElse(null);
-                if (player != null) {
-                    this.jailTurnCounter.put(player, entry.getValue());
-                }
-            }
-        }
-        for (final Player p : this.players) {
-            p.addObserver(this);
-        }
+        this.engine.addListener(new GuiGameListener(this.gui));
     }
 
     /**
@@ -173,7 +116,7 @@ public class MatchControllerImpl implements MatchController {
     @JsonGetter("jailTurnCounter")
     public Map<String, Integer> getJailTurnCounterJson() {
         final Map<String, Integer> result = new HashMap<>();
-        for (final Map.Entry<Player, Integer> entry : this.jailTurnCounter.entrySet()) {
+        for (final Map.Entry<Player, Integer> entry : this.engine.getJailTurnCounter().entrySet()) {
             result.put(entry.getKey().getName(), entry.getValue());
         }
         return result;
@@ -185,11 +128,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void startGame() {
-        updateGui(g -> {
-            g.addLog("Game started");
-            g.refreshAll();
-            g.addLog("It's " + getCurrentPlayer().getName() + "'s turn");
-        });
+        this.engine.startGame();
     }
 
     /**
@@ -198,21 +137,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void nextTurn() {
-        do {
-            this.currentPlayerIndex = (this.currentPlayerIndex + 1) % this.players.size();
-        } while (getCurrentPlayer().getState() instanceof BankruptState);
-
-        this.hasRolled = false;
-        this.consecutiveDoubles = 0;
-
-        final Player current = getCurrentPlayer();
-
-        updateGui(g -> {
-            g.addLog("Now it's " + current.getName() + "'s turn");
-            g.refreshAll();
-        });
-
-        checkWinCondition();
+        this.engine.nextTurn();
     }
 
     /**
@@ -220,59 +145,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void handleDiceThrow() {
-        if (this.hasRolled) {
-            return;
-        }
-
-        final Player currentPlayer = getCurrentPlayer();
-
-        if (currentPlayer.getState() instanceof BankruptState) {
-            this.updatePlayerBankrupt();
-            return;
-        }
-
-        diceThrow.throwAll();
-        final boolean isDouble = diceThrow.isDouble();
-
-        if (currentPlayer.getState() instanceof JailedState) {
-            final int turns = jailTurnCounter.getOrDefault(currentPlayer, 0);
-            if (isDouble) {
-                updateGui(g -> g.addLog(currentPlayer.getName() + " leaves jail with a DOUBLE ("
-                        + this.diceThrow.getLastThrow() + ")!"));
-                currentPlayer.setState(FreeState.getInstance());
-                jailTurnCounter.remove(currentPlayer);
-            } else if (turns >= 2) {
-                updateGui(g -> g.addLog(currentPlayer.getName() + " fails the 3rd attempt. Pays €50 and leaves jail!"));
-                economyController.withdrawFromPlayer(currentPlayer, JAIL_EXIT_FEE);
-                currentPlayer.setState(FreeState.getInstance());
-                jailTurnCounter.remove(currentPlayer);
-            } else {
-                jailTurnCounter.put(currentPlayer, turns + 1);
-                updateGui(g -> g.addLog(currentPlayer.getName() + " remains in jail (Attempt " + (turns + 1) + "/3)"));
-                this.hasRolled = true;
-                return;
-            }
-        }
-
-        updateGui(g -> g.addLog(currentPlayer.getName() + " throws: " + this.diceThrow.getLastThrow()
-                + (isDouble ? " (DOUBLE!)" : "")));
-        this.hasRolled = true;
-        if (isDouble && !(currentPlayer.getState() instanceof JailedState)) {
-            this.consecutiveDoubles++;
-            if (this.consecutiveDoubles == MAX_DOUBLES) {
-                updateGui(g -> g.addLog("3 doubles in a row! Go to jail."));
-                handlePrison();
-                return;
-            }
-        } else {
-            this.consecutiveDoubles = 0;
-        }
-
-        this.handleMove(this.diceThrow.getLastThrow());
-        if (isDouble && this.consecutiveDoubles < MAX_DOUBLES) {
-            this.hasRolled = false;
-        }
-        updateGui(MainViewImpl::refreshAll);
+        this.engine.handleDiceThrow();
     }
 
     /**
@@ -281,28 +154,14 @@ public class MatchControllerImpl implements MatchController {
      * @param steps number of steps.
      */
     public void handleMove(final int steps) {
-        final Player currentPlayer = getCurrentPlayer();
-        final int oldPos = currentPlayer.getCurrentPosition();
-
-        final int newPos = this.boardController.movePlayer(currentPlayer, steps).getPosition();
-        currentPlayer.setPosition(newPos);
-
-        this.onPlayerMoved(currentPlayer, oldPos, newPos);
-
-        updateGui(MainViewImpl::refreshAll);
+        this.engine.handleMove(steps);
     }
 
     /**
      * Sends the current player to prison.
      */
     public void handlePrison() {
-        final Player currentPlayer = getCurrentPlayer();
-
-        currentPlayer.setPosition(this.boardController.sendPlayerToJail(currentPlayer).getPosition());
-
-        updateGui(g -> {
-            g.refreshAll();
-        });
+        this.engine.handlePrison();
     }
 
     /**
@@ -314,32 +173,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void onPlayerMoved(final Player player, final int oldPosition, final int newPosition) {
-        final Tile currentTile = this.boardController.executeTileLogic(player, newPosition,
-                this.diceThrow.getLastThrow());
-
-        if (newPosition != currentTile.getPosition()) {
-            player.setPosition(currentTile.getPosition());
-        }
-
-        handlePropertyLanding();
-
-        final String msg = boardController.getMessagePrint();
-
-        updateGui(g -> {
-            if (currentTile instanceof UnexpectedTile && msg != null && !msg.isEmpty()) {
-                g.showCard("CHANCE", msg);
-            }
-
-            if (msg != null && !msg.isEmpty()) {
-                String priceMsg = "";
-                if (currentTile instanceof PropertyTile pt) {
-                    final int price = pt.getProperty().getPurchasePrice();
-                    priceMsg = "[Price: " + price + "€]";
-                }
-                g.addLog(msg + priceMsg);
-            }
-            g.refreshAll();
-        });
+        this.engine.onPlayerMoved(player, oldPosition, newPosition);
     }
 
     /**
@@ -347,34 +181,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void payToExitJail() {
-        final Player p = getCurrentPlayer();
-        if (!(p.getState() instanceof JailedState)) {
-            return;
-        }
-        if (economyController.afford(p, JAIL_EXIT_FEE)) {
-            this.economyController.withdrawFromPlayer(p, JAIL_EXIT_FEE);
-            p.setState(FreeState.getInstance());
-            jailTurnCounter.remove(p);
-            updateGui(g -> {
-                g.addLog(p.getName() + " pays 50€ and is now free!");
-                g.refreshAll();
-            });
-        } else {
-            this.economyController.withdrawFromPlayer(p, JAIL_EXIT_FEE);
-            if (!p.getState().equals(BankruptState.getInstance())) {
-                p.setState(FreeState.getInstance());
-                jailTurnCounter.remove(p);
-                updateGui(g -> {
-                    g.addLog(p.getName() + " pays 50€ and is now free!");
-                    g.refreshAll();
-                });
-                return;
-            }
-            updateGui(g -> {
-                g.addLog(p.getName() + " has insufficient funds to pay the 50€ exit fee.");
-                g.refreshAll();
-            });
-        }
+        this.engine.payToExitJail();
     }
 
     /**
@@ -382,22 +189,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void updatePlayerBankrupt() {
-        final Player currentPlayer = this.getCurrentPlayer();
-        if (currentPlayer.getState() instanceof BankruptState) {
-            if (!this.playersBankrupt.contains(currentPlayer)) {
-                this.playersBankrupt.add(currentPlayer);
-            }
-            final List<Property> ownedProperties = this.propertyController.getOwnedProperties(currentPlayer.getName());
-            for (final Property property : ownedProperties) {
-                this.propertyController.returnPropertyToBank(property);
-            }
-            updateGui(g -> {
-                g.addLog("BANKRUPTCY: " + currentPlayer.getName() + " is out of the game!");
-                g.showBankruptAlert(currentPlayer.getName());
-                g.refreshAll();
-            });
-            this.nextTurn();
-        }
+        this.engine.updatePlayerBankrupt();
     }
 
     /**
@@ -407,7 +199,17 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public List<Player> getPlayers() {
-        return List.copyOf(this.players);
+        return this.engine.getPlayers();
+    }
+
+    /**
+     * Returns the list of bankrupt players.
+     *
+     * @return the bankrupt players.
+     */
+    @JsonGetter("playersBankrupt")
+    public List<Player> getPlayersBankrupt() {
+        return this.engine.getPlayersBankrupt();
     }
 
     /**
@@ -417,7 +219,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public Player getCurrentPlayer() {
-        return this.players.get(this.currentPlayerIndex);
+        return this.engine.getCurrentPlayer();
     }
 
     /**
@@ -428,7 +230,62 @@ public class MatchControllerImpl implements MatchController {
     @Override
     @JsonIgnore
     public Board getBoard() {
-        return this.gameBoard;
+        return this.engine.getBoard();
+    }
+
+    /**
+     * Returns the board for the save file.
+     *
+     * @return the game board.
+     */
+    @JsonGetter("gameBoard")
+    public Board getGameBoard() {
+        return this.engine.getBoard();
+    }
+
+    /**
+     * Returns the board controller.
+     *
+     * @return the board controller.
+     */
+    @JsonGetter("boardController")
+    public BoardController getBoardController() {
+        return this.engine.getBoardController();
+    }
+
+    /**
+     * Returns the dice of the match.
+     *
+     * @return the dice throw.
+     */
+    @JsonGetter("diceThrow")
+    public DiceThrow getDiceThrow() {
+        return this.engine.getDiceThrow();
+    }
+
+    /**
+     * Returns the rolled flag.
+     *
+     * @return true if the current player has already rolled.
+     */
+    @JsonGetter("hasRolled")
+    public boolean hasCurrentPlayerRolled() {
+        return !this.engine.canCurrentPlayerRoll();
+    }
+
+    /**
+     * Returns the engine of the match.
+     *
+     * @return the game engine.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The engine is shared with the components driving the match"
+    )
+    @Override
+    @JsonIgnore
+    public GameEngine getEngine() {
+        return this.engine;
     }
 
     /**
@@ -454,7 +311,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void onBalanceChanged(final Player player, final int newBalance) {
-        updateGui(MainViewImpl::refreshAll);
+        this.engine.onBalanceChanged(player, newBalance);
     }
 
     /**
@@ -466,10 +323,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void onStateChanged(final Player player, final PlayerState oldState, final PlayerState newState) {
-        updateGui(g -> {
-            g.addLog(player.getName() + " is now in state: " + newState.getClass().getSimpleName());
-            g.refreshAll();
-        });
+        this.engine.onStateChanged(player, oldState, newState);
     }
 
     // #region public method
@@ -480,7 +334,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public int getCurrentPlayerIndex() {
-        return this.currentPlayerIndex;
+        return this.engine.getCurrentPlayerIndex();
     }
 
     /**
@@ -490,7 +344,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public int getConsecutiveDoubles() {
-        return this.consecutiveDoubles;
+        return this.engine.getConsecutiveDoubles();
     }
 
     /**
@@ -500,7 +354,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void setCurrentPlayerIndex(final int i) {
-        this.currentPlayerIndex = i;
+        this.engine.setCurrentPlayerIndex(i);
     }
 
     /**
@@ -510,7 +364,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void setConsecutiveDoubles(final int d) {
-        this.consecutiveDoubles = d;
+        this.engine.setConsecutiveDoubles(d);
     }
 
     /**
@@ -520,7 +374,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void setHasRolled(final boolean b) {
-        this.hasRolled = b;
+        this.engine.setHasRolled(b);
     }
 
     /**
@@ -530,7 +384,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public boolean canCurrentPlayerRoll() {
-        return !hasRolled;
+        return this.engine.canCurrentPlayerRoll();
     }
 
     /**
@@ -539,7 +393,7 @@ public class MatchControllerImpl implements MatchController {
      * @return the jail turn counter map.
      */
     public Map<Player, Integer> getJailTurnCounter() {
-        return Collections.unmodifiableMap(this.jailTurnCounter);
+        return this.engine.getJailTurnCounter();
     }
 
     /**
@@ -547,13 +401,9 @@ public class MatchControllerImpl implements MatchController {
      *
      * @return the economy controller.
      */
-    @SuppressFBWarnings(
-        value = "EI_EXPOSE_REP", 
-        justification = "Internal controllers must be accessible by other components"
-    )
     @Override
     public EconomyController getEconomyController() {
-        return this.economyController;
+        return this.engine.getEconomyController();
     }
 
     /**
@@ -563,7 +413,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public PropertyController getPropertyController() {
-        return this.propertyController;
+        return this.engine.getPropertyController();
     }
 
     /**
@@ -571,27 +421,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void buyCurrentProperty() {
-        final Player currentPlayer = getCurrentPlayer();
-        final Tile currentTile = gameBoard.getTileAt(currentPlayer.getCurrentPosition());
-
-        if (currentTile instanceof PropertyTile pt) {
-            final Property prop = pt.getProperty();
-
-            if (prop.getIdOwner() != null && !prop.getIdOwner().isEmpty() && !"BANK".equals(prop.getIdOwner())) {
-                updateGui(g -> g.addLog("You cannot buy a property that already has an owner!"));
-                return;
-            }
-
-            if (this.economyController.purchaseProperty(currentPlayer, prop)) {
-                updateGui(g -> {
-                    g.addLog(currentPlayer.getName() + " purchased " + prop.getCard().getName() + " for € "
-                            + prop.getPurchasePrice());
-                    g.refreshAll();
-                });
-            } else {
-                updateGui(g -> g.addLog("You don't have enough money to buy " + prop.getId()));
-            }
-        }
+        this.engine.buyCurrentProperty();
     }
 
     /**
@@ -601,115 +431,70 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void buildHouseOnProperty(final Property property) {
-        try {
-            if (this.economyController.purchaseHouse(getCurrentPlayer(), property)) {
-                updateGui(g -> {
-                    g.addLog("Built a house on " + property.getId());
-                    g.refreshAll();
-                });
-            } else {
-                updateGui(g -> g.addLog("Cannot build on " + property.getId()));
-            }
-        } catch (final IllegalStateException e) {
-            updateGui(g -> g.addLog("Error: " + e.getMessage()));
-
-        } catch (final IllegalArgumentException e) {
-            updateGui(g -> g.addLog("You cannot build on this type of tile."));
-        }
+        this.engine.buildHouseOnProperty(property);
     }
 
     /**
-     * Finalizes the liquidation process.
-     *
-     * @param p the player.
+     * {@inheritDoc}
      */
     @Override
-    public void finalizeLiquidation(final Player p) {
-        if (p.getBalance() >= 0) {
-            updateGui(g -> {
-                g.addLog("✅ Debt settled! " + p.getName() + " can continue.");
-                g.refreshAll();
-            });
-            this.currentCreditor = null;
-        } else {
-            this.liquidationObserver.onBankruptcyDeclared(p, this.currentCreditor, Math.abs(p.getBalance()));
-            this.currentCreditor = null;
-        }
+    public boolean sellHouse(final Player owner, final Property property) {
+        return this.engine.sellHouse(owner, property);
     }
 
     /**
-     * Restores the jail counter state.
-     *
-     * @param map         the data map.
-     * @param playersList the list of players.
+     * {@inheritDoc}
      */
     @Override
-    public void restoreJailTurnCounter(final Map<String, Integer> map, final List<Player> playersList) {
-        this.jailTurnCounter.clear();
-        for (final Map.Entry<String, Integer> entry : map.entrySet()) {
-            final String ownerId = entry.getKey();
-            final Player owner = playersList.stream()
-                    .filter(p -> p.getName().equals(ownerId))
-                    .findFirst()
-                    .orElse(null);
-            if (owner != null) {
-                this.jailTurnCounter.put(owner, entry.getValue());
-            }
-        }
+    public boolean sellProperty(final Player owner, final Property property) {
+        return this.engine.sellProperty(owner, property);
     }
 
-    // #endregion
-
-    // #region Private method
     /**
-     * Checks if only one player remains active and declares the winner.
+     * Finalizes the liquidation process.
+     *
+     * @param p the player.
      */
-    private void checkWinCondition() {
-        final List<Player> activePlayers = players.stream()
-                .filter(p -> !(p.getState() instanceof BankruptState))
-                .toList();
-        if (activePlayers.size() == 1) {
-            final Player winner = activePlayers.get(0);
-            updateGui(g -> {
-                g.addLog("🏆 GAME OVER! The winner is " + winner.getName());
-                g.showWinner(winner.getName());
-            });
-        }
+    @Override
+    public void finalizeLiquidation(final Player p) {
+        this.engine.finalizeLiquidation(p);
     }
 
     /**
-     * Safely updates the GUI using the JavaFX Platform thread.
-     * 
-     * @param action the consumer action to perform on the MainView.
+     * {@inheritDoc}
      */
-    private void updateGui(final Consumer<MainViewImpl> action) {
-        if (this.gui != null) {
-            Platform.runLater(() -> action.accept(this.gui));
+    @Override
+    public void closeJournal() {
+        final TurnJournal journal = this.engine.getJournal();
+        if (journal == null) {
+            return;
+        }
+        this.engine.setJournal(null);
+        try {
+            journal.close();
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot close the turn journal", e);
         }
     }
 
     /**
-     * Handles actions when a player lands on a property.
-     * For now, just logs the event.
+     * Shows the sale of the assets of the player whose payment the engine has left pending,
+     * if any, as in a match resumed from its journal while a player was selling.
      */
-    private void handlePropertyLanding() {
-        final Player currentPlayer = getCurrentPlayer();
-        final Tile currentTile = gameBoard.getTileAt(currentPlayer.getCurrentPosition());
-
-        if (currentTile instanceof PropertyTile) {
-            final Property prop = ((PropertyTile) currentTile).getProperty();
-            if (prop.getIdOwner() == null) {
-                updateGui(g -> g.addLog("You can buy " + prop.getId() + " for €" + prop.getPurchasePrice()));
-            } else if (currentPlayer.getName().equals(prop.getIdOwner())) {
-                updateGui(g -> {
-                    g.addLog("You are at home (" + prop.getId() + ").");
-                });
-            }
-            updateGui(MainViewImpl::refreshAll);
-        }
+    void resumeLiquidation() {
+        this.liquidationObserver.showPending();
+    }
 
+    /**
+     * Restores the jail counter state.
+     *
+     * @param map         the data map.
+     * @param playersList the list of players.
+     */
+    @Override
+    public void restoreJailTurnCounter(final Map<String, Integer> map, final List<Player> playersList) {
+        this.engine.restoreJailTurnCounter(map, playersList);
     }
 
     // #endregion
-
 }
@@ -0,0 +1,161 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.model.impl.card.CardDeckImpl;
+
+/**
+ * Rebuilds an engine in the middle of a match from what changes while it is played: the players,
+ * the owners and houses of the properties, the piles of the card deck and the turn.
+ * It is shared by the readers of a match that do not go through JSON, such as
+ * {@link BinarySaveFormat} and the bridge back from the simulated states.
+ *
+ * <p>
+ * Players and cards are referred to by their index in the match and their id. The board must be
+ * in its initial state: the properties are bought and built on when the engine is restored.
+ */
+public final class MatchRestorer {
+
+    private final List<Player> players;
+    private final Board board;
+    private final int[] owners;
+    private final int[] houses;
+    private final Map<String, Integer> jail = new HashMap<>();
+    private final List<Player> bankrupt = new ArrayList<>();
+    private List<String> drawPile;
+    private List<String> discardPile;
+    private Map<String, Integer> heldCards;
+
+    /**
+     * Creates a restorer of a match.
+     *
+     * @param players the players, with their balance, position and state.
+     * @param board a board in its initial state, equal to the one of the match.
+     */
+    public MatchRestorer(final List<Player> players, final Board board) {
+        this.players = new ArrayList<>(players);
+        this.board = Objects.requireNonNull(board);
+        this.owners = new int[board.size()];
+        this.houses = new int[board.size()];
+    }
+
+    /**
+     * Gives a property to a player.
+     *
+     * @param position the position of the property on the board.
+     * @param playerIndex the index of the owner.
+     * @param builtHouses the houses built on the property.
+     * @throws IllegalArgumentException if there is no property at the position.
+     */
+    public void setOwner(final int position, final int playerIndex, final int builtHouses) {
+        if (position < 0 || position >= this.board.size()
+                || !(this.board.getTileAt(position) instanceof PropertyTile)) {
+            throw new IllegalArgumentException("No property at position " + position);
+        }
+        this.owners[position] = playerIndex + 1;
+        this.houses[position] = builtHouses;
+    }
+
+    /**
+     * Sets the attempts a jailed player has made to leave the jail.
+     *
+     * @param playerIndex the index of the player.
+     * @param attempts the failed attempts.
+     */
+    public void setJailAttempts(final int playerIndex, final int attempts) {
+        this.jail.put(this.players.get(playerIndex).getName(), attempts);
+    }
+
+    /**
+     * Adds a player to the bankrupt ones, in the order they went bankrupt.
+     *
+     * @param playerIndex the index of the player.
+     */
+    public void addBankrupt(final int playerIndex) {
+        this.bankrupt.add(this.players.get(playerIndex));
+    }
+
+    /**
+     * Sets the piles of the card deck; if they are not set, the deck is left as the board creates it.
+     *
+     * @param draw the ids of the cards still to be drawn, from the next one.
+     * @param discard the ids of the cards already drawn, from the most recent one.
+     * @param held the ids of the cards kept by the players, with the index of the holder,
+     *     in the order the cards were drawn.
+     */
+    public void setDeck(final List<String> draw, final List<String> discard, final Map<String, Integer> held) {
+        this.drawPile = List.copyOf(draw);
+        this.discardPile = List.copyOf(discard);
+        this.heldCards = new LinkedHashMap<>(held);
+    }
+
+    /**
+     * Builds the engine.
+     *
+     * @param currentPlayerIndex the index of the current player.
+     * @param consecutiveDoubles the doubles thrown in a row by the current player.
+     * @param hasRolled whether the current player cannot throw the dice any more.
+     * @return the engine, with the default listeners and strategies.
+     * @throws IllegalArgumentException if a card of the deck is not part of the board.
+     */
+    public GameEngineImpl restore(final int currentPlayerIndex, final int consecutiveDoubles,
+            final boolean hasRolled) {
+        final PropertyController properties = new PropertyControllerImpl(GameEngineImpl.collectProperties(this.board));
+        for (int t = 0; t < this.owners.length; t++) {
+            if (this.owners[t] != 0 && this.board.getTileAt(t) instanceof PropertyTile tile) {
+                final Player owner = this.players.get(this.owners[t] - 1);
+                properties.purchaseProperty(owner, tile.getPropertyID());
+                for (int h = 0; h < this.houses[t]; h++) {
+                    tile.getProperty().buildHouse(owner.getName());
+                }
+            }
+        }
+        final BoardControllerImpl boardController = new BoardControllerImpl(this.board, properties);
+        if (this.drawPile != null) {
+            restoreDeck(boardController);
+        }
+        return new GameEngineImpl(this.players, this.board, properties, boardController, currentPlayerIndex,
+                consecutiveDoubles, hasRolled, this.jail, null, this.bankrupt);
+    }
+
+    private void restoreDeck(final BoardControllerImpl boardController) {
+        if (!(boardController.getCardDeck() instanceof CardDeckImpl cards)) {
+            throw new IllegalArgumentException("The card deck of the match cannot be restored");
+        }
+        final Map<String, GameCard> byId = new HashMap<>();
+        for (final GameCard card : cards.getAllCards()) {
+            byId.put(card.getId(), card);
+        }
+        final Map<GameCard, String> held = new LinkedHashMap<>();
+        for (final Map.Entry<String, Integer> entry : this.heldCards.entrySet()) {
+            held.put(findCard(byId, entry.getKey()), this.players.get(entry.getValue()).getName());
+        }
+        cards.restore(findCards(byId, this.drawPile), findCards(byId, this.discardPile), held);
+    }
+
+    private static List<GameCard> findCards(final Map<String, GameCard> byId, final List<String> ids) {
+        final List<GameCard> cards = new ArrayList<>(ids.size());
+        for (final String id : ids) {
+            cards.add(findCard(byId, id));
+        }
+        return cards;
+    }
+
+    private static GameCard findCard(final Map<String, GameCard> byId, final String id) {
+        final GameCard card = byId.get(id);
+        if (card == null) {
+            throw new IllegalArgumentException("The card " + id + " is not in the deck");
+        }
+        return card;
+    }
+}
@@ -0,0 +1,266 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.PlayerStrategy;
+import it.unibo.javapoly.controller.api.SearchReport;
+import it.unibo.javapoly.controller.impl.sim.SimBoard;
+import it.unibo.javapoly.controller.impl.sim.SimState;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Strategy deciding by Monte Carlo Tree Search.
+ *
+ * <p>
+ * At every decision the match is captured in a {@link SimState} and the two possible answers
+ * become the children of the root of the search: the state as it is, and a fork of it where
+ * the action has been taken. Each worker thread repeatedly selects a child with the UCB1
+ * formula, forks it and plays the fork on with random dice for a bounded number of turns,
+ * scoring the result for the deciding player; later decisions of a rollout follow the fixed
+ * policy of {@link SimState}. Houses are decided once the dice are thrown, so both children of
+ * a building decision pass the turn at once: the fixed policy would otherwise build the same
+ * house in the state where it was not built. Workers keep their own statistics, merged when the time budget
+ * is over (root parallelization), so they never synchronize while searching.
+ * The action is taken if its child has the better mean score.
+ *
+ * <p>
+ * The strategy owns a pool of worker threads: it must be closed when no longer needed.
+ * Decisions can be asked concurrently by different matches.
+ */
+public final class MctsStrategy implements PlayerStrategy, AutoCloseable {
+
+    /**
+     * Time budget of a decision used by {@link #MctsStrategy()}.
+     */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(50);
+
+    private static final int HORIZON = 150;
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int SKIP = 0;
+    private static final int TAKE = 1;
+
+    private final long budgetNanos;
+    private final int threads;
+    private final ExecutorService workers;
+    private final SplittableRandom seeds;
+    private final LongAdder decisions = new LongAdder();
+    private final LongAdder rollouts = new LongAdder();
+    private final LongAdder elapsed = new LongAdder();
+    private volatile BoardCache boardCache;
+
+    /**
+     * Creates a strategy searching for {@link #DEFAULT_BUDGET} with one thread per processor.
+     */
+    public MctsStrategy() {
+        this(DEFAULT_BUDGET, Runtime.getRuntime().availableProcessors(), ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a strategy.
+     *
+     * @param budget the time spent on every decision.
+     * @param threads the number of threads playing rollouts in parallel.
+     * @param seed the seed of the dice of the rollouts.
+     * @throws IllegalArgumentException if the budget is not positive or there are no threads.
+     */
+    public MctsStrategy(final Duration budget, final int threads, final long seed) {
+        if (Objects.requireNonNull(budget).isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("The budget must be positive");
+        }
+        this.budgetNanos = budget.toNanos();
+        this.threads = ValidationUtils.requirePositive(threads, "threads must be positive");
+        this.seeds = new SplittableRandom(seed);
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            final Thread thread = new Thread(r, "javapoly-mcts");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuy(final GameEngine engine, final Player player, final Property property) {
+        return search(engine, SimState::buyCurrentProperty, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuildHouse(final GameEngine engine, final Player player, final Property property,
+            final int houseCost) {
+        final int tile = property.getPosition();
+        return search(engine, state -> state.buildHouse(tile), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldPayBail(final GameEngine engine, final Player player, final int bail) {
+        return search(engine, SimState::payBail, false);
+    }
+
+    /**
+     * Returns the statistics of every search run so far.
+     *
+     * @return the report, with the rollouts played per second.
+     */
+    public SearchReport getReport() {
+        return new SearchReportImpl(this.decisions.sum(), this.rollouts.sum(), this.elapsed.sum());
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        this.workers.shutdownNow();
+    }
+
+    /**
+     * Searches whether the current player of the match should take an action.
+     *
+     * @param engine the match.
+     * @param action the action, applied to a state; false if it cannot be taken.
+     * @param passTurn true if the turn of the player ends with the decision.
+     * @return true if taking the action scores better.
+     */
+    private boolean search(final GameEngine engine, final Predicate<SimState> action, final boolean passTurn) {
+        final long start = System.nanoTime();
+        final SimState skip = SimState.capture(simBoard(engine.getBoard()), engine);
+        final SimState take = skip.copy();
+        if (!action.test(take)) {
+            return false;
+        }
+        final int player = skip.getCurrentPlayer();
+        if (passTurn) {
+            skip.passTurn();
+            take.passTurn();
+        }
+        final long deadline = start + this.budgetNanos;
+        final List<Callable<Stats>> tasks = new ArrayList<>(this.threads);
+        synchronized (this.seeds) {
+            for (int i = 0; i < this.threads; i++) {
+                final SplittableRandom random = this.seeds.split();
+                tasks.add(() -> rollouts(skip, take, player, deadline, random));
+            }
+        }
+        final Stats total = new Stats();
+        try {
+            for (final Future<Stats> result : this.workers.invokeAll(tasks)) {
+                total.merge(result.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The search was interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("A rollout failed", e.getCause());
+        }
+        this.decisions.increment();
+        this.rollouts.add(total.visits[SKIP] + total.visits[TAKE]);
+        this.elapsed.add(System.nanoTime() - start);
+        return total.mean(TAKE) > total.mean(SKIP);
+    }
+
+    /**
+     * Plays rollouts from the two children of the root until the deadline,
+     * each child at least once.
+     *
+     * @param skip the state where the action is not taken.
+     * @param take the state where the action is taken.
+     * @param player the index of the deciding player.
+     * @param deadline the end of the search, as given by {@link System#nanoTime()}.
+     * @param random the generator of the dice of this worker.
+     * @return the statistics of the worker.
+     */
+    private static Stats rollouts(final SimState skip, final SimState take, final int player, final long deadline,
+            final SplittableRandom random) {
+        final Stats stats = new Stats();
+        do {
+            final int child = stats.select();
+            final SimState rollout = (child == TAKE ? take : skip).copy();
+            rollout.playOut(random, HORIZON);
+            stats.visits[child]++;
+            stats.scores[child] += rollout.value(player);
+        } while (System.nanoTime() < deadline || stats.visits[SKIP] == 0 || stats.visits[TAKE] == 0);
+        return stats;
+    }
+
+    private SimBoard simBoard(final Board board) {
+        final BoardCache cache = this.boardCache;
+        if (cache != null && cache.board == board) {
+            return cache.simBoard;
+        }
+        final SimBoard simBoard = new SimBoard(board);
+        this.boardCache = new BoardCache(board, simBoard);
+        return simBoard;
+    }
+
+    /**
+     * Visits and total score of the two children of the root.
+     */
+    private static final class Stats {
+
+        private final long[] visits = new long[2];
+        private final double[] scores = new double[2];
+
+        int select() {
+            if (this.visits[SKIP] == 0) {
+                return SKIP;
+            }
+            if (this.visits[TAKE] == 0) {
+                return TAKE;
+            }
+            final double logTotal = Math.log(this.visits[SKIP] + this.visits[TAKE]);
+            return ucb(TAKE, logTotal) > ucb(SKIP, logTotal) ? TAKE : SKIP;
+        }
+
+        double mean(final int child) {
+            return this.visits[child] == 0 ? 0 : this.scores[child] / this.visits[child];
+        }
+
+        void merge(final Stats other) {
+            for (int i = 0; i < this.visits.length; i++) {
+                this.visits[i] += other.visits[i];
+                this.scores[i] += other.scores[i];
+            }
+        }
+
+        private double ucb(final int child, final double logTotal) {
+            return mean(child) + EXPLORATION * Math.sqrt(logTotal / this.visits[child]);
+        }
+    }
+
+    /**
+     * The description of the last board searched, reused while the same match is played.
+     */
+    private static final class BoardCache {
+
+        private final Board board;
+        private final SimBoard simBoard;
+
+        BoardCache(final Board board, final SimBoard simBoard) {
+            this.board = board;
+            this.simBoard = simBoard;
+        }
+    }
+}
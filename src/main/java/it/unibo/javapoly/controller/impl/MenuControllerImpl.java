@@ -1,5 +1,7 @@
 package it.unibo.javapoly.controller.impl;
 
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.LogCategory;
 import it.unibo.javapoly.controller.api.MatchController;
 import it.unibo.javapoly.controller.api.MenuController;
 import it.unibo.javapoly.model.api.Player;
@@ -8,13 +10,15 @@ import it.unibo.javapoly.model.api.property.Property;
 import it.unibo.javapoly.model.impl.PlayerImpl;
 import it.unibo.javapoly.model.impl.board.BoardImpl;
 import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
-import it.unibo.javapoly.utils.BoardLoader;
+import it.unibo.javapoly.utils.Catalog;
 import it.unibo.javapoly.utils.MatchControllerDeserializer;
 import it.unibo.javapoly.utils.ValidationUtils;
 import it.unibo.javapoly.view.api.MenuView;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,9 +37,9 @@ import static it.unibo.javapoly.view.impl.MenuViewImpl.TITLE;
  * Coordinates navigation.
  */
 public class MenuControllerImpl implements MenuController {
-    public static final String PATH_BOARD_JSON = "/Card/BoardTiles.json";
     private static final String NON_NULL = "Player names list cannot be null";
     private static final String JSON_EXTENSION = ".json";
+    private static final String JOURNAL_NAME = "javapoly.journal";
     private final MenuView menuView;
     private final Logger logger = Logger.getLogger(MenuControllerImpl.class.getName());
 
@@ -82,8 +86,10 @@ public class MenuControllerImpl implements MenuController {
             this.menuView.showError("Selected path is not a file.");
             return;
         }
-        if (!saveFile.getName().toLowerCase(Locale.ROOT).endsWith(JSON_EXTENSION)) {
-            this.menuView.showError("Selected file is not a valid save (.json) file.");
+        if (!saveFile.getName().toLowerCase(Locale.ROOT).endsWith(JSON_EXTENSION)
+                && !BinarySaveFormat.isBinarySave(saveFile.getName())) {
+            this.menuView.showError("Selected file is not a valid save (" + BinarySaveFormat.EXTENSION
+                    + " or .json) file.");
             return;
         }
         try {
@@ -97,6 +103,45 @@ public class MenuControllerImpl implements MenuController {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canResumeMatch() {
+        return Files.isRegularFile(journalFile());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resumeMatch() {
+        if (!canResumeMatch()) {
+            this.menuView.showError("No match to resume.");
+            return;
+        }
+        final GameEngine engine;
+        try {
+            engine = FileTurnJournal.resume(journalFile(), Catalog.getInstance().newBoard());
+            if (engine.isGameOver()) {
+                engine.getJournal().close();
+                this.menuView.showError("The last match is over.");
+                return;
+            }
+        } catch (final IOException | IllegalStateException e) {
+            logger.fine("Error replaying the turn journal: " + e.getMessage());
+            this.menuView.showError("The last match cannot be resumed.");
+            return;
+        }
+        final MatchControllerImpl matchController = new MatchControllerImpl(engine);
+        final MainViewImpl mainView = matchController.getMainViewImpl();
+        this.menuView.setRoot(mainView.getRoot());
+        this.menuView.setTitle(TITLE);
+        mainView.addLog("Match resumed, it's " + engine.getCurrentPlayer().getName() + "'s turn", LogCategory.TURN);
+        mainView.requestRefresh();
+        matchController.resumeLiquidation();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -107,27 +152,39 @@ public class MenuControllerImpl implements MenuController {
 
     /**
      * Initializes and display the main game view with the given players.
+     * The match is recorded in the journal {@value #JOURNAL_NAME} in the user directory,
+     * replacing the one of the previous match, so that it can be resumed; the journal is created
+     * once the view of the previous match, which closes its own, has been replaced.
      *
      * @param players the list of initialized players.
      */
     private void showMainView(final List<Player> players) {
         ValidationUtils.requireNonNull(players, NON_NULL);
-        try {
-            final InputStream is = MatchControllerImpl.class.getResourceAsStream(PATH_BOARD_JSON);
-            final BoardImpl board = BoardLoader.loadBoardFromJson(is);
-            final Map<String, Property> properties = new HashMap<>();
-            for (int i = 0; i < board.size(); i++) {
-                if (board.getTileAt(i) instanceof PropertyTile propertyTile) {
-                    properties.put(propertyTile.getProperty().getId(), propertyTile.getProperty());
-                }
+        final BoardImpl board = Catalog.getInstance().newBoard();
+        final Map<String, Property> properties = new HashMap<>();
+        for (int i = 0; i < board.size(); i++) {
+            if (board.getTileAt(i) instanceof PropertyTile propertyTile) {
+                properties.put(propertyTile.getProperty().getId(), propertyTile.getProperty());
             }
-            final MatchController matchController = new MatchControllerImpl(players, board, properties);
-            final MainViewImpl mainView = matchController.getMainViewImpl();
-            this.menuView.setRoot(mainView.getRoot());
-            this.menuView.setTitle(TITLE);
-            matchController.startGame();
+        }
+        final MatchController matchController = new MatchControllerImpl(players, board, properties);
+        final MainViewImpl mainView = matchController.getMainViewImpl();
+        this.menuView.setRoot(mainView.getRoot());
+        this.menuView.setTitle(TITLE);
+        try {
+            FileTurnJournal.create(journalFile(), matchController.getEngine());
         } catch (final IOException e) {
-            logger.fine("Error loading board from file: " + e.getMessage());
+            logger.fine("The match cannot be recorded: " + e.getMessage());
         }
+        matchController.startGame();
+    }
+
+    /**
+     * Returns the file of the turn journal of the last match started from the menu.
+     *
+     * @return the {@value #JOURNAL_NAME} file in the user directory.
+     */
+    private static Path journalFile() {
+        return Paths.get(System.getProperty("user.home")).resolve(JOURNAL_NAME);
     }
 }
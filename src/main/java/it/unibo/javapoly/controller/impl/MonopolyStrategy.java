@@ -0,0 +1,87 @@
+package it.unibo.javapoly.controller.impl;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.PlayerStrategy;
+import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Strategy aiming at complete groups.
+ * It always buys a property of a group no opponent has entered yet, and the last free
+ * property of a group to stop opponents from completing it; any other property is bought
+ * only if a cash reserve is left. Houses are built, down to the reserve, as soon as a
+ * group is complete. The bail is paid while properties are still for sale, when moving
+ * around the board pays off; later the jail is a safe place and the player stays there.
+ */
+public final class MonopolyStrategy implements PlayerStrategy {
+
+    /**
+     * Reserve kept by the strategy created with {@link #MonopolyStrategy()}.
+     */
+    public static final int DEFAULT_RESERVE = 150;
+
+    private static final PropertyGroup[] GROUPS = PropertyGroup.values();
+
+    private final int reserve;
+
+    /**
+     * Creates the strategy with the {@link #DEFAULT_RESERVE default reserve}.
+     */
+    public MonopolyStrategy() {
+        this(DEFAULT_RESERVE);
+    }
+
+    /**
+     * Creates the strategy.
+     *
+     * @param reserve the money the player keeps, unless a group can still be completed.
+     * @throws IllegalArgumentException if {@code reserve} is negative.
+     */
+    public MonopolyStrategy(final int reserve) {
+        this.reserve = ValidationUtils.requireNonNegative(reserve, "reserve cannot be negative");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuy(final GameEngine engine, final Player player, final Property property) {
+        final PropertyController properties = engine.getPropertyController();
+        final PropertyGroup group = property.getPropertyGroup();
+        final int owned = properties.getOwnedInGroup(player.getName(), group);
+        final int unowned = properties.getUnownedInGroup(group);
+        final boolean reachable = owned + unowned == properties.getGroupSize(group);
+        final boolean blocking = owned == 0 && unowned == 1;
+        return reachable || blocking || keepsReserve(player, property.getPurchasePrice());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuildHouse(final GameEngine engine, final Player player, final Property property,
+            final int houseCost) {
+        return keepsReserve(player, houseCost);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldPayBail(final GameEngine engine, final Player player, final int bail) {
+        final PropertyController properties = engine.getPropertyController();
+        for (final PropertyGroup group : GROUPS) {
+            if (properties.getUnownedInGroup(group) > 0) {
+                return keepsReserve(player, bail);
+            }
+        }
+        return false;
+    }
+
+    private boolean keepsReserve(final Player player, final int cost) {
+        return player.getBalance() - cost >= this.reserve;
+    }
+}
@@ -2,30 +2,46 @@ package it.unibo.javapoly.controller.impl;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import it.unibo.javapoly.controller.api.PropertyController;
 import it.unibo.javapoly.model.api.property.Property;
 import it.unibo.javapoly.model.api.property.PropertyGroup;
 import it.unibo.javapoly.model.impl.card.LandPropertyCard;
-import it.unibo.javapoly.model.api.RentContext;
 import it.unibo.javapoly.model.api.Player;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Implementation of the PropertyController interface.
  * Manages property ownership, purchases, rent payments, and building construction.
+ * Ownership is also kept in indexes (owner to properties, group to properties and
+ * owned properties per owner and group), updated on every purchase and return to the bank,
+ * so monopoly checks and rents never scan the whole board.
  */
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public class PropertyControllerImpl implements PropertyController {
 
+    private static final int GROUPS = PropertyGroup.values().length;
+    private static final Property[] NO_PROPERTIES = new Property[0];
+
     private final Map<String, Property> properties;
     private final Map<String, Player> propertyOwners; // propertyId -> Player
 
+    @JsonIgnore
+    private final Map<PropertyGroup, Property[]> groups = new EnumMap<>(PropertyGroup.class);
+    @JsonIgnore
+    private final Map<String, Set<String>> ownedIds = new HashMap<>(); // ownerName -> propertyIds
+    @JsonIgnore
+    private final Map<String, int[]> ownedPerGroup = new HashMap<>(); // ownerName -> owned count by group
+
     /**
      * Constructs a new PropertyControllerImpl.
      *
@@ -34,6 +50,7 @@ public class PropertyControllerImpl implements PropertyController {
     public PropertyControllerImpl(final Map<String, Property> properties) {
         this.properties = new HashMap<>(properties);
         this.propertyOwners = new HashMap<>();
+        buildIndexes();
     }
 
     /**
@@ -47,6 +64,7 @@ public class PropertyControllerImpl implements PropertyController {
                                   @JsonProperty("propertyOwners") final Map<String, Player> propertyOwners) {
         this.properties = properties == null ? new HashMap<>() : new HashMap<>(properties);
         this.propertyOwners = propertyOwners == null ? new HashMap<>() : new HashMap<>(propertyOwners);
+        buildIndexes();
     }
 
     /**
@@ -56,12 +74,12 @@ public class PropertyControllerImpl implements PropertyController {
     public boolean purchaseProperty(final Player player, final String propertyId) {
         final Property property = properties.get(propertyId);
 
-        if (property == null) {
+        if (property == null || !property.assignOwner(player.getName())) {
             return false;
         }
 
-        this.properties.get(propertyId).assignOwner(player.getName());
         propertyOwners.put(propertyId, player);
+        addToIndexes(player.getName(), property);
 
         return true;
     }
@@ -72,15 +90,16 @@ public class PropertyControllerImpl implements PropertyController {
     @Override
     public int getRent(final Player payer, final String propertyId, final int diceRoll) {
         final Property property = properties.get(propertyId);
-        final String ownerId = propertyOwners.get(propertyId).getName();
+        final Player owner = propertyOwners.get(propertyId);
 
-        if (property == null || ownerId == null || ownerId.equals(payer.getName())) {
+        if (property == null || owner == null || owner.getName().equals(payer.getName())) {
             return 0;
         }
 
-        final RentContext context = createRentContext(payer, diceRoll, property);
+        final PropertyGroup group = property.getPropertyGroup();
+        final int ownedInGroup = getNumOwnedPropertyByGroup(group, owner.getName());
 
-        return property.getRent(context);
+        return property.getRent(ownedInGroup, ownedInGroup == getPropertiesInGroup(group).length, diceRoll);
     }
 
     /**
@@ -88,11 +107,12 @@ public class PropertyControllerImpl implements PropertyController {
      */
     @Override
     public List<Property> getOwnedProperties(final String playerId) {
-        final List<Property> owned = new ArrayList<>();
+        final Set<String> ids = this.ownedIds.get(playerId);
+        final List<Property> owned = new ArrayList<>(ids == null ? 0 : ids.size());
 
-        for (final Map.Entry<String, Player> entry : propertyOwners.entrySet()) {
-            if (entry.getValue().getName().equals(playerId)) {
-                owned.add(this.properties.get(entry.getKey()));
+        if (ids != null) {
+            for (final String id : ids) {
+                owned.add(this.properties.get(id));
             }
         }
 
@@ -106,16 +126,11 @@ public class PropertyControllerImpl implements PropertyController {
     public boolean buildHouse(final Player playerId, final String propertyId) {
         final Property property = properties.get(propertyId);
 
-        if (!ownsCompleteGroup(playerId.getName(), property.getPropertyGroup())) {
+        if (!ownsCompleteGroup(playerId.getName(), property.getPropertyGroup())
+                || !isEvenlyBuilt(property)) {
             return false;
         }
 
-        for (final Property prop : getPropertiesInGroup(property.getPropertyGroup())) {
-            if (property.getBuiltHouses() >= prop.getBuiltHouses() + 1) {
-                return false;
-            }
-        }
-
         return property.buildHouse(playerId.getName());
     }
 
@@ -137,7 +152,10 @@ public class PropertyControllerImpl implements PropertyController {
     public void returnPropertyToBank(final Property property) {
         Objects.requireNonNull(property).clearOwner();
 
-        this.propertyOwners.remove(property.getId());
+        final Player owner = this.propertyOwners.remove(property.getId());
+        if (owner != null) {
+            removeFromIndexes(owner.getName(), property);
+        }
     }
 
     /**
@@ -178,81 +196,142 @@ public class PropertyControllerImpl implements PropertyController {
         return this.propertyOwners.get(property.getId());
     }
 
-    //#region Private Method
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGroupSize(final PropertyGroup group) {
+        return getPropertiesInGroup(group).length;
+    }
 
     /**
-     * Checks if a player owns all properties in a group (monopoly).
-     *
-     * @param playerId the player
-     * @param group the property group to check
-     * @return true if the player owns all properties in the group
+     * {@inheritDoc}
      */
-    private boolean ownsCompleteGroup(final String playerId, final PropertyGroup group) {
-        final List<Property> groupProperties = getPropertiesInGroup(group);
+    @Override
+    public int getOwnedInGroup(final String playerId, final PropertyGroup group) {
+        return getNumOwnedPropertyByGroup(group, playerId);
+    }
 
-        for (final Property property : groupProperties) {
-            if (property.isOwnedByPlayer() && !property.playerIsTheOwner(playerId)) {
-                return false;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getUnownedInGroup(final PropertyGroup group) {
+        int unowned = 0;
+        for (final Property property : getPropertiesInGroup(group)) {
+            if (!property.isOwnedByPlayer()) {
+                unowned++;
             }
         }
+        return unowned;
+    }
 
-        return !groupProperties.isEmpty();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canBuildHouse(final Player player, final Property property) {
+        return getHouseCost(property) > 0
+                && !property.hotelIsBuilt()
+                && ownsCompleteGroup(player.getName(), property.getPropertyGroup())
+                && isEvenlyBuilt(property);
     }
 
+    //#region Private Method
+
     /**
-     * Gets all properties belonging to a specific group.
+     * Checks that a new house on a property keeps the houses of its group evenly built.
      *
-     * @param group the property group
-     * @return list of properties in that group
+     * @param property the property to build on
+     * @return true if no property of the group has fewer houses than the given one
      */
-    private List<Property> getPropertiesInGroup(final PropertyGroup group) {
-        final List<Property> groupProperties = new ArrayList<>();
-
-        for (final Property property : properties.values()) {
-            if (property.getPropertyGroup() == group) {
-                groupProperties.add(property);
+    private boolean isEvenlyBuilt(final Property property) {
+        for (final Property prop : getPropertiesInGroup(property.getPropertyGroup())) {
+            if (property.getBuiltHouses() >= prop.getBuiltHouses() + 1) {
+                return false;
             }
         }
-
-        return groupProperties;
+        return true;
     }
 
-    private int getNumOwnedPropertyByGroup(final PropertyGroup group, final String playerId) {
-        final List<Property> groupProperties = getPropertiesInGroup(group);
-
-        int i = 0;
-
-        for (final Property property : groupProperties) {
-            if (property.isOwnedByPlayer() && property.playerIsTheOwner(playerId)) {
-                i++;
+    /**
+     * Builds the group index and the ownership indexes from the current maps.
+     */
+    private void buildIndexes() {
+        final Map<PropertyGroup, List<Property>> byGroup = new EnumMap<>(PropertyGroup.class);
+        for (final Property property : this.properties.values()) {
+            byGroup.computeIfAbsent(property.getPropertyGroup(), g -> new ArrayList<>()).add(property);
+        }
+        for (final Map.Entry<PropertyGroup, List<Property>> entry : byGroup.entrySet()) {
+            this.groups.put(entry.getKey(), entry.getValue().toArray(NO_PROPERTIES));
+        }
+        for (final Map.Entry<String, Player> entry : this.propertyOwners.entrySet()) {
+            final Property property = this.properties.get(entry.getKey());
+            if (property != null) {
+                addToIndexes(entry.getValue().getName(), property);
             }
         }
-
-        return i;
     }
 
     /**
-     * Creates a RentContext for calculating rent.
+     * Records a new owned property in the ownership indexes.
      *
-     * @param owner the ID of the property owner
-     * @param diceRoll the current dice roll
-     * @param prop the property where we need to take the context
-     * @return a RentContext with all necessary information
+     * @param ownerName the name of the owner
+     * @param property the owned property
      */
-    private RentContext createRentContext(final Player owner, final int diceRoll, final Property prop) {
-        final int numGroup;
-
-        if (prop.getPropertyGroup() == PropertyGroup.UTILITY) {
-            numGroup = getNumOwnedPropertyByGroup(PropertyGroup.UTILITY, owner.getName());
-            return RentContext.forUtilities(diceRoll, numGroup);
+    private void addToIndexes(final String ownerName, final Property property) {
+        if (this.ownedIds.computeIfAbsent(ownerName, k -> new LinkedHashSet<>()).add(property.getId())) {
+            this.ownedPerGroup.computeIfAbsent(ownerName, k -> new int[GROUPS])[property.getPropertyGroup().ordinal()]++;
         }
+    }
 
-        if (prop.getPropertyGroup() == PropertyGroup.RAILROAD) {
-            numGroup = getNumOwnedPropertyByGroup(PropertyGroup.RAILROAD, owner.getName());
-            return RentContext.forStation(numGroup);
+    /**
+     * Removes a property from the ownership indexes of its former owner.
+     *
+     * @param ownerName the name of the former owner
+     * @param property the property returned to the bank
+     */
+    private void removeFromIndexes(final String ownerName, final Property property) {
+        final Set<String> ids = this.ownedIds.get(ownerName);
+        if (ids != null && ids.remove(property.getId())) {
+            this.ownedPerGroup.get(ownerName)[property.getPropertyGroup().ordinal()]--;
         }
+    }
+
+    /**
+     * Checks if a player owns all properties in a group (monopoly).
+     *
+     * @param playerId the player
+     * @param group the property group to check
+     * @return true if the player owns all properties in the group
+     */
+    private boolean ownsCompleteGroup(final String playerId, final PropertyGroup group) {
+        final int groupSize = getPropertiesInGroup(group).length;
+
+        return groupSize > 0 && getNumOwnedPropertyByGroup(group, playerId) == groupSize;
+    }
+
+    /**
+     * Gets all properties belonging to a specific group.
+     *
+     * @param group the property group
+     * @return the properties in that group, shared with the index: callers must not modify it
+     */
+    private Property[] getPropertiesInGroup(final PropertyGroup group) {
+        return this.groups.getOrDefault(group, NO_PROPERTIES);
+    }
+
+    /**
+     * Gets the number of properties of a group owned by a player.
+     *
+     * @param group the property group
+     * @param playerId the name of the player
+     * @return the number of owned properties in that group
+     */
+    private int getNumOwnedPropertyByGroup(final PropertyGroup group, final String playerId) {
+        final int[] counts = this.ownedPerGroup.get(playerId);
 
-        return RentContext.forLand(prop.getBuiltHouses(), ownsCompleteGroup(owner.getName(), prop.getPropertyGroup()));
+        return counts == null ? 0 : counts[group.ordinal()];
     }
 
     //#endregion
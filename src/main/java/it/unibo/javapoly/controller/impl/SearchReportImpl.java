@@ -0,0 +1,72 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import it.unibo.javapoly.controller.api.SearchReport;
+
+/**
+ * Immutable implementation of {@link SearchReport}.
+ */
+public final class SearchReportImpl implements SearchReport {
+
+    private final long decisions;
+    private final long rollouts;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a report.
+     *
+     * @param decisions the number of decisions taken.
+     * @param rollouts the number of rollouts played.
+     * @param elapsedNanos the time spent searching in nanoseconds.
+     */
+    public SearchReportImpl(final long decisions, final long rollouts, final long elapsedNanos) {
+        this.decisions = decisions;
+        this.rollouts = rollouts;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDecisions() {
+        return this.decisions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getRollouts() {
+        return this.rollouts;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getRolloutsPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.rollouts * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+    }
+
+    /**
+     * Returns a one-line summary of the report.
+     *
+     * @return the summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("decisions=%d rollouts=%d elapsed=%dms rollouts/s=%.0f",
+                this.decisions, this.rollouts, TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos),
+                getRolloutsPerSecond());
+    }
+}
@@ -0,0 +1,86 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import it.unibo.javapoly.controller.api.ServerReport;
+
+/**
+ * Immutable implementation of {@link ServerReport}.
+ */
+public final class ServerReportImpl implements ServerReport {
+
+    private final int tablesHosted;
+    private final long tablesOpened;
+    private final long actions;
+    private final long medianLatencyNanos;
+    private final long p99LatencyNanos;
+
+    /**
+     * Creates a report.
+     *
+     * @param tablesHosted the number of open tables.
+     * @param tablesOpened the number of tables opened since the start.
+     * @param actions the number of served actions.
+     * @param medianLatencyNanos the median latency in nanoseconds.
+     * @param p99LatencyNanos the 99th percentile of the latency in nanoseconds.
+     */
+    public ServerReportImpl(final int tablesHosted, final long tablesOpened, final long actions,
+            final long medianLatencyNanos, final long p99LatencyNanos) {
+        this.tablesHosted = tablesHosted;
+        this.tablesOpened = tablesOpened;
+        this.actions = actions;
+        this.medianLatencyNanos = medianLatencyNanos;
+        this.p99LatencyNanos = p99LatencyNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTablesHosted() {
+        return this.tablesHosted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTablesOpened() {
+        return this.tablesOpened;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getActions() {
+        return this.actions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMedianLatencyNanos() {
+        return this.medianLatencyNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getP99LatencyNanos() {
+        return this.p99LatencyNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("tables=%d opened=%d actions=%d p50=%dus p99=%dus",
+                this.tablesHosted, this.tablesOpened, this.actions,
+                TimeUnit.NANOSECONDS.toMicros(this.medianLatencyNanos),
+                TimeUnit.NANOSECONDS.toMicros(this.p99LatencyNanos));
+    }
+}
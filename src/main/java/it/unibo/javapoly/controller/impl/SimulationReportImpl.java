@@ -0,0 +1,148 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import it.unibo.javapoly.controller.api.SimulationReport;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Immutable implementation of {@link SimulationReport}.
+ * Partial reports produced by different workers are combined with {@link #merge(SimulationReportImpl)},
+ * so no state is ever shared between threads.
+ */
+public final class SimulationReportImpl implements SimulationReport {
+
+    private final int games;
+    private final int finishedGames;
+    private final long totalTurns;
+    private final int[] wins;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a report.
+     *
+     * @param games the number of matches.
+     * @param finishedGames the number of matches with a winner.
+     * @param totalTurns the number of turns played.
+     * @param wins the wins of every seat.
+     * @param elapsedNanos the elapsed time in nanoseconds.
+     */
+    public SimulationReportImpl(final int games, final int finishedGames, final long totalTurns,
+            final int[] wins, final long elapsedNanos) {
+        this.games = ValidationUtils.requireNonNegative(games, "games cannot be negative");
+        this.finishedGames = ValidationUtils.requireNonNegative(finishedGames, "finishedGames cannot be negative");
+        this.totalTurns = totalTurns;
+        this.wins = Arrays.copyOf(ValidationUtils.requireNonNull(wins, "wins cannot be null"), wins.length);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns an empty report.
+     *
+     * @param seats the number of players per match.
+     * @return a report without matches.
+     */
+    public static SimulationReportImpl empty(final int seats) {
+        return new SimulationReportImpl(0, 0, 0, new int[seats], 0);
+    }
+
+    /**
+     * Combines this report with the one of another worker.
+     *
+     * @param other the other partial report.
+     * @return a new report holding the sum of both.
+     */
+    public SimulationReportImpl merge(final SimulationReportImpl other) {
+        final int[] merged = Arrays.copyOf(this.wins, Math.max(this.wins.length, other.wins.length));
+        for (int i = 0; i < other.wins.length; i++) {
+            merged[i] += other.wins[i];
+        }
+        return new SimulationReportImpl(this.games + other.games, this.finishedGames + other.finishedGames,
+                this.totalTurns + other.totalTurns, merged, Math.max(this.elapsedNanos, other.elapsedNanos));
+    }
+
+    /**
+     * Returns a copy of this report with the given elapsed time.
+     *
+     * @param nanos the elapsed time in nanoseconds.
+     * @return the timed report.
+     */
+    public SimulationReportImpl withElapsedNanos(final long nanos) {
+        return new SimulationReportImpl(this.games, this.finishedGames, this.totalTurns, this.wins, nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGames() {
+        return this.games;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getFinishedGames() {
+        return this.finishedGames;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalTurns() {
+        return this.totalTurns;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getAverageTurns() {
+        return this.games == 0 ? 0 : (double) this.totalTurns / this.games;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getWins(final int seat) {
+        return this.wins[seat];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSeats() {
+        return this.wins.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getGamesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.games * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("games=%d finished=%d avgTurns=%.1f wins=%s elapsed=%dms games/s=%.1f",
+                this.games, this.finishedGames, getAverageTurns(), Arrays.toString(this.wins),
+                TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos), getGamesPerSecond());
+    }
+}
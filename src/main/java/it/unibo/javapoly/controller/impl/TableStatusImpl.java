@@ -0,0 +1,96 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.TableStatus;
+import it.unibo.javapoly.model.api.Player;
+
+/**
+ * Immutable implementation of {@link TableStatus}.
+ */
+public final class TableStatusImpl implements TableStatus {
+
+    private final int table;
+    private final String currentPlayer;
+    private final int position;
+    private final int balance;
+    private final boolean canRoll;
+    private final String winner;
+
+    /**
+     * Takes a snapshot of the match of a table.
+     * Must be called by the thread executing the actions of the table.
+     *
+     * @param table the id of the table.
+     * @param engine the match of the table.
+     */
+    public TableStatusImpl(final int table, final GameEngine engine) {
+        final Player current = engine.getCurrentPlayer();
+        this.table = table;
+        this.currentPlayer = current.getName();
+        this.position = current.getCurrentPosition();
+        this.balance = current.getBalance();
+        this.canRoll = engine.canCurrentPlayerRoll();
+        this.winner = engine.isGameOver() ? engine.getWinner().map(Player::getName).orElse(null) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTable() {
+        return this.table;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCurrentPlayer() {
+        return this.currentPlayer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBalance() {
+        return this.balance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canRoll() {
+        return this.canRoll;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> getWinner() {
+        return Optional.ofNullable(this.winner);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "table=" + this.table + " current=" + this.currentPlayer + " position=" + this.position
+                + " balance=" + this.balance + " canRoll=" + this.canRoll
+                + " winner=" + Objects.requireNonNullElse(this.winner, "-");
+    }
+}
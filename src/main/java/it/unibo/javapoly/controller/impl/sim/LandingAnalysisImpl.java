@@ -0,0 +1,109 @@
+package it.unibo.javapoly.controller.impl.sim;
+
+import it.unibo.javapoly.controller.api.LandingAnalysis;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+
+/**
+ * Immutable implementation of {@link LandingAnalysis}, created by {@link LandingChain#solve(int)}.
+ */
+public final class LandingAnalysisImpl implements LandingAnalysis {
+
+    private final SimBoard board;
+    private final double[] landings;
+    private final double[] dice;
+    private final double throwsPerTurn;
+    private final int iterations;
+    private final double residual;
+
+    /**
+     * Creates the analysis of a solved chain.
+     *
+     * @param board the board.
+     * @param landings the probability of every tile after a throw; the array is owned by the analysis.
+     * @param dice the probability of landing on every tile times the dice total used for its rent;
+     *     the array is owned by the analysis.
+     * @param throwsPerTurn the throws of the dice in a turn, on average.
+     * @param iterations the iterations of the solver.
+     * @param residual the change of the distribution in the last iteration.
+     */
+    LandingAnalysisImpl(final SimBoard board, final double[] landings, final double[] dice,
+            final double throwsPerTurn, final int iterations, final double residual) {
+        this.board = board;
+        this.landings = landings;
+        this.dice = dice;
+        this.throwsPerTurn = throwsPerTurn;
+        this.iterations = iterations;
+        this.residual = residual;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.landings.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getLandingProbability(final int tile) {
+        return this.landings[tile];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getLandingsPerTurn(final int tile) {
+        return this.landings[tile] * this.throwsPerTurn;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getExpectedRent(final int tile, final int houses) {
+        if (houses < 0 || houses > SimBoard.HOTEL) {
+            throw new IllegalArgumentException("Invalid number of houses: " + houses);
+        }
+        if (this.board.getKind(tile) != SimBoard.PROPERTY) {
+            return 0;
+        }
+        final int owned = this.board.getGroupSize(this.board.getGroup(tile));
+        return switch (this.board.getRentKind(tile)) {
+            case SimBoard.LAND -> this.board.rent(tile, houses, owned, 0) * getLandingsPerTurn(tile);
+            case SimBoard.STATION -> this.board.rent(tile, 0, owned, 0) * getLandingsPerTurn(tile);
+            default -> this.board.rent(tile, 0, owned, 1) * this.dice[tile] * this.throwsPerTurn;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getExpectedGroupRent(final PropertyGroup group, final int houses) {
+        double rent = 0;
+        for (final int tile : this.board.getGroupTiles(group.ordinal())) {
+            rent += getExpectedRent(tile, houses);
+        }
+        return rent;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getIterations() {
+        return this.iterations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getResidual() {
+        return this.residual;
+    }
+}
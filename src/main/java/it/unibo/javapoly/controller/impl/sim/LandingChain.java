@@ -0,0 +1,303 @@
+package it.unibo.javapoly.controller.impl.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import it.unibo.javapoly.controller.api.LandingAnalysis;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Markov chain of the token of a player, built from the rules of {@link SimState}.
+ *
+ * <p>
+ * A state of the chain is where the token is after a throw of the dice: a tile and the
+ * doubles thrown in a row, or the jail with the failed attempts to leave it. The transitions
+ * follow the 36 outcomes of the two dice, the third double sending to jail, the exit rules of
+ * the jail and the effect of the tile reached: "Go to jail" and the unexpected cards, drawn
+ * with the same probability, which may move the token again. The player is assumed to wait
+ * in jail for a double, and never to hold a card to leave it.
+ *
+ * <p>
+ * {@link #solve(int)} finds the stationary distribution by power iteration: every iteration
+ * computes the new probability of each state from the states leading to it, and the states
+ * are split among threads, so they never write to the same cell.
+ * The chain is immutable and can be solved any number of times.
+ */
+public final class LandingChain {
+
+    /**
+     * Change of the distribution under which the solver stops.
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-13;
+
+    /**
+     * Iterations after which the solver stops anyway.
+     */
+    public static final int MAX_ITERATIONS = 100_000;
+
+    private static final int DICE_FACES = 6;
+    private static final int OUTCOMES = DICE_FACES * DICE_FACES;
+    private static final int MAX_CARD_CHAIN = 4;
+
+    private final SimBoard board;
+    private final int states;
+    private final int jailStates;
+    private final int[] stateTiles;
+    private final boolean[] turnStarts;
+    private final int[] firstSource;
+    private final int[] sources;
+    private final double[] weights;
+    private final double[] diceWeights;
+
+    /**
+     * Builds the chain of a board.
+     *
+     * @param board the board, with its cards.
+     */
+    public LandingChain(final SimBoard board) {
+        this.board = board;
+        this.jailStates = SimBoard.MAX_JAIL_ATTEMPTS + 1;
+        this.states = board.size() * SimBoard.MAX_DOUBLES + this.jailStates;
+        this.stateTiles = new int[this.states];
+        this.turnStarts = new boolean[this.states];
+        for (int s = 0; s < this.states; s++) {
+            this.stateTiles[s] = isJail(s) ? board.getJailPosition() : s / SimBoard.MAX_DOUBLES;
+            this.turnStarts[s] = isJail(s) || s % SimBoard.MAX_DOUBLES == 0;
+        }
+
+        final double[][] probabilities = new double[this.states][];
+        final double[][] dice = new double[this.states][];
+        final int[] incoming = new int[this.states + 1];
+        for (int s = 0; s < this.states; s++) {
+            probabilities[s] = new double[this.states];
+            dice[s] = new double[this.states];
+            addTransitions(s, probabilities[s], dice[s]);
+            for (int to = 0; to < this.states; to++) {
+                if (probabilities[s][to] > 0) {
+                    incoming[to + 1]++;
+                }
+            }
+        }
+        for (int to = 0; to < this.states; to++) {
+            incoming[to + 1] += incoming[to];
+        }
+        this.firstSource = incoming;
+        this.sources = new int[incoming[this.states]];
+        this.weights = new double[incoming[this.states]];
+        this.diceWeights = new double[incoming[this.states]];
+        final int[] filled = Arrays.copyOf(incoming, this.states);
+        for (int s = 0; s < this.states; s++) {
+            for (int to = 0; to < this.states; to++) {
+                if (probabilities[s][to] > 0) {
+                    final int entry = filled[to]++;
+                    this.sources[entry] = s;
+                    this.weights[entry] = probabilities[s][to];
+                    this.diceWeights[entry] = dice[s][to];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of states of the chain.
+     *
+     * @return the number of states.
+     */
+    public int getStates() {
+        return this.states;
+    }
+
+    /**
+     * Finds the stationary distribution with {@link #DEFAULT_TOLERANCE}.
+     *
+     * @param threads the number of threads computing every iteration.
+     * @return the landing frequencies of the board.
+     * @throws IllegalArgumentException if there are no threads.
+     */
+    public LandingAnalysis solve(final int threads) {
+        return solve(threads, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Finds the stationary distribution, starting from the uniform one and iterating until the
+     * distribution changes less than the tolerance or {@link #MAX_ITERATIONS} are done.
+     *
+     * @param threads the number of threads computing every iteration.
+     * @param tolerance the change of the distribution under which the solver stops.
+     * @return the landing frequencies of the board.
+     * @throws IllegalArgumentException if there are no threads or the tolerance is not positive.
+     */
+    public LandingAnalysis solve(final int threads, final double tolerance) {
+        ValidationUtils.requirePositive(threads, "threads must be positive");
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("The tolerance must be positive: " + tolerance);
+        }
+        final int blocks = Math.min(threads, this.states);
+        double[] current = new double[this.states];
+        double[] next = new double[this.states];
+        Arrays.fill(current, 1.0 / this.states);
+        double residual = Double.POSITIVE_INFINITY;
+        int iterations = 0;
+        try (ExecutorService workers = Executors.newFixedThreadPool(blocks)) {
+            while (residual >= tolerance && iterations < MAX_ITERATIONS) {
+                final double[] from = current;
+                final double[] to = next;
+                final List<Callable<Double>> tasks = new ArrayList<>(blocks);
+                for (int b = 0; b < blocks; b++) {
+                    final int start = this.states * b / blocks;
+                    final int end = this.states * (b + 1) / blocks;
+                    tasks.add(() -> iterate(from, to, start, end));
+                }
+                residual = 0;
+                for (final Future<Double> block : workers.invokeAll(tasks)) {
+                    residual += block.get();
+                }
+                next = current;
+                current = to;
+                iterations++;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The solver was interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("An iteration failed", e.getCause());
+        }
+        return analysis(current, iterations, residual);
+    }
+
+    /**
+     * Computes the new probability of a block of states.
+     *
+     * @param from the current distribution.
+     * @param to the new distribution, written only in the block.
+     * @param start the first state of the block.
+     * @param end the state after the last one of the block.
+     * @return the sum of the absolute changes in the block.
+     */
+    private double iterate(final double[] from, final double[] to, final int start, final int end) {
+        double change = 0;
+        for (int s = start; s < end; s++) {
+            double probability = 0;
+            for (int e = this.firstSource[s]; e < this.firstSource[s + 1]; e++) {
+                probability += from[this.sources[e]] * this.weights[e];
+            }
+            to[s] = probability;
+            change += Math.abs(probability - from[s]);
+        }
+        return change;
+    }
+
+    private LandingAnalysis analysis(final double[] distribution, final int iterations, final double residual) {
+        final int size = this.board.size();
+        final double[] landings = new double[size];
+        final double[] dice = new double[size];
+        double turnStart = 0;
+        for (int s = 0; s < this.states; s++) {
+            landings[this.stateTiles[s]] += distribution[s];
+            if (this.turnStarts[s]) {
+                turnStart += distribution[s];
+            }
+            for (int e = this.firstSource[s]; e < this.firstSource[s + 1]; e++) {
+                dice[this.stateTiles[s]] += distribution[this.sources[e]] * this.diceWeights[e];
+            }
+        }
+        return new LandingAnalysisImpl(this.board, landings, dice, 1 / turnStart, iterations, residual);
+    }
+
+    /**
+     * Fills the transitions leaving a state.
+     *
+     * @param state the state.
+     * @param probabilities the probability of reaching every state.
+     * @param dice the probability of reaching every state times the dice total used for the rent there.
+     */
+    private void addTransitions(final int state, final double[] probabilities, final double[] dice) {
+        final double outcome = 1.0 / OUTCOMES;
+        for (int die1 = 1; die1 <= DICE_FACES; die1++) {
+            for (int die2 = 1; die2 <= DICE_FACES; die2++) {
+                final int total = die1 + die2;
+                final boolean isDouble = die1 == die2;
+                if (isJail(state)) {
+                    final int attempts = state - this.board.size() * SimBoard.MAX_DOUBLES;
+                    if (isDouble) {
+                        move(this.board.getJailPosition(), total, 1, outcome, probabilities, dice);
+                    } else if (attempts >= SimBoard.MAX_JAIL_ATTEMPTS) {
+                        move(this.board.getJailPosition(), total, 0, outcome, probabilities, dice);
+                    } else {
+                        probabilities[jail(attempts + 1)] += outcome;
+                    }
+                } else {
+                    final int doubles = state % SimBoard.MAX_DOUBLES;
+                    if (isDouble && doubles + 1 == SimBoard.MAX_DOUBLES) {
+                        probabilities[jail(0)] += outcome;
+                    } else {
+                        move(state / SimBoard.MAX_DOUBLES, total, isDouble ? doubles + 1 : 0, outcome,
+                                probabilities, dice);
+                    }
+                }
+            }
+        }
+    }
+
+    private void move(final int from, final int total, final int doubles, final double probability,
+            final double[] probabilities, final double[] dice) {
+        land((from + total) % this.board.size(), total, doubles, probability, probabilities, dice, 0);
+    }
+
+    /**
+     * Applies the effect of the tile reached, as {@link SimState} does.
+     *
+     * @param tile the tile reached.
+     * @param total the dice total used for the rent of a utility.
+     * @param doubles the doubles thrown in a row once there.
+     * @param probability the probability of reaching the tile.
+     * @param probabilities the probability of reaching every state.
+     * @param dice the probability of reaching every state times the dice total.
+     * @param cards the cards already drawn in this throw.
+     */
+    private void land(final int tile, final int total, final int doubles, final double probability,
+            final double[] probabilities, final double[] dice, final int cards) {
+        final int count = this.board.getCardCount();
+        if (this.board.getKind(tile) == SimBoard.GO_TO_JAIL) {
+            probabilities[jail(0)] += probability;
+        } else if (this.board.getKind(tile) == SimBoard.CARD && count > 0 && cards < MAX_CARD_CHAIN) {
+            final double card = probability / count;
+            final int size = this.board.size();
+            for (int c = 0; c < count; c++) {
+                final int value = this.board.getCardValue(c);
+                switch (this.board.getCardKind(c)) {
+                    case SimBoard.CARD_GO_TO_JAIL -> probabilities[jail(0)] += card;
+                    case SimBoard.CARD_MOVE_TO -> land(value, size, doubles, card, probabilities, dice, cards + 1);
+                    case SimBoard.CARD_MOVE_RELATIVE -> land(Math.floorMod(tile + value, size), size, doubles, card,
+                            probabilities, dice, cards + 1);
+                    case SimBoard.CARD_MOVE_TO_NEAREST -> land(this.board.getCardDestination(c, tile), size,
+                            doubles, card, probabilities, dice, cards + 1);
+                    default -> stay(tile, total, doubles, card, probabilities, dice);
+                }
+            }
+        } else {
+            stay(tile, total, doubles, probability, probabilities, dice);
+        }
+    }
+
+    private void stay(final int tile, final int total, final int doubles, final double probability,
+            final double[] probabilities, final double[] dice) {
+        final int state = tile * SimBoard.MAX_DOUBLES + doubles;
+        probabilities[state] += probability;
+        dice[state] += probability * total;
+    }
+
+    private boolean isJail(final int state) {
+        return state >= this.states - this.jailStates;
+    }
+
+    private int jail(final int attempts) {
+        return this.states - this.jailStates + attempts;
+    }
+}
@@ -0,0 +1,378 @@
+package it.unibo.javapoly.controller.impl.sim;
+
+import java.util.Arrays;
+import java.util.List;
+
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.card.CardType;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.card.payload.BuildingPayload;
+import it.unibo.javapoly.model.api.card.payload.CardPayload;
+import it.unibo.javapoly.model.api.card.payload.MoneyPayload;
+import it.unibo.javapoly.model.api.card.payload.MoveRelativePayload;
+import it.unibo.javapoly.model.api.card.payload.MoveToNearestPayload;
+import it.unibo.javapoly.model.api.card.payload.MoveToPayload;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.model.impl.board.tile.TaxTile;
+import it.unibo.javapoly.model.impl.card.AbstractPropertyCard;
+import it.unibo.javapoly.model.impl.card.LandPropertyCard;
+import it.unibo.javapoly.utils.Catalog;
+
+/**
+ * Immutable, array based description of a board, read by the rules of {@link SimState}.
+ * Everything a rollout needs about a tile (kind, price, house cost, tax, group and every
+ * possible rent) is computed once from the cards, so the rules never touch the object model.
+ * The unexpected cards are described the same way, by their index in the deck: the effect,
+ * its amount or target and, for the cards moving to the nearest tile of a type, the
+ * destination from every tile.
+ * A board can be shared by any number of states and threads.
+ */
+public final class SimBoard {
+
+    /**
+     * Bonus paid for passing or landing on "Go", as in the board controller.
+     */
+    static final int GO_BONUS = 200;
+
+    /**
+     * Fee to leave the jail, as in the engine.
+     */
+    static final int JAIL_FEE = 50;
+
+    /**
+     * Doubles in a row sending the player to jail, as in the engine.
+     */
+    static final int MAX_DOUBLES = 3;
+
+    /**
+     * Failed attempts after which a jailed player pays the fee and leaves, as in the engine.
+     */
+    static final int MAX_JAIL_ATTEMPTS = 2;
+
+    /**
+     * Houses standing for a hotel.
+     */
+    static final int HOTEL = 5;
+
+    /**
+     * Highest throw of the dice: a card moving a player to a tile behind it pays the "Go" bonus
+     * only if the tile is within this distance, as in the board controller.
+     */
+    static final int MAX_DICE = 12;
+
+    static final byte PLAIN = 0;
+    static final byte START = 1;
+    static final byte PROPERTY = 2;
+    static final byte TAX = 3;
+    static final byte GO_TO_JAIL = 4;
+    static final byte CARD = 5;
+
+    static final byte CARD_NO_EFFECT = 0;
+    static final byte CARD_MOVE_TO = 1;
+    static final byte CARD_MOVE_RELATIVE = 2;
+    static final byte CARD_MOVE_TO_NEAREST = 3;
+    static final byte CARD_PAY = 4;
+    static final byte CARD_RECEIVE = 5;
+    static final byte CARD_PAY_PER_BUILDING = 6;
+    static final byte CARD_GO_TO_JAIL = 7;
+    static final byte CARD_KEEP = 8;
+
+    static final byte LAND = 0;
+    static final byte STATION = 1;
+    static final byte UTILITY = 2;
+
+    /**
+     * Rents kept for every property: two per number of houses, without and with a monopoly,
+     * for a land; one per number of owned properties of the group otherwise.
+     */
+    static final int RENT_STRIDE = 2 * (HOTEL + 1);
+
+    private static final PropertyGroup[] GROUPS = PropertyGroup.values();
+    private static final String BANK = "BANK";
+
+    private final int size;
+    private final int jailPosition;
+    private final byte[] kinds;
+    private final byte[] rentKinds;
+    private final byte[] groups;
+    private final int[] prices;
+    private final int[] houseCosts;
+    private final int[] taxes;
+    private final int[] rents;
+    private final int[] groupSizes = new int[GROUPS.length];
+    private final int[][] groupTiles = new int[GROUPS.length][];
+    private final String[] cardIds;
+    private final byte[] cardKinds;
+    private final int[] cardValues;
+    private final int[] cardHotelValues;
+    private final int[][] cardDestinations;
+
+    /**
+     * Describes the given board, with the unexpected cards of the game.
+     * The ownership of its properties is not read.
+     *
+     * @param board the board.
+     */
+    public SimBoard(final Board board) {
+        this(board, Catalog.getInstance().getCards());
+    }
+
+    /**
+     * Describes the given board and deck of unexpected cards.
+     * The ownership of the properties and the order of the cards are not read.
+     *
+     * @param board the board.
+     * @param cards the cards of the deck.
+     * @throws IllegalArgumentException if there are more cards than a state can index.
+     */
+    public SimBoard(final Board board, final List<GameCard> cards) {
+        if (cards.size() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many cards: " + cards.size());
+        }
+        this.size = board.size();
+        this.kinds = new byte[this.size];
+        this.rentKinds = new byte[this.size];
+        this.groups = new byte[this.size];
+        this.prices = new int[this.size];
+        this.houseCosts = new int[this.size];
+        this.taxes = new int[this.size];
+        this.rents = new int[this.size * RENT_STRIDE];
+        Arrays.fill(this.groups, (byte) -1);
+        int jail = 0;
+        for (int i = 0; i < this.size; i++) {
+            final Tile tile = board.getTileAt(i);
+            if (tile.getType() == TileType.JAIL) {
+                jail = i;
+            }
+            if (tile instanceof PropertyTile pt) {
+                describeProperty(i, pt.getProperty().getCard());
+            } else if (tile instanceof TaxTile tax) {
+                this.kinds[i] = TAX;
+                this.taxes[i] = tax.getAmountTax();
+            } else if (tile.getType() == TileType.GO_TO_JAIL) {
+                this.kinds[i] = GO_TO_JAIL;
+            } else if (tile.getType() == TileType.START) {
+                this.kinds[i] = START;
+            } else if (tile.getType() == TileType.UNEXPECTED) {
+                this.kinds[i] = CARD;
+            }
+        }
+        this.jailPosition = jail;
+        final int[] filled = new int[GROUPS.length];
+        for (int g = 0; g < GROUPS.length; g++) {
+            this.groupTiles[g] = new int[this.groupSizes[g]];
+        }
+        for (int i = 0; i < this.size; i++) {
+            fillRents(i, board.getTileAt(i));
+            if (this.groups[i] >= 0) {
+                this.groupTiles[this.groups[i]][filled[this.groups[i]]++] = i;
+            }
+        }
+        this.cardIds = new String[cards.size()];
+        this.cardKinds = new byte[cards.size()];
+        this.cardValues = new int[cards.size()];
+        this.cardHotelValues = new int[cards.size()];
+        this.cardDestinations = new int[cards.size()][];
+        for (int c = 0; c < cards.size(); c++) {
+            describeCard(c, cards.get(c), board);
+        }
+    }
+
+    /**
+     * Returns the number of tiles.
+     *
+     * @return the size of the board.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of unexpected cards.
+     *
+     * @return the size of the deck.
+     */
+    public int getCardCount() {
+        return this.cardIds.length;
+    }
+
+    /**
+     * Returns the index of a card in the deck.
+     *
+     * @param id the identifier of the card.
+     * @return the index of the card, or -1 if it is not part of the deck.
+     */
+    public int indexOfCard(final String id) {
+        for (int c = 0; c < this.cardIds.length; c++) {
+            if (this.cardIds[c].equals(id)) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the identifier of a card.
+     *
+     * @param card the index of the card.
+     * @return the identifier of the card.
+     */
+    public String getCardId(final int card) {
+        return this.cardIds[card];
+    }
+
+    int getJailPosition() {
+        return this.jailPosition;
+    }
+
+    byte getKind(final int tile) {
+        return this.kinds[tile];
+    }
+
+    int getGroup(final int tile) {
+        return this.groups[tile];
+    }
+
+    byte getRentKind(final int tile) {
+        return this.rentKinds[tile];
+    }
+
+    int getGroupSize(final int group) {
+        return this.groupSizes[group];
+    }
+
+    /**
+     * Returns the positions of the properties of a group.
+     *
+     * @param group the ordinal of the group.
+     * @return the positions, shared by every caller: they must not be modified.
+     */
+    int[] getGroupTiles(final int group) {
+        return this.groupTiles[group];
+    }
+
+    int getPrice(final int tile) {
+        return this.prices[tile];
+    }
+
+    int getHouseCost(final int tile) {
+        return this.houseCosts[tile];
+    }
+
+    int getTax(final int tile) {
+        return this.taxes[tile];
+    }
+
+    byte getCardKind(final int card) {
+        return this.cardKinds[card];
+    }
+
+    int getCardValue(final int card) {
+        return this.cardValues[card];
+    }
+
+    int getCardHotelValue(final int card) {
+        return this.cardHotelValues[card];
+    }
+
+    int getCardDestination(final int card, final int tile) {
+        return this.cardDestinations[card][tile];
+    }
+
+    /**
+     * Returns the rent of a property.
+     *
+     * @param tile the position of the property.
+     * @param houses the houses built on it.
+     * @param ownedInGroup the properties of its group owned by its owner.
+     * @param diceTotal the dice total of the payer.
+     * @return the rent.
+     */
+    int rent(final int tile, final int houses, final int ownedInGroup, final int diceTotal) {
+        final int base = tile * RENT_STRIDE;
+        return switch (this.rentKinds[tile]) {
+            case LAND -> this.rents[base + (houses << 1
+                    | (ownedInGroup == this.groupSizes[this.groups[tile]] ? 1 : 0))];
+            case STATION -> this.rents[base + ownedInGroup];
+            default -> this.rents[base + ownedInGroup] * diceTotal;
+        };
+    }
+
+    private void describeProperty(final int tile, final AbstractPropertyCard card) {
+        this.kinds[tile] = PROPERTY;
+        this.groups[tile] = (byte) card.getGroup().ordinal();
+        this.groupSizes[card.getGroup().ordinal()]++;
+        this.prices[tile] = card.getPropertyCost();
+        if (card instanceof LandPropertyCard land) {
+            this.rentKinds[tile] = LAND;
+            this.houseCosts[tile] = land.getHouseCost();
+        } else {
+            this.rentKinds[tile] = card.getGroup() == PropertyGroup.UTILITY ? UTILITY : STATION;
+        }
+    }
+
+    /**
+     * Describes a card as the card controller executes it: cards kept by the player first,
+     * then the cards sending to jail, then by the kind of their payload.
+     *
+     * @param index the index of the card.
+     * @param card the card.
+     * @param board the board, to find the destinations of the cards moving to the nearest tile of a type.
+     */
+    private void describeCard(final int index, final GameCard card, final Board board) {
+        this.cardIds[index] = card.getId();
+        final CardPayload payload = card.getPayload();
+        if (card.isKeepUntilUsed()) {
+            this.cardKinds[index] = CARD_KEEP;
+        } else if (card.getType() == CardType.GO_TO_JAIL) {
+            this.cardKinds[index] = CARD_GO_TO_JAIL;
+        } else if (payload instanceof MoneyPayload money) {
+            this.cardKinds[index] = BANK.equals(money.getReceiverMoney()) ? CARD_PAY : CARD_RECEIVE;
+            this.cardValues[index] = money.getAmount();
+        } else if (payload instanceof MoveToPayload move) {
+            this.cardKinds[index] = CARD_MOVE_TO;
+            this.cardValues[index] = move.getTargetPosition();
+        } else if (payload instanceof MoveRelativePayload move) {
+            this.cardKinds[index] = CARD_MOVE_RELATIVE;
+            this.cardValues[index] = move.getDelta();
+        } else if (payload instanceof MoveToNearestPayload move) {
+            this.cardKinds[index] = CARD_MOVE_TO_NEAREST;
+            this.cardDestinations[index] = new int[this.size];
+            for (int tile = 0; tile < this.size; tile++) {
+                this.cardDestinations[index][tile] = board.nextPositionOfType(tile, move.getCategory());
+            }
+            if (this.size > 0 && this.cardDestinations[index][0] < 0) {
+                this.cardKinds[index] = CARD_NO_EFFECT;
+            }
+        } else if (payload instanceof BuildingPayload building) {
+            this.cardKinds[index] = CARD_PAY_PER_BUILDING;
+            this.cardValues[index] = building.getMoltiplierHouse();
+            this.cardHotelValues[index] = building.getMoltiplierHotel();
+        } else {
+            this.cardKinds[index] = CARD_NO_EFFECT;
+        }
+    }
+
+    private void fillRents(final int tile, final Tile source) {
+        if (!(source instanceof PropertyTile pt)) {
+            return;
+        }
+        final AbstractPropertyCard card = pt.getProperty().getCard();
+        final int base = tile * RENT_STRIDE;
+        if (this.rentKinds[tile] == LAND) {
+            final int levels = Math.min(HOTEL, ((LandPropertyCard) card).getAllRent().size() - 1);
+            for (int houses = 0; houses <= levels; houses++) {
+                this.rents[base + (houses << 1)] = card.rentFor(houses, 0, false, 0);
+                this.rents[base + (houses << 1 | 1)] = card.rentFor(houses, 0, true, 0);
+            }
+        } else {
+            final int groupSize = Math.min(RENT_STRIDE - 1, this.groupSizes[this.groups[tile]]);
+            for (int owned = 1; owned <= groupSize; owned++) {
+                this.rents[base + owned] = card.rentFor(0, owned, false, 1);
+            }
+        }
+    }
+}
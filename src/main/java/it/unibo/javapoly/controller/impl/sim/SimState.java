@@ -0,0 +1,812 @@
+package it.unibo.javapoly.controller.impl.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.impl.BoardControllerImpl;
+import it.unibo.javapoly.controller.impl.MatchRestorer;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.BankruptState;
+import it.unibo.javapoly.model.impl.FreeState;
+import it.unibo.javapoly.model.impl.JailedState;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.model.impl.card.CardDeckImpl;
+
+/**
+ * Compact, forkable state of a match, with the rules needed to play it on to the end.
+ *
+ * <p>
+ * The whole state lives in a few primitive arrays: position, balance and jail attempts per
+ * player, owner and houses per tile, the order of the unexpected cards with a cursor on the
+ * next one to draw and the holder of every card kept by a player. {@link #copy()} therefore
+ * clones a handful of small arrays instead of copying a graph of players, properties and
+ * decks; this is what lets a search fork the match thousands of times per decision.
+ * The static data of the board and of the cards is shared through a {@link SimBoard}.
+ *
+ * <p>
+ * The rules are those of the engine: dice, doubles, jail, "Go" bonus, rents, taxes,
+ * unexpected cards, liquidation and bankruptcy. The deck is reshuffled with the dice
+ * generator when it runs out, like the deck of the engine.
+ * Decisions taken while playing follow a fixed policy: every affordable property is bought
+ * and houses are built as long as a small reserve is left.
+ *
+ * <p>
+ * A state is captured from an engine with {@link #capture(SimBoard, GameEngine)} and turned
+ * back into an engine with {@link #toEngine(GameEngine, Board)}, which can be shown or saved
+ * like any other match.
+ * A state is not thread-safe: each thread must play on its own copy.
+ */
+public final class SimState {
+
+    private static final int DICE_FACES = 6;
+    private static final int ROLLOUT_RESERVE = 200;
+    private static final byte FREE = -1;
+    private static final int BANK = -1;
+
+    private final SimBoard board;
+    private final int players;
+    private final int[] positions;
+    private final int[] balances;
+    private final byte[] jailAttempts;
+    private final byte[] owners;
+    private final byte[] houses;
+    private final short[] deck;
+    private final byte[] cardHolders;
+    private int deckCursor;
+    private int deckEnd;
+    private int bankrupt;
+    private int current;
+    private int doubles;
+    private boolean canRoll;
+    private int lastDice;
+    private int turns;
+
+    /**
+     * Creates the initial state of a match: every player is on "Go" with the given money,
+     * every property belongs to the bank and the cards are shuffled on the first draw.
+     *
+     * @param board the board.
+     * @param players the number of players.
+     * @param balance the initial money of every player.
+     * @throws IllegalArgumentException if there are less than two or too many players.
+     */
+    public SimState(final SimBoard board, final int players, final int balance) {
+        if (players < 2 || players >= Byte.MAX_VALUE || players >= Integer.SIZE) {
+            throw new IllegalArgumentException("Invalid number of players: " + players);
+        }
+        this.board = board;
+        this.players = players;
+        this.positions = new int[players];
+        this.balances = new int[players];
+        this.jailAttempts = new byte[players];
+        this.owners = new byte[board.size()];
+        this.houses = new byte[board.size()];
+        this.deck = new short[board.getCardCount()];
+        this.cardHolders = new byte[board.getCardCount()];
+        for (int c = 0; c < this.deck.length; c++) {
+            this.deck[c] = (short) c;
+        }
+        Arrays.fill(this.balances, balance);
+        Arrays.fill(this.jailAttempts, FREE);
+        this.canRoll = true;
+    }
+
+    private SimState(final SimState source) {
+        this.board = source.board;
+        this.players = source.players;
+        this.positions = source.positions.clone();
+        this.balances = source.balances.clone();
+        this.jailAttempts = source.jailAttempts.clone();
+        this.owners = source.owners.clone();
+        this.houses = source.houses.clone();
+        this.deck = source.deck.clone();
+        this.cardHolders = source.cardHolders.clone();
+        this.deckCursor = source.deckCursor;
+        this.deckEnd = source.deckEnd;
+        this.bankrupt = source.bankrupt;
+        this.current = source.current;
+        this.doubles = source.doubles;
+        this.canRoll = source.canRoll;
+        this.lastDice = source.lastDice;
+        this.turns = source.turns;
+    }
+
+    /**
+     * Captures the state of a match played by an engine.
+     * The players keep their order, so player {@code i} of the state is player {@code i} of the engine.
+     * If the deck of the engine cannot be read, every card is considered discarded.
+     *
+     * @param board the description of the board of the engine.
+     * @param engine the engine.
+     * @return the state of the match.
+     * @throws IllegalArgumentException if a card of the engine is not part of the board.
+     */
+    public static SimState capture(final SimBoard board, final GameEngine engine) {
+        final List<Player> players = engine.getPlayers();
+        final SimState state = new SimState(board, players.size(), 0);
+        for (int i = 0; i < players.size(); i++) {
+            final Player player = players.get(i);
+            state.positions[i] = player.getCurrentPosition();
+            state.balances[i] = player.getBalance();
+            if (player.getState() instanceof BankruptState) {
+                state.bankrupt |= 1 << i;
+            } else if (player.getState() instanceof JailedState) {
+                state.jailAttempts[i] = (byte) (int) engine.getJailTurnCounter().getOrDefault(player, 0);
+            }
+        }
+        final Board tiles = engine.getBoard();
+        for (int t = 0; t < tiles.size(); t++) {
+            if (tiles.getTileAt(t) instanceof PropertyTile pt) {
+                final Property property = pt.getProperty();
+                state.owners[t] = (byte) (indexOf(players, property.getIdOwner()) + 1);
+                state.houses[t] = (byte) property.getBuiltHouses();
+            }
+        }
+        if (engine.getBoardController() instanceof BoardControllerImpl boardController
+                && boardController.getCardDeck() instanceof CardDeckImpl cards) {
+            state.captureDeck(cards, players);
+        }
+        state.current = engine.getCurrentPlayerIndex();
+        state.doubles = engine.getConsecutiveDoubles();
+        state.canRoll = engine.canCurrentPlayerRoll();
+        state.lastDice = engine.getDiceThrow().getLastThrow();
+        return state;
+    }
+
+    /**
+     * Builds an engine playing the match from this state, the bridge back to the object model.
+     * Names and tokens of the players are taken from the engine the state was captured from,
+     * which is not modified.
+     *
+     * @param origin the engine the state was captured from, or one with the same players.
+     * @param board a board in its initial state, equal to the one described by this state.
+     * @return a new engine.
+     * @throws IllegalArgumentException if the players or the board do not match this state.
+     */
+    public GameEngine toEngine(final GameEngine origin, final Board board) {
+        final List<Player> templates = origin.getPlayers();
+        if (templates.size() != this.players || board.size() != this.board.size()) {
+            throw new IllegalArgumentException("The match does not match this state");
+        }
+        final List<Player> restored = new ArrayList<>(this.players);
+        for (int i = 0; i < this.players; i++) {
+            final Player template = templates.get(i);
+            final Player player = new PlayerImpl(template.getName(), this.balances[i], template.getTokenType(),
+                    template.getCustomTokenPath());
+            player.setPosition(this.positions[i]);
+            if (isBankrupt(i)) {
+                player.setState(BankruptState.getInstance());
+            } else if (isJailed(i)) {
+                player.setState(new JailedState((int) this.jailAttempts[i]));
+            } else {
+                player.setState(FreeState.getInstance());
+            }
+            restored.add(player);
+        }
+        final MatchRestorer match = new MatchRestorer(restored, board);
+        for (int i = 0; i < this.players; i++) {
+            if (isBankrupt(i)) {
+                match.addBankrupt(i);
+            } else if (isJailed(i)) {
+                match.setJailAttempts(i, this.jailAttempts[i]);
+            }
+        }
+        for (int t = 0; t < board.size(); t++) {
+            if (this.owners[t] != 0) {
+                match.setOwner(t, this.owners[t] - 1, this.houses[t]);
+            }
+        }
+        restoreDeck(match);
+        return match.restore(this.current, this.doubles, !this.canRoll);
+    }
+
+    /**
+     * Returns an independent copy of this state.
+     *
+     * @return the copy.
+     */
+    public SimState copy() {
+        return new SimState(this);
+    }
+
+    /**
+     * Returns the number of players.
+     *
+     * @return the number of players, bankrupt ones included.
+     */
+    public int getPlayers() {
+        return this.players;
+    }
+
+    /**
+     * Returns the player whose turn it is.
+     *
+     * @return the index of the current player.
+     */
+    public int getCurrentPlayer() {
+        return this.current;
+    }
+
+    /**
+     * Returns the position of a player.
+     *
+     * @param player the index of the player.
+     * @return the position of the player.
+     */
+    public int getPosition(final int player) {
+        return this.positions[player];
+    }
+
+    /**
+     * Returns the money of a player.
+     *
+     * @param player the index of the player.
+     * @return the balance of the player.
+     */
+    public int getBalance(final int player) {
+        return this.balances[player];
+    }
+
+    /**
+     * Returns the owner of a tile.
+     *
+     * @param tile the position of the tile.
+     * @return the index of the owner, or -1 if the tile is not owned by a player.
+     */
+    public int getOwner(final int tile) {
+        return this.owners[tile] - 1;
+    }
+
+    /**
+     * Returns the houses built on a tile.
+     *
+     * @param tile the position of the tile.
+     * @return the number of houses, 5 for a hotel.
+     */
+    public int getHouses(final int tile) {
+        return this.houses[tile];
+    }
+
+    /**
+     * Returns the cards still to be drawn.
+     *
+     * @return the indexes of the cards, from the next one to be drawn.
+     */
+    public int[] getDrawPile() {
+        final int[] pile = new int[this.deckEnd - this.deckCursor];
+        for (int i = 0; i < pile.length; i++) {
+            pile[i] = this.deck[this.deckCursor + i];
+        }
+        return pile;
+    }
+
+    /**
+     * Returns the player keeping a card.
+     *
+     * @param card the index of the card.
+     * @return the index of the player, or -1 if the card is not kept by a player.
+     */
+    public int getCardHolder(final int card) {
+        return this.cardHolders[card] - 1;
+    }
+
+    /**
+     * Checks if a player is bankrupt.
+     *
+     * @param player the index of the player.
+     * @return true if the player is out of the match.
+     */
+    public boolean isBankrupt(final int player) {
+        return (this.bankrupt & 1 << player) != 0;
+    }
+
+    /**
+     * Checks if a player is in jail.
+     *
+     * @param player the index of the player.
+     * @return true if the player is in jail.
+     */
+    public boolean isJailed(final int player) {
+        return this.jailAttempts[player] != FREE;
+    }
+
+    /**
+     * Returns the number of turns played on this state since it was created or captured.
+     *
+     * @return the number of turns.
+     */
+    public int getTurns() {
+        return this.turns;
+    }
+
+    /**
+     * Checks if the match is over.
+     *
+     * @return true if at most one player is not bankrupt.
+     */
+    public boolean isOver() {
+        return Integer.bitCount(this.bankrupt) >= this.players - 1;
+    }
+
+    /**
+     * The current player buys the property it stands on.
+     *
+     * @return true if the property was bought.
+     */
+    public boolean buyCurrentProperty() {
+        final int tile = this.positions[this.current];
+        final int price = this.board.getPrice(tile);
+        if (this.board.getKind(tile) != SimBoard.PROPERTY || this.owners[tile] != 0
+                || this.balances[this.current] < price) {
+            return false;
+        }
+        this.balances[this.current] -= price;
+        this.owners[tile] = (byte) (this.current + 1);
+        return true;
+    }
+
+    /**
+     * The current player builds a house on one of its properties.
+     *
+     * @param tile the position of the property.
+     * @return true if the house was built.
+     */
+    public boolean buildHouse(final int tile) {
+        if (!canBuildHouse(this.current, tile) || this.balances[this.current] < this.board.getHouseCost(tile)) {
+            return false;
+        }
+        this.balances[this.current] -= this.board.getHouseCost(tile);
+        this.houses[tile]++;
+        return true;
+    }
+
+    /**
+     * The current player pays the fee and leaves the jail.
+     *
+     * @return true if the fee was paid.
+     */
+    public boolean payBail() {
+        if (!isJailed(this.current) || this.balances[this.current] < SimBoard.JAIL_FEE) {
+            return false;
+        }
+        this.balances[this.current] -= SimBoard.JAIL_FEE;
+        this.jailAttempts[this.current] = FREE;
+        return true;
+    }
+
+    /**
+     * Completes the turn of the current player, throwing the dice as long as the rules allow it,
+     * and passes the turn.
+     *
+     * @param random the generator of the dice.
+     */
+    public void finishTurn(final RandomGenerator random) {
+        while (this.canRoll && !isBankrupt(this.current)) {
+            roll(random);
+        }
+        if (!isBankrupt(this.current)) {
+            buildHouses();
+        }
+        nextTurn();
+    }
+
+    /**
+     * Passes the turn of the current player once its dice are thrown, skipping the houses
+     * {@link #finishTurn(RandomGenerator)} would build: the player has already decided about them.
+     */
+    public void passTurn() {
+        nextTurn();
+    }
+
+    /**
+     * Plays the match on until it is over or the given number of turns has been played,
+     * starting by completing the current turn.
+     *
+     * @param random the generator of the dice.
+     * @param maxTurns the maximum number of turns to play.
+     */
+    public void playOut(final RandomGenerator random, final int maxTurns) {
+        final int end = this.turns + maxTurns;
+        while (!isOver() && this.turns < end) {
+            finishTurn(random);
+        }
+    }
+
+    /**
+     * Evaluates the state for a player: 1 if the player has won, 0 if it is bankrupt,
+     * otherwise its share of the net worth of the players still in the match.
+     *
+     * @param player the index of the player.
+     * @return a value between 0 and 1.
+     */
+    public double value(final int player) {
+        if (isBankrupt(player)) {
+            return 0;
+        }
+        if (isOver()) {
+            return 1;
+        }
+        long total = 0;
+        for (int i = 0; i < this.players; i++) {
+            if (!isBankrupt(i)) {
+                total += netWorth(i);
+            }
+        }
+        return total == 0 ? 0 : (double) netWorth(player) / total;
+    }
+
+    /**
+     * Returns the money of a player plus the price of its properties and houses.
+     *
+     * @param player the index of the player.
+     * @return the net worth.
+     */
+    public long netWorth(final int player) {
+        long worth = this.balances[player];
+        for (int t = 0; t < this.owners.length; t++) {
+            if (this.owners[t] == player + 1) {
+                worth += this.board.getPrice(t) + (long) this.houses[t] * this.board.getHouseCost(t);
+            }
+        }
+        return worth;
+    }
+
+    private void roll(final RandomGenerator random) {
+        final int die1 = 1 + random.nextInt(DICE_FACES);
+        final int die2 = 1 + random.nextInt(DICE_FACES);
+        final boolean isDouble = die1 == die2;
+        final int player = this.current;
+        this.lastDice = die1 + die2;
+        this.canRoll = false;
+        if (isJailed(player)) {
+            if (isDouble) {
+                this.jailAttempts[player] = FREE;
+            } else if (this.jailAttempts[player] >= SimBoard.MAX_JAIL_ATTEMPTS) {
+                this.jailAttempts[player] = FREE;
+                pay(player, BANK, SimBoard.JAIL_FEE);
+                if (isBankrupt(player)) {
+                    return;
+                }
+            } else {
+                this.jailAttempts[player]++;
+                return;
+            }
+        }
+        if (isDouble) {
+            this.doubles++;
+            if (this.doubles == SimBoard.MAX_DOUBLES) {
+                goToJail(player);
+                return;
+            }
+        } else {
+            this.doubles = 0;
+        }
+        move(player, this.lastDice, random);
+        this.canRoll = isDouble && !isJailed(player) && !isBankrupt(player);
+    }
+
+    private void move(final int player, final int steps, final RandomGenerator random) {
+        final int from = this.positions[player];
+        final int to = (from + steps) % this.board.size();
+        this.positions[player] = to;
+        if (to < from) {
+            this.balances[player] += SimBoard.GO_BONUS;
+        }
+        land(player, to, this.lastDice, random);
+    }
+
+    /**
+     * Applies the logic of a tile, as the board controller does.
+     *
+     * @param player the index of the player.
+     * @param tile the position of the tile.
+     * @param dice the dice total used for the rents of the utilities.
+     * @param random the generator shuffling the deck.
+     */
+    private void land(final int player, final int tile, final int dice, final RandomGenerator random) {
+        switch (this.board.getKind(tile)) {
+            case SimBoard.START -> this.balances[player] += SimBoard.GO_BONUS;
+            case SimBoard.TAX -> pay(player, BANK, this.board.getTax(tile));
+            case SimBoard.GO_TO_JAIL -> {
+                if (!useJailFreeCard(player)) {
+                    goToJail(player);
+                }
+            }
+            case SimBoard.PROPERTY -> landOnProperty(player, tile, dice);
+            case SimBoard.CARD -> drawCard(player, random);
+            default -> { }
+        }
+    }
+
+    private void landOnProperty(final int player, final int tile, final int dice) {
+        final int owner = this.owners[tile] - 1;
+        if (owner == BANK) {
+            buyCurrentProperty();
+        } else if (owner != player) {
+            final int rent = this.board.rent(tile, this.houses[tile], ownedInGroup(owner, tile), dice);
+            pay(player, owner, rent);
+        }
+    }
+
+    /**
+     * Draws the next card and applies its effect, as the card controller does: the cards
+     * moving the player apply the logic of the destination with the size of the board as
+     * dice total.
+     *
+     * @param player the index of the player.
+     * @param random the generator shuffling the deck when it runs out.
+     */
+    private void drawCard(final int player, final RandomGenerator random) {
+        if (this.deckCursor == this.deckEnd) {
+            reshuffle(random);
+            if (this.deckEnd == 0) {
+                return;
+            }
+        }
+        final int card = this.deck[this.deckCursor++];
+        final int from = this.positions[player];
+        final int size = this.board.size();
+        final int value = this.board.getCardValue(card);
+        switch (this.board.getCardKind(card)) {
+            case SimBoard.CARD_KEEP -> this.cardHolders[card] = (byte) (player + 1);
+            case SimBoard.CARD_GO_TO_JAIL -> {
+                if (!useJailFreeCard(player)) {
+                    goToJail(player);
+                }
+            }
+            case SimBoard.CARD_PAY -> pay(player, BANK, value);
+            case SimBoard.CARD_RECEIVE -> this.balances[player] += value;
+            case SimBoard.CARD_PAY_PER_BUILDING -> pay(player, BANK, buildingTax(player, card));
+            case SimBoard.CARD_MOVE_TO -> {
+                if (value < from && value + size - from < SimBoard.MAX_DICE
+                        && value != this.board.getJailPosition()) {
+                    this.balances[player] += SimBoard.GO_BONUS;
+                }
+                this.positions[player] = value;
+                land(player, value, size, random);
+            }
+            case SimBoard.CARD_MOVE_RELATIVE, SimBoard.CARD_MOVE_TO_NEAREST -> {
+                final int to = this.board.getCardKind(card) == SimBoard.CARD_MOVE_RELATIVE
+                        ? Math.floorMod(from + value, size)
+                        : this.board.getCardDestination(card, from);
+                if (to < from) {
+                    this.balances[player] += SimBoard.GO_BONUS;
+                }
+                this.positions[player] = to;
+                land(player, to, size, random);
+            }
+            default -> { }
+        }
+    }
+
+    /**
+     * Puts back in the deck every card not kept by a player and shuffles it.
+     *
+     * @param random the generator of the shuffle.
+     */
+    private void reshuffle(final RandomGenerator random) {
+        int free = 0;
+        for (int c = 0; c < this.cardHolders.length; c++) {
+            if (this.cardHolders[c] == 0) {
+                this.deck[free++] = (short) c;
+            }
+        }
+        int held = free;
+        for (int c = 0; c < this.cardHolders.length; c++) {
+            if (this.cardHolders[c] != 0) {
+                this.deck[held++] = (short) c;
+            }
+        }
+        for (int i = free - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final short swap = this.deck[i];
+            this.deck[i] = this.deck[j];
+            this.deck[j] = swap;
+        }
+        this.deckCursor = 0;
+        this.deckEnd = free;
+    }
+
+    private boolean useJailFreeCard(final int player) {
+        for (int c = 0; c < this.cardHolders.length; c++) {
+            if (this.cardHolders[c] == player + 1) {
+                this.cardHolders[c] = 0;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int buildingTax(final int player, final int card) {
+        int amount = 0;
+        for (int t = 0; t < this.owners.length; t++) {
+            if (this.owners[t] == player + 1 && this.houses[t] > 0) {
+                amount += this.houses[t] == SimBoard.HOTEL
+                        ? this.board.getCardHotelValue(card)
+                        : this.houses[t] * this.board.getCardValue(card);
+            }
+        }
+        return amount;
+    }
+
+    private void goToJail(final int player) {
+        this.positions[player] = this.board.getJailPosition();
+        this.jailAttempts[player] = 0;
+        this.doubles = 0;
+        this.canRoll = false;
+    }
+
+    private void buildHouses() {
+        boolean built = true;
+        while (built) {
+            built = false;
+            for (int t = 0; t < this.owners.length; t++) {
+                if (canBuildHouse(this.current, t)
+                        && this.balances[this.current] - this.board.getHouseCost(t) >= ROLLOUT_RESERVE) {
+                    buildHouse(t);
+                    built = true;
+                }
+            }
+        }
+    }
+
+    private void nextTurn() {
+        int checked = 0;
+        do {
+            this.current = (this.current + 1) % this.players;
+            checked++;
+        } while (isBankrupt(this.current) && checked < this.players);
+        this.doubles = 0;
+        this.canRoll = true;
+        this.turns++;
+    }
+
+    private boolean canBuildHouse(final int player, final int tile) {
+        if (this.owners[tile] != player + 1 || this.board.getHouseCost(tile) <= 0
+                || this.houses[tile] >= SimBoard.HOTEL) {
+            return false;
+        }
+        for (final int other : this.board.getGroupTiles(this.board.getGroup(tile))) {
+            if (this.owners[other] != player + 1 || this.houses[other] < this.houses[tile]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int ownedInGroup(final int player, final int tile) {
+        int owned = 0;
+        for (final int other : this.board.getGroupTiles(this.board.getGroup(tile))) {
+            if (this.owners[other] == player + 1) {
+                owned++;
+            }
+        }
+        return owned;
+    }
+
+    /**
+     * Moves money from a player to another player or to the bank, selling houses and then
+     * properties to the bank at half price if needed; a player who still cannot pay goes
+     * bankrupt, giving what is left to the creditor.
+     *
+     * @param payer the index of the paying player.
+     * @param payee the index of the paid player, or {@link #BANK}.
+     * @param amount the amount.
+     */
+    private void pay(final int payer, final int payee, final int amount) {
+        boolean selling = true;
+        while (this.balances[payer] < amount && selling) {
+            selling = sellNextAsset(payer);
+        }
+        final int paid = Math.min(amount, this.balances[payer]);
+        this.balances[payer] -= paid;
+        if (payee != BANK) {
+            this.balances[payee] += paid;
+        }
+        if (paid < amount) {
+            declareBankruptcy(payer);
+        }
+    }
+
+    private boolean sellNextAsset(final int player) {
+        for (int t = 0; t < this.owners.length; t++) {
+            if (this.owners[t] == player + 1 && this.houses[t] > 0) {
+                this.houses[t]--;
+                this.balances[player] += this.board.getHouseCost(t) / 2;
+                return true;
+            }
+        }
+        for (int t = 0; t < this.owners.length; t++) {
+            if (this.owners[t] == player + 1) {
+                this.owners[t] = 0;
+                this.balances[player] += this.board.getPrice(t) / 2;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void declareBankruptcy(final int player) {
+        this.bankrupt |= 1 << player;
+        this.balances[player] = 0;
+        this.jailAttempts[player] = FREE;
+        if (player == this.current) {
+            this.canRoll = false;
+        }
+    }
+
+    /**
+     * Copies the piles of a deck: the draw pile first, then the other cards.
+     *
+     * @param cards the deck.
+     * @param players the players of the match.
+     */
+    private void captureDeck(final CardDeckImpl cards, final List<Player> players) {
+        final boolean[] drawn = new boolean[this.deck.length];
+        int next = 0;
+        for (final GameCard card : cards.getDrawPile()) {
+            final int index = cardIndex(card);
+            drawn[index] = true;
+            this.deck[next++] = (short) index;
+        }
+        this.deckCursor = 0;
+        this.deckEnd = next;
+        for (int c = 0; c < this.deck.length; c++) {
+            if (!drawn[c]) {
+                this.deck[next++] = (short) c;
+            }
+        }
+        for (final Map.Entry<GameCard, String> entry : cards.getHeldCardOwners().entrySet()) {
+            this.cardHolders[cardIndex(entry.getKey())] = (byte) (indexOf(players, entry.getValue()) + 1);
+        }
+    }
+
+    /**
+     * Gives the piles of this state to the deck of a restored match.
+     *
+     * @param match the match being restored.
+     */
+    private void restoreDeck(final MatchRestorer match) {
+        final List<String> drawPile = new ArrayList<>();
+        final List<String> discardPile = new ArrayList<>();
+        final Map<String, Integer> held = new LinkedHashMap<>();
+        for (int i = 0; i < this.deck.length; i++) {
+            final int index = this.deck[i];
+            final String id = this.board.getCardId(index);
+            if (this.cardHolders[index] != 0) {
+                held.put(id, this.cardHolders[index] - 1);
+            } else if (i >= this.deckCursor && i < this.deckEnd) {
+                drawPile.add(id);
+            } else {
+                discardPile.add(id);
+            }
+        }
+        match.setDeck(drawPile, discardPile, held);
+    }
+
+    private int cardIndex(final GameCard card) {
+        final int index = this.board.indexOfCard(card.getId());
+        if (index < 0) {
+            throw new IllegalArgumentException("The card " + card.getId() + " is not part of the board");
+        }
+        return index;
+    }
+
+    private static int indexOf(final List<Player> players, final String name) {
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getName().equals(name)) {
+                return i;
+            }
+        }
+        return BANK;
+    }
+}
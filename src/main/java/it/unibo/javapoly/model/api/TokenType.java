@@ -1,5 +1,8 @@
 package it.unibo.javapoly.model.api;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Represents the various types of tokens available for players in the JavaPoly
  * game.
@@ -19,5 +22,19 @@ public enum TokenType {
     IRON,
     THIMBLE,
     WHEELBARROW,
-    CUSTOM
+    CUSTOM;
+
+    private static final List<TokenType> PREDEFINED = Arrays.stream(values())
+            .filter(t -> t != CUSTOM)
+            .toList();
+
+    /**
+     * Returns the token types with a built-in image, that is all of them but {@link #CUSTOM},
+     * which needs a file chosen by the player.
+     *
+     * @return the predefined token types, in declaration order.
+     */
+    public static List<TokenType> predefined() {
+        return PREDEFINED;
+    }
 }
@@ -32,4 +32,24 @@ public interface Board {
      */
     int normalizePosition(int position);
 
+    /**
+     * Returns the position of the first tile of the given type after the given position,
+     * moving forward and wrapping around the board. Property tiles also count as
+     * {@link TileType#RAILROAD} or {@link TileType#UTILITY} according to their group.
+     *
+     * @param position the starting position, excluded from the search
+     * @param type the type of tile to look for
+     * @return the position of the next tile of that type, or {@code -1} if there is none
+     */
+    int nextPositionOfType(int position, TileType type);
+
+    /**
+     * Returns the positions of all the tiles of the given type, in ascending order.
+     * Property tiles also count as {@link TileType#RAILROAD} or {@link TileType#UTILITY}
+     * according to their group.
+     *
+     * @param type the type of tile
+     * @return a copy of the positions of the tiles of that type
+     */
+    int[] getPositionsOfType(TileType type);
 }
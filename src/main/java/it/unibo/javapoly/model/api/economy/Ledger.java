@@ -0,0 +1,59 @@
+package it.unibo.javapoly.model.api.economy;
+
+import java.util.List;
+
+/**
+ * Append-only journal of every money movement of a match.
+ * Transactions are recorded into a pending batch, which is sealed as a turn by {@link #commit()};
+ * committed transactions can no longer change.
+ */
+public interface Ledger {
+
+    /**
+     * Appends a transaction to the pending batch.
+     *
+     * @param type the reason of the transaction.
+     * @param payer the name of the paying player, or {@link Transaction#BANK}.
+     * @param payee the name of the paid player, or {@link Transaction#BANK}.
+     * @param amount the amount moved.
+     * @throws IllegalArgumentException if {@code amount} is not positive.
+     */
+    void record(TransactionType type, String payer, String payee, int amount);
+
+    /**
+     * Seals the pending batch as the next turn, even if it is empty.
+     *
+     * @return the number of transactions committed.
+     */
+    int commit();
+
+    /**
+     * Returns the number of transactions recorded since the last commit.
+     *
+     * @return the size of the pending batch.
+     */
+    int getPendingCount();
+
+    /**
+     * Returns the number of turns committed.
+     *
+     * @return the number of commits.
+     */
+    int getCommittedTurns();
+
+    /**
+     * Returns the committed transactions, in the order they were recorded.
+     *
+     * @return an unmodifiable list of the committed transactions.
+     */
+    List<Transaction> getTransactions();
+
+    /**
+     * Returns the money collected by the bank minus the money it paid,
+     * over both committed and pending transactions.
+     * The money of the players changes by the opposite amount.
+     *
+     * @return the net money received by the bank.
+     */
+    long getBankBalance();
+}
@@ -0,0 +1,48 @@
+package it.unibo.javapoly.model.api.economy;
+
+/**
+ * A money movement recorded by a {@link Ledger}.
+ * The bank is identified by {@link #BANK}.
+ */
+public interface Transaction {
+
+    /**
+     * Identifier of the bank as payer or payee.
+     */
+    String BANK = "BANK";
+
+    /**
+     * Returns the turn the transaction belongs to, counting from 0.
+     *
+     * @return the turn of the transaction.
+     */
+    int getTurn();
+
+    /**
+     * Returns the reason of the transaction.
+     *
+     * @return the type of the transaction.
+     */
+    TransactionType getType();
+
+    /**
+     * Returns who paid.
+     *
+     * @return the name of the paying player, or {@link #BANK}.
+     */
+    String getPayer();
+
+    /**
+     * Returns who was paid.
+     *
+     * @return the name of the paid player, or {@link #BANK}.
+     */
+    String getPayee();
+
+    /**
+     * Returns the amount of money moved.
+     *
+     * @return the positive amount.
+     */
+    int getAmount();
+}
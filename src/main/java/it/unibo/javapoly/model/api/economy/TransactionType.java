@@ -0,0 +1,62 @@
+package it.unibo.javapoly.model.api.economy;
+
+/**
+ * Reason of a money movement recorded by a {@link Ledger}.
+ */
+public enum TransactionType {
+
+    /**
+     * Bonus paid by the bank for passing or landing on "Go".
+     */
+    GO_BONUS,
+
+    /**
+     * Tax paid to the bank.
+     */
+    TAX,
+
+    /**
+     * Rent paid to the owner of a property.
+     */
+    RENT,
+
+    /**
+     * Money paid or received because of a card.
+     */
+    CARD,
+
+    /**
+     * Fee paid to the bank to leave the jail.
+     */
+    JAIL_FEE,
+
+    /**
+     * Price of a property bought from the bank.
+     */
+    PROPERTY_PURCHASE,
+
+    /**
+     * Money received for a property sold back to the bank.
+     */
+    PROPERTY_SALE,
+
+    /**
+     * Cost of a house built on a property.
+     */
+    HOUSE_PURCHASE,
+
+    /**
+     * Money received for a house sold back to the bank.
+     */
+    HOUSE_SALE,
+
+    /**
+     * Remaining money of a bankrupt player, given to the creditor or to the bank.
+     */
+    BANKRUPTCY,
+
+    /**
+     * Any other payment, such as a debt settled after a liquidation.
+     */
+    PAYMENT
+}
@@ -117,6 +117,16 @@ public interface Property {
      */
     int getRent(RentContext ctx);
 
+    /**
+     * Calculates the rent to be paid from the rent table of the card, without any allocation.
+     *
+     * @param ownedInGroup the number of properties of the same group held by the owner
+     * @param monopoly true if the owner holds every property of the group
+     * @param diceTotal the sum of the two rolled dice
+     * @return the calculated rent
+     */
+    int getRent(int ownedInGroup, boolean monopoly, int diceTotal);
+
     /**
      * Returns the purchase cost of the property.
      * 
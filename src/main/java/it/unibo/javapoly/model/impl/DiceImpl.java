@@ -1,8 +1,11 @@
 package it.unibo.javapoly.model.impl;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import it.unibo.javapoly.model.api.Dice;
+import it.unibo.javapoly.utils.ValidationUtils;
 
 /**
  * Implementation of a six-sided die.
@@ -11,7 +14,24 @@ public final class DiceImpl implements Dice {
     private static final int NUM_FACE = 6;
 
     private int randResult;
-    private final Random rand = new Random();
+    private final RandomGenerator rand;
+
+    /**
+     * Creates a die with an unpredictable generator.
+     */
+    public DiceImpl() {
+        this(new SplittableRandom(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * Creates a die driven by the given generator.
+     * Two dice created with generators in the same state produce the same sequence of results.
+     *
+     * @param rand the random generator, owned by this die from now on.
+     */
+    public DiceImpl(final RandomGenerator rand) {
+        this.rand = ValidationUtils.requireNonNull(rand, "rand cannot be null");
+    }
 
     /**
      * {@inheritDoc}
@@ -6,6 +6,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import it.unibo.javapoly.model.api.Dice;
 
+import java.util.SplittableRandom;
+
 /**
  * Class that manages the throwing of two dice and stores the result.
  */
@@ -29,6 +31,16 @@ public final class DiceThrow {
         this.lastDiceResult = 0;
     }
 
+    /**
+     * Creates two dice driven by independent generators split from the given one,
+     * so that the throws are reproducible from the seed of {@code random}.
+     *
+     * @param random the generator of the match.
+     */
+    public DiceThrow(final SplittableRandom random) {
+        this(new DiceImpl(random.split()), new DiceImpl(random.split()));
+    }
+
     /**
      * Returns the first die.
      *
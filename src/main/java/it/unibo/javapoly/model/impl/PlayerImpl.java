@@ -1,7 +1,8 @@
 package it.unibo.javapoly.model.impl;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -40,6 +41,16 @@ import it.unibo.javapoly.utils.ValidationUtils;
  * coupling with the UI and Game Controller.
  * </p>
  * 
+ * <p>
+ * <strong>Thread Safety:</strong>
+ * The player can be read by other threads (UI, autosave, network) while the game
+ * thread updates it. The balance is changed only through atomic compare-and-set
+ * operations, so concurrent payments never lose money nor overdraw the player; the
+ * observers are kept in a copy-on-write list, so they can be added or removed while
+ * a notification is being delivered. Position, state and token path are published
+ * through volatile fields.
+ * </p>
+ * 
  * @see Player
  * @see PlayerState
  * @see Token
@@ -52,15 +63,15 @@ public class PlayerImpl implements Player {
     private static final int DEFAULT_STARTING_BALANCE = 1500;
 
     private final String name;
-    private int balance;
+    private final AtomicInteger balance;
     @JsonIgnore
     private final Token token;
     private final TokenType tokenType;
-    private PlayerState currentState;
-    private int currentPosition;
-    private String customTokenPath;
+    private volatile PlayerState currentState;
+    private volatile int currentPosition;
+    private volatile String customTokenPath;
     @JsonIgnore
-    private final List<PlayerObserver> observers = new ArrayList<>();
+    private final List<PlayerObserver> observers = new CopyOnWriteArrayList<>();
 
     /**
      * Constructs a new {@link PlayerImpl} with a specified name and token type.
@@ -155,7 +166,7 @@ public class PlayerImpl implements Player {
         ValidationUtils.requireNonNegative(initialBalance, "Initial balance cannot be negative");
 
         this.name = name;
-        this.balance = initialBalance;
+        this.balance = new AtomicInteger(initialBalance);
         this.tokenType = tokenType;
         this.token = TokenFactory.createToken(tokenType);
         this.currentState = FreeState.getInstance();
@@ -182,7 +193,7 @@ public class PlayerImpl implements Player {
         final int oldPos = this.currentPosition;
         this.currentPosition = newPosition;
 
-        notifyMoved(oldPos, this.currentPosition);
+        notifyMoved(oldPos, newPosition);
     }
 
     /**
@@ -191,12 +202,15 @@ public class PlayerImpl implements Player {
     @Override
     public boolean tryToPay(final int amount) {
         ValidationUtils.requireNonNegative(amount, "You cannot pay a negative amount");
-        if (this.balance >= amount) {
-            this.balance -= amount;
-            notifyBalanceChanged(this.balance);
-            return true;
-        }
-        return false;
+        int current;
+        do {
+            current = this.balance.get();
+            if (current < amount) {
+                return false;
+            }
+        } while (!this.balance.compareAndSet(current, current - amount));
+        notifyBalanceChanged(current - amount);
+        return true;
     }
 
     /**
@@ -206,8 +220,7 @@ public class PlayerImpl implements Player {
     public void receiveMoney(final int amount) {
         ValidationUtils.requireNonNegative(amount, "You cannot receive a negative amount");
 
-        this.balance += amount;
-        notifyBalanceChanged(this.balance);
+        notifyBalanceChanged(this.balance.addAndGet(amount));
     }
 
     // --- Observer Pattern Methods ---
@@ -289,7 +302,7 @@ public class PlayerImpl implements Player {
     @Override
     @JsonProperty
     public int getBalance() {
-        return this.balance;
+        return this.balance.get();
     }
 
     /**
@@ -360,6 +373,7 @@ public class PlayerImpl implements Player {
      */
     @Override
     public String toString() {
-        return "Player{" + this.name + ", " + this.balance + "$, " + this.currentState.getClass().getSimpleName() + "}";
+        return "Player{" + this.name + ", " + this.balance.get() + "$, "
+                + this.currentState.getClass().getSimpleName() + "}";
     }
 }
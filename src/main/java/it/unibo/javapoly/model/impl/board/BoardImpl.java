@@ -1,23 +1,40 @@
 package it.unibo.javapoly.model.impl.board;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.unibo.javapoly.model.api.board.Board;
 import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
 
 /**
  * Concrete implementation of the game board.
+ * The positions of every tile type and the next tile of every type from every
+ * position are computed once, when the board is created, and are shared with
+ * the boards built on the same layout.
  */
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public final class BoardImpl implements Board {
 
+    private static final int[] NO_POSITIONS = new int[0];
+
     private final List<Tile> tiles;
 
+    @JsonIgnore
+    private final Map<TileType, int[]> positionsByType;
+    // nextByType.get(type)[position] -> next position of that type, -1 if none
+    @JsonIgnore
+    private final Map<TileType, int[]> nextByType;
+
     /**
      * Creates a board with the given tiles.
      *
@@ -26,6 +43,27 @@ public final class BoardImpl implements Board {
     @JsonCreator
     public BoardImpl(@JsonProperty("tiles") final List<Tile> tiles) {
         this.tiles = new ArrayList<>(tiles);
+        this.positionsByType = new EnumMap<>(TileType.class);
+        this.nextByType = new EnumMap<>(TileType.class);
+        buildLookups();
+    }
+
+    /**
+     * Creates a board with the given tiles, sharing the lookup tables of a board with the same layout.
+     * Each tile must have the same type, and each property the same group, as the tile in the same
+     * position of the layout.
+     *
+     * @param layout a board with the same layout
+     * @param tiles the tiles composing the board
+     * @throws IllegalArgumentException if the number of tiles differs from the size of the layout
+     */
+    public BoardImpl(final BoardImpl layout, final List<Tile> tiles) {
+        if (tiles.size() != layout.size()) {
+            throw new IllegalArgumentException("The tiles do not match the layout of the board");
+        }
+        this.tiles = new ArrayList<>(tiles);
+        this.positionsByType = layout.positionsByType;
+        this.nextByType = layout.nextByType;
     }
 
     /**
@@ -52,4 +90,73 @@ public final class BoardImpl implements Board {
         final int size = size();
         return ((position % size) + size) % size;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextPositionOfType(final int position, final TileType type) {
+        final int[] next = this.nextByType.get(type);
+        return next == null ? -1 : next[normalizePosition(position)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] getPositionsOfType(final TileType type) {
+        return this.positionsByType.getOrDefault(type, NO_POSITIONS).clone();
+    }
+
+    /**
+     * Builds the typed position arrays and the next-tile tables.
+     */
+    private void buildLookups() {
+        final int size = size();
+        final Map<TileType, List<Integer>> positions = new EnumMap<>(TileType.class);
+        for (int pos = 0; pos < size; pos++) {
+            final Tile tile = this.tiles.get(pos);
+            positions.computeIfAbsent(tile.getType(), t -> new ArrayList<>()).add(pos);
+            if (tile instanceof PropertyTile pt) {
+                final PropertyGroup group = pt.getProperty().getPropertyGroup();
+                if (group == PropertyGroup.RAILROAD) {
+                    positions.computeIfAbsent(TileType.RAILROAD, t -> new ArrayList<>()).add(pos);
+                } else if (group == PropertyGroup.UTILITY) {
+                    positions.computeIfAbsent(TileType.UTILITY, t -> new ArrayList<>()).add(pos);
+                }
+            }
+        }
+        for (final Map.Entry<TileType, List<Integer>> entry : positions.entrySet()) {
+            final int[] typed = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            this.positionsByType.put(entry.getKey(), typed);
+            this.nextByType.put(entry.getKey(), nextTable(typed, size));
+        }
+    }
+
+    /**
+     * Computes, for every position, the first of the given positions strictly after it,
+     * walking the board twice backwards so that the search wraps around.
+     *
+     * @param typed the positions of a tile type, in ascending order
+     * @param size the size of the board
+     * @return the next-tile table, with -1 where the only candidate is the position itself
+     */
+    private static int[] nextTable(final int[] typed, final int size) {
+        final boolean[] isTyped = new boolean[size];
+        for (final int pos : typed) {
+            isTyped[pos] = true;
+        }
+        final int[] next = new int[size];
+        int nextSeen = -1;
+        for (int i = 2 * size - 1; i >= 0; i--) {
+            final int pos = i % size;
+            if (i < size) {
+                next[pos] = nextSeen == pos ? -1 : nextSeen;
+            }
+            if (isTyped[pos]) {
+                nextSeen = pos;
+            }
+        }
+        return next;
+    }
 }
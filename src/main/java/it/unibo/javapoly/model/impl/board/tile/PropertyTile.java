@@ -11,6 +11,7 @@ import it.unibo.javapoly.model.api.board.TileType;
 import it.unibo.javapoly.model.api.property.Property;
 import it.unibo.javapoly.model.api.property.PropertyGroup;
 import it.unibo.javapoly.model.impl.property.PropertyImpl;
+import it.unibo.javapoly.model.impl.property.PropertyStateTable;
 
 /**
  * Represents a tile associated with a station/utility/land property.
@@ -38,6 +39,17 @@ public class PropertyTile extends AbstractTile {
 
     }
 
+    /**
+     * Creates a copy of a tile whose property keeps its state in the given table.
+     *
+     * @param tile the tile to copy
+     * @param states the table holding the state of the property, with a free slot
+     */
+    public PropertyTile(final PropertyTile tile, final PropertyStateTable states) {
+        super(tile.getPosition(), TileType.PROPERTY, tile.getName(), tile.getDescription());
+        this.property = new PropertyImpl(tile.getProperty(), states);
+    }
+
     /**
      * Returns the property associated with this tile.
      *
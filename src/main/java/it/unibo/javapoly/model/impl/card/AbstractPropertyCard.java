@@ -133,6 +133,21 @@ public abstract class AbstractPropertyCard implements Card {
      */
     public abstract int calculateRent(RentContext rent);
 
+    /**
+     * Returns the rent for the given ownership situation without allocating a {@link RentContext}.
+     * The concrete cards answer from a rent table compiled when the card is created;
+     * this default implementation falls back to {@link #calculateRent(RentContext)}.
+     *
+     * @param houses the number of houses built on the property ({@code 5} represents a hotel).
+     * @param ownedInGroup the number of properties of the same group held by the owner.
+     * @param monopoly true if the owner holds every property of the group.
+     * @param diceTotal the sum of the two rolled dice.
+     * @return the rent for the given situation.
+     */
+    public int rentFor(final int houses, final int ownedInGroup, final boolean monopoly, final int diceTotal) {
+        return calculateRent(new RentContext(diceTotal, ownedInGroup, houses, ownedInGroup, monopoly));
+    }
+
     /**
      * Returns a JSON representation of this card.
      *
@@ -145,7 +160,7 @@ public abstract class AbstractPropertyCard implements Card {
     @Override
     public String toString() {     // FIXME: Model can't use utils
         try {
-            return JsonUtils.getInstance().mapper().writeValueAsString(this);
+            return JsonUtils.getInstance().writer().writeValueAsString(this);
         } catch (final JsonProcessingException e) {
             return "{\"error\":\"Serialization failed\"}";
         }
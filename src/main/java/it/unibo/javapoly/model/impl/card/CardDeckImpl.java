@@ -10,9 +10,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -32,7 +35,7 @@ public class CardDeckImpl implements CardDeck {
     private final List<GameCard> cards;
 
     @JsonIgnore
-    private final Random random;
+    private final RandomGenerator random;
 
     /**
      * Constructs a new CardDeckImpl with the provided list of cards.
@@ -43,10 +46,21 @@ public class CardDeckImpl implements CardDeck {
      * @param cards the list of cards to initialize the deck with
      */
     public CardDeckImpl(final List<GameCard> cards) {
+        this(cards, new SplittableRandom(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * Constructs a new CardDeckImpl whose shuffles are driven by the given generator,
+     * so that the order of the cards is reproducible from its seed.
+     * 
+     * @param cards the list of cards to initialize the deck with
+     * @param random the random generator used to shuffle, owned by the deck from now on
+     */
+    public CardDeckImpl(final List<GameCard> cards, final RandomGenerator random) {
         this.drawPile = new ArrayDeque<>();
         this.discardPile = new ArrayDeque<>(cards);
-        this.heldCards = new HashMap<>();
-        random = new Random();
+        this.heldCards = new LinkedHashMap<>();
+        this.random = Objects.requireNonNull(random);
         this.cards = new ArrayList<>(cards);
     }
 
@@ -69,8 +83,8 @@ public class CardDeckImpl implements CardDeck {
         this.drawPile = new ArrayDeque<>(drawPile != null ? drawPile : new ArrayDeque<>());
         this.discardPile = new ArrayDeque<>(discardPile != null ? discardPile : new ArrayDeque<>());
         this.cards = new ArrayList<>(cards != null ? cards : new ArrayList<>());
-        this.random = new Random();
-        this.heldCards = new HashMap<>();
+        this.random = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+        this.heldCards = new LinkedHashMap<>();
 
         if (heldCards != null && cards != null) {
             for (final Map.Entry<String, String> entry : heldCards.entrySet()) {
@@ -121,6 +135,63 @@ public class CardDeckImpl implements CardDeck {
     public List<GameCard> getAllCards() {
         return new ArrayList<>(this.cards);
     }
+
+    /**
+     * Returns the cards still to be drawn, from the next one to the last one.
+     *
+     * @return a copy of the draw pile
+     */
+    @JsonIgnore
+    public List<GameCard> getDrawPile() {
+        return new ArrayList<>(this.drawPile);
+    }
+
+    /**
+     * Returns the cards already drawn, from the most recent one.
+     *
+     * @return a copy of the discard pile
+     */
+    @JsonIgnore
+    public List<GameCard> getDiscardPile() {
+        return new ArrayList<>(this.discardPile);
+    }
+
+    /**
+     * Returns the cards kept by the players, with the ID of the player holding each of them.
+     *
+     * @return a copy of the map card - ownerID, in the order the cards were drawn
+     */
+    @JsonIgnore
+    public Map<GameCard, String> getHeldCardOwners() {
+        return new LinkedHashMap<>(this.heldCards);
+    }
+
+    /**
+     * Replaces the content of the piles, to resume a saved match.
+     * The cards must be cards of this deck.
+     *
+     * @param drawPile the cards still to be drawn, from the next one
+     * @param discardPile the cards already drawn, from the most recent one
+     * @param heldCards the cards kept by the players, with the ID of the holder
+     * @throws IllegalArgumentException if a card is not part of this deck
+     */
+    public void restore(final List<GameCard> drawPile, final List<GameCard> discardPile,
+            final Map<GameCard, String> heldCards) {
+        final List<GameCard> restored = new ArrayList<>(drawPile);
+        restored.addAll(discardPile);
+        restored.addAll(heldCards.keySet());
+        for (final GameCard card : restored) {
+            if (!this.cards.contains(card)) {
+                throw new IllegalArgumentException("The card " + card.getId() + " is not part of this deck");
+            }
+        }
+        this.drawPile.clear();
+        this.drawPile.addAll(drawPile);
+        this.discardPile.clear();
+        this.discardPile.addAll(discardPile);
+        this.heldCards.clear();
+        this.heldCards.putAll(heldCards);
+    }
     //#endregion
 
     /**
@@ -1,8 +1,8 @@
 package it.unibo.javapoly.model.impl.card;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -18,6 +18,8 @@ import it.unibo.javapoly.model.api.property.PropertyGroup;
  * <p>
  * The class stores the rents for different numbers of houses and for the hotel,
  * together with the costs to build houses and hotels.
+ * The rents are also compiled into a flat table, indexed by the number of houses
+ * and by the monopoly flag, so that computing a rent is a single array read.
  */
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public class LandPropertyCard extends AbstractPropertyCard {
@@ -27,7 +29,18 @@ public class LandPropertyCard extends AbstractPropertyCard {
      */
     private static final int ALL_LAND = 2;
 
+    /**
+     * Number of house rents a card lists, from one house to the last house before the hotel.
+     */
+    private static final int HOUSE_RENTS = 4;
+
     private final List<Integer> rents;
+    private final int baseRent;
+    private final int hotelRent;
+
+    // rentTable[(houses << 1) | monopoly] -> rent, multiplier already applied
+    @JsonIgnore
+    private final int[] rentTable;
 
     private final int housePrice;
     private final int hotelPrice;
@@ -41,13 +54,54 @@ public class LandPropertyCard extends AbstractPropertyCard {
      * @param propertyCost the cost of the property
      * @param color the property color
      * @param baseRent the base rent
-     * @param rents the list of rents for houses
+     * @param rents the list of rents for houses, from one house to the last house before the hotel
      * @param hotelRent the hotel rent
      * @param houseCost the cost to build a house
      * @param hotelCost the cost to build a hotel
      */
-    @JsonCreator
     public LandPropertyCard(
+            final String id,
+            final String name,
+            final String description,
+            final int propertyCost,
+            final PropertyGroup color,
+            final int baseRent,
+            final List<Integer> rents,
+            final int hotelRent,
+            final int houseCost,
+            final int hotelCost) {
+        super(id, name, description, propertyCost, color);
+        this.rents = List.copyOf(Objects.requireNonNull(rents, ERR_LIST_IS_NULL));
+        this.baseRent = baseRent;
+        this.hotelRent = hotelRent;
+        this.housePrice = houseCost;
+        this.hotelPrice = hotelCost;
+        this.rentTable = compileRentTable(getAllRent());
+    }
+
+    /**
+     * Creates a {@link LandPropertyCard} read from a board file or a save.
+     *
+     * <p>
+     * The "rents" list must hold the {@value #HOUSE_RENTS} house rents. Saves written by older
+     * versions listed the base rent and the hotel rent too, repeated once per save and load:
+     * those copies are removed, so the rent table is not shifted.
+     *
+     * @param id the card identifier
+     * @param name the card name
+     * @param description the card description
+     * @param propertyCost the cost of the property
+     * @param color the property color
+     * @param baseRent the base rent
+     * @param rents the list of rents for houses, possibly with the base and hotel rents of an old save
+     * @param hotelRent the hotel rent
+     * @param houseCost the cost to build a house
+     * @param hotelCost the cost to build a hotel
+     * @return the card
+     * @throws IllegalArgumentException if the house rents cannot be recovered from the list
+     */
+    @JsonCreator
+    static LandPropertyCard fromJson(
             @JsonProperty("id") final String id,
             @JsonProperty("name") final String name,
             @JsonProperty("description") final String description,
@@ -58,12 +112,8 @@ public class LandPropertyCard extends AbstractPropertyCard {
             @JsonProperty("hotelRent") final int hotelRent,
             @JsonProperty("houseCost") final int houseCost,
             @JsonProperty("hotelCost") final int hotelCost) {
-        super(id, name, description, propertyCost, color);
-        this.rents = new LinkedList<>(rents);
-        this.rents.addFirst(baseRent);
-        this.rents.addLast(hotelRent);
-        this.housePrice = houseCost;
-        this.hotelPrice = hotelCost;
+        return new LandPropertyCard(id, name, description, propertyCost, color, baseRent,
+                houseRents(rents, baseRent, hotelRent), hotelRent, houseCost, hotelCost);
     }
 
     //#region Getter
@@ -74,10 +124,7 @@ public class LandPropertyCard extends AbstractPropertyCard {
      * @return the base rent.
      */
     public int getBaseRent() {
-        if (checkListIsEmpty()) {
-            throw new NoSuchElementException(this.ERR_LIST_IS_EMPTY);
-        }
-        return this.rents.getFirst();
+        return this.baseRent;
     }
 
     /**
@@ -86,10 +133,7 @@ public class LandPropertyCard extends AbstractPropertyCard {
      * @return the hotel rent.
      */
     public int getHotelRent() {
-        if (checkListIsEmpty()) {
-            throw new NoSuchElementException(this.ERR_LIST_IS_EMPTY);
-        }
-        return this.rents.getLast();
+        return this.hotelRent;
     }
 
     /**
@@ -111,16 +155,18 @@ public class LandPropertyCard extends AbstractPropertyCard {
     }
 
     /**
-     * This method returns all rents based on the number of houses built.
+     * This method returns all rents based on the number of houses built,
+     * from the base rent to the hotel rent.
      *
      * @return a copy of the full rent list.
      */
     @JsonIgnore
     public List<Integer> getAllRent() {
-        if (checkListIsEmpty()) {
-            throw new NoSuchElementException(this.ERR_LIST_IS_EMPTY);
-        }
-        return new LinkedList<>(this.rents);
+        final List<Integer> all = new ArrayList<>(this.rents.size() + 2);
+        all.add(this.baseRent);
+        all.addAll(this.rents);
+        all.add(this.hotelRent);
+        return all;
     }
 
     //#endregion
@@ -133,76 +179,70 @@ public class LandPropertyCard extends AbstractPropertyCard {
      */
     @Override
     public int calculateRent(final RentContext rentContext) {
-        if (checkIsHotel(rentContext.getNumberOfHouses())) {
-            return applyMultiplier(rentContext, getHotelRent());
+        if (checkNumberHouse(rentContext.getNumberOfHouses())) {
+            throw new IndexOutOfBoundsException(ERR_INDEX_OUT_LIMITS + rentContext.getNumberOfHouses());
         }
-
-        return applyMultiplier(rentContext, getHouseRentByNumber(rentContext.getNumberOfHouses()));
+        return rentFor(rentContext.getNumberOfHouses(), 0, rentContext.isAllLand(), 0);
     }
 
-    //#region Private method
-
     /**
-     * This method returns the rent based on the number of houses built.
-     *
-     * @param houseNumber the number of houses built
-     * @return the rent for the given number of houses.
+     * {@inheritDoc}
      */
-    private int getHouseRentByNumber(final int houseNumber) {
-        if (checkListIsEmpty()) {
-            throw new NoSuchElementException(this.ERR_LIST_IS_EMPTY);
-        }
-        if (checkIsHotel(houseNumber)) {
-            return getHotelRent();
-        }
-        return this.rents.get(houseNumber);
+    @Override
+    public int rentFor(final int houses, final int ownedInGroup, final boolean monopoly, final int diceTotal) {
+        return this.rentTable[houses << 1 | (monopoly ? 1 : 0)];
     }
 
-    /**
-     * This method checks if the passed number is out of the list limits.
-     *
-     * @param number the index to check
-     * @return true if the number is out of bounds, false otherwise.
-     */
-    private boolean checkNumberHouse(final int number) {
-        return number < 0 || number >= this.rents.size();
-    }
+    //#region Private method
 
     /**
-     * Applies the group multiplier to the given rent result when all lands of
-     * the same group are owned by the same player.
+     * Recovers the house rents of a card, removing the base and hotel rents that old saves
+     * added at the ends of the list.
      *
-     * @param context the rent calculation context containing ownership flags.
-     * @param result the base rent to which the multiplier may be applied.
-     * @return the possibly multiplied rent.
+     * @param rents the rents read.
+     * @param baseRent the base rent.
+     * @param hotelRent the hotel rent.
+     * @return the {@value #HOUSE_RENTS} house rents.
+     * @throws IllegalArgumentException if the list does not hold them.
      */
-    private int applyMultiplier(final RentContext context, final int result) {
-        return context.isAllLand() ? result * this.ALL_LAND : result;
+    private static List<Integer> houseRents(final List<Integer> rents, final int baseRent, final int hotelRent) {
+        Objects.requireNonNull(rents, ERR_LIST_IS_NULL);
+        int first = 0;
+        int last = rents.size();
+        while (last - first > HOUSE_RENTS && rents.get(first) == baseRent && rents.get(last - 1) == hotelRent) {
+            first++;
+            last--;
+        }
+        if (last - first != HOUSE_RENTS) {
+            throw new IllegalArgumentException("A street needs " + HOUSE_RENTS + " house rents, found " + rents);
+        }
+        return rents.subList(first, last);
     }
 
     /**
-     * This method checks if the passed number represents the hotel.
+     * Compiles the rent table: for every number of houses, the rent without and
+     * with the group multiplier.
      *
-     * @param number the index to check
-     * @return true if the number represents the hotel, false otherwise.
+     * @param allRents the rents from the base rent to the hotel rent.
+     * @return the rent table.
      */
-    private boolean checkIsHotel(final int number) {
-        if (checkNumberHouse(number)) {
-            throw new IndexOutOfBoundsException(ERR_INDEX_OUT_LIMITS + number);
+    private static int[] compileRentTable(final List<Integer> allRents) {
+        final int[] table = new int[allRents.size() << 1];
+        for (int houses = 0; houses < allRents.size(); houses++) {
+            table[houses << 1] = allRents.get(houses);
+            table[houses << 1 | 1] = allRents.get(houses) * ALL_LAND;
         }
-        return number == this.rents.size() - 1;
+        return table;
     }
 
     /**
-     * This method checks if the list of rents is null or empty.
+     * This method checks if the passed number is out of the table limits.
      *
-     * @return true if the rent list is empty, false otherwise.
+     * @param number the number of houses to check
+     * @return true if the number is out of bounds, false otherwise.
      */
-    private boolean checkListIsEmpty() {
-        if (this.rents == null) {
-            throw new IllegalStateException(ERR_LIST_IS_NULL);
-        }
-        return this.rents.isEmpty();
+    private boolean checkNumberHouse(final int number) {
+        return number < 0 || number << 1 >= this.rentTable.length;
     }
 
     //#endregion
@@ -14,7 +14,8 @@ import it.unibo.javapoly.model.api.property.PropertyGroup;
 
 /**
  * Representation of a station card in the Monopoly game.
- * The class stores the rents for different numbers of station.
+ * The class stores the rents for different numbers of station, also compiled
+ * into a table indexed by the number of stations owned.
  */
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public class StationPropertyCard extends AbstractPropertyCard {
@@ -22,6 +23,10 @@ public class StationPropertyCard extends AbstractPropertyCard {
     // Indicates the rents that a player needs to pay based on the number of stations owned.
     private final List<Integer> rents;
 
+    // rentTable[stationsOwned] -> rent, rentTable[0] is 0
+    @JsonIgnore
+    private final int[] rentTable;
+
     /**
      * Creates a new {@link StationPropertyCard}.
      *
@@ -42,6 +47,10 @@ public class StationPropertyCard extends AbstractPropertyCard {
         this.rents = rents == null
                 ? new ArrayList<>()
                 : new ArrayList<>(rents);
+        this.rentTable = new int[this.rents.size() + 1];
+        for (int i = 0; i < this.rents.size(); i++) {
+            this.rentTable[i + 1] = this.rents.get(i);
+        }
     }
 
     //#region Getter
@@ -78,7 +87,7 @@ public class StationPropertyCard extends AbstractPropertyCard {
         if (checkNumberStation(stationNumber)) {
             throw new IndexOutOfBoundsException(ERR_INDEX_OUT_LIMITS + stationNumber);
         }
-        return this.rents.get(stationNumber - 1);
+        return this.rentTable[stationNumber];
     }
 
     //#endregion
@@ -124,4 +133,12 @@ public class StationPropertyCard extends AbstractPropertyCard {
         return getStationRentByNumber(rentContext.getNumberOfStation());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int rentFor(final int houses, final int ownedInGroup, final boolean monopoly, final int diceTotal) {
+        return this.rentTable[ownedInGroup];
+    }
+
 }
@@ -6,6 +6,7 @@ import java.util.NoSuchElementException;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import it.unibo.javapoly.model.api.RentContext;
@@ -14,6 +15,7 @@ import it.unibo.javapoly.model.api.property.PropertyGroup;
 /**
  * Representation of a utility card in the Monopoly game. This card computes rent based on
  * how many utilities the owner possesses and the dice total.
+ * The multipliers are kept in a table indexed by the number of utilities owned.
  */
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public class UtilityPropertyCard extends AbstractPropertyCard {
@@ -21,6 +23,10 @@ public class UtilityPropertyCard extends AbstractPropertyCard {
     private final int oneOwnedMultiplier;
     private final int bothOwnedMultiplier;
 
+    // multipliers[utilitiesOwned] -> dice multiplier, multipliers[0] is 0
+    @JsonIgnore
+    private final int[] multipliers;
+
     /**
      * Constructor for UtilityPropertyCard.
      *
@@ -42,6 +48,7 @@ public class UtilityPropertyCard extends AbstractPropertyCard {
         super(id, name, description, propertyCost, PropertyGroup.UTILITY);
         this.oneOwnedMultiplier = oneOwnedMultiplier;
         this.bothOwnedMultiplier = bothOwnedMultiplier;
+        this.multipliers = new int[] {0, oneOwnedMultiplier, bothOwnedMultiplier};
     }
 
     //#region Getter
@@ -69,7 +76,7 @@ public class UtilityPropertyCard extends AbstractPropertyCard {
         if (checkNumberUtility(number)) {
             return 0;
         }
-        return getAllMultiplier().get(number - 1);
+        return this.multipliers[number];
     }
 
     /**
@@ -103,6 +110,14 @@ public class UtilityPropertyCard extends AbstractPropertyCard {
         return rentContext.getDiceTotal() * getTheMultiplier(rentContext.getOwnedUtilities());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int rentFor(final int houses, final int ownedInGroup, final boolean monopoly, final int diceTotal) {
+        return diceTotal * getTheMultiplier(ownedInGroup);
+    }
+
     /**
      * Checks whether the provided utility number is invalid.
      *
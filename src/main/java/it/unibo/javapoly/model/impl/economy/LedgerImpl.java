@@ -0,0 +1,178 @@
+package it.unibo.javapoly.model.impl.economy;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.api.economy.Transaction;
+import it.unibo.javapoly.model.api.economy.TransactionType;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Implementation of the Ledger interface.
+ * Transactions are stored column by column in parallel arrays that grow as needed, so recording
+ * a money movement allocates no object; the {@link Transaction} views are created only when the
+ * committed transactions are read. The balance of the bank is kept up to date while recording,
+ * so a conservation check costs the same however long the match is.
+ * This class is not thread-safe, like the match it belongs to.
+ */
+public final class LedgerImpl implements Ledger {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private String[] payers = new String[INITIAL_CAPACITY];
+    private String[] payees = new String[INITIAL_CAPACITY];
+    private int[] amounts = new int[INITIAL_CAPACITY];
+    private int[] turns = new int[INITIAL_CAPACITY];
+    private int size;
+    private int committed;
+    private int turn;
+    private long bankBalance;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(final TransactionType type, final String payer, final String payee, final int amount) {
+        Objects.requireNonNull(type, "type cannot be null");
+        Objects.requireNonNull(payer, "payer cannot be null");
+        Objects.requireNonNull(payee, "payee cannot be null");
+        ValidationUtils.requirePositive(amount, "amount must be positive");
+        if (this.size == this.amounts.length) {
+            grow();
+        }
+        this.types[this.size] = (byte) type.ordinal();
+        this.payers[this.size] = payer;
+        this.payees[this.size] = payee;
+        this.amounts[this.size] = amount;
+        this.turns[this.size] = this.turn;
+        this.size++;
+        if (Transaction.BANK.equals(payer)) {
+            this.bankBalance -= amount;
+        }
+        if (Transaction.BANK.equals(payee)) {
+            this.bankBalance += amount;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int commit() {
+        final int batch = this.size - this.committed;
+        this.committed = this.size;
+        this.turn++;
+        return batch;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPendingCount() {
+        return this.size - this.committed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCommittedTurns() {
+        return this.turn;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Transaction> getTransactions() {
+        final int count = this.committed;
+        return new AbstractList<>() {
+            @Override
+            public Transaction get(final int index) {
+                Objects.checkIndex(index, count);
+                return new TransactionImpl(LedgerImpl.this.turns[index], TYPES[LedgerImpl.this.types[index]],
+                        LedgerImpl.this.payers[index], LedgerImpl.this.payees[index], LedgerImpl.this.amounts[index]);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getBankBalance() {
+        return this.bankBalance;
+    }
+
+    private void grow() {
+        final int capacity = this.amounts.length * 2;
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.payers = Arrays.copyOf(this.payers, capacity);
+        this.payees = Arrays.copyOf(this.payees, capacity);
+        this.amounts = Arrays.copyOf(this.amounts, capacity);
+        this.turns = Arrays.copyOf(this.turns, capacity);
+    }
+
+    /**
+     * Immutable view of a committed transaction.
+     */
+    private static final class TransactionImpl implements Transaction {
+
+        private final int turn;
+        private final TransactionType type;
+        private final String payer;
+        private final String payee;
+        private final int amount;
+
+        TransactionImpl(final int turn, final TransactionType type, final String payer, final String payee,
+                final int amount) {
+            this.turn = turn;
+            this.type = type;
+            this.payer = payer;
+            this.payee = payee;
+            this.amount = amount;
+        }
+
+        @Override
+        public int getTurn() {
+            return this.turn;
+        }
+
+        @Override
+        public TransactionType getType() {
+            return this.type;
+        }
+
+        @Override
+        public String getPayer() {
+            return this.payer;
+        }
+
+        @Override
+        public String getPayee() {
+            return this.payee;
+        }
+
+        @Override
+        public int getAmount() {
+            return this.amount;
+        }
+
+        @Override
+        public String toString() {
+            return "Transaction[turn=" + this.turn + ", type=" + this.type + ", payer=" + this.payer
+                    + ", payee=" + this.payee + ", amount=" + this.amount + "]";
+        }
+    }
+}
@@ -2,6 +2,7 @@ package it.unibo.javapoly.model.impl.property;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.Objects;
@@ -15,16 +16,24 @@ import it.unibo.javapoly.model.impl.card.AbstractPropertyCard;
  * Represents a property on the board, including its state and card information.
  * This class manages the property's ownership, rent calculation, and house construction.
  *
+ * <p>
+ * The card is shared by every match, while the owner and the houses are kept in a slot of a
+ * {@link PropertyStateTable}: the properties of a board share one table, a property created
+ * on its own gets a table with a single slot.
  */
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public final class PropertyImpl implements Property {
 
     private static final int IS_HOTEL = 5;
+    private static final int HOUSE_DEF = 0;
 
     private final String id;
     private final int position;
     private final AbstractPropertyCard card;
-    private final PropertyStateImpl state;
+    @JsonIgnore
+    private final PropertyStateTable states;
+    @JsonIgnore
+    private final int slot;
 
     /**
      * Create a property tile.
@@ -38,10 +47,7 @@ public final class PropertyImpl implements Property {
             @JsonProperty("id") final String id, 
             @JsonProperty("position") final int position, 
             @JsonProperty("card") final AbstractPropertyCard card) {
-        this.id = Objects.requireNonNull(id);
-        this.position = position;
-        this.card = Objects.requireNonNull(card);
-        this.state = new PropertyStateImpl(card.getPropertyCost());
+        this(id, position, card, new PropertyStateTable(1));
     }
 
     /**
@@ -50,14 +56,34 @@ public final class PropertyImpl implements Property {
      * @param property instance from which to create a copy
      */
     public PropertyImpl(final Property property) {
-        this(property.getId(), property.getPosition(), property.getCard());
+        this(property, new PropertyStateTable(1));
+    }
+
+    /**
+     * Constructor to create a copy of a passed instance, keeping its state in a slot of the given table.
+     *
+     * @param property instance from which to create a copy
+     * @param states the table holding the state of the copy, with a free slot
+     * @throws IllegalStateException if the table has no free slot
+     */
+    public PropertyImpl(final Property property, final PropertyStateTable states) {
+        this(property.getId(), property.getPosition(), property.getCard(), states);
 
         if (!property.isOwnedByPlayer()) {
             return;
         }
 
-        this.state.setNewOwnerID(property.getState().getOwnerId());
-        this.state.setHouse(property.getState().getHouses());
+        this.states.setOwnerId(this.slot, property.getState().getOwnerId());
+        this.states.setHouses(this.slot, property.getState().getHouses());
+    }
+
+    private PropertyImpl(final String id, final int position, final AbstractPropertyCard card,
+            final PropertyStateTable states) {
+        this.id = Objects.requireNonNull(id);
+        this.position = position;
+        this.card = Objects.requireNonNull(card);
+        this.states = Objects.requireNonNull(states);
+        this.slot = states.allocate();
     }
 
     //#region Getter
@@ -86,8 +112,20 @@ public final class PropertyImpl implements Property {
      * @return the state of the property
      */
     @Override
+    @JsonProperty("state")
     public PropertyState getState() {
-        return new PropertyStateImpl(this.state);
+        return new PropertyStateImpl(getPurchasePrice(), getIdOwner(), getBuiltHouses());
+    }
+
+    /**
+     * Restores the state of a property read from a save.
+     *
+     * @param state the saved state
+     */
+    @JsonProperty("state")
+    private void setState(final PropertyStateImpl state) {
+        this.states.setOwnerId(this.slot, state.getOwnerId());
+        this.states.setHouses(this.slot, Math.min(state.getHouses(), IS_HOTEL));
     }
 
     /**
@@ -109,12 +147,23 @@ public final class PropertyImpl implements Property {
         return 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRent(final int ownedInGroup, final boolean monopoly, final int diceTotal) {
+        if (this.card != null) {
+            return this.card.rentFor(getBuiltHouses(), ownedInGroup, monopoly, diceTotal);
+        }
+        return 0;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public int getPurchasePrice() {
-        return this.state.getPurchasePrice();
+        return this.card.getPropertyCost();
     }
 
     /**
@@ -130,7 +179,7 @@ public final class PropertyImpl implements Property {
      */
     @Override
     public String getIdOwner() {
-        return this.state.getOwnerId();
+        return this.states.getOwnerId(this.slot);
     }
 
     /**
@@ -138,7 +187,7 @@ public final class PropertyImpl implements Property {
      */
     @Override
     public int getBuiltHouses() {
-        return this.state.getHouses();
+        return this.states.getHouses(this.slot);
     }
 
     //#endregion
@@ -148,7 +197,7 @@ public final class PropertyImpl implements Property {
      */
     @Override
     public boolean isOwnedByPlayer() {
-        return !this.state.bankIsTheOwner();
+        return !this.states.isOwnedByBank(this.slot);
     }
 
     /**
@@ -170,7 +219,11 @@ public final class PropertyImpl implements Property {
             throw new IllegalStateException("player is not the owner");
         }
 
-        return this.state.addHouse();
+        if (getBuiltHouses() < IS_HOTEL) {
+            this.states.setHouses(this.slot, getBuiltHouses() + 1);
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -188,7 +241,11 @@ public final class PropertyImpl implements Property {
             throw new IllegalStateException("player is not the owner");
         }
 
-        return this.state.removeHouse();
+        if (getBuiltHouses() > HOUSE_DEF) {
+            this.states.setHouses(this.slot, getBuiltHouses() - 1);
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -200,7 +257,7 @@ public final class PropertyImpl implements Property {
             return false;
         }
 
-        this.state.setNewOwnerID(Objects.requireNonNull(buyerID));
+        this.states.setOwnerId(this.slot, Objects.requireNonNull(buyerID));
         return true;
     }
 
@@ -209,7 +266,8 @@ public final class PropertyImpl implements Property {
      */
     @Override
     public void clearOwner() {
-        this.state.bankIsNewOwnerID();
+        this.states.setOwnerId(this.slot, PropertyStateTable.BANK_OWN);
+        this.states.setHouses(this.slot, HOUSE_DEF);
     }
 
     /**
@@ -217,7 +275,7 @@ public final class PropertyImpl implements Property {
      */
     @Override
     public boolean playerIsTheOwner(final String playerID) {
-        return this.state.getOwnerId().equals(playerID);
+        return getIdOwner().equals(playerID);
     }
 
     /**
@@ -64,6 +64,19 @@ public final class PropertyStateImpl implements PropertyState {
         this.houses = state.getHouses();
     }
 
+    /**
+     * Constructor to create a snapshot of the state of a property.
+     *
+     * @param purchasePrice the purchase price taken from the card
+     * @param ownerID the owner's ID
+     * @param houses the number of houses
+     */
+    PropertyStateImpl(final int purchasePrice, final String ownerID, final int houses) {
+        this.purchasePrice = purchasePrice;
+        this.ownerID = Objects.requireNonNull(ownerID);
+        this.houses = houses;
+    }
+
     /**
      * Get the ID of the owner of the property.
      *
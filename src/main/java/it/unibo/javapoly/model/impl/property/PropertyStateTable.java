@@ -0,0 +1,135 @@
+package it.unibo.javapoly.model.impl.property;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compact mutable state of the properties of a match.
+ *
+ * <p>
+ * The data of a property that never changes (name, prices, rents, group) lives in its
+ * {@link it.unibo.javapoly.model.impl.card.AbstractPropertyCard}, shared by every match;
+ * the owner and the houses of each property are kept here, in one slot of two byte arrays.
+ * The owner is stored as the index of its id in a small table of the owners met so far,
+ * 0 standing for the bank. A {@link PropertyImpl} refers to its slot, so a board shares a
+ * single table between all of its properties.
+ */
+public final class PropertyStateTable {
+
+    /**
+     * The identifier representing the bank as the owner of a property.
+     */
+    static final String BANK_OWN = "BANK";
+
+    private static final int BANK_INDEX = 0;
+    private static final int MAX_OWNERS = Byte.MAX_VALUE;
+    private static final String[] NO_OWNERS = new String[0];
+
+    private final byte[] owners;
+    private final byte[] houses;
+    private String[] ownerIds = NO_OWNERS;
+    private int slots;
+
+    /**
+     * Creates a table for the given number of properties, all owned by the bank.
+     *
+     * @param capacity the number of properties.
+     */
+    public PropertyStateTable(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity cannot be negative");
+        }
+        this.owners = new byte[capacity];
+        this.houses = new byte[capacity];
+    }
+
+    /**
+     * Returns the number of properties the table can hold.
+     *
+     * @return the capacity of the table.
+     */
+    public int capacity() {
+        return this.owners.length;
+    }
+
+    /**
+     * Reserves the slot of a new property.
+     *
+     * @return the index of the slot.
+     * @throws IllegalStateException if every slot is already taken.
+     */
+    int allocate() {
+        if (this.slots == this.owners.length) {
+            throw new IllegalStateException("The table is full");
+        }
+        return this.slots++;
+    }
+
+    /**
+     * Returns the owner of a property.
+     *
+     * @param slot the slot of the property.
+     * @return the id of the owner, {@value #BANK_OWN} for the bank.
+     */
+    String getOwnerId(final int slot) {
+        final int index = this.owners[slot];
+        return index == BANK_INDEX ? BANK_OWN : this.ownerIds[index - 1];
+    }
+
+    /**
+     * Checks if a property is owned by the bank.
+     *
+     * @param slot the slot of the property.
+     * @return true if the bank owns the property.
+     */
+    boolean isOwnedByBank(final int slot) {
+        return this.owners[slot] == BANK_INDEX;
+    }
+
+    /**
+     * Sets the owner of a property.
+     *
+     * @param slot the slot of the property.
+     * @param ownerId the id of the owner, {@value #BANK_OWN} for the bank.
+     */
+    void setOwnerId(final int slot, final String ownerId) {
+        this.owners[slot] = (byte) indexOf(Objects.requireNonNull(ownerId));
+    }
+
+    /**
+     * Returns the houses built on a property.
+     *
+     * @param slot the slot of the property.
+     * @return the number of houses, 5 for a hotel.
+     */
+    int getHouses(final int slot) {
+        return this.houses[slot];
+    }
+
+    /**
+     * Sets the houses built on a property.
+     *
+     * @param slot the slot of the property.
+     * @param count the number of houses, already validated by the caller.
+     */
+    void setHouses(final int slot, final int count) {
+        this.houses[slot] = (byte) count;
+    }
+
+    private int indexOf(final String ownerId) {
+        if (BANK_OWN.equals(ownerId)) {
+            return BANK_INDEX;
+        }
+        for (int i = 0; i < this.ownerIds.length; i++) {
+            if (this.ownerIds[i].equals(ownerId)) {
+                return i + 1;
+            }
+        }
+        if (this.ownerIds.length == MAX_OWNERS) {
+            throw new IllegalStateException("Too many owners for a single table");
+        }
+        this.ownerIds = Arrays.copyOf(this.ownerIds, this.ownerIds.length + 1);
+        this.ownerIds[this.ownerIds.length - 1] = ownerId;
+        return this.ownerIds.length;
+    }
+}
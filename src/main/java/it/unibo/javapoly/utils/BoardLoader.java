@@ -6,9 +6,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
 import it.unibo.javapoly.model.api.board.Tile;
 import it.unibo.javapoly.model.api.property.Property;
@@ -31,18 +31,16 @@ public final class BoardLoader {
      * @throws IOException if an I/O error occurs during file reading or parsing
      */
     public static BoardImpl loadBoardFromJson(final InputStream jsonFilePath) throws IOException {
-        final ObjectMapper mapper = JsonUtils.getInstance().mapper();
-        final JsonNode root = mapper.readTree(jsonFilePath);
-        final JsonNode tilesNode = root.get("tiles");
-        if (tilesNode == null || !tilesNode.isArray()) {
+        final List<Tile> tiles;
+        try {
+            tiles = JsonUtils.getInstance().boardReader().readValue(jsonFilePath);
+        } catch (final MismatchedInputException e) {
+            throw new IllegalStateException("Formato JSON non valido: manca l'array 'tiles'", e);
+        }
+        if (tiles == null) {
             throw new IllegalStateException("Formato JSON non valido: manca l'array 'tiles'");
         }
 
-        final List<Tile> tiles = mapper.convertValue(
-            tilesNode,
-            new TypeReference<>() { }
-        );
-
         return new BoardImpl(tiles);
     }
 
@@ -56,9 +54,9 @@ public final class BoardLoader {
      * @throws IOException if an I/O error occurs during file reading or parsing
      */
     public static Map<String, Property> loadPropertiesFromJson(final InputStream jsonFilePath) throws IOException {
-        final ObjectMapper mapper = JsonUtils.getInstance().mapper();
+        final ObjectReader reader = JsonUtils.getInstance().propertyReader();
 
-        final JsonNode root = mapper.readTree(jsonFilePath);
+        final JsonNode root = reader.readTree(jsonFilePath);
         final JsonNode tilesNode = root.path("tiles");
         if (!tilesNode.isArray()) {
             throw new IllegalStateException("Formato JSON non valido: manca l'array 'tiles' in root");
@@ -69,7 +67,7 @@ public final class BoardLoader {
         for (final JsonNode tileNode : tilesNode) {
             final JsonNode propNode = tileNode.get("property");
             if (!(propNode == null || propNode.isNull())) {
-                final Property property = mapper.convertValue(propNode, new TypeReference<>() { });
+                final Property property = reader.readValue(propNode);
 
                 if (property == null) {
                     continue;
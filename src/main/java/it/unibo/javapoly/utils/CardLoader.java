@@ -1,8 +1,5 @@
 package it.unibo.javapoly.utils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import it.unibo.javapoly.model.impl.card.GameCardImpl;
 import it.unibo.javapoly.model.api.card.GameCard;
 
 import java.io.IOException;
@@ -11,7 +8,7 @@ import java.util.List;
 
 /**
  * CardLoader is a utility class that helps load and write GameCard objects from and to JSON files.
- * It uses Jackson's ObjectMapper for deserialization and serialization of cards.
+ * It uses the shared Jackson reader of {@link JsonUtils} for deserialization of cards.
  */
 public final class CardLoader {
 
@@ -30,9 +27,7 @@ public final class CardLoader {
      * @throws IOException If there is an error reading from the file.
      */
     public static List<GameCard> loadCardsFromFile(final InputStream filePath) throws IOException {
-        final ObjectMapper mapper = JsonUtils.getInstance().mapper();
-        return mapper.readValue(filePath, 
-            mapper.getTypeFactory().constructCollectionType(List.class, GameCardImpl.class));
+        return JsonUtils.getInstance().cardsReader().readValue(filePath);
     }
 
 }
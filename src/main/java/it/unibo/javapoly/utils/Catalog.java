@@ -0,0 +1,114 @@
+package it.unibo.javapoly.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.impl.board.BoardImpl;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.model.impl.property.PropertyStateTable;
+
+/**
+ * The definitions of the game, read from the resources once per JVM.
+ *
+ * <p>
+ * The board and the unexpected cards are parsed the first time the catalog is used and
+ * then shared by every match. Tiles, cards and the lookup tables of the board never change
+ * during a match, so they are shared as they are; only properties have a state, so every
+ * new board gets its own property tiles, each with a property referring to the shared
+ * property card and keeping its owner and houses in a {@link PropertyStateTable} shared
+ * by the whole board. This class is thread-safe.
+ */
+public final class Catalog {
+
+    /**
+     * Resource holding the tiles of the board.
+     */
+    public static final String BOARD_PATH = "/Card/BoardTiles.json";
+
+    /**
+     * Resource holding the unexpected cards.
+     */
+    public static final String CARDS_PATH = "/Card/UnexpectedCards.json";
+
+    private final BoardImpl layout;
+    private final int propertyCount;
+    private final List<GameCard> cards;
+
+    private Catalog() {
+        this.layout = load(BOARD_PATH, BoardLoader::loadBoardFromJson);
+        int count = 0;
+        for (int i = 0; i < this.layout.size(); i++) {
+            if (this.layout.getTileAt(i) instanceof PropertyTile) {
+                count++;
+            }
+        }
+        this.propertyCount = count;
+        this.cards = List.copyOf(load(CARDS_PATH, CardLoader::loadCardsFromFile));
+    }
+
+    /**
+     * Creates a board for a new match: every property is owned by the bank and has no houses.
+     *
+     * @return a new board.
+     */
+    public BoardImpl newBoard() {
+        final PropertyStateTable states = new PropertyStateTable(this.propertyCount);
+        final List<Tile> tiles = new ArrayList<>(this.layout.size());
+        for (int i = 0; i < this.layout.size(); i++) {
+            final Tile tile = this.layout.getTileAt(i);
+            tiles.add(tile instanceof PropertyTile property ? new PropertyTile(property, states) : tile);
+        }
+        return new BoardImpl(this.layout, tiles);
+    }
+
+    /**
+     * Returns the unexpected cards, shared by every deck.
+     *
+     * @return the unmodifiable list of the cards.
+     */
+    public List<GameCard> getCards() {
+        return this.cards;
+    }
+
+    private static <T> T load(final String path, final Parser<T> parser) {
+        try (InputStream is = Catalog.class.getResourceAsStream(path)) {
+            if (is == null) {
+                throw new IllegalStateException("Missing resource: " + path);
+            }
+            return parser.parse(is);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot read " + path, e);
+        }
+    }
+
+    /**
+     * This method return the only istance of this class, loading it the first time.
+     *
+     * @return the only one existing istance.
+     */
+    public static Catalog getInstance() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    /**
+     * Reads the content of a resource.
+     *
+     * @param <T> the type of the content.
+     */
+    @FunctionalInterface
+    private interface Parser<T> {
+        T parse(InputStream is) throws IOException;
+    }
+
+    /**
+     * Static class containing the single Catalog instance.
+     */
+    private static final class SingletonHelper {
+        private static final Catalog INSTANCE = new Catalog();
+    }
+}
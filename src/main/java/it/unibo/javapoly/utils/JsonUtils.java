@@ -1,10 +1,21 @@
 package it.unibo.javapoly.utils;
 
+import java.util.List;
+
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import it.unibo.javapoly.controller.impl.GameEngineImpl;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.card.GameCardImpl;
 
 /**
  * Utility class that provides a pre-configured {@link ObjectMapper} for JSON
@@ -12,14 +23,36 @@ import com.fasterxml.jackson.annotation.JsonInclude;
  *
  * <p>
  * The mapper is configured with consistent options (indentation, root wrapping,
- * date handling, ...). Callers receive a copy of the shared configuration
- * through {@link #mapper()} to avoid accidental cross-thread/state mutation.
+ * date handling, ...) and created once per JVM, together with the
+ * {@link ObjectReader}s and {@link ObjectWriter}s of each use case: board, cards
+ * and saves. Readers and writers are immutable and thread-safe, and share the caches
+ * of the mapper, so the classes of the game are introspected only once; the readers
+ * of the board and of the cards resolve their deserializers, and the writer of the saves
+ * the serializer of the {@link GameEngineImpl}, as soon as they are built.
+ * Callers needing a different configuration can still get a copy through {@link #mapper()}.
  */
 public final class JsonUtils {
     private final ObjectMapper mapper;
+    private final ObjectWriter writer;
+    private final ObjectWriter saveWriter;
+    private final ObjectReader boardReader;
+    private final ObjectReader propertyReader;
+    private final ObjectReader cardsReader;
+    private final ObjectReader saveReader;
 
     private JsonUtils() {
         this.mapper = create();
+        this.writer = this.mapper.writer();
+        this.saveWriter = this.mapper.writerFor(GameEngineImpl.class);
+        this.boardReader = this.mapper.readerFor(new TypeReference<List<Tile>>() { }).at("/tiles");
+        this.propertyReader = this.mapper.readerFor(Property.class);
+        this.cardsReader = this.mapper.readerFor(
+                this.mapper.getTypeFactory().constructCollectionType(List.class, GameCardImpl.class));
+        // Saves are read with every field visible, so this copy is made once, here.
+        this.saveReader = this.mapper.copy()
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .reader()
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
     }
 
     /**
@@ -43,6 +76,8 @@ public final class JsonUtils {
 
     /**
      * Returns a copy of the pre-configured {@link ObjectMapper}.
+     * Copying the mapper also drops its caches: use the shared readers and writers
+     * of this class unless a different configuration is really needed.
      *
      * @return a copy of the configured ObjectMapper to be used for (de)serialization.
      */
@@ -50,6 +85,64 @@ public final class JsonUtils {
         return mapper.copy();
     }
 
+    /**
+     * Returns the shared writer, producing indented JSON wrapped in the root name of the value.
+     * It has no target type: its serializers are resolved on the first value of each class,
+     * as for the textual form of the cards.
+     *
+     * @return the shared writer.
+     */
+    public ObjectWriter writer() {
+        return this.writer;
+    }
+
+    /**
+     * Returns the shared writer of the saves, configured as {@link #writer()} and bound to
+     * {@link GameEngineImpl}, whose serializer is already resolved.
+     *
+     * @return the writer of the saves.
+     */
+    public ObjectWriter saveWriter() {
+        return this.saveWriter;
+    }
+
+    /**
+     * Returns the shared reader of the tiles of a board file, read from its 'tiles' array.
+     *
+     * @return the reader of the list of tiles.
+     */
+    public ObjectReader boardReader() {
+        return this.boardReader;
+    }
+
+    /**
+     * Returns the shared reader of a single property of a board file.
+     *
+     * @return the reader of a property.
+     */
+    public ObjectReader propertyReader() {
+        return this.propertyReader;
+    }
+
+    /**
+     * Returns the shared reader of a cards file.
+     *
+     * @return the reader of the list of cards.
+     */
+    public ObjectReader cardsReader() {
+        return this.cardsReader;
+    }
+
+    /**
+     * Returns the shared reader of the saves, which ignores unknown properties.
+     * It has no target type: callers choose it with {@link ObjectReader#forType(Class)}.
+     *
+     * @return the reader of the saves.
+     */
+    public ObjectReader saveReader() {
+        return this.saveReader;
+    }
+
     /**
      * This method return the only istance of this class.
      *
@@ -1,16 +1,21 @@
 package it.unibo.javapoly.utils;
 
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.PropertyAccessor;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import it.unibo.javapoly.controller.impl.BinarySaveFormat;
+import it.unibo.javapoly.controller.impl.GameEngineImpl;
 import it.unibo.javapoly.controller.impl.MatchControllerImpl;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 
 /**
  * Utility class for serializing and deserializing MatchControllerImpl instances to and from JSON files.
+ * The same save can also be loaded as a headless {@link GameEngineImpl}, without creating any view.
+ * Files with the {@value BinarySaveFormat#EXTENSION} extension are read with {@link BinarySaveFormat}.
+ * JSON files are read as a stream: only the match under the root field is bound, with no intermediate tree.
  */
 public final class MatchControllerDeserializer {
     private MatchControllerDeserializer() {
@@ -24,14 +29,52 @@ public final class MatchControllerDeserializer {
      * @throws IOException if an error occurs during deserialization or file reading.
      */
     public static MatchControllerImpl deserialize(final File file) throws IOException {
-        final ObjectMapper mapper = JsonUtils.getInstance().mapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
-        final JsonNode root = mapper.readTree(file);
-        final JsonNode matchNode = root.get("MatchControllerImpl");
-        if (matchNode == null) {
-            throw new IllegalArgumentException("Invalid JSON: missing 'MatchControllerImpl' field");
+        if (BinarySaveFormat.isBinarySave(file.getName())) {
+            return new MatchControllerImpl(deserializeEngine(file));
         }
-        return mapper.treeToValue(matchNode, MatchControllerImpl.class);
+        return deserialize(file, MatchControllerImpl.class);
+    }
+
+    /**
+     * Deserializes a headless GameEngineImpl from the given JSON file.
+     *
+     * @param file the JSON file containing the serialized match.
+     * @return the deserialized GameEngineImpl instance.
+     * @throws IOException if an error occurs during deserialization or file reading.
+     */
+    public static GameEngineImpl deserializeEngine(final File file) throws IOException {
+        if (BinarySaveFormat.isBinarySave(file.getName())) {
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                return BinarySaveFormat.read(in);
+            }
+        }
+        return deserialize(file, GameEngineImpl.class);
+    }
+
+    /**
+     * Reads the match stored under the 'MatchControllerImpl' root field of the given file.
+     *
+     * @param <T> the type of the deserialized match.
+     * @param file the JSON file containing the serialized match.
+     * @param type the class of the deserialized match.
+     * @return the deserialized match.
+     * @throws IOException if an error occurs during deserialization or file reading.
+     */
+    private static <T> T deserialize(final File file, final Class<T> type) throws IOException {
+        final ObjectReader reader = JsonUtils.getInstance().saveReader().forType(type);
+        try (JsonParser parser = reader.createParser(file)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Invalid JSON: the save is not an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final boolean match = "MatchControllerImpl".equals(parser.currentName());
+                parser.nextToken();
+                if (match) {
+                    return reader.readValue(parser);
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new IllegalArgumentException("Invalid JSON: missing 'MatchControllerImpl' field");
     }
 }
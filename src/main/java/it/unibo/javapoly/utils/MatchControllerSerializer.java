@@ -0,0 +1,166 @@
+package it.unibo.javapoly.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.impl.BinarySaveFormat;
+import it.unibo.javapoly.controller.impl.GameEngineImpl;
+
+/**
+ * Utility class for saving a match to a file without blocking the thread that plays it.
+ *
+ * <p>
+ * A save has two steps. First a snapshot is taken on the game thread: {@link #snapshot(Object)}
+ * records the match as a detached sequence of JSON tokens, {@link BinarySaveFormat#toBytes(GameEngine)}
+ * encodes it in the compact binary format; later moves of the game cannot change either of them.
+ * Then {@link #write(TokenBuffer, Path)} or {@link #write(byte[], Path)} writes the snapshot on a
+ * background thread into a temporary file next to the target, forces it to the device and moves it
+ * over the target in one step, so the previous save stays intact until the new one is complete.
+ * Saves are written one at a time, in the order they were requested. The files are read back by
+ * {@link MatchControllerDeserializer}.
+ */
+public final class MatchControllerSerializer {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private MatchControllerSerializer() {
+    }
+
+    /**
+     * Takes a snapshot of the match and writes it to the given file in background.
+     * Files with the {@value BinarySaveFormat#EXTENSION} extension are written in the
+     * binary format, any other file in JSON.
+     * Must be called on the thread playing the match.
+     *
+     * @param engine the match to save.
+     * @param file the save file.
+     * @return a future completed with the save file once it has been replaced.
+     * @throws IOException if the match cannot be serialized.
+     */
+    public static CompletableFuture<Path> saveAsync(final GameEngine engine, final Path file) throws IOException {
+        if (BinarySaveFormat.isBinarySave(file.getFileName().toString())) {
+            return write(BinarySaveFormat.toBytes(engine), file);
+        }
+        return write(snapshot(engine), file);
+    }
+
+    /**
+     * Records the current state of the match as JSON tokens, wrapped in its root name.
+     * Must be called on the thread playing the match.
+     *
+     * @param match the match to save.
+     * @return the tokens of the match, independent of any later change to it.
+     * @throws IOException if the match cannot be serialized.
+     */
+    public static TokenBuffer snapshot(final Object match) throws IOException {
+        final TokenBuffer tokens = new TokenBuffer((ObjectCodec) null, false);
+        final ObjectWriter writer = Objects.requireNonNull(match) instanceof GameEngineImpl
+                ? JsonUtils.getInstance().saveWriter()
+                : JsonUtils.getInstance().writer();
+        writer.writeValue(tokens, match);
+        return tokens;
+    }
+
+    /**
+     * Writes a snapshot to the given file on the background save thread.
+     *
+     * @param snapshot the snapshot taken by {@link #snapshot(Object)}.
+     * @param file the save file.
+     * @return a future completed with the save file once it has been replaced,
+     *         or exceptionally if it could not be written.
+     */
+    public static CompletableFuture<Path> write(final TokenBuffer snapshot, final Path file) {
+        Objects.requireNonNull(snapshot);
+        return submit(file, out -> {
+            try (JsonGenerator generator = JsonUtils.getInstance().writer().createGenerator(out)) {
+                // The channel is still needed to force the file once the generator is closed.
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                snapshot.serialize(generator);
+            }
+        });
+    }
+
+    /**
+     * Writes a binary snapshot to the given file on the background save thread.
+     *
+     * @param snapshot the snapshot taken by {@link BinarySaveFormat#toBytes(GameEngine)}.
+     * @param file the save file.
+     * @return a future completed with the save file once it has been replaced,
+     *         or exceptionally if it could not be written.
+     */
+    public static CompletableFuture<Path> write(final byte[] snapshot, final Path file) {
+        final byte[] bytes = snapshot.clone();
+        return submit(file, out -> out.write(bytes));
+    }
+
+    private static CompletableFuture<Path> submit(final Path file, final SnapshotWriter writer) {
+        final Path target = Objects.requireNonNull(file).toAbsolutePath();
+        final CompletableFuture<Path> result = new CompletableFuture<>();
+        ExecutorHolder.EXECUTOR.execute(() -> {
+            try {
+                writeAtomically(writer, target);
+                result.complete(target);
+            } catch (final IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private static void writeAtomically(final SnapshotWriter writer, final Path target) throws IOException {
+        final Path temp = Files.createTempFile(target.getParent(), target.getFileName() + "-", TEMP_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                final OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes a snapshot to the stream of a temporary file.
+     */
+    @FunctionalInterface
+    private interface SnapshotWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Static class holding the save thread, created with the first save.
+     * The thread is a daemon, so a pending save never keeps the application alive.
+     */
+    private static final class ExecutorHolder {
+        private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+            final Thread thread = new Thread(task, "javapoly-save");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
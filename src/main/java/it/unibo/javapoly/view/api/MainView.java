@@ -1,5 +1,6 @@
 package it.unibo.javapoly.view.api;
 
+import it.unibo.javapoly.controller.api.LogCategory;
 import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
 
@@ -21,12 +22,19 @@ public interface MainView {
      */
     void refreshAll();
 
+    /**
+     * Requests a refresh of all UI components, coalescing the requests received
+     * before the next frame is drawn.
+     */
+    void requestRefresh();
+
     /**
      * Adds a new message to the log area.
      *
      * @param msg the message to append.
+     * @param category the category of the message, which decides how it is shown.
      */
-    void addLog(String msg);
+    void addLog(String msg, LogCategory category);
 
     /**
      * Shows the liquidation view and disables game controls.
@@ -1,6 +1,8 @@
 package it.unibo.javapoly.view.impl;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.List;
 import java.util.Objects;
@@ -33,6 +35,11 @@ import javafx.scene.text.TextAlignment;
 
 /**
  * BoardPanel handles the visual representation of the board.
+ *
+ * <p>
+ * The tiles are built once and kept in the scene graph: every {@link #update()} only
+ * touches the tiles whose owner, number of houses or tokens changed since the previous
+ * refresh, and the token of each player is moved between tiles instead of being recreated.
  */
 public final class BoardPanelImpl implements BoardPanel {
 
@@ -43,13 +50,20 @@ public final class BoardPanelImpl implements BoardPanel {
     private static final double SHADOW_RADIUS = 5.0;
     private static final double SHADOW_OPACITY = 0.4;
     private static final int FALLBACK_CIRCLE_RADIUS = 12;
+    private static final int HOUSE_RADIUS = 4;
     private static final int POSITION_THRESHOLD_10 = 10;
     private static final int POSITION_THRESHOLD_20 = 20;
     private static final int POSITION_THRESHOLD_30 = 30;
+    private static final int NOT_RENDERED = -1;
+    private static final String TILE_STYLE = "-fx-border-color: black; -fx-background-color: white;";
 
     private final GridPane root;
     private final Board board;
     private final List<Player> players;
+    private final TileView[] tiles;
+    private final Node[] tokens;
+    private final int[] renderedPositions;
+    private final boolean[] dirtyTokenLayers;
 
     /**
      * Constructor for BoardPanel.
@@ -63,7 +77,13 @@ public final class BoardPanelImpl implements BoardPanel {
         this.root = new GridPane();
         this.root.setStyle("-fx-background-color: #CDE6D0; -fx-padding: 5; -fx-border-color: black;");
         this.root.setAlignment(Pos.CENTER);
-        this.renderBoard();
+        this.tiles = new TileView[this.board.size()];
+        this.tokens = new Node[this.players.size()];
+        this.renderedPositions = new int[this.players.size()];
+        this.dirtyTokenLayers = new boolean[this.board.size()];
+        Arrays.fill(this.renderedPositions, NOT_RENDERED);
+        this.buildBoard();
+        this.update();
     }
 
     private String getColorForOwner(final String ownerId) {
@@ -72,18 +92,20 @@ public final class BoardPanelImpl implements BoardPanel {
         return colors[hash % colors.length];
     }
 
-    private StackPane createTileUI(final Tile tile, final int index) {
+    private TileView createTileUI(final Tile tile) {
         final StackPane container = new StackPane();
         final VBox tileDesign = new VBox();
-        tileDesign.setStyle("-fx-border-color: black; -fx-background-color: white;");
+        tileDesign.setStyle(TILE_STYLE);
         tileDesign.setAlignment(Pos.TOP_CENTER);
 
+        Property property = null;
+        HBox houseContainer = null;
         if (tile instanceof PropertyTile pt) {
-            final Property prop = pt.getProperty();
+            property = pt.getProperty();
             String groupColor = "grey";
-            if (pt.getProperty().getCard() instanceof LandPropertyCard lpc) {
+            if (property.getCard() instanceof LandPropertyCard lpc) {
                 groupColor = lpc.getGroup().toString().toLowerCase(Locale.ROOT);
-            } else if (pt.getProperty().getCard() instanceof StationPropertyCard) {
+            } else if (property.getCard() instanceof StationPropertyCard) {
                 groupColor = "black";
             }
 
@@ -92,20 +114,9 @@ public final class BoardPanelImpl implements BoardPanel {
             groupBar.setStyle("-fx-background-color: " + groupColor + "; -fx-border-color: black; -fx-border-width: 0 0 1 0;");
             tileDesign.getChildren().add(groupBar);
 
-            if (prop.getIdOwner() != null) {
-                tileDesign.setStyle("-fx-border-color: " + getColorForOwner(prop.getIdOwner()) 
-                + "; -fx-border-width: 3; -fx-background-color: white;");
-            }
-
-            final HBox houseContainer = new HBox(2);
+            houseContainer = new HBox(2);
             houseContainer.setAlignment(Pos.CENTER);
             houseContainer.setPrefHeight(TILE_BAR_HEIGHT);
-
-            final int houseCount = prop.getBuiltHouses();
-            for (int i = 0; i < houseCount; i++) {
-                final Circle house = new Circle(4, Color.GREEN);
-                houseContainer.getChildren().add(house);
-            }
             tileDesign.getChildren().add(houseContainer);
         }
         if (tile != null) {
@@ -119,32 +130,13 @@ public final class BoardPanelImpl implements BoardPanel {
         final FlowPane tokenLayer = new FlowPane();
         tokenLayer.setAlignment(Pos.CENTER);
         tokenLayer.setPickOnBounds(false);
-        for (final Player p : players) {
-            if (p.getCurrentPosition() == index) {
-                tokenLayer.getChildren().add(createToken(p));
-            }
-        }
         container.getChildren().addAll(tileDesign, tokenLayer);
-        return container;
+        container.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        return new TileView(container, tileDesign, houseContainer, tokenLayer, property);
     }
 
     private Node createToken(final Player p) {
-        Image img = null;
-
-        if (p.getTokenType() == TokenType.CUSTOM) {
-            final String path = p.getCustomTokenPath();
-            if (path != null && !path.isBlank()) {
-                img = new Image(path);
-            }
-        }
-
-        if (img == null || img.isError()) {
-            final String imageName = p.getTokenType().toString().toUpperCase(Locale.ROOT) + ".png";
-            final var stream = BoardPanelImpl.class.getResourceAsStream("/images/tokens/" + imageName);
-            if (stream != null) {
-                img = new Image(stream);
-            }
-        }
+        final Image img = TokenImageCache.getInstance().getImage(p, TOKEN_SIZE).orElse(null);
 
         if (img != null) {
             final ImageView imageView = new ImageView(img);
@@ -194,11 +186,11 @@ public final class BoardPanelImpl implements BoardPanel {
         return i - POSITION_THRESHOLD_30;
     }
 
-    private void renderBoard() {
-        this.root.getChildren().clear();
-        this.root.getRowConstraints().clear();
-        this.root.getColumnConstraints().clear();
-
+    /**
+     * Builds the grid, the tiles and the tokens; called once, the nodes are then
+     * updated in place by {@link #update()}.
+     */
+    private void buildBoard() {
         for (int i = 0; i < GRID_SIZE; i++) {
             final ColumnConstraints col = new ColumnConstraints();
             col.setPercentWidth(CELL_PERCENT);
@@ -208,15 +200,52 @@ public final class BoardPanelImpl implements BoardPanel {
             this.root.getRowConstraints().add(row);
         }
 
-        final int size = board.size();
-        for (int i = 0; i < size; i++) {
-            final Tile tile = board.getTileAt(i);
-            final StackPane tileUI = createTileUI(tile, i);
-            tileUI.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
-            this.root.add(tileUI, calculateX(i), calculateY(i));
+        for (int i = 0; i < this.tiles.length; i++) {
+            this.tiles[i] = createTileUI(this.board.getTileAt(i));
+            this.root.add(this.tiles[i].container, calculateX(i), calculateY(i));
+        }
+        for (int i = 0; i < this.tokens.length; i++) {
+            this.tokens[i] = createToken(this.players.get(i));
         }
     }
 
+    /**
+     * Marks the token layers left and reached by every player that moved since the
+     * previous refresh.
+     */
+    private void markMovedTokens() {
+        for (int i = 0; i < this.tokens.length; i++) {
+            final int position = this.players.get(i).getCurrentPosition();
+            if (position != this.renderedPositions[i]) {
+                markTokenLayer(this.renderedPositions[i]);
+                markTokenLayer(position);
+                this.renderedPositions[i] = position;
+            }
+        }
+    }
+
+    private void markTokenLayer(final int position) {
+        if (position >= 0 && position < this.dirtyTokenLayers.length) {
+            this.dirtyTokenLayers[position] = true;
+        }
+    }
+
+    /**
+     * Rebuilds the token layer of a tile with the tokens of the players standing on it,
+     * in the order of the players; a token still attached to another layer is moved.
+     *
+     * @param position the position of the tile.
+     */
+    private void renderTokenLayer(final int position) {
+        final List<Node> standing = new ArrayList<>(this.tokens.length);
+        for (int i = 0; i < this.tokens.length; i++) {
+            if (this.renderedPositions[i] == position) {
+                standing.add(this.tokens[i]);
+            }
+        }
+        this.tiles[position].tokenLayer.getChildren().setAll(standing);
+    }
+
     /**
      * Returns the visual root of the board.
      *
@@ -232,10 +261,70 @@ public final class BoardPanelImpl implements BoardPanel {
     }
 
     /**
-     * Updates the view based on current model state.
+     * Updates the view based on current model state, touching only the tiles
+     * whose state changed since the previous update.
      */
     @Override
     public void update() {
-        renderBoard();
+        for (final TileView tile : this.tiles) {
+            tile.refreshProperty();
+        }
+        markMovedTokens();
+        for (int i = 0; i < this.dirtyTokenLayers.length; i++) {
+            if (this.dirtyTokenLayers[i]) {
+                this.dirtyTokenLayers[i] = false;
+                renderTokenLayer(i);
+            }
+        }
+    }
+
+    /**
+     * The retained nodes of a tile, together with the property state they currently show.
+     */
+    private final class TileView {
+
+        private final StackPane container;
+        private final VBox tileDesign;
+        private final HBox houseContainer;
+        private final FlowPane tokenLayer;
+        private final Property property;
+        private String renderedOwner;
+        private int renderedHouses;
+
+        TileView(final StackPane container, final VBox tileDesign, final HBox houseContainer,
+                final FlowPane tokenLayer, final Property property) {
+            this.container = container;
+            this.tileDesign = tileDesign;
+            this.houseContainer = houseContainer;
+            this.tokenLayer = tokenLayer;
+            this.property = property;
+        }
+
+        /**
+         * Updates the owner border and the houses of the tile, if it is a property
+         * and they changed since the previous refresh.
+         */
+        void refreshProperty() {
+            if (this.property == null) {
+                return;
+            }
+            final String owner = this.property.getIdOwner();
+            if (!Objects.equals(owner, this.renderedOwner)) {
+                this.renderedOwner = owner;
+                this.tileDesign.setStyle(owner == null ? TILE_STYLE
+                        : "-fx-border-color: " + getColorForOwner(owner) + "; -fx-border-width: 3; -fx-background-color: white;");
+            }
+            final int houses = this.property.getBuiltHouses();
+            if (houses != this.renderedHouses) {
+                this.renderedHouses = houses;
+                final List<Node> built = this.houseContainer.getChildren();
+                while (built.size() > houses) {
+                    built.remove(built.size() - 1);
+                }
+                while (built.size() < houses) {
+                    built.add(new Circle(HOUSE_RADIUS, Color.GREEN));
+                }
+            }
+        }
     }
 }
@@ -9,11 +9,12 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import it.unibo.javapoly.model.impl.BankruptState;
-import it.unibo.javapoly.utils.JsonUtils;
+import it.unibo.javapoly.utils.MatchControllerSerializer;
 import it.unibo.javapoly.view.api.CommandPanel;
 import javafx.scene.control.Button;
 import javafx.scene.layout.HBox;
 import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.impl.BinarySaveFormat;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.board.Tile;
 import it.unibo.javapoly.model.api.property.Property;
@@ -172,17 +173,25 @@ public final class CommandPanelImpl implements CommandPanel {
     }
 
     /**
-     * Method to save the game state on javapoly_save.json file in user directory.
+     * Method to save the game state on javapoly_save.jpsave file in user directory,
+     * in the compact binary format.
+     * Only the snapshot of the match is taken on the JavaFX thread; the file is
+     * written in background and replaces the previous save only once complete.
      */
     @Override
     public void saveStateGame() {
+        final Logger logger = Logger.getLogger(getClass().getName());
         try {
             final String userHome = System.getProperty("user.home");
             final Path saveDir = Paths.get(userHome);
-            final Path saveFile = saveDir.resolve("javapoly_save.json");
-            JsonUtils.getInstance().mapper().writeValue(saveFile.toFile(), this.matchController);
+            final Path saveFile = saveDir.resolve("javapoly_save" + BinarySaveFormat.EXTENSION);
+            MatchControllerSerializer.saveAsync(this.matchController.getEngine(), saveFile).whenComplete((file, ex) -> {
+                if (ex != null) {
+                    logger.log(Level.SEVERE, "Failed to save game", ex);
+                }
+            });
         } catch (final IOException ex) {
-            Logger.getLogger(getClass().getName()).log(Level.SEVERE, "Failed to save game", ex);
+            logger.log(Level.SEVERE, "Failed to save game", ex);
         }
     }
 }
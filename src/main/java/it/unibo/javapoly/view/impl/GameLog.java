@@ -0,0 +1,247 @@
+package it.unibo.javapoly.view.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import it.unibo.javapoly.controller.api.LogCategory;
+import javafx.geometry.Insets;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * The log area of the main view.
+ *
+ * <p>
+ * Only the last {@value #CAPACITY} messages are kept in memory, in a {@link RingBufferList}
+ * shown by a {@link ListView}, which only creates the cells that are visible. Every
+ * message is also appended to a temporary history file, so that the whole match can still be
+ * exported with {@link #exportHistory(Path)} once the oldest messages have left the screen.
+ * The file is written by a background thread, which flushes it whenever it has no more
+ * messages to write, so the JavaFX thread never waits for the disk.
+ * {@link #close()} deletes the file; it is deleted anyway when the application exits.
+ */
+final class GameLog {
+
+    private static final int CAPACITY = 500;
+    private static final int FONT_SIZE_SMALL = 13;
+    private static final int FONT_SIZE_MEDIUM = 14;
+    private static final int INSET_VAL = 5;
+    private static final int INSET_SIDE_VAL = 10;
+    private static final String FONT_FAMILY = "Segoe UI";
+    private static final Logger LOGGER = Logger.getLogger(GameLog.class.getName());
+
+    private final RingBufferList<Entry> entries = new RingBufferList<>(CAPACITY);
+    private final ListView<Entry> view = new ListView<>(this.entries);
+    private final Map<LogCategory, Font> fonts = new EnumMap<>(LogCategory.class);
+    private final Map<LogCategory, Color> colors = new EnumMap<>(LogCategory.class);
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r, "javapoly-log");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger pending = new AtomicInteger();
+    private BufferedWriter history;
+    private Path historyFile;
+    private boolean failed;
+
+    /**
+     * Creates an empty log; the history file is created with the first message.
+     */
+    GameLog() {
+        for (final LogCategory category : LogCategory.values()) {
+            this.fonts.put(category, Font.font(FONT_FAMILY, FontWeight.NORMAL, FONT_SIZE_SMALL));
+            this.colors.put(category, Color.BLACK);
+        }
+        this.fonts.put(LogCategory.POSITIVE, Font.font(FONT_FAMILY, FontWeight.BOLD, FONT_SIZE_SMALL));
+        this.colors.put(LogCategory.POSITIVE, Color.DARKGREEN);
+        this.colors.put(LogCategory.NEGATIVE, Color.FIREBRICK);
+        this.fonts.put(LogCategory.TURN, Font.font(FONT_FAMILY, FontWeight.BOLD, FONT_SIZE_MEDIUM));
+        this.colors.put(LogCategory.TURN, Color.CORNFLOWERBLUE);
+        this.view.setCellFactory(v -> new EntryCell());
+    }
+
+    /**
+     * Returns the node showing the log.
+     *
+     * @return the list view of the log.
+     */
+    ListView<Entry> getView() {
+        return this.view;
+    }
+
+    /**
+     * Appends a message, scrolls to it and hands it to the writer of the history file.
+     * Must be called on the JavaFX thread.
+     *
+     * @param message the message.
+     * @param category the category of the message.
+     */
+    void add(final String message, final LogCategory category) {
+        final Entry entry = new Entry(Objects.requireNonNull(message), Objects.requireNonNull(category));
+        this.entries.add(entry);
+        this.view.scrollTo(this.entries.size() - 1);
+        writeHistory(entry);
+    }
+
+    /**
+     * Removes the messages from the screen; the history file is kept.
+     */
+    void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Copies every message of the session to the given file, once the messages already logged
+     * are written. The copy is made by the writer thread, so the caller does not wait for the disk.
+     *
+     * @param target the file to write, as {@code [CATEGORY] message} lines; it is replaced if it exists.
+     * @return a future completed with the file once written, or exceptionally if it cannot be written
+     *     or the log is closed.
+     */
+    CompletableFuture<Path> exportHistory(final Path target) {
+        Objects.requireNonNull(target);
+        final CompletableFuture<Path> result = new CompletableFuture<>();
+        try {
+            this.writer.execute(() -> {
+                try {
+                    if (this.history == null) {
+                        Files.write(target, new byte[0]);
+                    } else {
+                        this.history.flush();
+                        Files.copy(this.historyFile, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    result.complete(target);
+                } catch (final IOException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            result.completeExceptionally(new IOException("The log is closed", e));
+        }
+        return result;
+    }
+
+    /**
+     * Writes the pending messages, then closes and deletes the history file and stops the writer.
+     * Further messages are only shown. Calling it again has no effect.
+     */
+    void close() {
+        if (this.writer.isShutdown()) {
+            return;
+        }
+        this.writer.execute(() -> {
+            try {
+                if (this.history != null) {
+                    this.history.close();
+                    Files.deleteIfExists(this.historyFile);
+                }
+            } catch (final IOException e) {
+                LOGGER.log(Level.WARNING, "The log history " + this.historyFile + " cannot be deleted", e);
+            }
+            this.history = null;
+            this.historyFile = null;
+        });
+        this.writer.shutdown();
+    }
+
+    private void writeHistory(final Entry entry) {
+        if (this.writer.isShutdown()) {
+            return;
+        }
+        this.pending.incrementAndGet();
+        this.writer.execute(() -> write("[" + entry.category + "] " + entry.message));
+    }
+
+    /**
+     * Appends a line to the history file, on the writer thread, and flushes the file
+     * when no other line is waiting.
+     *
+     * @param line the line.
+     */
+    private void write(final String line) {
+        final boolean last = this.pending.decrementAndGet() == 0;
+        if (this.failed) {
+            return;
+        }
+        try {
+            if (this.history == null) {
+                final Path file = Files.createTempFile("javapoly-log-", ".txt");
+                file.toFile().deleteOnExit();
+                this.history = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                this.historyFile = file;
+            }
+            this.history.write(line);
+            this.history.newLine();
+            if (last) {
+                this.history.flush();
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "The log history cannot be written, it is kept on screen only", e);
+            this.failed = true;
+        }
+    }
+
+    /**
+     * A message of the log with its category.
+     */
+    static final class Entry {
+
+        private final String message;
+        private final LogCategory category;
+
+        private Entry(final String message, final LogCategory category) {
+            this.message = message;
+            this.category = category;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return this.message;
+        }
+    }
+
+    /**
+     * Cell showing a message with the font and colour of its category.
+     */
+    private final class EntryCell extends ListCell<Entry> {
+
+        EntryCell() {
+            setWrapText(true);
+            // Lets the text wrap to the width of the list instead of widening the cell.
+            setPrefWidth(0);
+            setPadding(new Insets(INSET_VAL, INSET_SIDE_VAL, INSET_VAL, INSET_SIDE_VAL));
+        }
+
+        @Override
+        protected void updateItem(final Entry item, final boolean empty) {
+            super.updateItem(item, empty);
+            if (empty || item == null) {
+                setText(null);
+                return;
+            }
+            setText(item.message);
+            setFont(fonts.get(item.category));
+            setTextFill(colors.get(item.category));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package it.unibo.javapoly.view.impl;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.controller.api.GameEventType;
+import it.unibo.javapoly.controller.api.GameListener;
+import it.unibo.javapoly.controller.api.LogCategory;
+import javafx.application.Platform;
+
+/**
+ * Adapter that forwards the events of a match to the {@link MainViewImpl}.
+ * Every update is handed over to the JavaFX Platform thread; refreshes are
+ * coalesced so that the panels are redrawn at most once per frame.
+ * The typed events of the moves are turned here into the lines of the log.
+ */
+public final class GuiGameListener implements GameListener {
+
+    private static final String JAIL_FREE = "Hai usato una carta esci di prigione gratis.";
+
+    private final MainViewImpl gui;
+
+    /**
+     * Creates the listener for the given view.
+     *
+     * @param gui the main view to update.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The listener must update the live view"
+    )
+    public GuiGameListener(final MainViewImpl gui) {
+        this.gui = Objects.requireNonNull(gui);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onLog(final String message) {
+        onLog(message, LogCategory.NEUTRAL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onLog(final String message, final LogCategory category) {
+        this.gui.addLog(message, category);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The event is logged with the category of its type, unless it has no text of its own.
+     */
+    @Override
+    public void onEvent(final GameEventType type, final String subject, final String detail, final int amount) {
+        final String text = format(type, subject, detail, amount);
+        if (text != null) {
+            this.gui.addLog(text, type.getCategory());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRefresh() {
+        this.gui.requestRefresh();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onCardDrawn(final String title, final String description) {
+        updateGui(g -> g.showCard(title, description));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPlayerBankrupt(final String playerName) {
+        updateGui(g -> g.showBankruptAlert(playerName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameOver(final String winnerName) {
+        updateGui(g -> g.showWinner(winnerName));
+    }
+
+    /**
+     * Formats an event as the text shown in the log.
+     *
+     * @param type the type of the event.
+     * @param subject the tile, card or property the event is about, or null.
+     * @param detail additional text of the event, or null.
+     * @param amount the amount of money involved, or 0.
+     * @return the text of the event, or null if it is not shown.
+     */
+    static String format(final GameEventType type, final String subject, final String detail, final int amount) {
+        return switch (type) {
+            case TILE_LANDED -> {
+                final StringBuilder text = new StringBuilder(subject);
+                if (detail != null && !detail.isEmpty()) {
+                    text.append(System.lineSeparator()).append(detail);
+                }
+                if (amount > 0) {
+                    text.append(System.lineSeparator()).append("[Price: ").append(amount).append("€]");
+                }
+                yield text.toString();
+            }
+            case GO_BONUS -> "Siete passati dal via, ritirate " + amount;
+            case RENT_PAID -> "Questa non è la tua Proprietà, paga l'affitto";
+            case CARD_DRAWN -> subject;
+            case JAIL_FREE_CARD_USED -> JAIL_FREE;
+            // The tiles passed over are not logged, and jail and taxes are already told
+            // by the description of the tile or of the card.
+            default -> null;
+        };
+    }
+
+    /**
+     * Safely updates the GUI using the JavaFX Platform thread.
+     *
+     * @param action the consumer action to perform on the MainView.
+     */
+    private void updateGui(final Consumer<MainViewImpl> action) {
+        Platform.runLater(() -> action.accept(this.gui));
+    }
+}
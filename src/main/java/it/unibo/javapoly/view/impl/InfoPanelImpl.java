@@ -1,7 +1,7 @@
 package it.unibo.javapoly.view.impl;
 
-import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -94,10 +94,9 @@ public final class InfoPanelImpl implements InfoPanel {
         card.setAlignment(Pos.CENTER_LEFT);
 
         final ImageView icon = new ImageView();
-        final String fileName = p.getToken().getType().toUpperCase(Locale.ROOT);
-        final var stream = getClass().getResourceAsStream("/images/tokens/" + fileName + ".png");
-        if (stream != null) {
-            icon.setImage(new Image(stream));
+        final Optional<Image> image = TokenImageCache.getInstance().getImage(p, ICON_SIZE);
+        if (image.isPresent()) {
+            icon.setImage(image.get());
         } else {
             Logger.getLogger(getClass().getName()).log(Level.WARNING, "Image not found for: {0}", p.getName());
         }
@@ -1,20 +1,24 @@
 package it.unibo.javapoly.view.impl;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import javafx.application.Platform;
+import javafx.event.EventHandler;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Button;
 import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
-import javafx.scene.text.Text;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+import it.unibo.javapoly.controller.api.LogCategory;
 import it.unibo.javapoly.controller.api.MatchController;
 import it.unibo.javapoly.view.api.MainView;
 
@@ -24,24 +28,21 @@ import it.unibo.javapoly.view.api.MainView;
  */
 public final class MainViewImpl implements MainView {
 
-    private static final int LOG_SPACING = 5;
     private static final int LOG_PREF_WIDTH = 250;
     private static final int SCENE_WIDTH = 1200;
     private static final int SCENE_HEIGHT = 800;
-    private static final int FONT_SIZE_SMALL = 13;
-    private static final int FONT_SIZE_MEDIUM = 14;
-    private static final int INSET_VAL = 5;
-    private static final int INSET_SIDE_VAL = 10;
-    private static final String FONT_FAMILY = "Segoe UI";
+    private static final String LOG_EXPORT_NAME = "javapoly_log.txt";
+    private static final Logger LOGGER = Logger.getLogger(MainViewImpl.class.getName());
 
     private final BorderPane root;
     private final BoardPanelImpl boardPanel; 
     private final CommandPanelImpl commandPanel; 
     private final InfoPanelImpl infoPanel; 
     private final MatchController matchController;
+    private final RefreshScheduler refreshScheduler;
 
-    private final VBox logContainer;
-    private final ScrollPane logScroll;
+    private final GameLog gameLog;
+    private final EventHandler<WindowEvent> closeOnHidden = event -> close();
 
     /**
      * Constructor: initializes the layout and components.
@@ -59,20 +60,24 @@ public final class MainViewImpl implements MainView {
         this.boardPanel = new BoardPanelImpl(this.matchController.getBoard(), this.matchController.getPlayers()); 
         this.commandPanel = new CommandPanelImpl(this.matchController);
         this.infoPanel = new InfoPanelImpl(this.matchController); 
+        this.refreshScheduler = new RefreshScheduler();
+        this.refreshScheduler.register(this.boardPanel::update);
+        this.refreshScheduler.register(this.infoPanel::updateInfo);
+        this.refreshScheduler.register(this.commandPanel::updateState);
 
-        this.logContainer = new VBox(LOG_SPACING);
-        this.logScroll = new ScrollPane(this.logContainer);
-        this.logScroll.setFitToWidth(true);
-        this.logScroll.setPrefWidth(LOG_PREF_WIDTH);
+        this.gameLog = new GameLog();
+        this.gameLog.getView().setPrefWidth(LOG_PREF_WIDTH);
+        final Button exportLogButton = new Button("Export log");
+        exportLogButton.setMaxWidth(Double.MAX_VALUE);
+        exportLogButton.setOnAction(e -> exportLog());
+        final VBox logArea = new VBox(this.gameLog.getView(), exportLogButton);
+        VBox.setVgrow(this.gameLog.getView(), Priority.ALWAYS);
 
         this.root.setCenter(this.boardPanel.getRoot());
         this.root.setBottom(this.commandPanel.getRoot());
         this.root.setRight(this.infoPanel.getRoot()); 
-        this.root.setLeft(this.logScroll); 
-
-        this.logContainer.heightProperty().addListener((obs, oldVal, newVal) -> 
-            this.logScroll.setVvalue(1.0)
-        );
+        this.root.setLeft(logArea);
+        this.root.sceneProperty().addListener((observable, oldScene, scene) -> onSceneChanged(oldScene, scene));
     }
 
     /**
@@ -87,9 +92,36 @@ public final class MainViewImpl implements MainView {
         stage.setTitle("JavaPoly - Monopoly Java Edition");
         stage.setScene(scene);
         stage.setMaximized(true);
+        stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, this.closeOnHidden);
         stage.show();
     }
 
+    /**
+     * Releases the resources of the view: the history file of the log is closed and deleted,
+     * and the turn journal of the match is closed.
+     * It is called when the view leaves its scene or its window is closed.
+     */
+    public void close() {
+        this.gameLog.close();
+        this.matchController.closeJournal();
+    }
+
+    /**
+     * Writes every message logged since the view was created, also the ones no longer on screen,
+     * to the {@value #LOG_EXPORT_NAME} file in the user directory, and reports the outcome in the log.
+     */
+    private void exportLog() {
+        final Path file = Paths.get(System.getProperty("user.home")).resolve(LOG_EXPORT_NAME);
+        this.gameLog.exportHistory(file).whenComplete((path, ex) -> {
+            if (ex == null) {
+                addLog("Log exported to " + path, LogCategory.NEUTRAL);
+            } else {
+                LOGGER.log(Level.WARNING, "Failed to export the log", ex);
+                addLog("The log cannot be exported", LogCategory.NEGATIVE);
+            }
+        });
+    }
+
     /**
      * Refreshes all UI components.
      */
@@ -100,38 +132,33 @@ public final class MainViewImpl implements MainView {
         this.commandPanel.updateState();
     }
 
+    /**
+     * Requests a refresh of all UI components; it can be called from any thread
+     * and every panel is redrawn at most once per JavaFX pulse.
+     */
+    @Override
+    public void requestRefresh() {
+        this.refreshScheduler.markAllDirty();
+    }
+
+    /**
+     * Returns how many panel redraws were saved by coalescing the refresh requests.
+     *
+     * @return the number of redraws saved so far.
+     */
+    public long getSavedRefreshes() {
+        return this.refreshScheduler.getSavedRefreshes();
+    }
+
     /**
      * Adds a new message to the log area.
      *
      * @param msg The message to append.
+     * @param category the category of the message, which decides its colour and font.
      */
     @Override
-    public void addLog(final String msg) {
-        Platform.runLater(() -> {
-            final Text textNode = new Text(msg);
-            textNode.setFont(Font.font(FONT_FAMILY, FontWeight.NORMAL, FONT_SIZE_SMALL)); 
-
-            final String upperMsg = msg.toUpperCase(Locale.ROOT);
-
-            if (upperMsg.contains("PURCHASED") || upperMsg.contains("EARNED") 
-                    || upperMsg.contains("COLLECT") || upperMsg.contains("+")) {
-                textNode.setFill(Color.DARKGREEN);
-                textNode.setFont(Font.font(FONT_FAMILY, FontWeight.BOLD, FONT_SIZE_SMALL));
-            } else if (upperMsg.contains("PAYS") || upperMsg.contains("TAX") 
-                    || upperMsg.contains("JAIL") || upperMsg.contains("DOUBLE") 
-                    || upperMsg.contains("DEBT")) {
-                textNode.setFill(Color.FIREBRICK);
-            } else if (upperMsg.contains("TURN")) {
-                textNode.setFill(Color.CORNFLOWERBLUE);
-                textNode.setFont(Font.font(FONT_FAMILY, FontWeight.BOLD, FONT_SIZE_MEDIUM));
-            } else {
-                textNode.setFill(Color.BLACK);
-            }
-
-            final VBox messageBox = new VBox(textNode);
-            messageBox.setPadding(new javafx.geometry.Insets(INSET_VAL, INSET_SIDE_VAL, INSET_VAL, INSET_SIDE_VAL));
-            this.logContainer.getChildren().add(messageBox);
-        });
+    public void addLog(final String msg, final LogCategory category) {
+        Platform.runLater(() -> this.gameLog.add(msg, category));
     }
 
     /**
@@ -204,9 +231,9 @@ public final class MainViewImpl implements MainView {
             this.commandPanel.getRoot().setDisable(true);
             this.boardPanel.getRoot().setDisable(true);
 
-            this.addLog("---------------------------");
-            this.addLog("   PLAYER " + winnerName.toUpperCase(Locale.ROOT) + " WON!   ");
-            this.addLog("---------------------------");
+            this.addLog("---------------------------", LogCategory.TURN);
+            this.addLog("   PLAYER " + winnerName.toUpperCase(Locale.ROOT) + " WON!   ", LogCategory.TURN);
+            this.addLog("---------------------------", LogCategory.TURN);
             final Alert alert = new Alert(Alert.AlertType.INFORMATION);
             alert.setTitle("Victory!!");
             alert.setHeaderText("🏆 We have a Winner!");
@@ -234,7 +261,25 @@ public final class MainViewImpl implements MainView {
      */
     @Override
     public void clearLog() {
-        this.logContainer.getChildren().clear();
+        this.gameLog.clear();
+    }
+
+    /**
+     * Follows the scene showing the view, to close it when the root is replaced
+     * or the window is hidden.
+     *
+     * @param oldScene the previous scene, or null.
+     * @param scene the new scene, or null if the view has been removed.
+     */
+    private void onSceneChanged(final Scene oldScene, final Scene scene) {
+        if (oldScene != null && oldScene.getWindow() != null) {
+            oldScene.getWindow().removeEventHandler(WindowEvent.WINDOW_HIDDEN, this.closeOnHidden);
+        }
+        if (scene == null) {
+            close();
+        } else if (scene.getWindow() != null) {
+            scene.getWindow().addEventHandler(WindowEvent.WINDOW_HIDDEN, this.closeOnHidden);
+        }
     }
 
     /**
@@ -1,6 +1,7 @@
 package it.unibo.javapoly.view.impl;
 
 import it.unibo.javapoly.controller.api.MenuController;
+import it.unibo.javapoly.controller.impl.BinarySaveFormat;
 import it.unibo.javapoly.view.api.PlayerSetupView;
 import it.unibo.javapoly.view.api.MenuView;
 import javafx.geometry.Insets;
@@ -43,6 +44,7 @@ public final class MenuViewImpl implements MenuView {
     private static final double SPACING = 0.02;
     private final Stage stage;
     private MenuController controller;
+    private Button resumeButton;
     private final Logger logger = Logger.getLogger(MenuViewImpl.class.getName());
 
     /**
@@ -139,7 +141,8 @@ public final class MenuViewImpl implements MenuView {
     }
 
     /**
-     * Creates the center section with three buttons.
+     * Creates the center section with the buttons; the one resuming the last match is enabled
+     * once the controller tells there is a match to resume.
      *
      * @return a Vbox containing the center section components.
      */
@@ -148,9 +151,11 @@ public final class MenuViewImpl implements MenuView {
         centerBox.setAlignment(Pos.CENTER);
         centerBox.spacingProperty().bind(this.stage.heightProperty().multiply(SPACING));
         final Button newGameButton = createMenuButton("New Game", e -> showPlayerSetupView());
+        this.resumeButton = createMenuButton("Resume Match", e -> controller.resumeMatch());
+        this.resumeButton.setDisable(true);
         final Button loadGameButton = createMenuButton("Load Game", e -> showLoadGameView());
         final Button exitButton = createMenuButton("Exit", e -> controller.exitGame());
-        centerBox.getChildren().addAll(newGameButton, loadGameButton, exitButton);
+        centerBox.getChildren().addAll(newGameButton, this.resumeButton, loadGameButton, exitButton);
         return centerBox;
     }
 
@@ -192,6 +197,7 @@ public final class MenuViewImpl implements MenuView {
     @Override
     public void setController(final MenuController controller) {
         this.controller = controller;
+        this.resumeButton.setDisable(!controller.canResumeMatch());
     }
 
     /**
@@ -226,7 +232,7 @@ public final class MenuViewImpl implements MenuView {
         final FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Select Save Game");
         fileChooser.getExtensionFilters().add(
-                new FileChooser.ExtensionFilter("JSON file", "*.json"));
+                new FileChooser.ExtensionFilter("Save file", "*" + BinarySaveFormat.EXTENSION, "*.json"));
         fileChooser.setInitialDirectory(new File(System.getProperty("user.home")));
         final File selectedFile = fileChooser.showOpenDialog(this.stage);
         if (selectedFile != null) {
@@ -0,0 +1,87 @@
+package it.unibo.javapoly.view.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Coalesces the refresh requests of the panels of the main view.
+ *
+ * <p>
+ * A panel is only marked dirty when a refresh is requested, from any thread; on the
+ * next JavaFX pulse every dirty panel is redrawn exactly once, no matter how many
+ * requests it received in the meantime. The timer only runs while some panel is dirty.
+ */
+final class RefreshScheduler {
+
+    private final List<Runnable> redraws = new ArrayList<>();
+    private final List<AtomicBoolean> dirty = new ArrayList<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong savedRefreshes = new AtomicLong();
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(final long now) {
+            stop();
+            scheduled.set(false);
+            redrawDirtyPanels();
+        }
+    };
+
+    /**
+     * Registers a panel; must be called before any refresh is requested.
+     *
+     * @param redraw the action redrawing the panel, run on the JavaFX thread.
+     * @return the identifier of the panel, used to mark it dirty.
+     */
+    int register(final Runnable redraw) {
+        this.redraws.add(Objects.requireNonNull(redraw));
+        this.dirty.add(new AtomicBoolean());
+        return this.redraws.size() - 1;
+    }
+
+    /**
+     * Marks a panel dirty, so that it is redrawn on the next pulse.
+     *
+     * @param panel the identifier returned by {@link #register(Runnable)}.
+     */
+    void markDirty(final int panel) {
+        if (this.dirty.get(panel).getAndSet(true)) {
+            this.savedRefreshes.incrementAndGet();
+        }
+        if (this.scheduled.compareAndSet(false, true)) {
+            Platform.runLater(this.timer::start);
+        }
+    }
+
+    /**
+     * Marks every registered panel dirty.
+     */
+    void markAllDirty() {
+        for (int i = 0; i < this.dirty.size(); i++) {
+            markDirty(i);
+        }
+    }
+
+    /**
+     * Returns how many redraws were avoided because the panel was already waiting
+     * for the next pulse when it was requested again.
+     *
+     * @return the number of redraws saved so far.
+     */
+    long getSavedRefreshes() {
+        return this.savedRefreshes.get();
+    }
+
+    private void redrawDirtyPanels() {
+        for (int i = 0; i < this.redraws.size(); i++) {
+            if (this.dirty.get(i).getAndSet(false)) {
+                this.redraws.get(i).run();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package it.unibo.javapoly.view.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import it.unibo.javapoly.utils.ValidationUtils;
+import javafx.collections.ObservableListBase;
+
+/**
+ * Observable list with a fixed capacity, backed by a circular array.
+ * Once the list is full every new element replaces the oldest one, so adding an
+ * element never shifts the others and the memory used never grows.
+ *
+ * @param <E> the type of the elements.
+ */
+final class RingBufferList<E> extends ObservableListBase<E> {
+
+    private final Object[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     *
+     * @param capacity the maximum number of elements kept.
+     */
+    RingBufferList(final int capacity) {
+        ValidationUtils.requirePositive(capacity, "The capacity must be positive");
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (E) this.elements[(this.head + index) % this.elements.length];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Appends an element, dropping the oldest one if the list is full.
+     *
+     * @param element the element to append.
+     * @return always true.
+     */
+    @Override
+    public boolean add(final E element) {
+        beginChange();
+        if (this.size == this.elements.length) {
+            final E oldest = get(0);
+            this.head = (this.head + 1) % this.elements.length;
+            this.size--;
+            nextRemove(0, oldest);
+        }
+        this.elements[(this.head + this.size) % this.elements.length] = element;
+        this.size++;
+        nextAdd(this.size - 1, this.size);
+        endChange();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (this.size == 0) {
+            return;
+        }
+        final List<E> removed = new ArrayList<>(this);
+        beginChange();
+        Arrays.fill(this.elements, null);
+        this.head = 0;
+        this.size = 0;
+        nextRemove(0, removed);
+        endChange();
+    }
+}
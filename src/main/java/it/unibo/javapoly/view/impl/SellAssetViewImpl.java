@@ -1,10 +1,10 @@
 package it.unibo.javapoly.view.impl;
 
 import it.unibo.javapoly.controller.api.LiquidationCallback;
+import it.unibo.javapoly.controller.api.LogCategory;
 import it.unibo.javapoly.controller.api.MatchController;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.property.Property;
-import it.unibo.javapoly.model.impl.BankruptState;
 import it.unibo.javapoly.view.api.SellAssetView;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -96,7 +96,6 @@ public class SellAssetViewImpl implements SellAssetView {
         final List<Property> houses =
                 new ArrayList<>(this.matchController.getPropertyController().getPropertiesWithHouseByOwner(currentPlayer));
         if (properties.isEmpty() && houses.isEmpty()) {
-            currentPlayer.setState(BankruptState.getInstance());
             declareBankruptcy();
             return;
         }
@@ -170,12 +169,13 @@ public class SellAssetViewImpl implements SellAssetView {
      */
     private void sellHouse(final Property property, final int housePrice) {
         final Player currentPlayer = this.matchController.getCurrentPlayer();
-        final boolean success = matchController.getEconomyController().sellHouse(currentPlayer, property);
+        final boolean success = matchController.sellHouse(currentPlayer, property);
         if (!success) {
            return;
         }
         matchController.getMainViewImpl().addLog(
-                currentPlayer.getName() + " sold house in " + property.getId() + " for " + housePrice + CURRENCY);
+                currentPlayer.getName() + " sold house in " + property.getId() + " for " + housePrice + CURRENCY,
+                LogCategory.POSITIVE);
         if (currentPlayer.getBalance() >= this.originalDebt) {
             this.remainingDebt = 0;
             debtDisplay();
@@ -193,12 +193,13 @@ public class SellAssetViewImpl implements SellAssetView {
      */
     private void sellProperty(final Property property, final int pricePropertyToSell) {
         final Player currentPlayer = this.matchController.getCurrentPlayer();
-        final boolean success = matchController.getEconomyController().sellProperty(currentPlayer, property);
+        final boolean success = matchController.sellProperty(currentPlayer, property);
         if (!success) {
             return;
         }
         matchController.getMainViewImpl().addLog(
-                    currentPlayer.getName() + " sold " + property.getId() + " for " + pricePropertyToSell + CURRENCY);
+                    currentPlayer.getName() + " sold " + property.getId() + " for " + pricePropertyToSell + CURRENCY,
+                    LogCategory.POSITIVE);
         if (currentPlayer.getBalance() >= this.originalDebt) {
             this.remainingDebt = 0;
             debtDisplay();
@@ -209,11 +210,9 @@ public class SellAssetViewImpl implements SellAssetView {
     }
 
     /**
-     * Declares bankruptcy.
+     * Declares bankruptcy when nothing is left to sell; the player goes bankrupt when the liquidation is finalized.
      */
     private void declareBankruptcy() {
-        final Player currentPlayer = this.matchController.getCurrentPlayer();
-        currentPlayer.setState(BankruptState.getInstance());
         completeLiquidation(false);
     }
 
@@ -0,0 +1,103 @@
+package it.unibo.javapoly.view.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import javafx.scene.image.Image;
+
+/**
+ * Process-wide cache of the token images shown by the board and by the info panel.
+ *
+ * <p>
+ * Every image is decoded once per requested size, already scaled to that size, and
+ * then shared by every view that shows it. The images of the built-in tokens are few
+ * and always kept; the images of custom tokens come from user-chosen files, so only
+ * the {@value #MAX_CUSTOM_ENTRIES} most recently used ones are kept.
+ */
+final class TokenImageCache {
+
+    private static final int MAX_CUSTOM_ENTRIES = 32;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final String TOKENS_FOLDER = "/images/tokens/";
+
+    private final Map<TokenType, Map<Integer, Optional<Image>>> builtIn = new EnumMap<>(TokenType.class);
+    private final Map<String, Optional<Image>> custom = new LinkedHashMap<>(MAX_CUSTOM_ENTRIES, LOAD_FACTOR, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Optional<Image>> eldest) {
+            return size() > MAX_CUSTOM_ENTRIES;
+        }
+    };
+
+    private TokenImageCache() {
+    }
+
+    /**
+     * Returns the image of the token of a player, scaled to fit a square of the given size.
+     * A custom token whose image cannot be loaded falls back to the image of its type.
+     *
+     * @param player the player whose token is shown.
+     * @param size the side of the square the image must fit, in pixels.
+     * @return the image, or an empty optional if there is no image for the token.
+     */
+    synchronized Optional<Image> getImage(final Player player, final int size) {
+        Objects.requireNonNull(player);
+        final String path = player.getCustomTokenPath();
+        if (player.getTokenType() == TokenType.CUSTOM && path != null && !path.isBlank()) {
+            final Optional<Image> image = this.custom.computeIfAbsent(size + ":" + path,
+                    k -> loadCustom(path, size));
+            if (image.isPresent()) {
+                return image;
+            }
+        }
+        return this.builtIn.computeIfAbsent(player.getTokenType(), t -> new HashMap<>())
+                .computeIfAbsent(size, s -> loadBuiltIn(player.getTokenType(), s));
+    }
+
+    private static Optional<Image> loadCustom(final String path, final int size) {
+        final Image image = new Image(path, size, size, true, true);
+        return image.isError() ? Optional.empty() : Optional.of(image);
+    }
+
+    private static Optional<Image> loadBuiltIn(final TokenType type, final int size) {
+        final String fileName = TOKENS_FOLDER + type.toString().toUpperCase(Locale.ROOT) + ".png";
+        try (InputStream stream = TokenImageCache.class.getResourceAsStream(fileName)) {
+            if (stream == null) {
+                return Optional.empty();
+            }
+            final Image image = new Image(stream, size, size, true, true);
+            return image.isError() ? Optional.empty() : Optional.of(image);
+        } catch (final IOException e) {
+            Logger.getLogger(TokenImageCache.class.getName()).log(Level.WARNING, "Cannot read " + fileName, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the only instance of this class.
+     *
+     * @return the shared cache.
+     */
+    static TokenImageCache getInstance() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    /**
+     * Static class containing the single TokenImageCache instance.
+     */
+    private static final class SingletonHelper {
+        private static final TokenImageCache INSTANCE = new TokenImageCache();
+    }
+}
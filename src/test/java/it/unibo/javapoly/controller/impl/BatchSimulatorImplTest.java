@@ -0,0 +1,85 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.SimulationReport;
+import it.unibo.javapoly.model.api.TokenType;
+
+/**
+ * Test class for {@link BatchSimulatorImpl} and {@link SimulationReportImpl}.
+ */
+class BatchSimulatorImplTest {
+
+    private static final int GAMES = 20;
+    private static final int PLAYERS = 3;
+    private static final int MAX_TURNS = 30;
+    private static final int PARALLELISM = 4;
+    private static final long TURNS = 10;
+    private static final long SEED = 7L;
+
+    /**
+     * Tests that every requested match is played and counted once.
+     */
+    @Test
+    void testAllGamesPlayed() {
+        final SimulationReport report = new BatchSimulatorImpl(PLAYERS, MAX_TURNS, PARALLELISM).simulate(GAMES);
+
+        assertEquals(GAMES, report.getGames());
+        assertEquals(PLAYERS, report.getSeats());
+        assertTrue(report.getTotalTurns() <= (long) GAMES * MAX_TURNS, "No match can exceed the turn limit");
+        int wins = 0;
+        for (int seat = 0; seat < report.getSeats(); seat++) {
+            wins += report.getWins(seat);
+        }
+        assertEquals(report.getFinishedGames(), wins, "Every finished match has exactly one winner");
+        assertTrue(report.getGamesPerSecond() > 0, "The throughput must be measured");
+    }
+
+    /**
+     * Tests that a seeded batch plays the same matches whatever the number of threads.
+     */
+    @Test
+    void testSeededBatchIsReproducible() {
+        final SimulationReport sequential = new BatchSimulatorImpl(PLAYERS, MAX_TURNS, 1, SEED).simulate(GAMES);
+        final SimulationReport parallel = new BatchSimulatorImpl(PLAYERS, MAX_TURNS, PARALLELISM, SEED)
+                .simulate(GAMES);
+
+        assertEquals(sequential.getTotalTurns(), parallel.getTotalTurns());
+        assertEquals(sequential.getFinishedGames(), parallel.getFinishedGames());
+        for (int seat = 0; seat < PLAYERS; seat++) {
+            assertEquals(sequential.getWins(seat), parallel.getWins(seat));
+        }
+    }
+
+    /**
+     * Tests the merge of two partial reports.
+     */
+    @Test
+    void testMerge() {
+        final SimulationReportImpl first = new SimulationReportImpl(1, 1, TURNS, new int[] {1, 0}, 0);
+        final SimulationReportImpl second = new SimulationReportImpl(1, 0, TURNS, new int[] {0, 0}, 0);
+
+        final SimulationReportImpl merged = first.merge(second);
+
+        assertEquals(2, merged.getGames());
+        assertEquals(1, merged.getFinishedGames());
+        assertEquals(TURNS * 2, merged.getTotalTurns());
+        assertEquals(1, merged.getWins(0));
+        assertEquals((double) TURNS, merged.getAverageTurns(), 0);
+    }
+
+    /**
+     * Tests the validation of the simulator parameters.
+     */
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchSimulatorImpl(1, MAX_TURNS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchSimulatorImpl(TokenType.predefined().size() + 1, MAX_TURNS));
+        assertThrows(IllegalArgumentException.class, () -> new BatchSimulatorImpl(PLAYERS, 0));
+    }
+}
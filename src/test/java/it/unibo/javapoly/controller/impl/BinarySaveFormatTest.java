@@ -0,0 +1,112 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.card.CardDeckImpl;
+import it.unibo.javapoly.utils.MatchControllerDeserializer;
+import it.unibo.javapoly.utils.MatchControllerSerializer;
+
+/**
+ * Test class for {@link BinarySaveFormat}.
+ */
+class BinarySaveFormatTest {
+
+    private static final int PLAYERS = 3;
+    private static final int TURNS = 120;
+    private static final long SEED = 5L;
+
+    private static GameEngine playedEngine() {
+        return TestMatches.playTurns(TestMatches.newEngine(PLAYERS, SEED), TURNS);
+    }
+
+    private static List<String> ids(final List<GameCard> cards) {
+        final List<String> ids = new ArrayList<>(cards.size());
+        for (final GameCard card : cards) {
+            ids.add(card.getId());
+        }
+        return ids;
+    }
+
+    private static CardDeckImpl deckOf(final GameEngine engine) {
+        return (CardDeckImpl) ((BoardControllerImpl) engine.getBoardController()).getCardDeck();
+    }
+
+    /**
+     * Tests that a match read back from its encoding has the same players, properties and cards.
+     *
+     * @throws IOException if the match cannot be read.
+     */
+    @Test
+    void testRoundTrip() throws IOException {
+        final GameEngine engine = playedEngine();
+        final byte[] bytes = BinarySaveFormat.toBytes(engine);
+        final GameEngine loaded = BinarySaveFormat.read(new ByteArrayInputStream(bytes));
+
+        assertEquals(engine.getCurrentPlayerIndex(), loaded.getCurrentPlayerIndex());
+        assertEquals(engine.canCurrentPlayerRoll(), loaded.canCurrentPlayerRoll());
+        assertEquals(engine.getPlayersBankrupt().size(), loaded.getPlayersBankrupt().size());
+        for (int i = 0; i < engine.getPlayers().size(); i++) {
+            final Player expected = engine.getPlayers().get(i);
+            final Player actual = loaded.getPlayers().get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getBalance(), actual.getBalance());
+            assertEquals(expected.getCurrentPosition(), actual.getCurrentPosition());
+            assertEquals(expected.getState().getClass(), actual.getState().getClass());
+            final List<Property> owned = engine.getPropertyController().getOwnedProperties(expected.getName());
+            final List<Property> loadedOwned = loaded.getPropertyController().getOwnedProperties(actual.getName());
+            assertEquals(owned.size(), loadedOwned.size());
+            for (final Property property : owned) {
+                assertTrue(loadedOwned.stream().anyMatch(p -> p.getId().equals(property.getId())
+                        && p.getBuiltHouses() == property.getBuiltHouses()));
+            }
+        }
+        assertEquals(ids(deckOf(engine).getDrawPile()), ids(deckOf(loaded).getDrawPile()));
+        assertEquals(ids(deckOf(engine).getDiscardPile()), ids(deckOf(loaded).getDiscardPile()));
+        assertEquals(deckOf(engine).getHeldCardOwners().size(), deckOf(loaded).getHeldCardOwners().size());
+    }
+
+    /**
+     * Tests that binary saves are written and loaded through the save utilities,
+     * and that they are much smaller than the JSON ones.
+     *
+     * @param dir a temporary directory.
+     * @throws Exception if the saves cannot be written or read.
+     */
+    @Test
+    void testSaveFile(@TempDir final Path dir) throws Exception {
+        final GameEngine engine = playedEngine();
+        final Path binary = MatchControllerSerializer
+                .saveAsync(engine, dir.resolve("save" + BinarySaveFormat.EXTENSION)).get();
+        final Path json = MatchControllerSerializer.saveAsync(engine, dir.resolve("save.json")).get();
+        assertTrue(Files.size(binary) * 10 < Files.size(json));
+
+        final GameEngine loaded = MatchControllerDeserializer.deserializeEngine(binary.toFile());
+        assertEquals(engine.getCurrentPlayer().getName(), loaded.getCurrentPlayer().getName());
+        assertEquals(engine.getCurrentPlayer().getBalance(), loaded.getCurrentPlayer().getBalance());
+    }
+
+    /**
+     * Tests that a file which is not a binary save is rejected.
+     */
+    @Test
+    void testNotASave() {
+        assertThrows(IOException.class,
+                () -> BinarySaveFormat.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8})));
+    }
+}
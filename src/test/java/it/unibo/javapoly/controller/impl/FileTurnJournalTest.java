@@ -0,0 +1,269 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.LiquidationObserver;
+import it.unibo.javapoly.controller.api.TurnJournal;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.TransactionType;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+
+/**
+ * Test class for {@link FileTurnJournal}.
+ */
+class FileTurnJournalTest {
+
+    private static final int PLAYERS = 3;
+    private static final int TURNS = 150;
+    private static final long SEED = 7L;
+    private static final int RECORD_SIZE = 8;
+    private static final byte NESTED_BUY = (byte) 0x87;
+    private static final int RESERVE = 1400;
+    private static final int SHORT_BALANCE = 300;
+
+    private int sold;
+
+    private static GameEngine newEngine() {
+        return TestMatches.newEngine(PLAYERS, SEED);
+    }
+
+    private static void assertSameState(final GameEngine expected, final GameEngine actual) {
+        assertEquals(expected.getCurrentPlayerIndex(), actual.getCurrentPlayerIndex());
+        for (int i = 0; i < expected.getPlayers().size(); i++) {
+            final Player e = expected.getPlayers().get(i);
+            final Player a = actual.getPlayers().get(i);
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getBalance(), a.getBalance(), "Balance of " + e.getName());
+            assertEquals(e.getCurrentPosition(), a.getCurrentPosition(), "Position of " + e.getName());
+            assertEquals(expected.getPropertyController().getOwnedProperties(e.getName()).size(),
+                    actual.getPropertyController().getOwnedProperties(a.getName()).size());
+        }
+    }
+
+    /**
+     * Tests that replaying the journal of a match rebuilds the same state.
+     *
+     * @param dir a temporary directory.
+     * @throws IOException if the journal cannot be written or read.
+     */
+    @Test
+    void testReplayRebuildsMatch(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("match.journal");
+        final GameEngine engine = newEngine();
+        try (FileTurnJournal journal = FileTurnJournal.create(file, engine)) {
+            engine.startGame();
+            engine.handleDiceThrow();
+            engine.buyCurrentProperty();
+            engine.nextTurn();
+            TestMatches.playTurns(engine, TURNS);
+        }
+        assertSameState(engine, FileTurnJournal.replay(file, TestMatches.newBoard()));
+    }
+
+    /**
+     * Tests that a match whose players do not use the default strategy is replayed with
+     * their recorded answers.
+     *
+     * @param dir a temporary directory.
+     * @throws IOException if the journal cannot be written or read.
+     */
+    @Test
+    void testReplayWithStrategies(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("match.journal");
+        final GameEngine engine = newEngine();
+        engine.setStrategy(engine.getPlayers().get(0), new CashReserveStrategy(RESERVE));
+        engine.setStrategy(engine.getPlayers().get(1), new MonopolyStrategy());
+        try (FileTurnJournal journal = FileTurnJournal.create(file, engine)) {
+            TestMatches.playTurns(engine, TURNS);
+        }
+        final GameEngine replayed = FileTurnJournal.replay(file, TestMatches.newBoard());
+        assertSameState(engine, replayed);
+        assertSame(AlwaysBuyStrategy.getInstance(), replayed.getStrategy(replayed.getPlayers().get(0)));
+    }
+
+    /**
+     * Tests that a record cut by a crash is ignored and the previous ones are replayed.
+     *
+     * @param dir a temporary directory.
+     * @throws IOException if the journal cannot be written or read.
+     */
+    @Test
+    void testTruncatedRecordIgnored(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("match.journal");
+        final GameEngine engine = newEngine();
+        try (FileTurnJournal journal = FileTurnJournal.create(file, engine)) {
+            engine.playTurn();
+            engine.playTurn();
+        }
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        final GameEngine replayed = FileTurnJournal.replay(file, TestMatches.newBoard());
+        assertEquals(1, replayed.getCurrentPlayerIndex(), "Only the first turn is complete");
+    }
+
+    /**
+     * Tests that the purchases taken inside automated turns are recorded and that a replay
+     * taking a different decision is rejected.
+     *
+     * @param dir a temporary directory.
+     * @throws IOException if the journal cannot be written or read.
+     */
+    @Test
+    void testNestedDecisionsChecked(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("match.journal");
+        final GameEngine engine = newEngine();
+        try (FileTurnJournal journal = FileTurnJournal.create(file, engine)) {
+            TestMatches.playTurns(engine, TURNS);
+        }
+        final byte[] bytes = Files.readAllBytes(file);
+        int buy = bytes.length - RECORD_SIZE;
+        while (buy > 0 && bytes[buy] != NESTED_BUY) {
+            buy -= RECORD_SIZE;
+        }
+        assertTrue(buy > 0, "The purchases of the automated turns are recorded");
+        bytes[buy + RECORD_SIZE - 1]++;
+        Files.write(file, bytes);
+        assertThrows(IllegalStateException.class, () -> FileTurnJournal.replay(file, TestMatches.newBoard()));
+    }
+
+    /**
+     * Tests that the payments left pending by an interactive observer, the assets sold to pay them
+     * and their settlement are recorded and replayed.
+     *
+     * @param dir a temporary directory.
+     * @throws IOException if the journal cannot be written or read.
+     */
+    @Test
+    void testDeferredLiquidationReplayed(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("match.journal");
+        final List<Player> players = new ArrayList<>();
+        for (final Player player : TestMatches.newPlayers(PLAYERS)) {
+            players.add(new PlayerImpl(player.getName(), SHORT_BALANCE, player.getTokenType(), null));
+        }
+        final GameEngine engine = new GameEngineImpl(players, TestMatches.newBoard(), SEED);
+        engine.setLiquidationObserver(new DeferringObserver(engine));
+        int deferred = 0;
+        try (FileTurnJournal journal = FileTurnJournal.create(file, engine)) {
+            for (int i = 0; i < TURNS && !engine.isGameOver(); i++) {
+                engine.playTurn();
+                if (engine.getPendingDebtor() != null) {
+                    deferred++;
+                    settle(engine);
+                }
+            }
+        }
+        assertTrue(deferred > 0, "Some payments are left pending");
+        assertTrue(this.sold > 0, "Some assets are sold");
+        final GameEngine replayed = FileTurnJournal.replay(file, TestMatches.newBoard());
+        assertSameState(engine, replayed);
+        assertNull(replayed.getPendingDebtor());
+    }
+
+    /**
+     * Tests that a resumed match drops the record cut by a crash and goes on recording
+     * in the same journal.
+     *
+     * @param dir a temporary directory.
+     * @throws IOException if the journal cannot be written or read.
+     */
+    @Test
+    void testResumeAppends(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("match.journal");
+        final GameEngine engine = newEngine();
+        try (FileTurnJournal journal = FileTurnJournal.create(file, engine)) {
+            TestMatches.playTurns(engine, TURNS / 2);
+        }
+        Files.write(file, new byte[RECORD_SIZE / 2], StandardOpenOption.APPEND);
+        final GameEngine resumed = FileTurnJournal.resume(file, TestMatches.newBoard());
+        assertSameState(engine, resumed);
+        try (TurnJournal journal = resumed.getJournal()) {
+            TestMatches.playTurns(resumed, TURNS / 2);
+        }
+        TestMatches.playTurns(engine, TURNS / 2);
+        assertSameState(engine, resumed);
+        assertSameState(engine, FileTurnJournal.replay(file, TestMatches.newBoard()));
+    }
+
+    /**
+     * Sells the assets of the player whose payment is pending, one at a time, until it can be
+     * paid or nothing is left, and settles it.
+     *
+     * @param engine the match.
+     */
+    private void settle(final GameEngine engine) {
+        final Player debtor = engine.getPendingDebtor();
+        while (debtor.getBalance() < engine.getPendingDebt() && sellAsset(engine, debtor)) {
+            this.sold++;
+        }
+        engine.finalizeLiquidation(debtor);
+    }
+
+    private static boolean sellAsset(final GameEngine engine, final Player owner) {
+        for (final Property property : engine.getPropertyController().getPropertiesWithHouseByOwner(owner)) {
+            if (engine.sellHouse(owner, property)) {
+                return true;
+            }
+        }
+        for (final Property property : engine.getPropertyController().getOwnedProperties(owner.getName())) {
+            if (engine.sellProperty(owner, property)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Observer leaving every payment a player cannot afford pending, as the graphical one does.
+     */
+    private static final class DeferringObserver implements LiquidationObserver {
+
+        private final GameEngine engine;
+        private final LiquidationObserver settler;
+
+        DeferringObserver(final GameEngine engine) {
+            this.engine = engine;
+            this.settler = new AutoLiquidationObserver(engine);
+        }
+
+        @Override
+        public void onInsufficientFunds(final Player player, final Player creditor, final int requiredAmount,
+                final TransactionType type) {
+            this.engine.deferLiquidation(player, creditor, requiredAmount, type);
+        }
+
+        @Override
+        public void onBankruptcyDeclared(final Player bankruptPlayer, final Player creditor, final int totalDebt) {
+            this.settler.onBankruptcyDeclared(bankruptPlayer, creditor, totalDebt);
+        }
+    }
+
+    /**
+     * Tests that a file that is not a journal is rejected.
+     *
+     * @param dir a temporary directory.
+     * @throws IOException if the file cannot be written.
+     */
+    @Test
+    void testNotAJournal(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("save.json");
+        Files.writeString(file, "{\"MatchControllerImpl\":{}}");
+        assertThrows(IllegalStateException.class, () -> FileTurnJournal.replay(file, TestMatches.newBoard()));
+    }
+}
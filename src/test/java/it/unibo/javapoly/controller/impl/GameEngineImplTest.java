@@ -0,0 +1,224 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.GameEventType;
+import it.unibo.javapoly.controller.api.GameListener;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.api.economy.Transaction;
+import it.unibo.javapoly.model.api.economy.TransactionType;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.BankruptState;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.utils.JsonUtils;
+import it.unibo.javapoly.utils.MatchControllerDeserializer;
+
+/**
+ * Test class for the headless {@link GameEngineImpl}.
+ */
+class GameEngineImplTest {
+
+    private static final int PLAYERS = 2;
+    private static final int TURNS = 200;
+    private static final int DEBT = 50;
+    private static final int MIN_PRICE = 2 * DEBT;
+    private static final long SEED = 2024L;
+
+    private Board board;
+    private Player alice;
+    private Player bob;
+    private GameEngine engine;
+
+    /**
+     * Creates a two players match on the default board.
+     */
+    @BeforeEach
+    void setUp() {
+        board = TestMatches.newBoard();
+        final List<Player> players = TestMatches.newPlayers(PLAYERS);
+        alice = players.get(0);
+        bob = players.get(1);
+        engine = new GameEngineImpl(players, board);
+    }
+
+    /**
+     * Tests that a match can be played without any listener or GUI.
+     */
+    @Test
+    void testHeadlessTurns() {
+        for (int i = 0; i < TURNS && !engine.isGameOver(); i++) {
+            final Player before = engine.getCurrentPlayer();
+            engine.playTurn();
+            assertTrue(engine.canCurrentPlayerRoll(), "A new turn must allow the dice throw");
+            assertTrue(engine.isGameOver() || !before.equals(engine.getCurrentPlayer()),
+                    "The turn must pass to the other player");
+        }
+        for (final Player p : engine.getPlayers()) {
+            assertTrue(p.getCurrentPosition() >= 0 && p.getCurrentPosition() < board.size(),
+                    "Every player must stay on the board");
+        }
+    }
+
+    /**
+     * Tests that the registered listeners receive the match events, including the typed events
+     * of the tiles passed over and reached.
+     */
+    @Test
+    void testListenerNotified() {
+        final int[] logs = new int[1];
+        final int[] refreshes = new int[1];
+        final List<GameEventType> events = new ArrayList<>();
+        engine.addListener(new GameListener() {
+            @Override
+            public void onLog(final String message) {
+                logs[0]++;
+            }
+
+            @Override
+            public void onEvent(final GameEventType type, final String subject, final String detail,
+                    final int amount) {
+                events.add(type);
+            }
+
+            @Override
+            public void onRefresh() {
+                refreshes[0]++;
+            }
+        });
+        engine.startGame();
+        engine.playTurn();
+        assertTrue(logs[0] > 0, "The listener must receive the log messages");
+        assertTrue(refreshes[0] > 0, "The listener must be asked to refresh");
+        assertEquals(GameEventType.TILE_PASSED, events.get(0), "The dice move the player over some tiles");
+        assertTrue(events.contains(GameEventType.TILE_LANDED));
+    }
+
+    /**
+     * Tests that without assets an unpaid debt makes the player bankrupt and ends the match.
+     */
+    @Test
+    void testBankruptcyWithoutAssets() {
+        engine.getEconomyController().withdrawFromPlayer(alice, alice.getBalance());
+        engine.getEconomyController().withdrawFromPlayer(alice, DEBT);
+
+        assertTrue(alice.getState() instanceof BankruptState, "Alice cannot pay and must go bankrupt");
+        assertTrue(engine.isGameOver(), "Only one player is left");
+        assertEquals(bob, engine.getWinner().orElseThrow());
+    }
+
+    /**
+     * Tests that a player with assets sells them to pay the debt, which keeps its type in the ledger.
+     */
+    @Test
+    void testAutomaticLiquidation() {
+        final Property property = findPropertyWithMinPrice();
+        engine.getPropertyController().purchaseProperty(alice, property.getId());
+        engine.getEconomyController().withdrawFromPlayer(alice, alice.getBalance());
+
+        engine.getEconomyController().withdrawFromPlayer(alice, DEBT, TransactionType.TAX);
+
+        assertFalse(alice.getState() instanceof BankruptState, "Alice can sell her property");
+        assertFalse(property.isOwnedByPlayer(), "The sold property goes back to the bank");
+        assertEquals(property.getPurchasePrice() / 2 - DEBT, alice.getBalance());
+        assertFalse(engine.isGameOver());
+        final Ledger ledger = engine.getEconomyController().getLedger();
+        ledger.commit();
+        final Transaction settlement = ledger.getTransactions().get(ledger.getTransactions().size() - 1);
+        assertEquals(TransactionType.TAX, settlement.getType());
+        assertEquals(DEBT, settlement.getAmount());
+    }
+
+    /**
+     * Tests that two matches with the same seed evolve in the same way.
+     */
+    @Test
+    void testSeededMatchIsReproducible() {
+        final List<Player> first = playSeededMatch();
+        final List<Player> second = playSeededMatch();
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getBalance(), second.get(i).getBalance());
+            assertEquals(first.get(i).getCurrentPosition(), second.get(i).getCurrentPosition());
+            assertEquals(first.get(i).getState().getClass(), second.get(i).getState().getClass());
+        }
+    }
+
+    /**
+     * Tests that a headless match can be saved and loaded back without any view.
+     *
+     * @param dir the temporary directory of the save file.
+     * @throws IOException if the save file cannot be written or read.
+     */
+    @Test
+    void testSaveAndLoad(@TempDir final File dir) throws IOException {
+        TestMatches.playTurns(engine, TURNS / 4);
+        final File save = new File(dir, "save.json");
+        JsonUtils.getInstance().mapper().writeValue(save, engine);
+        assertTrue(Files.readString(save.toPath()).contains("MatchControllerImpl"),
+                "The engine must use the save format of the game");
+
+        final GameEngine loaded = MatchControllerDeserializer.deserializeEngine(save);
+        assertEquals(engine.getCurrentPlayerIndex(), loaded.getCurrentPlayerIndex());
+        assertEquals(engine.canCurrentPlayerRoll(), loaded.canCurrentPlayerRoll());
+        for (int i = 0; i < engine.getPlayers().size(); i++) {
+            final Player expected = engine.getPlayers().get(i);
+            final Player actual = loaded.getPlayers().get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getBalance(), actual.getBalance());
+            assertEquals(expected.getCurrentPosition(), actual.getCurrentPosition());
+            assertEquals(engine.getPropertyController().getOwnedProperties(expected.getName()).size(),
+                    loaded.getPropertyController().getOwnedProperties(actual.getName()).size());
+        }
+    }
+
+    /**
+     * Tests that the single ledger of the match records every payment, commits once per turn
+     * and accounts for all the money of the players.
+     */
+    @Test
+    void testLedger() {
+        final Ledger ledger = engine.getEconomyController().getLedger();
+        int turns = 0;
+        while (turns < TURNS && !engine.isGameOver()) {
+            engine.playTurn();
+            turns++;
+            assertEquals(0, ledger.getPendingCount(), "Every turn must be committed when it ends");
+            assertTrue(engine.isMoneyConserved());
+        }
+        assertEquals(turns, ledger.getCommittedTurns());
+        assertTrue(ledger.getTransactions().stream()
+                .anyMatch(t -> t.getType() == TransactionType.PROPERTY_PURCHASE));
+        assertTrue(ledger.getTransactions().stream()
+                .anyMatch(t -> t.getType() == TransactionType.GO_BONUS));
+
+        alice.receiveMoney(DEBT);
+        assertFalse(engine.isMoneyConserved(), "Money created outside the economy must be detected");
+    }
+
+    private List<Player> playSeededMatch() {
+        return TestMatches.playTurns(TestMatches.newEngine(PLAYERS, SEED), TURNS).getPlayers();
+    }
+
+    private Property findPropertyWithMinPrice() {
+        for (int i = 0; i < board.size(); i++) {
+            if (board.getTileAt(i) instanceof PropertyTile pt && pt.getProperty().getPurchasePrice() >= MIN_PRICE) {
+                return pt.getProperty();
+            }
+        }
+        throw new IllegalStateException("No property on the board");
+    }
+}
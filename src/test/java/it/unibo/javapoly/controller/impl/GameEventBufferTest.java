@@ -0,0 +1,55 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.GameEventType;
+
+/**
+ * Test class for {@link GameEventBuffer}.
+ */
+class GameEventBufferTest {
+
+    private static final int GO_BONUS = 200;
+    private static final int RENT = 50;
+    private static final int EVENTS = 100;
+
+    /**
+     * Tests that the events are passed on in order, with their values, until the buffer is cleared.
+     */
+    @Test
+    void testForEach() {
+        final GameEventBuffer buffer = new GameEventBuffer();
+        buffer.onEvent(GameEventType.TILE_PASSED, "Vicolo Corto", null, 0);
+        buffer.onEvent(GameEventType.RENT_PAID, "Vicolo Stretto", "Alice", RENT);
+        buffer.onEvent(GameEventType.GO_BONUS, null, null, GO_BONUS);
+        final List<String> events = new ArrayList<>();
+        buffer.forEach((type, subject, detail, amount) ->
+                events.add(type + " " + subject + " " + detail + " " + amount));
+        assertEquals(List.of("TILE_PASSED Vicolo Corto null 0", "RENT_PAID Vicolo Stretto Alice 50",
+                "GO_BONUS null null 200"), events);
+        assertEquals(3, buffer.size());
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        buffer.forEach((type, subject, detail, amount) -> events.add(type.name()));
+        assertEquals(3, events.size());
+    }
+
+    /**
+     * Tests that the buffer grows past its initial capacity keeping the order of the events.
+     */
+    @Test
+    void testGrowth() {
+        final GameEventBuffer buffer = new GameEventBuffer();
+        for (int i = 0; i < EVENTS; i++) {
+            buffer.onEvent(i % 2 == 0 ? GameEventType.CARD_DRAWN : GameEventType.TAX_PAID, "e" + i, null, i);
+        }
+        assertEquals(EVENTS, buffer.size());
+        assertEquals(GameEventType.CARD_DRAWN, buffer.getType(0));
+        assertEquals(GameEventType.TAX_PAID, buffer.getType(EVENTS - 1));
+    }
+}
@@ -0,0 +1,225 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.GameServer;
+import it.unibo.javapoly.controller.api.ServerReport;
+import it.unibo.javapoly.controller.api.TableAction;
+import it.unibo.javapoly.controller.api.TableStatus;
+import it.unibo.javapoly.model.api.TokenType;
+
+/**
+ * Test class for {@link GameServerImpl} and {@link GameServerEndpoint}.
+ */
+class GameServerImplTest {
+
+    private static final List<String> PLAYERS = List.of("Alice", "Bob", "Carol");
+    private static final long SEED = 19L;
+    private static final int TABLES = 200;
+    private static final int TURNS = 30;
+    private static final int START_BALANCE = 1500;
+    private static final int QUEUED_ACTIONS = 500;
+
+    /**
+     * Tests that only the current player can act, and that the turn passes after the dice are thrown.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     * @throws ExecutionException if an action fails unexpectedly.
+     */
+    @Test
+    void testTurnOrder() throws InterruptedException, ExecutionException {
+        try (GameServer server = new GameServerImpl(SEED)) {
+            final int table = server.openTable(PLAYERS);
+            final ExecutionException wrongPlayer = assertThrows(ExecutionException.class,
+                    () -> server.submit(table, "Bob", TableAction.ROLL).get());
+            assertInstanceOf(IllegalStateException.class, wrongPlayer.getCause());
+            assertThrows(ExecutionException.class, () -> server.submit(table, "Alice", TableAction.END_TURN).get());
+
+            TableStatus status = server.submit(table, "Alice", TableAction.ROLL).get();
+            while (status.canRoll() && "Alice".equals(status.getCurrentPlayer())) {
+                status = server.submit(table, "Alice", TableAction.ROLL).get();
+            }
+            if ("Alice".equals(status.getCurrentPlayer())) {
+                status = server.submit(table, "Alice", TableAction.END_TURN).get();
+            }
+            assertEquals("Bob", status.getCurrentPlayer());
+            assertTrue(status.canRoll());
+        }
+    }
+
+    /**
+     * Tests that many tables played concurrently stay isolated and are all accounted in the report.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     * @throws ExecutionException if an action fails unexpectedly.
+     */
+    @Test
+    void testManyTables() throws InterruptedException, ExecutionException {
+        try (GameServer server = new GameServerImpl(SEED)) {
+            final List<Integer> tables = new ArrayList<>();
+            for (int i = 0; i < TABLES; i++) {
+                tables.add(server.openTable(PLAYERS));
+            }
+            final int idle = server.openTable(PLAYERS);
+            final List<CompletableFuture<TableStatus>> results = new ArrayList<>();
+            for (final int table : tables) {
+                CompletableFuture<TableStatus> turns = server.submit(table, null, TableAction.STATUS);
+                for (int turn = 0; turn < TURNS; turn++) {
+                    turns = turns.thenCompose(s -> s.getWinner().isPresent()
+                            ? server.submit(table, null, TableAction.STATUS)
+                            : server.submit(table, s.getCurrentPlayer(), TableAction.PLAY_TURN));
+                }
+                results.add(turns);
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get();
+
+            final TableStatus untouched = server.submit(idle, null, TableAction.STATUS).get();
+            assertEquals("Alice", untouched.getCurrentPlayer());
+            assertEquals(0, untouched.getPosition());
+            assertEquals(START_BALANCE, untouched.getBalance());
+
+            final ServerReport report = server.getReport();
+            assertEquals(TABLES + 1, report.getTablesHosted());
+            assertEquals((long) TABLES * (TURNS + 1) + 1, report.getActions());
+            assertTrue(report.getP99LatencyNanos() >= report.getMedianLatencyNanos());
+            assertTrue(report.getMedianLatencyNanos() > 0);
+            assertTrue(server.closeTable(idle));
+            assertFalse(server.closeTable(idle));
+            assertThrows(IllegalArgumentException.class, () -> server.submit(idle, "Alice", TableAction.ROLL));
+        }
+    }
+
+    /**
+     * Tests that the matches of the tables are recorded in journals that rebuild them, both for
+     * a table closed on its own and for one closed with the server.
+     *
+     * @param dir a temporary directory.
+     * @throws InterruptedException if the test is interrupted.
+     * @throws ExecutionException if an action fails unexpectedly.
+     * @throws IOException if a journal cannot be read.
+     */
+    @Test
+    void testTablesJournaled(@TempDir final Path dir) throws InterruptedException, ExecutionException, IOException {
+        final List<TableStatus> last = new ArrayList<>();
+        try (GameServer server = new GameServerImpl(SEED, dir)) {
+            final int closed = server.openTable(PLAYERS);
+            final int open = server.openTable(PLAYERS);
+            for (final int table : List.of(closed, open)) {
+                CompletableFuture<TableStatus> turns = server.submit(table, null, TableAction.STATUS);
+                for (int turn = 0; turn < TURNS; turn++) {
+                    turns = turns.thenCompose(s -> s.getWinner().isPresent()
+                            ? server.submit(table, null, TableAction.STATUS)
+                            : server.submit(table, s.getCurrentPlayer(), TableAction.PLAY_TURN));
+                }
+                last.add(turns.get());
+            }
+            assertTrue(server.closeTable(closed));
+        }
+        for (final TableStatus status : last) {
+            final GameEngine replayed = FileTurnJournal.replay(dir.resolve("table-" + status.getTable() + ".journal"),
+                    TestMatches.newBoard());
+            assertEquals(status.getCurrentPlayer(), replayed.getCurrentPlayer().getName());
+            assertEquals(status.getPosition(), replayed.getCurrentPlayer().getCurrentPosition());
+            assertEquals(status.getBalance(), replayed.getCurrentPlayer().getBalance());
+        }
+    }
+
+    /**
+     * Tests that invalid tables are rejected.
+     */
+    @Test
+    void testInvalidTables() {
+        try (GameServer server = new GameServerImpl(SEED)) {
+            assertThrows(IllegalArgumentException.class, () -> server.openTable(List.of("Alice")));
+            assertThrows(IllegalArgumentException.class, () -> server.openTable(List.of("Alice", "Alice")));
+            final List<String> crowd = new ArrayList<>();
+            for (int i = 0; i <= TokenType.predefined().size(); i++) {
+                crowd.add("Player " + i);
+            }
+            assertThrows(IllegalArgumentException.class, () -> server.openTable(crowd));
+            assertEquals(0, server.openTable(crowd.subList(1, crowd.size())));
+            server.close();
+            assertThrows(IllegalStateException.class, () -> server.openTable(PLAYERS));
+        }
+    }
+
+    /**
+     * Tests that closing the server executes every action still queued, beyond a single slice.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     * @throws ExecutionException if an action fails unexpectedly.
+     */
+    @Test
+    void testCloseDrainsMailboxes() throws InterruptedException, ExecutionException {
+        final List<CompletableFuture<TableStatus>> results = new ArrayList<>();
+        final GameServer server = new GameServerImpl(SEED);
+        final int first = server.openTable(PLAYERS);
+        final int second = server.openTable(PLAYERS);
+        for (int i = 0; i < QUEUED_ACTIONS; i++) {
+            results.add(server.submit(first, null, TableAction.STATUS));
+            results.add(server.submit(second, null, TableAction.STATUS));
+        }
+        server.close();
+        for (final CompletableFuture<TableStatus> result : results) {
+            assertTrue(result.isDone());
+            assertEquals("Alice", result.get().getCurrentPlayer());
+        }
+        assertEquals(2L * QUEUED_ACTIONS, server.getReport().getActions());
+        assertThrows(IllegalStateException.class, () -> server.submit(first, null, TableAction.STATUS));
+    }
+
+    /**
+     * Tests a client playing through the loopback endpoint.
+     *
+     * @throws IOException if the connection fails.
+     */
+    @Test
+    void testEndpoint() throws IOException {
+        try (GameServerImpl server = new GameServerImpl(SEED);
+             GameServerEndpoint endpoint = new GameServerEndpoint(server, 0)) {
+            endpoint.start();
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), endpoint.getPort());
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+                 BufferedReader in = new BufferedReader(
+                         new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+                out.println("OPEN Alice,Bob");
+                final String table = in.readLine();
+                assertTrue(table.startsWith("TABLE "));
+                final String id = table.substring("TABLE ".length());
+
+                out.println("ACT " + id + " Bob ROLL");
+                assertTrue(in.readLine().startsWith("ERR "));
+                out.println("ACT " + id + " Alice PLAY_TURN");
+                assertTrue(in.readLine().startsWith("OK table=" + id + " current=Bob"));
+                out.println("REPORT");
+                assertTrue(in.readLine().startsWith("OK tables=1 opened=1 actions=2"));
+                out.println("FOLD");
+                assertEquals("ERR Unknown command", in.readLine());
+                out.println("QUIT");
+                assertNull(in.readLine());
+            }
+        }
+    }
+}
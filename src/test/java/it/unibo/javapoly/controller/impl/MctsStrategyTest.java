@@ -0,0 +1,220 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.SearchReport;
+import it.unibo.javapoly.controller.impl.sim.SimBoard;
+import it.unibo.javapoly.controller.impl.sim.SimState;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.utils.Catalog;
+
+/**
+ * Test class for {@link MctsStrategy} and the forkable {@link SimState} it searches,
+ * with its bridge to the engine.
+ */
+class MctsStrategyTest {
+
+    private static final long SEED = 23L;
+    private static final int TURNS = 40;
+    private static final int OPENING_TURNS = 80;
+    private static final int HORIZON = 300;
+    private static final Duration BUDGET = Duration.ofMillis(2);
+    private static final long BUILD_SEED = 1L;
+    private static final Duration BUILD_BUDGET = Duration.ofMillis(100);
+    private static final int BUILDER_BALANCE = 350;
+    private static final int TENANT_BALANCE = 150;
+    private static final int TENANT_POSITION = 31;
+
+    private Board board;
+    private Player alice;
+    private Player bob;
+    private GameEngine engine;
+
+    /**
+     * Creates a two players match on the default board.
+     */
+    @BeforeEach
+    void setUp() {
+        this.board = Catalog.getInstance().newBoard();
+        this.alice = new PlayerImpl("Alice", TokenType.CAR);
+        this.bob = new PlayerImpl("Bob", TokenType.DOG);
+        this.engine = new GameEngineImpl(List.of(this.alice, this.bob), this.board, SEED);
+    }
+
+    /**
+     * Tests that a captured state mirrors the engine and that copies are independent.
+     */
+    @Test
+    void testCaptureAndCopy() {
+        final Property first = firstProperty();
+        this.engine.getPropertyController().purchaseProperty(this.bob, first.getId());
+        final SimState state = SimState.capture(new SimBoard(this.board), this.engine);
+
+        assertEquals(2, state.getPlayers());
+        assertEquals(0, state.getCurrentPlayer());
+        assertEquals(this.alice.getBalance(), state.getBalance(0));
+        assertEquals(this.bob.getBalance(), state.getBalance(1));
+        assertEquals(1, state.getOwner(first.getPosition()));
+        assertEquals(-1, state.getOwner(0));
+
+        final SimState fork = state.copy();
+        fork.playOut(new SplittableRandom(SEED), HORIZON);
+        assertTrue(fork.getTurns() > 0);
+        assertEquals(0, state.getTurns());
+        assertEquals(this.alice.getBalance(), state.getBalance(0));
+        assertEquals(0, state.getPosition(0));
+    }
+
+    /**
+     * Tests that a rollout is reproducible from its seed and never creates money.
+     */
+    @Test
+    void testPlayOut() {
+        final SimState state = SimState.capture(new SimBoard(this.board), this.engine);
+        final SimState first = state.copy();
+        final SimState second = state.copy();
+        first.playOut(new SplittableRandom(SEED), HORIZON);
+        second.playOut(new SplittableRandom(SEED), HORIZON);
+
+        for (int p = 0; p < state.getPlayers(); p++) {
+            assertEquals(first.getBalance(p), second.getBalance(p));
+            assertEquals(first.getPosition(p), second.getPosition(p));
+            assertEquals(first.isBankrupt(p), second.isBankrupt(p));
+            assertTrue(first.value(p) >= 0 && first.value(p) <= 1);
+        }
+        assertEquals(first.getTurns(), second.getTurns());
+        assertEquals(1.0, first.value(0) + first.value(1), 1e-9);
+    }
+
+    /**
+     * Tests that a state captured from a match played on, cards included, is turned back
+     * into an engine equal to the original one, which can be saved and played.
+     *
+     * @throws IOException if the save cannot be read back.
+     */
+    @Test
+    void testBridgeToEngine() throws IOException {
+        for (int turn = 0; turn < OPENING_TURNS && !this.engine.isGameOver(); turn++) {
+            this.engine.playTurn();
+        }
+        final SimBoard simBoard = new SimBoard(this.board);
+        final SimState state = SimState.capture(simBoard, this.engine);
+        final GameEngine restored = state.toEngine(this.engine, Catalog.getInstance().newBoard());
+
+        assertSameState(state, SimState.capture(simBoard, restored));
+        assertTrue(restored.isMoneyConserved());
+        final GameEngine loaded = BinarySaveFormat.read(new ByteArrayInputStream(BinarySaveFormat.toBytes(restored)));
+        assertSameState(state, SimState.capture(simBoard, loaded));
+        restored.playTurn();
+        assertThrows(IllegalArgumentException.class,
+                () -> state.toEngine(new GameEngineImpl(List.of(this.alice), this.board, SEED), this.board));
+
+        final SimState played = state.copy();
+        played.playOut(new SplittableRandom(SEED), HORIZON);
+        final SimState replayed = SimState.capture(simBoard, played.toEngine(this.engine,
+                Catalog.getInstance().newBoard()));
+        assertArrayEquals(played.getDrawPile(), replayed.getDrawPile());
+        assertArrayEquals(state.getDrawPile(), SimState.capture(simBoard, this.engine).getDrawPile());
+    }
+
+    /**
+     * Tests a match where a player is driven by the search, and the statistics it reports.
+     */
+    @Test
+    void testSearchDrivesMatch() {
+        try (MctsStrategy strategy = new MctsStrategy(BUDGET, 2, SEED)) {
+            this.engine.setStrategy(this.alice, strategy);
+            this.engine.setStrategy(this.bob, new MonopolyStrategy());
+            for (int turn = 0; turn < TURNS && !this.engine.isGameOver(); turn++) {
+                this.engine.playTurn();
+                assertTrue(this.engine.isMoneyConserved());
+            }
+            final SearchReport report = strategy.getReport();
+            assertTrue(report.getDecisions() > 0);
+            assertTrue(report.getRollouts() >= 2 * report.getDecisions(), "Both answers are always tried");
+            assertTrue(report.getRolloutsPerSecond() > 0);
+            assertFalse(this.engine.getPropertyController().getOwnedProperties(this.alice.getName()).isEmpty());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(Duration.ZERO, 1, SEED));
+        assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(BUDGET, 0, SEED));
+    }
+
+    /**
+     * Tests that the search builds a house when it clearly pays off: the opponent is a few steps
+     * before a complete group and goes bankrupt if the rent of a house is due, while the builder
+     * keeps too little money for the fixed policy of the rollouts to build later.
+     */
+    @Test
+    void testSearchBuildsWhenItPaysOff() {
+        final GameEngine match = new GameEngineImpl(List.of(this.alice, this.bob), this.board, BUILD_SEED);
+        match.handleDiceThrow();
+        assertFalse(match.canCurrentPlayerRoll(), "Alice has thrown her dice");
+        Property target = null;
+        for (int i = 0; i < this.board.size(); i++) {
+            if (this.board.getTileAt(i) instanceof PropertyTile pt
+                    && pt.getProperty().getPropertyGroup() == PropertyGroup.DARKBLUE) {
+                match.getPropertyController().purchaseProperty(this.alice, pt.getProperty().getId());
+                target = pt.getProperty();
+            }
+        }
+        assertNotNull(target);
+        this.alice.tryToPay(this.alice.getBalance() - BUILDER_BALANCE);
+        this.bob.tryToPay(this.bob.getBalance() - TENANT_BALANCE);
+        this.bob.move(TENANT_POSITION);
+        try (MctsStrategy strategy = new MctsStrategy(BUILD_BUDGET, 2, SEED)) {
+            assertTrue(strategy.shouldBuildHouse(this.engine, this.alice, target,
+                    match.getPropertyController().getHouseCost(target)));
+        }
+    }
+
+    private void assertSameState(final SimState expected, final SimState actual) {
+        assertEquals(expected.getCurrentPlayer(), actual.getCurrentPlayer());
+        for (int p = 0; p < expected.getPlayers(); p++) {
+            assertEquals(expected.getPosition(p), actual.getPosition(p));
+            assertEquals(expected.getBalance(p), actual.getBalance(p));
+            assertEquals(expected.isJailed(p), actual.isJailed(p));
+            assertEquals(expected.isBankrupt(p), actual.isBankrupt(p));
+        }
+        for (int t = 0; t < this.board.size(); t++) {
+            assertEquals(expected.getOwner(t), actual.getOwner(t));
+            assertEquals(expected.getHouses(t), actual.getHouses(t));
+        }
+        for (int c = 0; c < Catalog.getInstance().getCards().size(); c++) {
+            assertEquals(expected.getCardHolder(c), actual.getCardHolder(c));
+        }
+        assertArrayEquals(expected.getDrawPile(), actual.getDrawPile());
+    }
+
+    private Property firstProperty() {
+        final List<Property> found = new ArrayList<>();
+        for (int i = 0; i < this.board.size(); i++) {
+            if (this.board.getTileAt(i) instanceof PropertyTile pt) {
+                assertEquals(i, pt.getProperty().getPosition());
+                found.add(pt.getProperty());
+            }
+        }
+        return found.get(0);
+    }
+}
@@ -0,0 +1,135 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.api.PlayerStrategy;
+import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.economy.TransactionType;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.utils.Catalog;
+
+/**
+ * Test class for {@link MonopolyStrategy} and the other reference strategies,
+ * alone and driving a whole headless match.
+ */
+class MonopolyStrategyTest {
+
+    private static final long SEED = 22L;
+    private static final int TURNS = 600;
+    private static final int HUGE_RESERVE = 1_000_000;
+    private static final int BOTS = 4;
+
+    private Board board;
+    private Player alice;
+    private Player bob;
+    private GameEngine engine;
+
+    /**
+     * Creates a two players match on the default board.
+     */
+    @BeforeEach
+    void setUp() {
+        this.board = Catalog.getInstance().newBoard();
+        this.alice = new PlayerImpl("Alice", TokenType.CAR);
+        this.bob = new PlayerImpl("Bob", TokenType.DOG);
+        this.engine = new GameEngineImpl(List.of(this.alice, this.bob), this.board, SEED);
+    }
+
+    /**
+     * Tests that the bot buys what can still become a monopoly or blocks one, and nothing else.
+     */
+    @Test
+    void testBuyDecisions() {
+        final PlayerStrategy strategy = new MonopolyStrategy(HUGE_RESERVE);
+        final PropertyController properties = this.engine.getPropertyController();
+        final List<Property> green = group(PropertyGroup.GREEN);
+        final List<Property> red = group(PropertyGroup.RED);
+
+        assertTrue(strategy.shouldBuy(this.engine, this.alice, green.get(0)));
+        properties.purchaseProperty(this.bob, green.get(0).getId());
+        assertFalse(strategy.shouldBuy(this.engine, this.alice, green.get(1)));
+        properties.purchaseProperty(this.bob, green.get(1).getId());
+        assertTrue(strategy.shouldBuy(this.engine, this.alice, green.get(2)), "The last free property blocks Bob");
+
+        properties.purchaseProperty(this.alice, red.get(0).getId());
+        properties.purchaseProperty(this.alice, red.get(1).getId());
+        assertTrue(strategy.shouldBuy(this.engine, this.alice, red.get(2)));
+        assertTrue(strategy.shouldBuy(this.engine, this.bob, red.get(2)), "The last free property blocks Alice");
+        final List<Property> yellow = group(PropertyGroup.YELLOW);
+        properties.purchaseProperty(this.alice, yellow.get(0).getId());
+        properties.purchaseProperty(this.bob, yellow.get(1).getId());
+        assertFalse(strategy.shouldBuy(this.engine, this.alice, yellow.get(2)), "The group is lost to both");
+        assertFalse(strategy.shouldPayBail(this.engine, this.alice, 0));
+        assertTrue(new MonopolyStrategy().shouldPayBail(this.engine, this.alice, 0));
+    }
+
+    /**
+     * Tests the default strategy and the validation of the strategies of the engine.
+     */
+    @Test
+    void testEngineStrategies() {
+        assertSame(AlwaysBuyStrategy.getInstance(), this.engine.getStrategy(this.alice));
+        final PlayerStrategy cautious = new CashReserveStrategy();
+        this.engine.setStrategy(this.bob, cautious);
+        assertSame(cautious, this.engine.getStrategy(this.bob));
+        assertThrows(IllegalArgumentException.class,
+                () -> this.engine.setStrategy(new PlayerImpl("Carol", TokenType.HAT), cautious));
+        assertThrows(IllegalArgumentException.class, () -> new CashReserveStrategy(-1));
+    }
+
+    /**
+     * Tests that a match played only by bots runs end to end, builds houses
+     * and respects the decisions of each bot.
+     */
+    @Test
+    void testBotsPlayWholeMatch() {
+        final List<Player> players = new ArrayList<>();
+        for (int i = 0; i < BOTS; i++) {
+            players.add(new PlayerImpl("Bot" + i, TokenType.values()[i]));
+        }
+        final Player saver = players.get(BOTS - 1);
+        final GameEngine bots = new GameEngineImpl(players, Catalog.getInstance().newBoard(), SEED);
+        bots.setStrategy(players.get(0), new MonopolyStrategy());
+        bots.setStrategy(players.get(1), new MonopolyStrategy());
+        bots.setStrategy(players.get(2), new CashReserveStrategy());
+        bots.setStrategy(saver, new CashReserveStrategy(HUGE_RESERVE));
+
+        for (int turn = 0; turn < TURNS && !bots.isGameOver(); turn++) {
+            bots.playTurn();
+            assertTrue(bots.isMoneyConserved());
+        }
+        assertTrue(bots.getEconomyController().getLedger().getTransactions().stream()
+                .anyMatch(t -> t.getType() == TransactionType.HOUSE_PURCHASE));
+        assertTrue(bots.getEconomyController().getLedger().getTransactions().stream()
+                .noneMatch(t -> t.getPayer().equals(saver.getName())
+                        && t.getType() == TransactionType.PROPERTY_PURCHASE), "The bot must keep its reserve");
+        assertEquals(0, bots.getPropertyController().getOwnedProperties(saver.getName()).size());
+    }
+
+    private List<Property> group(final PropertyGroup group) {
+        final List<Property> found = new ArrayList<>();
+        for (int i = 0; i < this.board.size(); i++) {
+            if (this.board.getTileAt(i) instanceof PropertyTile pt && pt.getProperty().getPropertyGroup() == group) {
+                found.add(pt.getProperty());
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,120 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.utils.BoardLoader;
+
+/**
+ * Test class for the ownership indexes of {@link PropertyControllerImpl}.
+ */
+class PropertyControllerImplTest {
+
+    private static final String BOARD_PATH = "/Card/BoardTiles.json";
+    private static final int DICE_ROLL = 7;
+
+    private Map<String, Property> properties;
+    private PropertyController controller;
+    private Player alice;
+    private Player bob;
+    private List<Property> browns;
+
+    /**
+     * Creates a controller with the properties of the default board.
+     *
+     * @throws IOException if the board cannot be loaded.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream is = PropertyControllerImplTest.class.getResourceAsStream(BOARD_PATH)) {
+            properties = BoardLoader.loadPropertiesFromJson(is);
+        }
+        controller = new PropertyControllerImpl(properties);
+        alice = new PlayerImpl("Alice", TokenType.CAR);
+        bob = new PlayerImpl("Bob", TokenType.DOG);
+        browns = properties.values().stream()
+                .filter(p -> p.getPropertyGroup() == PropertyGroup.BROWN)
+                .toList();
+    }
+
+    /**
+     * Tests that purchases and returns to the bank keep the owned properties up to date.
+     */
+    @Test
+    void testOwnedPropertiesFollowPurchasesAndReturns() {
+        final Property first = browns.get(0);
+        assertTrue(controller.purchaseProperty(alice, first.getId()));
+        assertFalse(controller.purchaseProperty(bob, first.getId()), "An owned property cannot be bought again");
+        assertEquals(List.of(first), controller.getOwnedProperties(alice.getName()));
+        assertTrue(controller.getOwnedProperties(bob.getName()).isEmpty());
+
+        controller.returnPropertyToBank(first);
+        assertTrue(controller.getOwnedProperties(alice.getName()).isEmpty());
+        assertTrue(controller.purchaseProperty(bob, first.getId()));
+        assertEquals(bob, controller.getOwnerByProperty(first));
+    }
+
+    /**
+     * Tests that houses can be built only on a complete group.
+     */
+    @Test
+    void testBuildHouseRequiresCompleteGroup() {
+        final Property first = browns.get(0);
+        controller.purchaseProperty(alice, first.getId());
+        assertFalse(controller.buildHouse(alice, first.getId()), "Half a group is not a monopoly");
+
+        for (final Property p : browns) {
+            controller.purchaseProperty(alice, p.getId());
+        }
+        assertTrue(controller.buildHouse(alice, first.getId()));
+        assertFalse(controller.buildHouse(alice, first.getId()), "Houses must be built evenly");
+
+        controller.returnPropertyToBank(browns.get(1));
+        assertFalse(controller.buildHouse(alice, browns.get(1).getId()), "The group is no longer complete");
+    }
+
+    /**
+     * Tests that the rent doubles when the owner holds the whole group.
+     */
+    @Test
+    void testRentWithMonopoly() {
+        final Property first = browns.get(0);
+        controller.purchaseProperty(alice, first.getId());
+        final int baseRent = controller.getRent(bob, first.getId(), DICE_ROLL);
+
+        for (final Property p : browns) {
+            controller.purchaseProperty(alice, p.getId());
+        }
+        assertEquals(2 * baseRent, controller.getRent(bob, first.getId(), DICE_ROLL));
+        assertEquals(0, controller.getRent(alice, first.getId(), DICE_ROLL), "The owner pays no rent");
+    }
+
+    /**
+     * Tests that the indexes are rebuilt from a saved owners map.
+     */
+    @Test
+    void testIndexesRestoredFromSavedOwners() {
+        for (final Property p : browns) {
+            controller.purchaseProperty(alice, p.getId());
+        }
+        final Map<String, Player> owners = Map.of(browns.get(0).getId(), alice, browns.get(1).getId(), alice);
+        final PropertyController restored = new PropertyControllerImpl(properties, owners);
+        assertEquals(browns.size(), restored.getOwnedProperties(alice.getName()).size());
+        assertTrue(restored.buildHouse(alice, browns.get(0).getId()));
+    }
+}
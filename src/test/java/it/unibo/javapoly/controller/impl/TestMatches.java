@@ -0,0 +1,72 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.utils.Catalog;
+
+/**
+ * Matches shared by the tests of the engine and of its saves: Alice, Bob and Carol playing
+ * a seeded match on a new board of the {@link Catalog}.
+ */
+public final class TestMatches {
+
+    private static final List<String> NAMES = List.of("Alice", "Bob", "Carol");
+    private static final List<TokenType> TOKENS = List.of(TokenType.CAR, TokenType.DOG, TokenType.HAT);
+
+    private TestMatches() {
+    }
+
+    /**
+     * Creates a board for a new match.
+     *
+     * @return a board where every property is owned by the bank.
+     */
+    public static Board newBoard() {
+        return Catalog.getInstance().newBoard();
+    }
+
+    /**
+     * Creates the players of a match, in the order Alice, Bob and Carol.
+     *
+     * @param count the number of players, from 1 to 3.
+     * @return the players, with the starting balance.
+     */
+    public static List<Player> newPlayers(final int count) {
+        final List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(new PlayerImpl(NAMES.get(i), TOKENS.get(i)));
+        }
+        return players;
+    }
+
+    /**
+     * Creates a seeded match on a new board.
+     *
+     * @param players the number of players, from 1 to 3.
+     * @param seed the seed of the match.
+     * @return the engine of the match, not started yet.
+     */
+    public static GameEngine newEngine(final int players, final long seed) {
+        return new GameEngineImpl(newPlayers(players), newBoard(), seed);
+    }
+
+    /**
+     * Plays automated turns until the given number is reached or the match is over.
+     *
+     * @param engine the match.
+     * @param turns the maximum number of turns.
+     * @return the engine of the match.
+     */
+    public static GameEngine playTurns(final GameEngine engine, final int turns) {
+        for (int i = 0; i < turns && !engine.isGameOver(); i++) {
+            engine.playTurn();
+        }
+        return engine;
+    }
+}
@@ -0,0 +1,102 @@
+package it.unibo.javapoly.controller.impl.sim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.LandingAnalysis;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.utils.Catalog;
+
+/**
+ * Test class for {@link LandingChain} and {@link LandingAnalysisImpl}.
+ */
+class LandingChainTest {
+
+    private static final int THREADS = 4;
+    private static final double EPSILON = 1e-9;
+    private static final int HOTEL = 5;
+
+    private Board board;
+    private LandingChain chain;
+
+    /**
+     * Builds the chain of the default board.
+     */
+    @BeforeEach
+    void setUp() {
+        this.board = Catalog.getInstance().newBoard();
+        this.chain = new LandingChain(new SimBoard(this.board));
+    }
+
+    /**
+     * Tests that the solution is a distribution where the jail is the most visited tile
+     * and nobody stays on "Go to jail".
+     */
+    @Test
+    void testStationaryDistribution() {
+        final LandingAnalysis analysis = this.chain.solve(THREADS);
+        assertEquals(this.board.size(), analysis.size());
+        assertTrue(analysis.getResidual() < LandingChain.DEFAULT_TOLERANCE);
+        assertTrue(analysis.getIterations() > 0);
+
+        double total = 0;
+        int mostVisited = 0;
+        for (int tile = 0; tile < analysis.size(); tile++) {
+            total += analysis.getLandingProbability(tile);
+            assertTrue(analysis.getLandingsPerTurn(tile) >= analysis.getLandingProbability(tile));
+            if (analysis.getLandingProbability(tile) > analysis.getLandingProbability(mostVisited)) {
+                mostVisited = tile;
+            }
+        }
+        assertEquals(1.0, total, EPSILON);
+        assertEquals(TileType.JAIL, this.board.getTileAt(mostVisited).getType());
+        assertEquals(0.0, analysis.getLandingProbability(this.board.getPositionsOfType(TileType.GO_TO_JAIL)[0]));
+    }
+
+    /**
+     * Tests that the result does not depend on the number of threads.
+     */
+    @Test
+    void testThreadsAgree() {
+        final LandingAnalysis single = this.chain.solve(1);
+        final LandingAnalysis parallel = this.chain.solve(THREADS);
+        assertEquals(single.getIterations(), parallel.getIterations());
+        for (int tile = 0; tile < single.size(); tile++) {
+            assertEquals(single.getLandingProbability(tile), parallel.getLandingProbability(tile), EPSILON);
+        }
+        assertThrows(IllegalArgumentException.class, () -> this.chain.solve(0));
+        assertThrows(IllegalArgumentException.class, () -> this.chain.solve(1, 0));
+    }
+
+    /**
+     * Tests the expected rents of tiles and groups.
+     */
+    @Test
+    void testExpectedRents() {
+        final LandingAnalysis analysis = this.chain.solve(THREADS);
+        assertEquals(0.0, analysis.getExpectedRent(0, 0));
+        for (final PropertyGroup group : PropertyGroup.values()) {
+            double sum = 0;
+            for (int tile = 0; tile < this.board.size(); tile++) {
+                if (this.board.getTileAt(tile) instanceof PropertyTile pt
+                        && pt.getProperty().getPropertyGroup() == group) {
+                    sum += analysis.getExpectedRent(tile, 2);
+                    assertTrue(analysis.getExpectedRent(tile, 0) > 0);
+                }
+            }
+            assertEquals(sum, analysis.getExpectedGroupRent(group, 2), EPSILON);
+        }
+        final int land = this.board.getPositionsOfType(TileType.PROPERTY)[0];
+        assertTrue(analysis.getExpectedRent(land, HOTEL) > analysis.getExpectedRent(land, 1));
+        assertTrue(analysis.getExpectedGroupRent(PropertyGroup.DARKBLUE, 0)
+                > analysis.getExpectedGroupRent(PropertyGroup.BROWN, 0));
+        assertThrows(IllegalArgumentException.class, () -> analysis.getExpectedRent(land, HOTEL + 1));
+    }
+}
@@ -3,6 +3,8 @@ package it.unibo.javapoly.model.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.SplittableRandom;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -16,6 +18,7 @@ public final class DiceTest {
     private static final int MAX_SUM = 12;
     private static final int MIN_SUM = 2;
     private static final int REPETITIONS = 1000;
+    private static final long SEED = 42L;
 
     private Dice dice1;
     private Dice dice2;
@@ -65,4 +68,21 @@ public final class DiceTest {
     void testInitialState() {
         assertEquals(0, diceThrow.getLastThrow(), "Il risultato iniziale dovrebbe essere 0");
     }
+
+    /**
+     * Tests that dice created from the same seed throw the same sequence.
+     */
+    @Test
+    void testSeededThrowsAreReproducible() {
+        final DiceThrow first = new DiceThrow(new SplittableRandom(SEED));
+        final DiceThrow second = new DiceThrow(new SplittableRandom(SEED));
+        for (int i = 0; i < REPETITIONS; i++) {
+            first.throwAll();
+            second.throwAll();
+            assertEquals(first.getDice1().getDicesResult(), second.getDice1().getDicesResult(),
+                    "Lo stesso seed deve produrre gli stessi lanci");
+            assertEquals(first.getDice2().getDicesResult(), second.getDice2().getDicesResult(),
+                    "Lo stesso seed deve produrre gli stessi lanci");
+        }
+    }
 }
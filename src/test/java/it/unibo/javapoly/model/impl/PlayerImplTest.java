@@ -0,0 +1,125 @@
+package it.unibo.javapoly.model.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.PlayerObserver;
+import it.unibo.javapoly.model.api.PlayerState;
+import it.unibo.javapoly.model.api.TokenType;
+
+/**
+ * Test class for {@link PlayerImpl}, focused on concurrent access.
+ */
+class PlayerImplTest {
+
+    private static final int PLAYERS = 4;
+    private static final int THREADS = 8;
+    private static final int TRANSFERS = 20_000;
+    private static final int START_BALANCE = 500;
+    private static final int MAX_AMOUNT = 200;
+    private static final long SEED = 20L;
+
+    /**
+     * Tests that paying and receiving money keep the balance consistent.
+     */
+    @Test
+    void testPayments() {
+        final Player player = new PlayerImpl("Alice", START_BALANCE, TokenType.CAR, null);
+        assertTrue(player.tryToPay(START_BALANCE));
+        assertEquals(0, player.getBalance());
+        assertFalse(player.tryToPay(1));
+        player.receiveMoney(MAX_AMOUNT);
+        assertEquals(MAX_AMOUNT, player.getBalance());
+    }
+
+    /**
+     * Tests that money is conserved when many threads move it between the same players,
+     * while observers are added and removed during the notifications.
+     *
+     * @throws Exception if a worker fails.
+     */
+    @Test
+    void testMoneyIsConserved() throws Exception {
+        final List<Player> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(new PlayerImpl("Player" + i, START_BALANCE, TokenType.values()[i], null));
+        }
+        final AtomicBoolean overdrawn = new AtomicBoolean();
+        final PlayerObserver watcher = new BalanceWatcher(overdrawn);
+        players.forEach(p -> p.addObserver(watcher));
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> workers = new ArrayList<>();
+        final SplittableRandom seeds = new SplittableRandom(SEED);
+        try (ExecutorService pool = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                final SplittableRandom random = seeds.split();
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    final PlayerObserver extra = new BalanceWatcher(overdrawn);
+                    for (int i = 0; i < TRANSFERS; i++) {
+                        final Player from = players.get(random.nextInt(PLAYERS));
+                        final Player to = players.get(random.nextInt(PLAYERS));
+                        final int amount = random.nextInt(MAX_AMOUNT);
+                        if (from.tryToPay(amount)) {
+                            to.receiveMoney(amount);
+                        }
+                        if (i % PLAYERS == 0) {
+                            from.addObserver(extra);
+                        } else {
+                            from.removeObserver(extra);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        assertEquals(PLAYERS * START_BALANCE, players.stream().mapToInt(Player::getBalance).sum());
+        assertFalse(overdrawn.get());
+    }
+
+    /**
+     * Observer flagging any notification of a negative balance.
+     */
+    private static final class BalanceWatcher implements PlayerObserver {
+
+        private final AtomicBoolean overdrawn;
+
+        BalanceWatcher(final AtomicBoolean overdrawn) {
+            this.overdrawn = overdrawn;
+        }
+
+        @Override
+        public void onPlayerMoved(final Player player, final int oldPosition, final int newPosition) {
+        }
+
+        @Override
+        public void onBalanceChanged(final Player player, final int newBalance) {
+            if (newBalance < 0) {
+                this.overdrawn.set(true);
+            }
+        }
+
+        @Override
+        public void onStateChanged(final Player player, final PlayerState oldState, final PlayerState newState) {
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package it.unibo.javapoly.model.impl.board;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -11,6 +12,9 @@ import org.junit.jupiter.api.Test;
 
 import it.unibo.javapoly.model.api.board.Board;
 import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.impl.board.tile.FreeParkingTile;
+import it.unibo.javapoly.model.impl.board.tile.JailTile;
 import it.unibo.javapoly.model.impl.board.tile.StartTile;
 
 /**
@@ -58,4 +62,29 @@ class BoardTest {
         assertEquals(2, board.normalizePosition(-1));
         assertEquals(1, board.normalizePosition(4));
     }
+
+    /**
+     * Verifies the typed positions and the next tile lookup, including the wrap around.
+     */
+    @Test
+    @DisplayName("nextPositionOfType and getPositionsOfType behavior")
+    void testNextPositionOfType() {
+        final List<Tile> tiles = new ArrayList<>();
+        tiles.add(new StartTile(0, "Start", START_TILE_VALUE, "Start description"));
+        tiles.add(new JailTile(1, "Jail", "Jail description"));
+        tiles.add(new FreeParkingTile(2, "Parking", "Parking description"));
+        tiles.add(new JailTile(3, "Jail", "Jail description"));
+
+        final Board board = new BoardImpl(tiles);
+
+        assertArrayEquals(new int[] {1, 3}, board.getPositionsOfType(TileType.JAIL));
+        assertArrayEquals(new int[0], board.getPositionsOfType(TileType.UTILITY));
+
+        assertEquals(1, board.nextPositionOfType(0, TileType.JAIL));
+        assertEquals(3, board.nextPositionOfType(1, TileType.JAIL));
+        assertEquals(1, board.nextPositionOfType(3, TileType.JAIL), "The search wraps around the board");
+        assertEquals(-1, board.nextPositionOfType(0, TileType.START), "The starting tile is excluded");
+        assertEquals(0, board.nextPositionOfType(2, TileType.START));
+        assertEquals(-1, board.nextPositionOfType(0, TileType.UTILITY));
+    }
 }
@@ -0,0 +1,90 @@
+package it.unibo.javapoly.model.impl.economy;
+
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.api.economy.Transaction;
+import it.unibo.javapoly.model.api.economy.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link LedgerImpl}.
+ */
+class LedgerImplTest {
+
+    private static final String MARIO = "Mario";
+    private static final String LUIGI = "Luigi";
+    private static final int GO_BONUS = 200;
+    private static final int RENT = 50;
+    private static final int TAX = 100;
+    private static final int MANY = 1000;
+
+    private Ledger ledger;
+
+    /**
+     * Creates an empty ledger before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.ledger = new LedgerImpl();
+    }
+
+    /**
+     * Tests that transactions become visible only when their turn is committed.
+     */
+    @Test
+    void testCommit() {
+        this.ledger.record(TransactionType.GO_BONUS, Transaction.BANK, MARIO, GO_BONUS);
+        this.ledger.record(TransactionType.RENT, MARIO, LUIGI, RENT);
+        assertEquals(2, this.ledger.getPendingCount());
+        assertTrue(this.ledger.getTransactions().isEmpty());
+
+        assertEquals(2, this.ledger.commit());
+        assertEquals(0, this.ledger.commit());
+        this.ledger.record(TransactionType.TAX, LUIGI, Transaction.BANK, TAX);
+        assertEquals(2, this.ledger.getCommittedTurns());
+        assertEquals(1, this.ledger.getPendingCount());
+
+        final List<Transaction> committed = this.ledger.getTransactions();
+        assertEquals(2, committed.size());
+        assertEquals(0, committed.get(1).getTurn());
+        assertEquals(TransactionType.RENT, committed.get(1).getType());
+        assertEquals(MARIO, committed.get(1).getPayer());
+        assertEquals(LUIGI, committed.get(1).getPayee());
+        assertEquals(RENT, committed.get(1).getAmount());
+        assertThrows(UnsupportedOperationException.class, () -> committed.remove(0));
+    }
+
+    /**
+     * Tests that the balance of the bank follows the money it pays and collects.
+     */
+    @Test
+    void testBankBalance() {
+        for (int i = 0; i < MANY; i++) {
+            this.ledger.record(TransactionType.GO_BONUS, Transaction.BANK, MARIO, GO_BONUS);
+            this.ledger.record(TransactionType.RENT, MARIO, LUIGI, RENT);
+            this.ledger.record(TransactionType.TAX, LUIGI, Transaction.BANK, TAX);
+            this.ledger.commit();
+        }
+        assertEquals((long) MANY * (TAX - GO_BONUS), this.ledger.getBankBalance());
+        assertEquals(3 * MANY, this.ledger.getTransactions().size());
+        assertEquals(MANY - 1, this.ledger.getTransactions().get(3 * MANY - 1).getTurn());
+    }
+
+    /**
+     * Tests that invalid transactions are rejected.
+     */
+    @Test
+    void testInvalidTransactions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> this.ledger.record(TransactionType.RENT, MARIO, LUIGI, 0));
+        assertThrows(NullPointerException.class,
+                () -> this.ledger.record(null, MARIO, LUIGI, RENT));
+        assertEquals(0, this.ledger.getPendingCount());
+    }
+}
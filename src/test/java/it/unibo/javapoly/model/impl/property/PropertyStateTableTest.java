@@ -0,0 +1,77 @@
+package it.unibo.javapoly.model.impl.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.model.api.RentContext;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.card.AbstractPropertyCard;
+
+class PropertyStateTableTest {
+
+    private static final String BANK = "BANK";
+    private static final String ALICE = "alice";
+    private static final String BOB = "bob";
+    private static final int PRICE = 200;
+    private static final int HOTEL = 5;
+
+    private static PropertyImpl property(final String id, final PropertyStateTable states) {
+        final AbstractPropertyCard card = new AbstractPropertyCard(id, id, "", PRICE, PropertyGroup.RED) {
+            @Override
+            public int calculateRent(final RentContext ctx) {
+                return 0;
+            }
+        };
+        return new PropertyImpl(new PropertyImpl(id, 1, card), states);
+    }
+
+    @Test
+    void propertiesSharingATableKeepTheirOwnState() {
+        final PropertyStateTable states = new PropertyStateTable(2);
+        final PropertyImpl first = property("first", states);
+        final PropertyImpl second = property("second", states);
+
+        assertTrue(first.assignOwner(ALICE));
+        assertTrue(first.buildHouse(ALICE));
+        assertTrue(second.assignOwner(BOB));
+
+        assertEquals(ALICE, first.getIdOwner());
+        assertEquals(1, first.getBuiltHouses());
+        assertEquals(BOB, second.getIdOwner());
+        assertEquals(0, second.getBuiltHouses());
+
+        first.clearOwner();
+        assertEquals(BANK, first.getState().getOwnerId());
+        assertEquals(0, first.getBuiltHouses());
+        assertFalse(first.isOwnedByPlayer());
+        assertEquals(BOB, second.getIdOwner());
+    }
+
+    @Test
+    void copyInATableKeepsOwnerAndHouses() {
+        final PropertyImpl original = property("original", new PropertyStateTable(1));
+        original.assignOwner(ALICE);
+        for (int i = 0; i < HOTEL + 1; i++) {
+            original.buildHouse(ALICE);
+        }
+
+        final PropertyImpl copy = new PropertyImpl(original, new PropertyStateTable(1));
+        assertEquals(ALICE, copy.getIdOwner());
+        assertEquals(HOTEL, copy.getBuiltHouses());
+        assertTrue(copy.hotelIsBuilt());
+        assertEquals(PRICE, copy.getState().getPurchasePrice());
+    }
+
+    @Test
+    void fullTableRejectsNewProperties() {
+        final PropertyStateTable states = new PropertyStateTable(1);
+        property("only", states);
+        assertEquals(1, states.capacity());
+        assertThrows(IllegalStateException.class, () -> property("extra", states));
+        assertThrows(IllegalArgumentException.class, () -> new PropertyStateTable(-1));
+    }
+}
@@ -1,13 +1,18 @@
 package it.unibo.javapoly.model.impl.propertycard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import it.unibo.javapoly.model.api.RentContext;
 import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.card.AbstractPropertyCard;
 import it.unibo.javapoly.model.impl.card.LandPropertyCard;
 
 class LandPropertyCardTest {
@@ -84,4 +89,51 @@ class LandPropertyCardTest {
         final RentContext hotelCtx = RentContext.forLand(hotelIndicator, false);
         assertEquals(HOTEL_RENT, card.calculateRent(hotelCtx), "hotel rent must match the hotel value");
     }
+
+    @Test
+    void rentTableMatchesRentContext() {
+        final LandPropertyCard card = new LandPropertyCard(
+            ID,
+            NAME,
+            DESCRIPTION,
+            PROPERTY_COST,
+            GROUP,
+            BASE_RENT,
+            HOUSE_RENTS,
+            HOTEL_RENT,
+            HOUSE_PRICE,
+            HOTEL_PRICE
+        );
+
+        for (int houses = 0; houses <= HOUSE_RENTS.size() + 1; houses++) {
+            assertEquals(card.calculateRent(RentContext.forLand(houses, false)), card.rentFor(houses, 1, false, 0),
+                "the rent table must match calculateRent");
+            assertEquals(card.calculateRent(RentContext.forLand(houses, true)), card.rentFor(houses, 1, true, 0),
+                "the rent table must match calculateRent with a monopoly");
+        }
+        assertEquals(2 * HOTEL_RENT, card.rentFor(HOUSE_RENTS.size() + 1, 1, true, 0), "monopoly doubles the rent");
+    }
+
+    @Test
+    void oldSavedRentListsAreMigrated() throws JsonProcessingException {
+        final List<Integer> expected = List.of(2, 10, 30, 90, 160, 250);
+        for (final String rents : List.of("[10, 30, 90, 160]", "[2, 10, 30, 90, 160, 250]",
+                "[2, 2, 10, 30, 90, 160, 250, 250]")) {
+            final LandPropertyCard card = (LandPropertyCard) readStreet(rents);
+            assertEquals(expected, card.getAllRent(), "the rents read from " + rents + " must not be shifted");
+        }
+    }
+
+    @Test
+    void invalidRentListsAreRejected() {
+        assertThrows(JsonProcessingException.class, () -> readStreet("[10, 30, 90]"));
+        assertThrows(JsonProcessingException.class, () -> readStreet("[1, 10, 30, 90, 160, 250]"));
+    }
+
+    private static AbstractPropertyCard readStreet(final String rents) throws JsonProcessingException {
+        return new ObjectMapper().readValue("{\"type\": \"street\", \"id\": \"vicolo_corto\","
+                + " \"name\": \"Vicolo Corto\", \"description\": \"\", \"propertyCost\": 60,"
+                + " \"group\": \"BROWN\", \"baseRent\": 2, \"houseCost\": 50, \"hotelCost\": 50,"
+                + " \"hotelRent\": 250, \"rents\": " + rents + "}", AbstractPropertyCard.class);
+    }
 }
@@ -0,0 +1,76 @@
+package it.unibo.javapoly.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+
+/**
+ * Test class for {@link Catalog}.
+ */
+class CatalogTest {
+
+    private static final String OWNER = "Alice";
+
+    private static Property firstProperty(final Board board) {
+        for (int i = 0; i < board.size(); i++) {
+            if (board.getTileAt(i) instanceof PropertyTile tile) {
+                return tile.getProperty();
+            }
+        }
+        throw new IllegalStateException("The board has no properties");
+    }
+
+    /**
+     * Tests that every board shares the tiles without a state and has its own properties.
+     */
+    @Test
+    void testNewBoard() {
+        final Board first = Catalog.getInstance().newBoard();
+        final Board second = Catalog.getInstance().newBoard();
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            if (first.getTileAt(i) instanceof PropertyTile tile) {
+                final Property other = ((PropertyTile) second.getTileAt(i)).getProperty();
+                assertNotSame(tile.getProperty(), other);
+                assertSame(tile.getProperty().getCard(), other.getCard());
+                assertFalse(tile.getProperty().isOwnedByPlayer());
+            } else {
+                assertSame(first.getTileAt(i), second.getTileAt(i));
+            }
+        }
+    }
+
+    /**
+     * Tests that a property bought on a board is still owned by the bank on the other ones.
+     */
+    @Test
+    void testBoardsAreIndependent() {
+        final Property bought = firstProperty(Catalog.getInstance().newBoard());
+        assertTrue(bought.assignOwner(OWNER));
+
+        final Property fresh = firstProperty(Catalog.getInstance().newBoard());
+        assertFalse(fresh.isOwnedByPlayer());
+        assertTrue(bought.playerIsTheOwner(OWNER));
+    }
+
+    /**
+     * Tests that the cards are loaded once and cannot be changed.
+     */
+    @Test
+    void testCards() {
+        assertFalse(Catalog.getInstance().getCards().isEmpty());
+        assertSame(Catalog.getInstance().getCards(), Catalog.getInstance().getCards());
+        final GameCard card = Catalog.getInstance().getCards().get(0);
+        assertThrows(UnsupportedOperationException.class, () -> Catalog.getInstance().getCards().add(card));
+    }
+}
@@ -0,0 +1,94 @@
+package it.unibo.javapoly.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import it.unibo.javapoly.controller.api.GameEngine;
+import it.unibo.javapoly.controller.impl.TestMatches;
+import it.unibo.javapoly.model.api.Player;
+
+/**
+ * Test class for {@link MatchControllerSerializer}.
+ */
+class MatchControllerSerializerTest {
+
+    private static final int PLAYERS = 2;
+    private static final String SAVE_NAME = "save.json";
+    private static final int TURNS = 20;
+    private static final long SEED = 11L;
+    private static final int BONUS = 1000;
+
+    private static GameEngine newEngine() {
+        return TestMatches.newEngine(PLAYERS, SEED);
+    }
+
+    /**
+     * Tests that a background save is read back as the match that was saved.
+     *
+     * @param dir a temporary directory.
+     * @throws Exception if the save cannot be written or read.
+     */
+    @Test
+    void testSaveIsLoadedBack(@TempDir final Path dir) throws Exception {
+        final GameEngine engine = TestMatches.playTurns(newEngine(), TURNS);
+        final Path file = MatchControllerSerializer.saveAsync(engine, dir.resolve(SAVE_NAME)).get();
+        final GameEngine loaded = MatchControllerDeserializer.deserializeEngine(file.toFile());
+        assertEquals(engine.getCurrentPlayerIndex(), loaded.getCurrentPlayerIndex());
+        for (int i = 0; i < engine.getPlayers().size(); i++) {
+            assertEquals(engine.getPlayers().get(i).getBalance(), loaded.getPlayers().get(i).getBalance());
+            assertEquals(engine.getPlayers().get(i).getCurrentPosition(),
+                    loaded.getPlayers().get(i).getCurrentPosition());
+        }
+    }
+
+    /**
+     * Tests that the snapshot is not affected by moves made after it was taken,
+     * and that the previous save is replaced without leaving temporary files.
+     *
+     * @param dir a temporary directory.
+     * @throws Exception if the save cannot be written or read.
+     */
+    @Test
+    void testSnapshotIsDetached(@TempDir final Path dir) throws Exception {
+        final GameEngine engine = newEngine();
+        final Path file = dir.resolve(SAVE_NAME);
+        Files.writeString(file, "old save");
+        final Player alice = engine.getPlayers().get(0);
+        final int balance = alice.getBalance();
+        final TokenBuffer snapshot = MatchControllerSerializer.snapshot(engine);
+        alice.receiveMoney(BONUS);
+        MatchControllerSerializer.write(snapshot, file).get();
+        final GameEngine loaded = MatchControllerDeserializer.deserializeEngine(file.toFile());
+        assertEquals(balance, loaded.getPlayers().get(0).getBalance());
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    /**
+     * Tests that a save that cannot be written completes the future exceptionally.
+     *
+     * @param dir a temporary directory.
+     * @throws IOException if the match cannot be serialized.
+     */
+    @Test
+    void testFailedSaveIsReported(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("missing").resolve(SAVE_NAME);
+        final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> MatchControllerSerializer.saveAsync(newEngine(), file).get());
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+}
@@ -0,0 +1,42 @@
+package it.unibo.javapoly.view.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.GameEventType;
+
+/**
+ * Test class for the formatting of the events in {@link GuiGameListener}.
+ */
+class GuiGameListenerTest {
+
+    private static final int GO_BONUS = 200;
+    private static final int PRICE = 60;
+
+    /**
+     * Tests the lines shown for the events, with the price of the properties reached.
+     */
+    @Test
+    void testFormat() {
+        final String nl = System.lineSeparator();
+        assertEquals("Via" + nl + "Ritirate 200", GuiGameListener.format(GameEventType.TILE_LANDED,
+                "Via", "Ritirate 200", 0));
+        assertEquals("Vicolo Corto" + nl + "[Price: 60€]", GuiGameListener.format(GameEventType.TILE_LANDED,
+                "Vicolo Corto", "", PRICE));
+        assertEquals("Siete passati dal via, ritirate 200",
+                GuiGameListener.format(GameEventType.GO_BONUS, null, null, GO_BONUS));
+        assertEquals("Probabilità", GuiGameListener.format(GameEventType.CARD_DRAWN, "Probabilità", "Avanza", 0));
+    }
+
+    /**
+     * Tests that the events already told by other lines are not logged.
+     */
+    @Test
+    void testSilentEvents() {
+        assertNull(GuiGameListener.format(GameEventType.TILE_PASSED, "Vicolo Corto", null, 0));
+        assertNull(GuiGameListener.format(GameEventType.SENT_TO_JAIL, null, null, 0));
+        assertNull(GuiGameListener.format(GameEventType.TAX_PAID, "Tassa", null, PRICE));
+    }
+}
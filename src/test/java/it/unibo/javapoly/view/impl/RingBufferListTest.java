@@ -0,0 +1,115 @@
+package it.unibo.javapoly.view.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Test class for {@link RingBufferList}.
+ */
+class RingBufferListTest {
+
+    private static final int CAPACITY = 3;
+    private static final int ADDED = 5;
+
+    private RingBufferList<Integer> list;
+    private List<Integer> removed;
+    private List<Integer> added;
+    private List<Integer> addedFrom;
+    private int changes;
+
+    /**
+     * Creates an empty list recording the changes it fires.
+     */
+    @BeforeEach
+    void setUp() {
+        this.list = new RingBufferList<>(CAPACITY);
+        this.removed = new ArrayList<>();
+        this.added = new ArrayList<>();
+        this.addedFrom = new ArrayList<>();
+        this.list.addListener((ListChangeListener<Integer>) change -> {
+            this.changes++;
+            while (change.next()) {
+                this.removed.addAll(change.getRemoved());
+                if (change.wasAdded()) {
+                    this.added.addAll(change.getAddedSubList());
+                    this.addedFrom.add(change.getFrom());
+                }
+            }
+        });
+    }
+
+    /**
+     * Tests that a full list drops its oldest elements and keeps the order of the others.
+     */
+    @Test
+    void testWrapAround() {
+        for (int i = 1; i <= ADDED; i++) {
+            this.list.add(i);
+        }
+        assertEquals(CAPACITY, this.list.size());
+        assertEquals(List.of(3, 4, 5), List.copyOf(this.list));
+        assertEquals(3, this.list.get(0));
+        assertEquals(5, this.list.get(CAPACITY - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(CAPACITY));
+        assertThrows(IndexOutOfBoundsException.class, () -> this.list.get(-1));
+    }
+
+    /**
+     * Tests that every add fires a single change, which also removes the oldest element once the list is full.
+     */
+    @Test
+    void testAddEvents() {
+        for (int i = 1; i <= CAPACITY; i++) {
+            this.list.add(i);
+        }
+        assertEquals(CAPACITY, this.changes);
+        assertEquals(List.of(1, 2, 3), this.added);
+        assertEquals(List.of(0, 1, 2), this.addedFrom);
+        assertTrue(this.removed.isEmpty());
+
+        this.list.add(4);
+        assertEquals(CAPACITY + 1, this.changes);
+        assertEquals(List.of(1), this.removed);
+        assertEquals(List.of(1, 2, 3, 4), this.added);
+        assertEquals(CAPACITY - 1, this.addedFrom.get(CAPACITY));
+    }
+
+    /**
+     * Tests that clear removes every element in a single change and that the list is reused from the start.
+     */
+    @Test
+    void testClear() {
+        for (int i = 1; i <= ADDED; i++) {
+            this.list.add(i);
+        }
+        final int before = this.changes;
+        this.removed.clear();
+        this.list.clear();
+        assertTrue(this.list.isEmpty());
+        assertEquals(before + 1, this.changes);
+        assertEquals(List.of(3, 4, 5), this.removed);
+
+        this.list.clear();
+        assertEquals(before + 1, this.changes);
+
+        this.list.add(ADDED + 1);
+        assertEquals(List.of(ADDED + 1), List.copyOf(this.list));
+    }
+
+    /**
+     * Tests that a list without capacity is rejected.
+     */
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferList<Integer>(0));
+    }
+}